@@ -0,0 +1,82 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.decimal4j.jmh.state.CodecBenchmarkState;
+import org.decimal4j.util.DecimalCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing the time to encode and decode unscaled values as
+ * zigzag varint with {@link DecimalCodec} with fixed size 8-byte longs. The
+ * number of encoded bytes per value is printed at the end of every trial.
+ */
+public class CodecBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(CodecBenchmarkState.SIZE)
+	public final int encodeVarint(CodecBenchmarkState state) {
+		return state.codec.encode(state.unscaled, 0, CodecBenchmarkState.SIZE, state.varintBytes, 0);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CodecBenchmarkState.SIZE)
+	public final int decodeVarint(CodecBenchmarkState state, Blackhole blackhole) {
+		final int end = state.codec.decode(state.varintBytes, 0, state.unscaled, 0, CodecBenchmarkState.SIZE);
+		blackhole.consume(state.unscaled);
+		return end;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CodecBenchmarkState.SIZE)
+	public final ByteBuffer encodeFixed(CodecBenchmarkState state) {
+		final ByteBuffer buffer = state.fixedBytes;
+		buffer.clear();
+		for (int i = 0; i < CodecBenchmarkState.SIZE; i++) {
+			buffer.putLong(state.unscaled[i]);
+		}
+		return buffer;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CodecBenchmarkState.SIZE)
+	public final void decodeFixed(CodecBenchmarkState state, Blackhole blackhole) {
+		final ByteBuffer buffer = state.fixedBytes;
+		buffer.clear();
+		for (int i = 0; i < CodecBenchmarkState.SIZE; i++) {
+			state.unscaled[i] = buffer.getLong();
+		}
+		blackhole.consume(state.unscaled);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(CodecBenchmark.class);
+	}
+}
@@ -71,6 +71,14 @@ public class ConvertFromStringBenchmark extends AbstractBenchmark {
 			blackhole.consume(nativeDecimals(state, state.values[i]));
 		}
 	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsFromBytes(ConvertFromStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsFromBytes(state, state.bytes[i]));
+		}
+	}
 	
 	private static final <S extends ScaleMetrics> BigDecimal bigDecimals(ConvertFromStringBenchmarkState state, Values<S> values) {
 		return new BigDecimal(values.string1, state.mcLong64);
@@ -88,6 +96,10 @@ public class ConvertFromStringBenchmark extends AbstractBenchmark {
 		return state.arithmetic.parse(values.string1);//rounding mode is in arithmetic
 	}
 
+	private static final long nativeDecimalsFromBytes(ConvertFromStringBenchmarkState state, byte[] bytes) {
+		return state.arithmetic.parse(bytes, 0, bytes.length);//rounding mode is in arithmetic
+	}
+
 	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
 		run(ConvertFromStringBenchmark.class);
 	}
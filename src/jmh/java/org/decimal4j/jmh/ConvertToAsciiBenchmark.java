@@ -0,0 +1,113 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.decimal4j.jmh.state.ConvertToAsciiBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for conversion into ASCII bytes.
+ */
+public class ConvertToAsciiBenchmark extends AbstractBenchmark {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void stringGetBytes(ConvertToAsciiBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(stringGetBytes(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void appendableToBytes(ConvertToAsciiBenchmarkState state, Blackhole blackhole) throws IOException {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(appendableToBytes(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toAsciiByteArray(ConvertToAsciiBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toAsciiByteArray(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toAsciiHeapBuffer(ConvertToAsciiBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toAsciiBuffer(state, state.heapBuffer, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void toAsciiDirectBuffer(ConvertToAsciiBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(toAsciiBuffer(state, state.directBuffer, state.values[i]));
+		}
+	}
+
+	private static final <S extends ScaleMetrics> byte[] stringGetBytes(ConvertToAsciiBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toString(values.unscaled1).getBytes(ASCII);
+	}
+
+	private static final <S extends ScaleMetrics> byte[] appendableToBytes(ConvertToAsciiBenchmarkState state, Values<S> values) throws IOException {
+		final StringBuilder appendable = state.appendable;
+		final byte[] bytes = state.bytes;
+		appendable.setLength(0);
+		state.arithmetic.toString(values.unscaled1, appendable);
+		final int len = appendable.length();
+		for (int i = 0; i < len; i++) {
+			bytes[i] = (byte) appendable.charAt(i);
+		}
+		return bytes;
+	}
+
+	private static final <S extends ScaleMetrics> int toAsciiByteArray(ConvertToAsciiBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toAscii(values.unscaled1, state.bytes, 0);
+	}
+
+	private static final <S extends ScaleMetrics> int toAsciiBuffer(ConvertToAsciiBenchmarkState state, ByteBuffer buffer, Values<S> values) {
+		buffer.clear();
+		return state.arithmetic.toAscii(values.unscaled1, buffer);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(ConvertToAsciiBenchmark.class);
+	}
+}
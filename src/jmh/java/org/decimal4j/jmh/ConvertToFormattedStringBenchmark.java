@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.jmh.state.ConvertToFormattedStringBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.scale.ScaleMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for formatting with grouping and two fraction digits, {@link java.text.DecimalFormat} versus
+ * {@link org.decimal4j.arithmetic.DecimalFormatter}; {@link java.math.BigDecimal#toPlainString()} without grouping is
+ * included as baseline.
+ */
+public class ConvertToFormattedStringBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimalsToPlainString(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(bigDecimalsToPlainString(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void bigDecimalsWithDecimalFormat(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(bigDecimalsWithDecimalFormat(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void immutableDecimals(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(immutableDecimals(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToAppendable(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) throws IOException {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToAppendable(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToChars(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToChars(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToBytes(ConvertToFormattedStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToBytes(state, state.values[i]));
+		}
+	}
+
+	private static final <S extends ScaleMetrics> String bigDecimalsToPlainString(ConvertToFormattedStringBenchmarkState state, Values<S> values) {
+		return values.bigDecimal1.toPlainString();
+	}
+
+	private static final <S extends ScaleMetrics> String bigDecimalsWithDecimalFormat(ConvertToFormattedStringBenchmarkState state, Values<S> values) {
+		return state.decimalFormat.format(values.bigDecimal1);
+	}
+
+	private static final <S extends ScaleMetrics> String immutableDecimals(ConvertToFormattedStringBenchmarkState state, Values<S> values) {
+		return state.formatter.format(values.immutable1);
+	}
+
+	private static final <S extends ScaleMetrics> StringBuilder nativeDecimalsToAppendable(ConvertToFormattedStringBenchmarkState state, Values<S> values) throws IOException {
+		final StringBuilder appendable = state.appendable;
+		appendable.setLength(0);
+		state.formatter.format(values.unscaled1, state.scale, appendable);
+		return appendable;
+	}
+
+	private static final <S extends ScaleMetrics> int nativeDecimalsToChars(ConvertToFormattedStringBenchmarkState state, Values<S> values) {
+		return state.formatter.format(values.unscaled1, state.scale, state.chars, 0);
+	}
+
+	private static final <S extends ScaleMetrics> int nativeDecimalsToBytes(ConvertToFormattedStringBenchmarkState state, Values<S> values) {
+		return state.formatter.format(values.unscaled1, state.scale, state.bytes, 0);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(ConvertToFormattedStringBenchmark.class);
+	}
+}
@@ -86,6 +86,22 @@ public class ConvertToStringBenchmark extends AbstractBenchmark {
 		}
 	}
 
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToChars(ConvertToStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToChars(state, state.values[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void nativeDecimalsToCharSequence(ConvertToStringBenchmarkState state, Blackhole blackhole) {
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			blackhole.consume(nativeDecimalsToCharSequence(state, state.values[i]));
+		}
+	}
+
 	private static final <S extends ScaleMetrics> String bigDecimals(ConvertToStringBenchmarkState state, Values<S> values) {
 		return values.bigDecimal1.toString();
 	}
@@ -112,6 +128,16 @@ public class ConvertToStringBenchmark extends AbstractBenchmark {
 		return appendable;
 	}
 
+	private static final <S extends ScaleMetrics> int nativeDecimalsToChars(ConvertToStringBenchmarkState state, Values<S> values) {
+		return state.arithmetic.toChars(values.unscaled1, state.chars, 0);
+	}
+
+	private static final <S extends ScaleMetrics> StringBuilder nativeDecimalsToCharSequence(ConvertToStringBenchmarkState state, Values<S> values) {
+		final StringBuilder appendable = state.appendable;
+		appendable.setLength(0);
+		return state.charSequence.set(values.unscaled1, state.scale).appendTo(appendable);
+	}
+
 	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
 		run(ConvertToStringBenchmark.class);
 	}
@@ -0,0 +1,91 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.jmh.state.Decimal64BenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for conversions between unscaled values and IEEE 754-2008
+ * decimal64 values in BID encoding via {@link DecimalArithmetic} compared with
+ * the conversion from and to {@link java.math.BigDecimal BigDecimal}.
+ */
+public class Decimal64Benchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(Decimal64BenchmarkState.SIZE)
+	public final long[] fromDecimal64(Decimal64BenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] result = state.result;
+		for (int i = 0; i < Decimal64BenchmarkState.SIZE; i++) {
+			result[i] = arith.fromDecimal64(state.decimal64s[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Decimal64BenchmarkState.SIZE)
+	public final long[] fromDecimal64Bulk(Decimal64BenchmarkState state) {
+		state.arithmetic.getArrayArithmetic().fromDecimal64(state.decimal64s, state.result, 0, Decimal64BenchmarkState.SIZE);
+		return state.result;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Decimal64BenchmarkState.SIZE)
+	public final long[] fromBigDecimal(Decimal64BenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] result = state.result;
+		for (int i = 0; i < Decimal64BenchmarkState.SIZE; i++) {
+			result[i] = arith.fromBigDecimal(state.bigDecimals[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Decimal64BenchmarkState.SIZE)
+	public final long[] toDecimal64(Decimal64BenchmarkState state) {
+		final DecimalArithmetic arith = state.arithmetic;
+		final long[] result = state.result;
+		for (int i = 0; i < Decimal64BenchmarkState.SIZE; i++) {
+			result[i] = arith.toDecimal64(state.unscaled[i]);
+		}
+		return result;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(Decimal64BenchmarkState.SIZE)
+	public final long[] toDecimal64Bulk(Decimal64BenchmarkState state) {
+		state.arithmetic.getArrayArithmetic().toDecimal64(state.unscaled, state.result, 0, Decimal64BenchmarkState.SIZE);
+		return state.result;
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(Decimal64Benchmark.class);
+	}
+}
@@ -0,0 +1,81 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+
+import org.decimal4j.jmh.state.FlyweightBenchmarkState;
+import org.decimal4j.util.DecimalFlyweight;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing decoding of mantissa/exponent fields of binary
+ * messages with a {@link DecimalFlyweight} with decoding into
+ * {@link BigDecimal}.
+ */
+public class FlyweightBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(FlyweightBenchmarkState.SIZE)
+	public final void flyweightToUnscaled(FlyweightBenchmarkState state, Blackhole blackhole) {
+		final DecimalFlyweight<?> flyweight = state.flyweight;
+		final int length = flyweight.getEncodedLength();
+		for (int i = 0; i < FlyweightBenchmarkState.SIZE; i++) {
+			blackhole.consume(flyweight.wrap(state.buffer, i * length).getUnscaled());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FlyweightBenchmarkState.SIZE)
+	public final void bigDecimalToUnscaled(FlyweightBenchmarkState state, Blackhole blackhole) {
+		final ByteBuffer buffer = state.buffer;
+		final int length = state.flyweight.getEncodedLength();
+		for (int i = 0; i < FlyweightBenchmarkState.SIZE; i++) {
+			final int offset = i * length;
+			final BigDecimal value = BigDecimal.valueOf(buffer.getLong(offset), -buffer.get(offset + DecimalFlyweight.MANTISSA_LENGTH));
+			blackhole.consume(state.arithmetic.fromBigDecimal(value));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FlyweightBenchmarkState.SIZE)
+	public final void bigDecimalSetScale(FlyweightBenchmarkState state, Blackhole blackhole) {
+		final ByteBuffer buffer = state.buffer;
+		final int length = state.flyweight.getEncodedLength();
+		for (int i = 0; i < FlyweightBenchmarkState.SIZE; i++) {
+			final int offset = i * length;
+			final BigDecimal value = BigDecimal.valueOf(buffer.getLong(offset), -buffer.get(offset + DecimalFlyweight.MANTISSA_LENGTH));
+			blackhole.consume(value.setScale(state.scale, state.roundingMode));
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(FlyweightBenchmark.class);
+	}
+}
@@ -0,0 +1,86 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.jmh.state.LoadColumnBenchmarkState;
+import org.decimal4j.util.DecimalColumn;
+import org.decimal4j.util.DecimalColumnFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing the time to load decimal values by parsing their
+ * string representation or delimited ASCII text with loading them from a
+ * memory-mapped {@link DecimalColumnFile}.
+ */
+public class LoadColumnBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(LoadColumnBenchmarkState.SIZE)
+	public final void parseStrings(LoadColumnBenchmarkState state, Blackhole blackhole) {
+		final long[] unscaled = state.unscaled;
+		for (int i = 0; i < LoadColumnBenchmarkState.SIZE; i++) {
+			unscaled[i] = state.arithmetic.parse(state.strings[i]);
+		}
+		blackhole.consume(unscaled);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LoadColumnBenchmarkState.SIZE)
+	public final void parseDelimitedBytes(LoadColumnBenchmarkState state, Blackhole blackhole) {
+		blackhole.consume(state.parser.parse(state.text, 0, state.text.length, state.columns, 0, null));
+		blackhole.consume(state.unscaled);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LoadColumnBenchmarkState.SIZE)
+	public final void copyMappedFile(LoadColumnBenchmarkState state, Blackhole blackhole) throws IOException {
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(state.path)) {
+			final DecimalColumn<?> column = file.getColumn();
+			column.copyTo(0, state.unscaled, 0, column.length());
+		}
+		blackhole.consume(state.unscaled);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(LoadColumnBenchmarkState.SIZE)
+	public final void readMappedFile(LoadColumnBenchmarkState state, Blackhole blackhole) throws IOException {
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(state.path)) {
+			final DecimalColumn<?> column = file.getColumn();
+			long sum = 0;
+			for (int i = 0; i < column.length(); i++) {
+				sum += column.getUnscaled(i);
+			}
+			blackhole.consume(sum);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(LoadColumnBenchmark.class);
+	}
+}
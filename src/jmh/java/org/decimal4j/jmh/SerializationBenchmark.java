@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import org.decimal4j.factory.SerializationProxy;
+import org.decimal4j.jmh.state.SerializationBenchmarkState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks comparing Java serialization of immutable decimals in the
+ * compact {@link SerializationProxy} form with the default serialized form
+ * still used by mutable decimals. The serialized sizes are printed at the end
+ * of every trial.
+ */
+public class SerializationBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	public final byte[] serializeCompact(SerializationBenchmarkState state) throws IOException {
+		return SerializationBenchmarkState.serialize(state.immutable);
+	}
+
+	@Benchmark
+	public final byte[] serializeDefault(SerializationBenchmarkState state) throws IOException {
+		return SerializationBenchmarkState.serialize(state.mutable);
+	}
+
+	@Benchmark
+	public final Object deserializeCompact(SerializationBenchmarkState state) throws IOException, ClassNotFoundException {
+		return deserialize(state.immutableBytes);
+	}
+
+	@Benchmark
+	public final Object deserializeDefault(SerializationBenchmarkState state) throws IOException, ClassNotFoundException {
+		return deserialize(state.mutableBytes);
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(SerializationBenchmark.class);
+	}
+}
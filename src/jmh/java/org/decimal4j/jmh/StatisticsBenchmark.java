@@ -0,0 +1,127 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.concurrent.RecursiveTask;
+
+import org.decimal4j.jmh.state.StatisticsBenchmarkState;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.util.DecimalStatistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for sum, average, min and max of many values comparing
+ * {@link BigDecimal} with sequential and fork/join parallel
+ * {@link DecimalStatistics}. The parallelism parameter only affects the
+ * parallel benchmark.
+ */
+public class StatisticsBenchmark extends AbstractBenchmark {
+
+	private static final int THRESHOLD = 1 << 12;
+
+	@Benchmark
+	@OperationsPerInvocation(StatisticsBenchmarkState.SIZE)
+	public final void bigDecimals(StatisticsBenchmarkState state, Blackhole blackhole) {
+		final BigDecimal[] values = state.bigDecimals;
+		BigDecimal sum = BigDecimal.ZERO;
+		BigDecimal min = values[0];
+		BigDecimal max = values[0];
+		for (int i = 0; i < values.length; i++) {
+			sum = sum.add(values[i]);
+			min = min.min(values[i]);
+			max = max.max(values[i]);
+		}
+		blackhole.consume(sum);
+		blackhole.consume(sum.divide(BigDecimal.valueOf(values.length), state.scale, state.roundingMode));
+		blackhole.consume(min);
+		blackhole.consume(max);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(StatisticsBenchmarkState.SIZE)
+	public final void sequentialStatistics(StatisticsBenchmarkState state, Blackhole blackhole) {
+		consume(collect(Scales.getScaleMetrics(state.scale), state.unscaled, 0, state.unscaled.length), blackhole);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(StatisticsBenchmarkState.SIZE)
+	public final void parallelStatistics(StatisticsBenchmarkState state, Blackhole blackhole) {
+		final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(state.scale);
+		consume(state.pool.invoke(new StatisticsTask<ScaleMetrics>(scaleMetrics, state.unscaled, 0, state.unscaled.length)), blackhole);
+	}
+
+	private static final void consume(DecimalStatistics<?> statistics, Blackhole blackhole) {
+		blackhole.consume(statistics.getSum());
+		blackhole.consume(statistics.getAverage());
+		blackhole.consume(statistics.getMin());
+		blackhole.consume(statistics.getMax());
+	}
+
+	private static final <S extends ScaleMetrics> DecimalStatistics<S> collect(S scaleMetrics, long[] unscaled, int from, int to) {
+		final DecimalStatistics<S> statistics = new DecimalStatistics<S>(scaleMetrics);
+		for (int i = from; i < to; i++) {
+			statistics.acceptUnscaled(unscaled[i]);
+		}
+		return statistics;
+	}
+
+	private static final class StatisticsTask<S extends ScaleMetrics> extends RecursiveTask<DecimalStatistics<S>> {
+		private static final long serialVersionUID = 1L;
+		private final S scaleMetrics;
+		private final long[] unscaled;
+		private final int from;
+		private final int to;
+
+		StatisticsTask(S scaleMetrics, long[] unscaled, int from, int to) {
+			this.scaleMetrics = scaleMetrics;
+			this.unscaled = unscaled;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected DecimalStatistics<S> compute() {
+			if (to - from <= THRESHOLD) {
+				return collect(scaleMetrics, unscaled, from, to);
+			}
+			final int mid = (from + to) >>> 1;
+			final StatisticsTask<S> left = new StatisticsTask<S>(scaleMetrics, unscaled, from, mid);
+			left.fork();
+			final DecimalStatistics<S> right = new StatisticsTask<S>(scaleMetrics, unscaled, mid, to).compute();
+			final DecimalStatistics<S> result = left.join();
+			result.combine(right);
+			return result;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(StatisticsBenchmark.class);
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.jmh.state.SumBenchmarkState;
+import org.decimal4j.jmh.state.Values;
+import org.decimal4j.util.DecimalAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks for sums and sums of products of many values comparing
+ * {@link BigDecimal}, {@link MutableDecimal} and {@link DecimalAccumulator}.
+ */
+public class SumBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumBigDecimals(SumBenchmarkState state, Blackhole blackhole) {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			sum = sum.add(state.values[i].bigDecimal1);
+		}
+		blackhole.consume(sum);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumMutableDecimals(SumBenchmarkState state, Blackhole blackhole) {
+		final MutableDecimal<?> sum = state.mutableSum.setZero();
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			sum.addUnscaled(state.values[i].unscaled1);
+		}
+		blackhole.consume(sum);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumAccumulator(SumBenchmarkState state, Blackhole blackhole) {
+		final DecimalAccumulator<?> accumulator = state.accumulator.reset();
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			accumulator.addUnscaled(state.values[i].unscaled1);
+		}
+		blackhole.consume(accumulator.getUnscaledSum(state.arithmetic));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumOfProductsBigDecimals(SumBenchmarkState state, Blackhole blackhole) {
+		BigDecimal sum = BigDecimal.ZERO;
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			final Values<?> values = state.values[i];
+			sum = sum.add(values.bigDecimal1.multiply(values.bigDecimal2));
+		}
+		blackhole.consume(sum.setScale(state.scale, state.roundingMode));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumOfProductsMutableDecimals(SumBenchmarkState state, Blackhole blackhole) {
+		final MutableDecimal<?> sum = state.mutableSum.setZero();
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			final Values<?> values = state.values[i];
+			sum.addUnscaled(values.mutable.setUnscaled(values.unscaled1).multiplyUnscaled(values.unscaled2, state.scale).unscaledValue());
+		}
+		blackhole.consume(sum);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPERATIONS_PER_INVOCATION)
+	public final void sumOfProductsAccumulator(SumBenchmarkState state, Blackhole blackhole) {
+		final DecimalAccumulator<?> accumulator = state.accumulator.reset();
+		for (int i = 0; i < OPERATIONS_PER_INVOCATION; i++) {
+			final Values<?> values = state.values[i];
+			accumulator.addUnscaledProduct(values.unscaled1, values.unscaled2);
+		}
+		blackhole.consume(accumulator.getUnscaledSum(state.arithmetic));
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(SumBenchmark.class);
+	}
+}
@@ -0,0 +1,74 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh;
+
+import java.io.IOException;
+
+import org.decimal4j.jmh.state.TimeSeriesBlockBenchmarkState;
+import org.decimal4j.util.DecimalTimeSeriesBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Micro benchmarks measuring encode and decode throughput of
+ * {@link DecimalTimeSeriesBlock} for random-walk prices, with a plain array
+ * copy as baseline. The compression ratio is printed at the end of every
+ * trial.
+ */
+public class TimeSeriesBlockBenchmark extends AbstractBenchmark {
+
+	@Benchmark
+	@OperationsPerInvocation(TimeSeriesBlockBenchmarkState.SIZE)
+	public final DecimalTimeSeriesBlock<?> encode(TimeSeriesBlockBenchmarkState state) {
+		return DecimalTimeSeriesBlock.encode(state.series.getScaleMetrics(), state.encoding, state.prices, 0, TimeSeriesBlockBenchmarkState.SIZE);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TimeSeriesBlockBenchmarkState.SIZE)
+	public final void decode(TimeSeriesBlockBenchmarkState state, Blackhole blackhole) {
+		state.series.decode(0, state.decoded, 0, TimeSeriesBlockBenchmarkState.SIZE);
+		blackhole.consume(state.decoded);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TimeSeriesBlockBenchmarkState.SIZE)
+	public final void decodeAndAdd(TimeSeriesBlockBenchmarkState state, Blackhole blackhole) {
+		state.series.decode(0, state.decoded, 0, TimeSeriesBlockBenchmarkState.SIZE);
+		state.arithmetic.getArrayArithmetic().add(state.decoded, state.prices, state.sum, 0, TimeSeriesBlockBenchmarkState.SIZE);
+		blackhole.consume(state.sum);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TimeSeriesBlockBenchmarkState.SIZE)
+	public final void copyUncompressed(TimeSeriesBlockBenchmarkState state, Blackhole blackhole) {
+		System.arraycopy(state.prices, 0, state.decoded, 0, TimeSeriesBlockBenchmarkState.SIZE);
+		blackhole.consume(state.decoded);
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException, InterruptedException {
+		run(TimeSeriesBlockBenchmark.class);
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.util.DecimalCodec;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class CodecBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 12;
+
+	@Param({"Byte", "Short", "Int", "Long"})
+	public ValueType valueType;
+
+	public final long[] unscaled = new long[SIZE];
+	public final byte[] varintBytes = new byte[SIZE * DecimalCodec.MAX_VARINT_LENGTH];
+	public final ByteBuffer fixedBytes = ByteBuffer.allocate(SIZE * 8);
+	public DecimalCodec codec;
+	public int varintLength;
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.HALF_UP);
+		for (int i = 0; i < SIZE; i++) {
+			unscaled[i] = valueType.random(SignType.ALL);
+		}
+		codec = new DecimalCodec(Scales.getScaleMetrics(scale), roundingMode, false);
+		varintLength = codec.encode(unscaled, 0, SIZE, varintBytes, 0);
+		fixedBytes.asLongBuffer().put(unscaled);
+	}
+
+	@TearDown
+	public void printBytesPerValue() {
+		System.out.println();
+		System.out.println("bytes per value: varint=" + ((double) varintLength / SIZE) + ", fixed=8.0");
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.jmh.ConvertFromBigDecimalBenchmark;
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+public class ConvertFromBigDecimalBenchmarkState extends AbstractBenchmarkState {
+	@Param({ "HALF_EVEN", "DOWN" })
+	public RoundingMode roundingMode;
+	@Param({ "Int", "Long" })
+	public ValueType valueType;
+	//number of fraction digits of the big decimal in excess of the decimal scale
+	@Param({ "0", "3" })
+	public int extraDigits;
+
+	public BigDecimal[] bigDecimals = new BigDecimal[ConvertFromBigDecimalBenchmark.OPERATIONS_PER_INVOCATION];
+	public long[] unscaled = new long[ConvertFromBigDecimalBenchmark.OPERATIONS_PER_INVOCATION];
+	public MutableDecimal<?> mutable;
+
+	@Setup
+	public void init() {
+		super.init(roundingMode);
+	}
+
+	@Setup
+	public void initValues() {
+		for (int i = 0; i < ConvertFromBigDecimalBenchmark.OPERATIONS_PER_INVOCATION; i++) {
+			bigDecimals[i] = BigDecimal.valueOf(valueType.random(SignType.ALL), scale + extraDigits);
+			unscaled[i] = arithmetic.fromBigDecimal(bigDecimals[i]);
+		}
+		mutable = factory.newMutable();
+	}
+}
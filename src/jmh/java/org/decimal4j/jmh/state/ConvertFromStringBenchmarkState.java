@@ -24,6 +24,7 @@
 package org.decimal4j.jmh.state;
 
 import java.math.RoundingMode;
+import java.nio.charset.Charset;
 
 import org.decimal4j.jmh.value.BenchmarkType;
 import org.decimal4j.jmh.value.ValueType;
@@ -38,8 +39,15 @@ public class ConvertFromStringBenchmarkState extends AbstractValueBenchmarkState
 	public RoundingMode roundingMode;
 	@Param({"Int", "Long"})
 	public ValueType valueType;
+
+	public byte[][] bytes;
 	@Setup
 	public void init() {
 		super.initForUnaryOp(BenchmarkType.ConvertFromString, roundingMode, valueType);
+		final Charset ascii = Charset.forName("US-ASCII");
+		bytes = new byte[values.length][];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = values[i].string1.getBytes(ascii);
+		}
 	}
 }
\ No newline at end of file
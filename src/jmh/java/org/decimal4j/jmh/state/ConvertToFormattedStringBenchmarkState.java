@@ -0,0 +1,56 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.decimal4j.arithmetic.DecimalFormatter;
+import org.decimal4j.jmh.value.BenchmarkType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class ConvertToFormattedStringBenchmarkState extends AbstractValueBenchmarkState {
+	@Param({"Int", "Long"})
+	public ValueType valueType;
+
+	public DecimalFormat decimalFormat;
+	public DecimalFormatter formatter;
+	public StringBuilder appendable = new StringBuilder(64);
+	public char[] chars = new char[64];
+	public byte[] bytes = new byte[64];
+	@Setup
+	public void init() {
+		super.initForUnaryOp(BenchmarkType.ConvertToString, RoundingMode.UNNECESSARY, valueType);
+		decimalFormat = new DecimalFormat("#,##0.00", DecimalFormatSymbols.getInstance(Locale.US));
+		decimalFormat.setRoundingMode(RoundingMode.HALF_UP);
+		formatter = DecimalFormatter.DEFAULT.withLocale(Locale.US).withGrouping(3).withFractionDigits(2).withRoundingMode(RoundingMode.HALF_UP);
+	}
+}
@@ -25,6 +25,7 @@ package org.decimal4j.jmh.state;
 
 import java.math.RoundingMode;
 
+import org.decimal4j.arithmetic.DecimalCharSequence;
 import org.decimal4j.jmh.value.BenchmarkType;
 import org.decimal4j.jmh.value.ValueType;
 import org.openjdk.jmh.annotations.Param;
@@ -38,6 +39,8 @@ public class ConvertToStringBenchmarkState extends AbstractValueBenchmarkState {
 	public ValueType valueType;
 
 	public StringBuilder appendable = new StringBuilder(32);
+	public char[] chars = new char[32];
+	public DecimalCharSequence charSequence = new DecimalCharSequence();
 	@Setup
 	public void init() {
 		super.initForUnaryOp(BenchmarkType.ConvertToString, RoundingMode.UNNECESSARY, valueType);
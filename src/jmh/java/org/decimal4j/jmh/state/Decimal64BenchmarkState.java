@@ -0,0 +1,59 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class Decimal64BenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 10;
+
+	@Param({"Int", "Long"})
+	public ValueType valueType;
+
+	public final long[] unscaled = new long[SIZE];
+	public final long[] decimal64s = new long[SIZE];
+	public final BigDecimal[] bigDecimals = new BigDecimal[SIZE];
+	public final long[] result = new long[SIZE];
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.HALF_UP);
+		final MathContext mcDecimal64 = new MathContext(16, roundingMode);
+		for (int i = 0; i < SIZE; i++) {
+			unscaled[i] = valueType.random(SignType.ALL);
+			bigDecimals[i] = BigDecimal.valueOf(unscaled[i], scale).round(mcDecimal64);
+		}
+		arithmetic.getArrayArithmetic().toDecimal64(unscaled, decimal64s, 0, SIZE);
+	}
+}
@@ -0,0 +1,62 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.util.DecimalFlyweight;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Thread)
+public class FlyweightBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 10;
+
+	@Param({"HALF_UP", "DOWN"})
+	public RoundingMode roundingMode;
+
+	public ByteBuffer buffer;
+	public DecimalFlyweight<ScaleMetrics> flyweight;
+
+	@Setup
+	public void init() {
+		super.init(roundingMode);
+		flyweight = DecimalFlyweight.withExponentField(Scales.getScaleMetrics(scale), roundingMode);
+		buffer = ByteBuffer.allocateDirect(SIZE * flyweight.getEncodedLength()).order(ByteOrder.LITTLE_ENDIAN);
+		final Random rnd = new Random();
+		for (int i = 0; i < SIZE; i++) {
+			// prices with up to 8 decimal places as found in market data messages
+			flyweight.wrap(buffer, i * flyweight.getEncodedLength()).set(ValueType.Int.random(SignType.ALL), -rnd.nextInt(9));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.util.DecimalColumnFile;
+import org.decimal4j.util.DecimalColumnParser;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class LoadColumnBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 16;
+
+	public final String[] strings = new String[SIZE];
+	public final long[] unscaled = new long[SIZE];
+	public final long[][] columns = {unscaled};
+	public byte[] text;
+	public DecimalColumnParser parser;
+	public Path path;
+
+	@Setup
+	public void init() throws IOException {
+		super.init(RoundingMode.HALF_UP);
+		for (int i = 0; i < SIZE; i++) {
+			final long value = ValueType.Long.random(SignType.ALL);
+			strings[i] = arithmetic.toString(value);
+		}
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < SIZE; i++) {
+			sb.append(strings[i]).append('\n');
+		}
+		text = sb.toString().getBytes(StandardCharsets.US_ASCII);
+		parser = new DecimalColumnParser(Scales.getScaleMetrics(scale), roundingMode, ',');
+		path = File.createTempFile("decimal-column", ".d4j").toPath();
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, Scales.getScaleMetrics(scale), roundingMode)) {
+			for (int i = 0; i < SIZE; i++) {
+				file.appendUnscaled(arithmetic.parse(strings[i]));
+			}
+		}
+	}
+
+	@TearDown
+	public void deleteFile() throws IOException {
+		Files.deleteIfExists(path);
+	}
+}
@@ -0,0 +1,75 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.math.RoundingMode;
+
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class SerializationBenchmarkState extends AbstractBenchmarkState {
+
+	@Param({"Int", "Long"})
+	public ValueType valueType;
+
+	public ImmutableDecimal<?> immutable;
+	public MutableDecimal<?> mutable;
+	public byte[] immutableBytes;
+	public byte[] mutableBytes;
+
+	@Setup
+	public void init() throws IOException {
+		super.init(RoundingMode.HALF_UP);
+		immutable = factory.valueOfUnscaled(valueType.random(SignType.ALL));
+		// mutable decimals are serialized in default form with class descriptors and field names
+		mutable = immutable.toMutableDecimal();
+		immutableBytes = serialize(immutable);
+		mutableBytes = serialize(mutable);
+	}
+
+	public static byte[] serialize(Object value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	@TearDown
+	public void printSerializedSize() {
+		System.out.println();
+		System.out.println("serialized bytes: compact=" + immutableBytes.length + ", default=" + mutableBytes.length);
+	}
+}
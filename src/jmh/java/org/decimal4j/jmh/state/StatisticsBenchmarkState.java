@@ -0,0 +1,64 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ForkJoinPool;
+
+import org.decimal4j.jmh.value.SignType;
+import org.decimal4j.jmh.value.ValueType;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Benchmark)
+public class StatisticsBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 18;
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	public final long[] unscaled = new long[SIZE];
+	public final BigDecimal[] bigDecimals = new BigDecimal[SIZE];
+	public ForkJoinPool pool;
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.HALF_UP);
+		for (int i = 0; i < SIZE; i++) {
+			//int values so that the sum fits into a long
+			unscaled[i] = ValueType.Int.random(SignType.ALL);
+			bigDecimals[i] = BigDecimal.valueOf(unscaled[i], scale);
+		}
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	@TearDown
+	public void shutdown() {
+		pool.shutdown();
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.jmh.state;
+
+import java.math.RoundingMode;
+import java.util.Random;
+
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.util.DecimalTimeSeriesBlock;
+import org.decimal4j.util.DecimalTimeSeriesBlock.Encoding;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@State(Scope.Thread)
+public class TimeSeriesBlockBenchmarkState extends AbstractBenchmarkState {
+	public static final int SIZE = 1 << 16;
+
+	@Param({"DELTA", "DELTA_OF_DELTA"})
+	public Encoding encoding;
+
+	@Param({"1", "10"})
+	public int maxTicks;
+
+	public final long[] prices = new long[SIZE];
+	public final long[] decoded = new long[SIZE];
+	public final long[] sum = new long[SIZE];
+	public DecimalTimeSeriesBlock<ScaleMetrics> series;
+
+	@Setup
+	public void init() {
+		super.init(RoundingMode.HALF_UP);
+		final Random rnd = new Random();
+		long price = arithmetic.fromLong(100);
+		for (int i = 0; i < SIZE; i++) {
+			// random walk moving by up to maxTicks units of the last digit
+			price += rnd.nextInt(2 * maxTicks + 1) - maxTicks;
+			prices[i] = price;
+		}
+		series = DecimalTimeSeriesBlock.encode(Scales.getScaleMetrics(scale), encoding, prices, 0, SIZE);
+	}
+
+	@TearDown
+	public void printCompressionRatio() {
+		System.out.println();
+		System.out.println("bytes per value: " + ((double) series.getEncodedSize() / SIZE) + ", compression ratio: " + (8.0 * SIZE / series.getEncodedSize()));
+	}
+}
@@ -1300,6 +1300,69 @@ public interface Decimal<S extends ScaleMetrics> extends Comparable<Decimal<S>>
 	 */
 	Decimal<S> multiply(Decimal<S> multiplicand, TruncationPolicy truncationPolicy);
 
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand + augend)}. The product is not rounded
+	 * before the addition; the result is rounded once to the {@link #getScale() scale} of this Decimal using default
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. If the result causes an overflow, it is silently truncated.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param augend
+	 *            value to be added to the product
+	 * @return <tt>round<sub>HALF_UP</sub>(this * multiplicand + augend)</tt>
+	 */
+	Decimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend);
+
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand + augend)}. The product is not rounded
+	 * before the addition; the result is rounded once to the {@link #getScale() scale} of this Decimal using the
+	 * specified {@code roundingMode}. If the result causes an overflow, it is silently truncated.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param augend
+	 *            value to be added to the product
+	 * @param roundingMode
+	 *            the rounding mode to apply if the result needs to be rounded
+	 * @return <tt>round(this * multiplicand + augend)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary
+	 */
+	Decimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, RoundingMode roundingMode);
+
+	/**
+	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand + augend)}. The product is not rounded
+	 * before the addition; the result is rounded once to the {@link #getScale() scale} of this Decimal using the
+	 * {@link RoundingMode} specified by the {@code truncationPolicy} argument. The {@code truncationPolicy} also
+	 * defines the {@link OverflowMode} to apply if the result overflows. An overflow of the product alone is not an
+	 * overflow if the final result fits.
+	 * <p>
+	 * The returned value is a new instance if this Decimal is an {@link ImmutableDecimal}. If it is a
+	 * {@link MutableDecimal} then its internal state is altered and {@code this} is returned as result now representing
+	 * the outcome of the operation.
+	 * 
+	 * @param multiplicand
+	 *            factor to multiply with this {@code Decimal}
+	 * @param augend
+	 *            value to be added to the product
+	 * @param truncationPolicy
+	 *            the truncation policy specifying {@link RoundingMode} and {@link OverflowMode} to apply if rounding is
+	 *            necessary or if an overflow occurs
+	 * @return <tt>round(this * multiplicand + augend)</tt>
+	 * @throws ArithmeticException
+	 *             if {@code truncationPolicy} defines {@link RoundingMode#UNNECESSARY} and rounding is necessary or if
+	 *             an overflow occurs and the policy declares {@link OverflowMode#CHECKED}
+	 */
+	Decimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, TruncationPolicy truncationPolicy);
+
 	/**
 	 * Returns a {@code Decimal} whose value is {@code (this * multiplicand)}. The result is rounded to the
 	 * {@link #getScale() scale} of this Decimal using {@link RoundingMode#HALF_UP HALF_UP} rounding. If the
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
@@ -160,6 +161,15 @@ public interface DecimalArithmetic {
 	 */
 	DecimalArithmetic deriveArithmetic(TruncationPolicy truncationPolicy);
 
+	/**
+	 * Returns the array arithmetic performing bulk operations on arrays of unscaled decimal values. The returned array
+	 * arithmetic uses this arithmetic's {@link #getScale() scale}, {@link #getRoundingMode() rounding mode} and
+	 * {@link #getOverflowMode() overflow mode}.
+	 *
+	 * @return the array arithmetic associated with this arithmetic
+	 */
+	DecimalArrayArithmetic getArrayArithmetic();
+
 	/**
 	 * Returns the unscaled decimal for the decimal value {@code 1}. One is the value <tt>10<sup>scale</sup></tt> which
 	 * is also the multiplier used to get the unscaled decimal from the true decimal value.
@@ -328,6 +338,29 @@ public interface DecimalArithmetic {
 	 */
 	long multiply(long uDecimal1, long uDecimal2);
 
+	/**
+	 * Returns an unscaled decimal whose value is the product of the first two arguments plus the third argument:
+	 * {@code (uDecimal1 * uDecimal2 + uDecimalAugend)}. The product is not rounded before the addition; if rounding
+	 * must be performed, this arithmetic's {@link #getRoundingMode() rounding mode} is applied once to the final
+	 * result.
+	 * <p>
+	 * Mathematically the method calculates <tt>round((uDecimal1 * uDecimal2) * 10<sup>-scale</sup> + uDecimalAugend)</tt>
+	 * avoiding information loss due to overflow of intermediary results. In particular, no overflow occurs if the
+	 * product alone exceeds the range of a long value but the final result does not.
+	 * 
+	 * @param uDecimal1
+	 *            first unscaled decimal value to be multiplied
+	 * @param uDecimal2
+	 *            second unscaled decimal value to be multiplied
+	 * @param uDecimalAugend
+	 *            unscaled decimal value to be added to the product
+	 * @return {@code round(uDecimal1 * uDecimal2 + uDecimalAugend)}
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary or if an
+	 *             overflow occurs and the {@link #getOverflowMode() overflow mode} is set to throw an exception
+	 */
+	long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend);
+
 	/**
 	 * Returns an unscaled decimal whose value is {@code (uDecimal * lValue)} where the second argument is a true long
 	 * value instead of an unscaled decimal.
@@ -729,6 +762,25 @@ public interface DecimalArithmetic {
 	 */
 	long fromBigDecimal(BigDecimal value);
 
+	/**
+	 * Converts the specified IEEE 754-2008 <i>decimal64</i> value in binary integer decimal (BID) encoding to an
+	 * unscaled decimal. The arithmetic's {@link #getRoundingMode() rounding mode} is applied if the decimal64 value has
+	 * more fraction digits than this arithmetic's {@link #getScale() scale}. Non-canonical decimal64 values are treated
+	 * as zero. An exception is thrown if the specified value is too large to be represented as a Decimal of this
+	 * arithmetic's scale.
+	 * 
+	 * @param decimal64
+	 *            the 64 bits of the decimal64 value in BID encoding
+	 * @return the unscaled decimal representing the same value as the given decimal64 value
+	 * @throws IllegalArgumentException
+	 *             if {@code decimal64} is NaN or infinite or if the magnitude is too large for the value to be
+	 *             represented as a {@code Decimal} with the scale of this arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 * @see #toDecimal64(long)
+	 */
+	long fromDecimal64(long decimal64);
+
 	/**
 	 * Converts the specified unscaled decimal with the given scale to another unscaled decimal of the scale of this
 	 * arithmetic.
@@ -757,6 +809,12 @@ public interface DecimalArithmetic {
 	 * arithmetic's {@link #getScale() scale}, the value is rounded using the arithmetic's {@link #getRoundingMode()
 	 * rounding mode}. An exception is thrown if the value is too large to be represented as a Decimal of this
 	 * arithmetic's scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the character {@code 'e'} or {@code 'E'}, an
+	 * optional sign and one or more decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The decimal point is
+	 * shifted by the exponent before the value is rounded, hence rounding is applied only once to the digits beyond the
+	 * scale of the shifted value. The overflow check also applies to the shifted value; an exception is thrown if it is
+	 * too large to be represented, regardless of how many digits the string contains.
 	 * 
 	 * @param value
 	 *            a {@code String} containing the decimal value representation to be parsed
@@ -779,6 +837,12 @@ public interface DecimalArithmetic {
 	 * arithmetic's {@link #getScale() scale}, the value is rounded using the arithmetic's {@link #getRoundingMode()
 	 * rounding mode}. An exception is thrown if the value is too large to be represented as a Decimal of this
 	 * arithmetic's scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the character {@code 'e'} or {@code 'E'}, an
+	 * optional sign and one or more decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The decimal point is
+	 * shifted by the exponent before the value is rounded, hence rounding is applied only once to the digits beyond the
+	 * scale of the shifted value. The overflow check also applies to the shifted value; an exception is thrown if it is
+	 * too large to be represented, regardless of how many digits the string contains.
 	 * 
 	 * @param value
 	 *            a character sequence such as a {@code String} containing the decimal value representation to be parsed
@@ -797,6 +861,55 @@ public interface DecimalArithmetic {
 	 */
 	long parse(CharSequence value, int start, int end);
 
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} held in a byte array into an unscaled Decimal. The
+	 * accepted format as well as rounding and overflow behavior are identical to
+	 * {@link #parse(CharSequence, int, int)}; every byte is interpreted as one ASCII character.
+	 * <p>
+	 * No temporary objects are allocated unless an exception is thrown.
+	 * 
+	 * @param value
+	 *            a byte array containing the ASCII representation of the decimal value to be parsed
+	 * @param start
+	 *            the start index to read bytes in {@code value}, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes in {@code value}, exclusive
+	 * @return the decimal as unscaled {@code long} value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.length}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of this arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 */
+	long parse(byte[] value, int start, int end);
+
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} held in a byte buffer into an unscaled Decimal. The
+	 * accepted format as well as rounding and overflow behavior are identical to
+	 * {@link #parse(CharSequence, int, int)}; every byte is interpreted as one ASCII character.
+	 * <p>
+	 * The indices are absolute buffer indices; the buffer's position and limit are not modified. Direct buffers are
+	 * read in place without copying and no temporary objects are allocated unless an exception is thrown.
+	 * 
+	 * @param value
+	 *            a byte buffer containing the ASCII representation of the decimal value to be parsed
+	 * @param start
+	 *            the absolute start index to read bytes in {@code value}, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes in {@code value}, exclusive
+	 * @return the decimal as unscaled {@code long} value
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.limit()}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal} or if the value is too large to be
+	 *             represented as a Decimal with the scale of this arithmetic
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 */
+	long parse(ByteBuffer value, int start, int end);
+
 	/**
 	 * Converts the specified unscaled decimal value into a long value and returns it. The arithmetic's
 	 * {@link #getRoundingMode() rounding mode} is applied if rounding is necessary.
@@ -883,6 +996,22 @@ public interface DecimalArithmetic {
 	 */
 	BigDecimal toBigDecimal(long uDecimal, int scale);
 
+	/**
+	 * Converts the specified unscaled decimal value into an IEEE 754-2008 <i>decimal64</i> value in binary integer
+	 * decimal (BID) encoding and returns its 64 bits. The exponent of the result is the negated {@link #getScale()
+	 * scale} of this arithmetic unless the unscaled value has more than 16 digits; such values are rounded to 16
+	 * digits using the arithmetic's {@link #getRoundingMode() rounding mode}.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to convert into a decimal64 value
+	 * @return the 64 bits of the {@code uDecimal} value converted into a decimal64 value in BID encoding, possibly
+	 *         rounded or truncated
+	 * @throws ArithmeticException
+	 *             if {@link #getRoundingMode() rounding mode} is UNNECESSARY and rounding is necessary
+	 * @see #fromDecimal64(long)
+	 */
+	long toDecimal64(long uDecimal);
+
 	/**
 	 * Converts the specified unscaled decimal value into a {@link String} and returns it. If the {@link #getScale()
 	 * scale} is zero, the conversion is identical to {@link Long#toString(long)}. For all other scales a value with
@@ -890,8 +1019,7 @@ public interface DecimalArithmetic {
 	 * <p>
 	 * Note: this operation is <b>not</b> strictly garbage free since the result value is allocated; however no
 	 * temporary objects other than the result are allocated during the conversion (internally a {@link ThreadLocal}
-	 * {@link StringBuilder} object is used to construct the string value, which may become garbage if the thread
-	 * becomes garbage).
+	 * char array is used to construct the string value, which may become garbage if the thread becomes garbage).
 	 * 
 	 * @param uDecimal
 	 *            the unscaled decimal value to convert into a {@code String}
@@ -918,4 +1046,65 @@ public interface DecimalArithmetic {
 	 *             If an I/O error occurs when appending to {@code appendable}
 	 */
 	void toString(long uDecimal, Appendable appendable) throws IOException;
+
+	/**
+	 * Converts the specified unscaled decimal value into its string representation and writes the characters into
+	 * {@code dst} starting at the given {@code offset}. The written characters are exactly those returned by
+	 * {@link #toString(long)}.
+	 * <p>
+	 * This operation is garbage free: no temporary objects are allocated during the conversion.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to convert
+	 * @param dst
+	 *            the char array to which the string representation of the unscaled decimal value is written
+	 * @param offset
+	 *            the index in {@code dst} of the first char to write
+	 * @return the number of chars written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has insufficient space after {@code offset} for the
+	 *             string representation of the value; nothing is written in this case
+	 */
+	int toChars(long uDecimal, char[] dst, int offset);
+
+	/**
+	 * Converts the specified unscaled decimal value into its ASCII string representation and writes the bytes into
+	 * {@code dst} starting at the given {@code offset}. The written characters are exactly those returned by
+	 * {@link #toString(long)}.
+	 * <p>
+	 * This operation is garbage free: no temporary objects are allocated during the conversion.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to convert
+	 * @param dst
+	 *            the byte array to which the ASCII representation of the unscaled decimal value is written
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} has insufficient space after {@code offset} for the
+	 *             ASCII representation of the value; nothing is written in this case
+	 */
+	int toAscii(long uDecimal, byte[] dst, int offset);
+
+	/**
+	 * Converts the specified unscaled decimal value into its ASCII string representation and writes the bytes into
+	 * {@code dst} starting at the buffer's current position. The position is advanced by the number of bytes written.
+	 * The written characters are exactly those returned by {@link #toString(long)}.
+	 * <p>
+	 * This operation is garbage free: no temporary objects are allocated during the conversion. Direct buffers are
+	 * written to without intermediate copying.
+	 * 
+	 * @param uDecimal
+	 *            the unscaled decimal value to convert
+	 * @param dst
+	 *            the buffer to which the ASCII representation of the unscaled decimal value is written
+	 * @return the number of bytes written
+	 * @throws java.nio.BufferOverflowException
+	 *             if {@code dst} has insufficient remaining space for the ASCII representation of the value; nothing
+	 *             is written in this case
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if {@code dst} is read-only
+	 */
+	int toAscii(long uDecimal, ByteBuffer dst);
 }
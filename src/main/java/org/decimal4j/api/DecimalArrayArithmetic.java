@@ -0,0 +1,367 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.api;
+
+import org.decimal4j.truncate.OverflowMode;
+
+/**
+ * <tt>DecimalArrayArithmetic</tt> defines bulk operations for {@link Decimal} numbers in their primitive form, that is,
+ * for arrays of unscaled {@code long} values. Every array arithmetic is associated with a {@link DecimalArithmetic}
+ * defining {@link DecimalArithmetic#getScale() scale}, {@link DecimalArithmetic#getRoundingMode() rounding mode} and
+ * {@link DecimalArithmetic#getOverflowMode() overflow mode}; the result of every array element is identical to the
+ * result of the corresponding operation of the associated arithmetic.
+ * <p>
+ * All operations read from one or two source arrays and write to a destination array. The same {@code offset} and
+ * {@code length} arguments apply to all arrays; source and destination array may be the same array instance.
+ * <p>
+ * If the associated arithmetic has {@link OverflowMode#CHECKED CHECKED} overflow mode, an operation stops at the first
+ * array element whose result overflows and returns its index instead of throwing an exception. All elements before the
+ * returned index have been written to the destination array; the destination elements from the returned index onwards
+ * are left unchanged. Arithmetic exceptions other than overflows, for instance division by zero or rounding necessary
+ * with rounding mode UNNECESSARY, are thrown exactly as in {@code DecimalArithmetic}.
+ * <p>
+ * All operations of <tt>DecimalArrayArithmetic</tt> do not allocate any objects (zero garbage) unless otherwise
+ * indicated.
+ * 
+ * @see DecimalArithmetic#getArrayArithmetic()
+ */
+public interface DecimalArrayArithmetic {
+
+	/**
+	 * Return value of bulk operations if no overflow occurred.
+	 */
+	int NO_OVERFLOW = -1;
+
+	/**
+	 * Returns the arithmetic that defines scale, rounding mode and overflow mode of this array arithmetic.
+	 * 
+	 * @return the arithmetic applied to every array element
+	 */
+	DecimalArithmetic getArithmetic();
+
+	/**
+	 * Calculates {@code (uDecimals1[i] + uDecimals2[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals1
+	 *            the first unscaled decimal summands
+	 * @param uDecimals2
+	 *            the second unscaled decimal summands
+	 * @param dst
+	 *            the destination array for the unscaled decimal sums
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#add(long, long)
+	 */
+	int add(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code (uDecimalsMinuend[i] - uDecimalsSubtrahend[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimalsMinuend
+	 *            the unscaled decimal minuends
+	 * @param uDecimalsSubtrahend
+	 *            the unscaled decimal subtrahends
+	 * @param dst
+	 *            the destination array for the unscaled decimal differences
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#subtract(long, long)
+	 */
+	int subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code (uDecimals1[i] * uDecimals2[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}. Results are rounded if necessary using the
+	 * arithmetic's rounding mode.
+	 * 
+	 * @param uDecimals1
+	 *            the first unscaled decimal factors
+	 * @param uDecimals2
+	 *            the second unscaled decimal factors
+	 * @param dst
+	 *            the destination array for the unscaled decimal products
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @throws ArithmeticException
+	 *             if rounding mode is UNNECESSARY and rounding is necessary
+	 * @see DecimalArithmetic#multiply(long, long)
+	 */
+	int multiply(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code (uDecimals[i] * lValues[i])} for all {@code i} from {@code offset} to {@code offset+length-1}
+	 * and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled decimal factors
+	 * @param lValues
+	 *            the long factors
+	 * @param dst
+	 *            the destination array for the unscaled decimal products
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#multiplyByLong(long, long)
+	 */
+	int multiplyByLong(long[] uDecimals, long[] lValues, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code (uDecimalsDividend[i] / uDecimalsDivisor[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}. Results are rounded if necessary using the
+	 * arithmetic's rounding mode.
+	 * 
+	 * @param uDecimalsDividend
+	 *            the unscaled decimal dividends
+	 * @param uDecimalsDivisor
+	 *            the unscaled decimal divisors
+	 * @param dst
+	 *            the destination array for the unscaled decimal quotients
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @throws ArithmeticException
+	 *             if one of the divisors is zero, or if rounding mode is UNNECESSARY and rounding is necessary
+	 * @see DecimalArithmetic#divide(long, long)
+	 */
+	int divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] dst, int offset, int length);
+
+	/**
+	 * Rounds {@code uDecimals[i]} to the specified {@code precision} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled decimal values to round
+	 * @param precision
+	 *            the precision to use for the rounding, for instance 2 to round to the second digit after the decimal
+	 *            point; must be at least {@code (scale - 18)}
+	 * @param dst
+	 *            the destination array for the rounded unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @throws IllegalArgumentException
+	 *             if {@code precision < scale - 18}
+	 * @throws ArithmeticException
+	 *             if rounding mode is UNNECESSARY and rounding is necessary
+	 * @see DecimalArithmetic#round(long, int)
+	 */
+	int round(long[] uDecimals, int precision, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code -uDecimals[i]} for all {@code i} from {@code offset} to {@code offset+length-1} and stores
+	 * the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled decimal values to negate
+	 * @param dst
+	 *            the destination array for the negated unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#negate(long)
+	 */
+	int negate(long[] uDecimals, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code |uDecimals[i]|} for all {@code i} from {@code offset} to {@code offset+length-1} and stores
+	 * the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled decimal values
+	 * @param dst
+	 *            the destination array for the absolute unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link #NO_OVERFLOW} otherwise
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#abs(long)
+	 */
+	int abs(long[] uDecimals, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code min(uDecimals1[i], uDecimals2[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals1
+	 *            the first unscaled decimal values
+	 * @param uDecimals2
+	 *            the second unscaled decimal values
+	 * @param dst
+	 *            the destination array for the smaller unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#compare(long, long)
+	 */
+	void min(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length);
+
+	/**
+	 * Calculates {@code max(uDecimals1[i], uDecimals2[i])} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals1
+	 *            the first unscaled decimal values
+	 * @param uDecimals2
+	 *            the second unscaled decimal values
+	 * @param dst
+	 *            the destination array for the larger unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#compare(long, long)
+	 */
+	void max(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length);
+
+	/**
+	 * Compares {@code uDecimals1[i]} with {@code uDecimals2[i]} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the comparison results in {@code dst[i]}. The result is -1, 0 or 1 exactly
+	 * as returned by {@link DecimalArithmetic#compare(long, long)}.
+	 * 
+	 * @param uDecimals1
+	 *            the first unscaled decimal values
+	 * @param uDecimals2
+	 *            the second unscaled decimal values
+	 * @param dst
+	 *            the destination array for the comparison results
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @see DecimalArithmetic#compare(long, long)
+	 */
+	void compare(long[] uDecimals1, long[] uDecimals2, int[] dst, int offset, int length);
+
+	/**
+	 * Converts the IEEE 754-2008 <i>decimal64</i> values {@code decimal64s[i]} to unscaled decimals for all {@code i}
+	 * from {@code offset} to {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * <p>
+	 * As for {@link DecimalArithmetic#fromDecimal64(long)}, an exception is thrown for NaN or infinite values and for
+	 * values that are too large to be represented as a Decimal with the scale of the associated arithmetic; this is
+	 * independent of the arithmetic's overflow mode. All elements before the failing element have been written to the
+	 * destination array when the exception is thrown.
+	 * 
+	 * @param decimal64s
+	 *            the 64 bits of the decimal64 values in binary integer decimal (BID) encoding
+	 * @param dst
+	 *            the destination array for the unscaled decimals
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @throws IllegalArgumentException
+	 *             if any of the decimal64 values is NaN or infinite or if its magnitude is too large for the value to
+	 *             be represented as a {@code Decimal} with the scale of the associated arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 * @see DecimalArithmetic#fromDecimal64(long)
+	 */
+	void fromDecimal64(long[] decimal64s, long[] dst, int offset, int length);
+
+	/**
+	 * Converts the unscaled decimals {@code uDecimals[i]} to IEEE 754-2008 <i>decimal64</i> values for all {@code i}
+	 * from {@code offset} to {@code offset+length-1} and stores the 64 bits of the results in {@code dst[i]}.
+	 * 
+	 * @param uDecimals
+	 *            the unscaled decimal values to convert
+	 * @param dst
+	 *            the destination array for the decimal64 values in binary integer decimal (BID) encoding
+	 * @param offset
+	 *            the array index of the first element to process
+	 * @param length
+	 *            the number of array elements to process
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} or {@code length} are negative or if {@code offset+length} exceeds the length of
+	 *             any of the arrays
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 * @see DecimalArithmetic#toDecimal64(long)
+	 */
+	void toDecimal64(long[] uDecimals, long[] dst, int offset, int length);
+}
@@ -206,6 +206,15 @@ public interface ImmutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	ImmutableDecimal<S> multiply(Decimal<S> multiplicand, TruncationPolicy truncationPolicy);
 
+	@Override
+	ImmutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend);
+
+	@Override
+	ImmutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, RoundingMode roundingMode);
+
+	@Override
+	ImmutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, TruncationPolicy truncationPolicy);
+
 	@Override
 	ImmutableDecimal<S> multiplyBy(Decimal<?> multiplicand);
 
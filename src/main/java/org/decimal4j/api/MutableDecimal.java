@@ -345,6 +345,15 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. An exception is thrown if
 	 * the value is too large to be represented as a Decimal of this mutable
 	 * Decimals's scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 * 
 	 * @param value
 	 *            the string value to parse and assign
@@ -371,6 +380,15 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	 * specified {@code roundingMode}. An exception is thrown if the value is
 	 * too large to be represented as a Decimal of this mutable Decimals's
 	 * scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 * 
 	 * @param value
 	 *            the string value to parse and assign
@@ -558,6 +576,15 @@ public interface MutableDecimal<S extends ScaleMetrics> extends Decimal<S> {
 	@Override
 	MutableDecimal<S> multiply(Decimal<S> multiplicand, TruncationPolicy truncationPolicy);
 
+	@Override
+	MutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend);
+
+	@Override
+	MutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, RoundingMode roundingMode);
+
+	@Override
+	MutableDecimal<S> multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, TruncationPolicy truncationPolicy);
+
 	@Override
 	MutableDecimal<S> multiplyBy(Decimal<?> multiplicand);
 
@@ -26,8 +26,10 @@ package org.decimal4j.arithmetic;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.DecimalArrayArithmetic;
 import org.decimal4j.scale.Scales;
 import org.decimal4j.truncate.OverflowMode;
 import org.decimal4j.truncate.TruncationPolicy;
@@ -39,6 +41,8 @@ import org.decimal4j.truncate.TruncationPolicy;
  */
 abstract public class AbstractArithmetic implements DecimalArithmetic {
 
+	private final DecimalArrayArithmetic arrayArithmetic = new ArrayArithmetic(this);
+
 	@Override
 	public final DecimalArithmetic deriveArithmetic(int scale) {
 		if (scale != getScale()) {
@@ -70,6 +74,11 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 		return deriveArithmetic(truncationPolicy.getRoundingMode(), truncationPolicy.getOverflowMode());
 	}
 
+	@Override
+	public final DecimalArrayArithmetic getArrayArithmetic() {
+		return arrayArithmetic;
+	}
+
 	@Override
 	public final int signum(long uDecimal) {
 		return Long.signum(uDecimal);
@@ -100,4 +109,39 @@ abstract public class AbstractArithmetic implements DecimalArithmetic {
 		return BigDecimalConversion.unscaledToBigDecimal(getScaleMetrics(), getRoundingMode(), uDecimal, scale);
 	}
 
+	@Override
+	public final long parse(byte[] value, int start, int end) {
+		final AsciiSequence sequence = AsciiSequence.THREAD_LOCAL.get().wrap(value);
+		try {
+			return parse(sequence, start, end);
+		} finally {
+			sequence.clear();
+		}
+	}
+
+	@Override
+	public final long parse(ByteBuffer value, int start, int end) {
+		final AsciiSequence sequence = AsciiSequence.THREAD_LOCAL.get().wrap(value);
+		try {
+			return parse(sequence, start, end);
+		} finally {
+			sequence.clear();
+		}
+	}
+
+	@Override
+	public final int toChars(long uDecimal, char[] dst, int offset) {
+		return StringConversion.unscaledToChars(this, uDecimal, dst, offset);
+	}
+
+	@Override
+	public final int toAscii(long uDecimal, byte[] dst, int offset) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst, offset);
+	}
+
+	@Override
+	public final int toAscii(long uDecimal, ByteBuffer dst) {
+		return StringConversion.unscaledToAscii(this, uDecimal, dst);
+	}
+
 }
@@ -26,6 +26,7 @@ package org.decimal4j.arithmetic;
 import java.io.IOException;
 
 import org.decimal4j.scale.Scale0f;
+import org.decimal4j.truncate.DecimalRounding;
 
 /**
  * Base class for arithmetic implementations with overflow check for the special
@@ -63,6 +64,11 @@ abstract public class AbstractCheckedScale0fArithmetic extends AbstractCheckedAr
 		return Checked.multiplyByLong(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return Mul.multiplyAddChecked(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalAugend);
+	}
+
 	@Override
 	public final long square(long uDecimal) {
 		return Checked.multiplyByLong(this, uDecimal, uDecimal);
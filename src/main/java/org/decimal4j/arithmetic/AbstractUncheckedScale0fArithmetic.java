@@ -63,6 +63,11 @@ abstract public class AbstractUncheckedScale0fArithmetic extends AbstractUncheck
 	public final long multiply(long uDecimal1, long uDecimal2) {
 		return uDecimal1 * uDecimal2;
 	}
+
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return uDecimal1 * uDecimal2 + uDecimalAugend;
+	}
 	
 	@Override
 	public final long square(long uDecimal) {
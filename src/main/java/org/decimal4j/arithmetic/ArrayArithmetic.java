@@ -0,0 +1,476 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.DecimalArrayArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Array arithmetic implementation performing bulk operations on arrays of
+ * unscaled decimal values. Scale, rounding and overflow mode are resolved once
+ * per call and the loops delegate to the same static calculation methods used
+ * by the single value arithmetic implementations.
+ * <p>
+ * Loops for same-scale operations such as add, subtract, negate, min, max and
+ * compare are kept free of branches so that they can be vectorized by the JIT
+ * compiler. Checked operations detect overflows for a whole block of values via
+ * sign bit operations and fall back to element wise checks only for a block
+ * that contains an overflow.
+ */
+final class ArrayArithmetic implements DecimalArrayArithmetic {
+
+	/**
+	 * Block size for checked operations; overflow is first detected for a
+	 * whole block with branch free sign bit operations before the results of
+	 * the block are stored.
+	 */
+	private static final int BLOCK_SIZE = 64;
+
+	private final DecimalArithmetic arith;
+
+	/**
+	 * Constructor with the single value arithmetic defining scale, rounding
+	 * and overflow mode. The arithmetic may not be fully initialized yet and
+	 * its properties are therefore resolved when the bulk methods are invoked.
+	 * 
+	 * @param arith
+	 *            the arithmetic associated with the unscaled values
+	 */
+	ArrayArithmetic(DecimalArithmetic arith) {
+		this.arith = arith;
+	}
+
+	@Override
+	public final DecimalArithmetic getArithmetic() {
+		return arith;
+	}
+
+	@Override
+	public final int add(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+		checkBounds(uDecimals1, uDecimals2, dst, offset, length);
+		final int end = offset + length;
+		if (isChecked()) {
+			for (int start = offset; start < end; start += BLOCK_SIZE) {
+				final int blockEnd = Math.min(start + BLOCK_SIZE, end);
+				// sign bit of overflow is set if any sum in the block overflows
+				long overflow = 0;
+				for (int i = start; i < blockEnd; i++) {
+					final long uDecimal1 = uDecimals1[i];
+					final long uDecimal2 = uDecimals2[i];
+					final long result = uDecimal1 + uDecimal2;
+					overflow |= (uDecimal1 ^ result) & (uDecimal2 ^ result);
+				}
+				if (overflow < 0) {
+					return addChecked(uDecimals1, uDecimals2, dst, start, blockEnd);
+				}
+				for (int i = start; i < blockEnd; i++) {
+					dst[i] = uDecimals1[i] + uDecimals2[i];
+				}
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = uDecimals1[i] + uDecimals2[i];
+			}
+		}
+		return NO_OVERFLOW;
+	}
+
+	private static final int addChecked(long[] uDecimals1, long[] uDecimals2, long[] dst, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			final long result = uDecimal1 + uDecimal2;
+			if (Checked.isAddOverflow(uDecimal1, uDecimal2, result)) {
+				return i;
+			}
+			dst[i] = result;
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int subtract(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] dst, int offset, int length) {
+		checkBounds(uDecimalsMinuend, uDecimalsSubtrahend, dst, offset, length);
+		final int end = offset + length;
+		if (isChecked()) {
+			for (int start = offset; start < end; start += BLOCK_SIZE) {
+				final int blockEnd = Math.min(start + BLOCK_SIZE, end);
+				// sign bit of overflow is set if any difference in the block overflows
+				long overflow = 0;
+				for (int i = start; i < blockEnd; i++) {
+					final long uDecimalMinuend = uDecimalsMinuend[i];
+					final long uDecimalSubtrahend = uDecimalsSubtrahend[i];
+					final long result = uDecimalMinuend - uDecimalSubtrahend;
+					overflow |= (uDecimalMinuend ^ uDecimalSubtrahend) & (uDecimalMinuend ^ result);
+				}
+				if (overflow < 0) {
+					return subtractChecked(uDecimalsMinuend, uDecimalsSubtrahend, dst, start, blockEnd);
+				}
+				for (int i = start; i < blockEnd; i++) {
+					dst[i] = uDecimalsMinuend[i] - uDecimalsSubtrahend[i];
+				}
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = uDecimalsMinuend[i] - uDecimalsSubtrahend[i];
+			}
+		}
+		return NO_OVERFLOW;
+	}
+
+	private static final int subtractChecked(long[] uDecimalsMinuend, long[] uDecimalsSubtrahend, long[] dst, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final long uDecimalMinuend = uDecimalsMinuend[i];
+			final long uDecimalSubtrahend = uDecimalsSubtrahend[i];
+			final long result = uDecimalMinuend - uDecimalSubtrahend;
+			if (Checked.isSubtractOverflow(uDecimalMinuend, uDecimalSubtrahend, result)) {
+				return i;
+			}
+			dst[i] = result;
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int multiplyByLong(long[] uDecimals, long[] lValues, long[] dst, int offset, int length) {
+		checkBounds(uDecimals, lValues, dst, offset, length);
+		final int end = offset + length;
+		if (isChecked()) {
+			for (int i = offset; i < end; i++) {
+				final long uDecimal = uDecimals[i];
+				final long lValue = lValues[i];
+				final long result = uDecimal * lValue;
+				if (Checked.isMultiplyOverflow(uDecimal, lValue, result)) {
+					return i;
+				}
+				dst[i] = result;
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = uDecimals[i] * lValues[i];
+			}
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int multiply(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+		if (arith.getScale() == 0) {
+			return multiplyByLong(uDecimals1, uDecimals2, dst, offset, length);
+		}
+		checkBounds(uDecimals1, uDecimals2, dst, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final DecimalRounding rounding = getRounding();
+		final boolean truncating = rounding == DecimalRounding.DOWN;
+		final int end = offset + length;
+		if (isChecked()) {
+			for (int i = offset; i < end; i++) {
+				try {
+					dst[i] = truncating ? Mul.multiplyChecked(arith, scaleMetrics, uDecimals1[i], uDecimals2[i])
+							: Mul.multiplyChecked(arith, scaleMetrics, rounding, uDecimals1[i], uDecimals2[i]);
+				} catch (ArithmeticException e) {
+					Exceptions.rethrowIfRoundingNecessary(e);
+					return i;
+				}
+			}
+		} else if (truncating) {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Mul.multiply(arith, scaleMetrics, uDecimals1[i], uDecimals2[i]);
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Mul.multiply(arith, scaleMetrics, rounding, uDecimals1[i], uDecimals2[i]);
+			}
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int divide(long[] uDecimalsDividend, long[] uDecimalsDivisor, long[] dst, int offset, int length) {
+		checkBounds(uDecimalsDividend, uDecimalsDivisor, dst, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final DecimalRounding rounding = getRounding();
+		final boolean truncating = rounding == DecimalRounding.DOWN;
+		final boolean scale0 = scaleMetrics.getScale() == 0;
+		final int end = offset + length;
+		if (isChecked()) {
+			for (int i = offset; i < end; i++) {
+				final long uDecimalDividend = uDecimalsDividend[i];
+				final long uDecimalDivisor = uDecimalsDivisor[i];
+				if (uDecimalDivisor == 0) {
+					// throws division by zero exception
+					arith.divide(uDecimalDividend, uDecimalDivisor);
+				}
+				try {
+					dst[i] = divideChecked(scaleMetrics, rounding, scale0, uDecimalDividend, uDecimalDivisor);
+				} catch (ArithmeticException e) {
+					Exceptions.rethrowIfRoundingNecessary(e);
+					return i;
+				}
+			}
+		} else if (scale0) {
+			if (truncating) {
+				for (int i = offset; i < end; i++) {
+					dst[i] = uDecimalsDividend[i] / uDecimalsDivisor[i];
+				}
+			} else {
+				for (int i = offset; i < end; i++) {
+					dst[i] = Div.divideByLong(rounding, uDecimalsDividend[i], uDecimalsDivisor[i]);
+				}
+			}
+		} else if (truncating) {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Div.divide(arith, scaleMetrics, uDecimalsDividend[i], uDecimalsDivisor[i]);
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Div.divide(arith, scaleMetrics, rounding, uDecimalsDividend[i], uDecimalsDivisor[i]);
+			}
+		}
+		return NO_OVERFLOW;
+	}
+
+	private final long divideChecked(ScaleMetrics scaleMetrics, DecimalRounding rounding, boolean scale0, long uDecimalDividend, long uDecimalDivisor) {
+		final boolean truncating = rounding == DecimalRounding.DOWN;
+		if (scale0) {
+			return truncating ? Checked.divideByLong(arith, uDecimalDividend, uDecimalDivisor)
+					: Div.divideChecked(arith, scaleMetrics, rounding, uDecimalDividend, uDecimalDivisor);
+		}
+		return truncating ? Div.divideChecked(arith, scaleMetrics, uDecimalDividend, uDecimalDivisor)
+				: Div.divideChecked(arith, scaleMetrics, rounding, uDecimalDividend, uDecimalDivisor);
+	}
+
+	@Override
+	public final int round(long[] uDecimals, int precision, long[] dst, int offset, int length) {
+		checkBounds(uDecimals, uDecimals, dst, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		final int deltaScale = scale - precision;
+		final ScaleMetrics deltaMetrics;
+		if (precision == 0) {
+			deltaMetrics = scaleMetrics;
+		} else if (precision < scale) {
+			if (deltaScale <= 18) {
+				deltaMetrics = Scales.getScaleMetrics(deltaScale);
+			} else {
+				throw new IllegalArgumentException("scale - precision must be <= 18 but was " + deltaScale
+						+ " for scale=" + scale + " and precision=" + precision);
+			}
+		} else {
+			// precision >= scale
+			if (uDecimals != dst) {
+				System.arraycopy(uDecimals, offset, dst, offset, length);
+			}
+			return NO_OVERFLOW;
+		}
+		final DecimalRounding rounding = getRounding();
+		final int end = offset + length;
+		if (rounding == DecimalRounding.DOWN) {
+			for (int i = offset; i < end; i++) {
+				final long uDecimal = uDecimals[i];
+				dst[i] = uDecimal - deltaMetrics.moduloByScaleFactor(uDecimal);
+			}
+			return NO_OVERFLOW;
+		}
+		final boolean checked = isChecked();
+		final long deltaScaleFactor = deltaMetrics.getScaleFactor();
+		for (int i = offset; i < end; i++) {
+			final long uDecimal = uDecimals[i];
+			final long truncatedDigits = deltaMetrics.moduloByScaleFactor(uDecimal);
+			final long truncatedValue = uDecimal - truncatedDigits;
+			// move odd bit into place for HALF_EVEN rounding
+			final long truncatedOddEven = truncatedValue >> deltaScale;
+			final long roundingInc = Rounding.calculateRoundingIncrement(rounding, truncatedOddEven, truncatedDigits,
+					deltaScaleFactor);
+			final long increment = roundingInc == 0 ? 0 : deltaMetrics.multiplyByScaleFactor(roundingInc);
+			final long result = truncatedValue + increment;
+			if (checked && Checked.isAddOverflow(truncatedValue, increment, result)) {
+				return i;
+			}
+			dst[i] = result;
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int negate(long[] uDecimals, long[] dst, int offset, int length) {
+		checkBounds(uDecimals, uDecimals, dst, offset, length);
+		final int end = offset + length;
+		if (isChecked()) {
+			final int overflowIndex = indexOfMinValue(uDecimals, offset, end);
+			for (int i = offset; i < overflowIndex; i++) {
+				dst[i] = -uDecimals[i];
+			}
+			return overflowIndex < end ? overflowIndex : NO_OVERFLOW;
+		}
+		for (int i = offset; i < end; i++) {
+			dst[i] = -uDecimals[i];
+		}
+		return NO_OVERFLOW;
+	}
+
+	@Override
+	public final int abs(long[] uDecimals, long[] dst, int offset, int length) {
+		checkBounds(uDecimals, uDecimals, dst, offset, length);
+		final int end = offset + length;
+		if (isChecked()) {
+			final int overflowIndex = indexOfMinValue(uDecimals, offset, end);
+			for (int i = offset; i < overflowIndex; i++) {
+				dst[i] = Math.abs(uDecimals[i]);
+			}
+			return overflowIndex < end ? overflowIndex : NO_OVERFLOW;
+		}
+		for (int i = offset; i < end; i++) {
+			dst[i] = Math.abs(uDecimals[i]);
+		}
+		return NO_OVERFLOW;
+	}
+
+	/**
+	 * Returns the index of the first {@link Long#MIN_VALUE} element in the
+	 * given range, or {@code end} if no such element exists. Negation and abs
+	 * overflow only for {@link Long#MIN_VALUE}.
+	 */
+	private static final int indexOfMinValue(long[] uDecimals, int offset, int end) {
+		for (int start = offset; start < end; start += BLOCK_SIZE) {
+			final int blockEnd = Math.min(start + BLOCK_SIZE, end);
+			// sign bit of overflow is set if any value in the block is MIN_VALUE
+			long overflow = 0;
+			for (int i = start; i < blockEnd; i++) {
+				final long uDecimal = uDecimals[i];
+				overflow |= uDecimal & -uDecimal;
+			}
+			if (overflow < 0) {
+				for (int i = start; i < blockEnd; i++) {
+					if (uDecimals[i] == Long.MIN_VALUE) {
+						return i;
+					}
+				}
+			}
+		}
+		return end;
+	}
+
+	@Override
+	public final void min(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+		checkBounds(uDecimals1, uDecimals2, dst, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			dst[i] = Math.min(uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
+	@Override
+	public final void max(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+		checkBounds(uDecimals1, uDecimals2, dst, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			dst[i] = Math.max(uDecimals1[i], uDecimals2[i]);
+		}
+	}
+
+	@Override
+	public final void compare(long[] uDecimals1, long[] uDecimals2, int[] dst, int offset, int length) {
+		checkBounds(uDecimals1, uDecimals2, dst.length, offset, length);
+		final int end = offset + length;
+		for (int i = offset; i < end; i++) {
+			final long uDecimal1 = uDecimals1[i];
+			final long uDecimal2 = uDecimals2[i];
+			// branch free equivalent of Long.compare(uDecimal1, uDecimal2)
+			// (Hacker's Delight, Section 2-12, signed comparison predicates)
+			final long diff12 = uDecimal1 - uDecimal2;
+			final long diff21 = uDecimal2 - uDecimal1;
+			final long xor = uDecimal1 ^ uDecimal2;
+			final long lt = (diff12 ^ (xor & (diff12 ^ uDecimal1))) >>> 63;
+			final long gt = (diff21 ^ (xor & (diff21 ^ uDecimal2))) >>> 63;
+			dst[i] = (int) (gt - lt);
+		}
+	}
+
+	@Override
+	public final void fromDecimal64(long[] decimal64s, long[] dst, int offset, int length) {
+		checkBounds(decimal64s, decimal64s, dst, offset, length);
+		final DecimalRounding rounding = getRounding();
+		final int end = offset + length;
+		if (rounding == DecimalRounding.DOWN) {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Decimal64Conversion.decimal64ToUnscaled(arith, decimal64s[i]);
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Decimal64Conversion.decimal64ToUnscaled(arith, rounding, decimal64s[i]);
+			}
+		}
+	}
+
+	@Override
+	public final void toDecimal64(long[] uDecimals, long[] dst, int offset, int length) {
+		checkBounds(uDecimals, uDecimals, dst, offset, length);
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final DecimalRounding rounding = getRounding();
+		final int end = offset + length;
+		if (rounding == DecimalRounding.DOWN) {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Decimal64Conversion.unscaledToDecimal64(scaleMetrics, uDecimals[i]);
+			}
+		} else {
+			for (int i = offset; i < end; i++) {
+				dst[i] = Decimal64Conversion.unscaledToDecimal64(scaleMetrics, rounding, uDecimals[i]);
+			}
+		}
+	}
+
+	private final boolean isChecked() {
+		return arith.getOverflowMode().isChecked();
+	}
+
+	private final DecimalRounding getRounding() {
+		return DecimalRounding.valueOf(arith.getRoundingMode());
+	}
+
+	private static final void checkBounds(long[] src1, long[] src2, long[] dst, int offset, int length) {
+		checkBounds(src1, src2, dst.length, offset, length);
+	}
+
+	private static final void checkBounds(long[] src1, long[] src2, int dstLength, int offset, int length) {
+		if (offset < 0 | length < 0) {
+			throw new IndexOutOfBoundsException("Offset and length must not be negative: offset=" + offset
+					+ ", length=" + length);
+		}
+		final int end = offset + length;
+		if (end < 0 | end > src1.length | end > src2.length | end > dstLength) {
+			throw new IndexOutOfBoundsException("Range [" + offset + ", " + end
+					+ ") exceeds array length: src1.length=" + src1.length + ", src2.length=" + src2.length
+					+ ", dst.length=" + dstLength);
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return getClass().getSimpleName() + "[" + arith + "]";
+	}
+}
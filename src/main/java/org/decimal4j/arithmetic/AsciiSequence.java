@@ -0,0 +1,154 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reusable character sequence view of ASCII bytes held in a byte array or a {@link ByteBuffer}. Used internally by
+ * {@link AbstractArithmetic} to parse decimal values from bytes without allocating a string. Direct buffers are read
+ * in place without copying.
+ * <p>
+ * Indices of the sequence are identical to the indices of the underlying array, or to the absolute indices of the
+ * underlying buffer, respectively; the sequence length is the array length or the buffer limit.
+ */
+final class AsciiSequence implements CharSequence {
+
+	/**
+	 * Thread-local with the sequence used to parse bytes.
+	 */
+	static final ThreadLocal<AsciiSequence> THREAD_LOCAL = new ThreadLocal<AsciiSequence>() {
+		@Override
+		protected AsciiSequence initialValue() {
+			return new AsciiSequence();
+		}
+	};
+
+	private byte[] array;
+	private int arrayOffset;
+	private int length;
+	private ByteBuffer buffer;
+
+	/** Constructor */
+	AsciiSequence() {
+		super();
+	}
+
+	/**
+	 * Wraps the given byte array.
+	 * 
+	 * @param bytes
+	 *            the bytes to wrap
+	 * @return this sequence
+	 * @throws NullPointerException
+	 *             if {@code bytes} is null
+	 */
+	final AsciiSequence wrap(byte[] bytes) {
+		this.array = bytes;
+		this.arrayOffset = 0;
+		this.length = bytes.length;
+		this.buffer = null;
+		return this;
+	}
+
+	/**
+	 * Wraps the given byte buffer. Heap buffers are accessed through their backing array, direct or read-only buffers
+	 * through absolute get operations.
+	 * 
+	 * @param bytes
+	 *            the buffer to wrap
+	 * @return this sequence
+	 * @throws NullPointerException
+	 *             if {@code bytes} is null
+	 */
+	final AsciiSequence wrap(ByteBuffer bytes) {
+		if (bytes.hasArray()) {
+			this.array = bytes.array();
+			this.arrayOffset = bytes.arrayOffset();
+			this.buffer = null;
+		} else {
+			this.array = null;
+			this.arrayOffset = 0;
+			this.buffer = bytes;
+		}
+		this.length = bytes.limit();
+		return this;
+	}
+
+	/**
+	 * Releases the references to the wrapped bytes.
+	 */
+	final void clear() {
+		this.array = null;
+		this.buffer = null;
+		this.arrayOffset = 0;
+		this.length = 0;
+	}
+
+	@Override
+	public final int length() {
+		return length;
+	}
+
+	@Override
+	public final char charAt(int index) {
+		final byte b = array != null ? array[arrayOffset + index] : buffer.get(index);
+		return (char) (b & 0xff);
+	}
+
+	/**
+	 * Returns the 8 bytes starting at {@code index} packed into a long value in little-endian order, that is, the
+	 * byte at {@code index} is returned in the least significant byte of the result.
+	 * 
+	 * @param index
+	 *            the index of the first byte
+	 * @return the 8 bytes at {@code [index, index+8)} as little-endian long
+	 */
+	final long getLongLE(int index) {
+		if (array != null) {
+			final byte[] a = array;
+			final int i = arrayOffset + index;
+			return (a[i] & 0xffL) | (a[i + 1] & 0xffL) << 8 | (a[i + 2] & 0xffL) << 16 | (a[i + 3] & 0xffL) << 24
+					| (a[i + 4] & 0xffL) << 32 | (a[i + 5] & 0xffL) << 40 | (a[i + 6] & 0xffL) << 48
+					| (a[i + 7] & 0xffL) << 56;
+		}
+		final long value = buffer.getLong(index);
+		return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+	}
+
+	@Override
+	public final CharSequence subSequence(int start, int end) {
+		final char[] chars = new char[end - start];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = charAt(start + i);
+		}
+		return new String(chars);
+	}
+
+	@Override
+	public final String toString() {
+		return subSequence(0, length).toString();
+	}
+}
@@ -27,21 +27,70 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 
+import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
 
 /**
  * Contains methods to convert from and to {@link BigDecimal}.
  */
 final class BigDecimalConversion {
 
+	/**
+	 * Big decimal values with at most this many digits are converted without
+	 * {@code setScale(..)} via their unscaled long value.
+	 */
+	private static final int MAX_FAST_PATH_PRECISION = 18;
+
+	/**
+	 * Number of cached integer values per scale, the values zero through ten
+	 * as cached by {@link BigDecimal#valueOf(long)} for scale zero.
+	 */
+	private static final int CACHE_SIZE = 11;
+
+	/**
+	 * Cached big decimal values for the integers zero through ten for every
+	 * scale, indexed by scale and integer value; the cache for scale 18 only
+	 * contains the values zero through nine.
+	 */
+	private static final BigDecimal[][] CACHE = initCache();
+
+	/**
+	 * The unscaled value of the largest cached big decimal for every scale.
+	 */
+	private static final long[] CACHE_MAX_UNSCALED = initCacheMaxUnscaled();
+
+	private static final BigDecimal[][] initCache() {
+		final BigDecimal[][] cache = new BigDecimal[Scales.MAX_SCALE + 1][];
+		for (int scale = 0; scale <= Scales.MAX_SCALE; scale++) {
+			final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+			final int size = 1 + (int) Math.min(CACHE_SIZE - 1, scaleMetrics.getMaxIntegerValue());
+			cache[scale] = new BigDecimal[size];
+			for (int i = 0; i < size; i++) {
+				cache[scale][i] = BigDecimal.valueOf(scaleMetrics.multiplyByScaleFactor(i), scale);
+			}
+		}
+		return cache;
+	}
+
+	private static final long[] initCacheMaxUnscaled() {
+		final long[] maxUnscaled = new long[Scales.MAX_SCALE + 1];
+		for (int scale = 0; scale <= Scales.MAX_SCALE; scale++) {
+			maxUnscaled[scale] = CACHE[scale][CACHE[scale].length - 1].unscaledValue().longValue();
+		}
+		return maxUnscaled;
+	}
+
 	/**
 	 * Converts the specified big decimal value to a long value applying the
-	 * given rounding mode. An exception is thrown if the value exceeds the
-	 * valid long range.
+	 * given rounding if necessary. An exception is thrown if the value exceeds
+	 * the valid long range.
 	 * 
-	 * @param roundingMode
-	 *            the rounding mode to apply if necessary
+	 * @param arith
+	 *            the arithmetic of the result value with scale zero
+	 * @param rounding
+	 *            the rounding to apply if necessary
 	 * @param value
 	 *            the big decimal value to convert
 	 * @return <tt>round(value)</tt>
@@ -51,27 +100,35 @@ final class BigDecimalConversion {
 	 *             if {@code roundingMode==UNNECESSARY} and rounding is
 	 *             necessary
 	 */
-	public static final long bigDecimalToLong(RoundingMode roundingMode, BigDecimal value) {
+	public static final long bigDecimalToLong(DecimalArithmetic arith, DecimalRounding rounding, BigDecimal value) {
+		if (isFastPathApplicable(value, 0)) {
+			try {
+				return rescale(arith, rounding, unscaledLongValue(value), -value.scale());
+			} catch (ArithmeticException e) {
+				Exceptions.rethrowIfRoundingNecessary(e);
+				throw newOverflowToLongException(value, e);
+			}
+		}
 		// TODO any chance to make this garbage free?
 		// Difficult as we cannot look inside the BigDecimal value
 		final BigInteger scaled = value//
-				.setScale(0, roundingMode)//
+				.setScale(0, rounding.getRoundingMode())//
 				.toBigInteger();
 		if (scaled.bitLength() <= 63) {
 			return scaled.longValue();
 		}
-		throw new IllegalArgumentException("Overflow: cannot convert " + value + " to long");
+		throw newOverflowToLongException(value, null);
 	}
 
 	/**
 	 * Converts the specified big decimal value to an unscaled decimal applying
-	 * the given rounding mode if necessary. An exception is thrown if the value
+	 * the given rounding if necessary. An exception is thrown if the value
 	 * exceeds the valid Decimal range.
 	 * 
-	 * @param scaleMetrics
-	 *            the scale metrics of the result value
-	 * @param roundingMode
-	 *            the rounding mode to apply if necessary
+	 * @param arith
+	 *            the arithmetic of the result value
+	 * @param rounding
+	 *            the rounding to apply if necessary
 	 * @param value
 	 *            the big decimal value to convert
 	 * @return <tt>round(value)</tt>
@@ -81,23 +138,68 @@ final class BigDecimalConversion {
 	 *             if {@code roundingMode==UNNECESSARY} and rounding is
 	 *             necessary
 	 */
-	public static final long bigDecimalToUnscaled(ScaleMetrics scaleMetrics, RoundingMode roundingMode, BigDecimal value) {
+	public static final long bigDecimalToUnscaled(DecimalArithmetic arith, DecimalRounding rounding, BigDecimal value) {
+		final int scale = arith.getScale();
+		if (isFastPathApplicable(value, scale)) {
+			try {
+				return rescale(arith, rounding, unscaledLongValue(value), scale - value.scale());
+			} catch (ArithmeticException e) {
+				Exceptions.rethrowIfRoundingNecessary(e);
+				throw newOverflowException(value, scale, e);
+			}
+		}
 		// TODO any chance to make this garbage free?
 		// Difficult as we cannot look inside the BigDecimal value
 		final BigInteger scaled = value//
-				.multiply(scaleMetrics.getScaleFactorAsBigDecimal())//
-				.setScale(0, roundingMode)//
+				.multiply(arith.getScaleMetrics().getScaleFactorAsBigDecimal())//
+				.setScale(0, rounding.getRoundingMode())//
 				.toBigInteger();
 		if (scaled.bitLength() <= 63) {
 			return scaled.longValue();
 		}
-		throw new IllegalArgumentException(
-				"Overflow: cannot convert " + value + " to Decimal with scale " + scaleMetrics.getScale());
+		throw newOverflowException(value, scale, null);
+	}
+
+	/**
+	 * Returns true if the unscaled value of the given big decimal fits in a
+	 * long and if the scale difference to {@code targetScale} can be
+	 * represented as an integer. The precision is cached by the big decimal
+	 * and does not allocate objects if the unscaled value fits in a long.
+	 */
+	private static final boolean isFastPathApplicable(BigDecimal value, int targetScale) {
+		final long scaleDiff = (long) targetScale - value.scale();
+		return value.precision() <= MAX_FAST_PATH_PRECISION & scaleDiff == (int) scaleDiff;
+	}
+
+	/**
+	 * Returns the unscaled value of a big decimal whose precision does not
+	 * exceed {@link #MAX_FAST_PATH_PRECISION}. No objects are allocated if the
+	 * scale is zero; otherwise {@link BigDecimal#unscaledValue()} is the only
+	 * way to access the unscaled value.
+	 */
+	private static final long unscaledLongValue(BigDecimal value) {
+		return value.scale() == 0 ? value.longValue() : value.unscaledValue().longValue();
+	}
+
+	private static final long rescale(DecimalArithmetic arith, DecimalRounding rounding, long unscaled, int scaleDiff) {
+		if (rounding == DecimalRounding.DOWN) {
+			return Pow10.multiplyByPowerOf10Checked(arith, unscaled, scaleDiff);
+		}
+		return Pow10.multiplyByPowerOf10Checked(arith, rounding, unscaled, scaleDiff);
+	}
+
+	private static final IllegalArgumentException newOverflowToLongException(BigDecimal value, ArithmeticException cause) {
+		return new IllegalArgumentException("Overflow: cannot convert " + value + " to long", cause);
+	}
+
+	private static final IllegalArgumentException newOverflowException(BigDecimal value, int scale, ArithmeticException cause) {
+		return new IllegalArgumentException("Overflow: cannot convert " + value + " to Decimal with scale " + scale, cause);
 	}
 
 	/**
 	 * Converts the given unscaled decimal value to a {@link BigDecimal} of the
-	 * same scale as the given decimal value.
+	 * same scale as the given decimal value. Cached instances are returned for
+	 * the integer values zero through ten.
 	 * 
 	 * @param scaleMetrics
 	 *            the scale metrics associated with the unscaled value
@@ -106,7 +208,25 @@ final class BigDecimalConversion {
 	 * @return a big decimal with the scale from scale metrics
 	 */
 	public static final BigDecimal unscaledToBigDecimal(ScaleMetrics scaleMetrics, long uDecimal) {
-		return BigDecimal.valueOf(uDecimal, scaleMetrics.getScale());
+		return valueOf(uDecimal, scaleMetrics.getScale());
+	}
+
+	/**
+	 * Returns a big decimal for the given unscaled value and scale. Similar to
+	 * {@link BigDecimal#valueOf(long, int)} but returns cached instances for
+	 * the integer values zero through ten of the scales 0 to 18.
+	 */
+	private static final BigDecimal valueOf(long unscaled, int scale) {
+		if (scale >= 0 & scale <= Scales.MAX_SCALE) {
+			if (unscaled >= 0 & unscaled <= CACHE_MAX_UNSCALED[scale]) {
+				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(scale);
+				final long integer = scaleMetrics.divideByScaleFactor(unscaled);
+				if (scaleMetrics.multiplyByScaleFactor(integer) == unscaled) {
+					return CACHE[scale][(int) integer];
+				}
+			}
+		}
+		return BigDecimal.valueOf(unscaled, scale);
 	}
 
 	/**
@@ -136,7 +256,7 @@ final class BigDecimalConversion {
 			if (diff <= 18) {
 				final ScaleMetrics diffMetrics = Scales.getScaleMetrics(diff);
 				final long rescaled = diffMetrics.getArithmetic(roundingMode).divideByPowerOf10(uDecimal, diff);
-				return BigDecimal.valueOf(rescaled, targetScale);
+				return valueOf(rescaled, targetScale);
 			}
 		} else {
 			// does it fit in a long?
@@ -145,7 +265,7 @@ final class BigDecimalConversion {
 				final ScaleMetrics diffMetrics = Scales.getScaleMetrics(diff);
 				if (diffMetrics.isValidIntegerValue(uDecimal)) {
 					final long rescaled = diffMetrics.multiplyByScaleFactor(uDecimal);
-					return BigDecimal.valueOf(rescaled, targetScale);
+					return valueOf(rescaled, targetScale);
 				}
 			}
 		}
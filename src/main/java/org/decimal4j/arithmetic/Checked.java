@@ -62,6 +62,42 @@ final class Checked {
 		return (minuend ^ subtrahend) < 0 & (minuend ^ result) < 0;
 	}
 
+	/**
+	 * Returns true if the product {@code long1 * long2 = result} has resulted
+	 * in an overflow.
+	 * 
+	 * @param long1
+	 *            the first factor
+	 * @param long2
+	 *            the second factor
+	 * @param result
+	 *            the product
+	 * @return true if the calculation resulted in an overflow
+	 */
+	static final boolean isMultiplyOverflow(long long1, long long2, long result) {
+		// Hacker's Delight, Section 2-12
+		final int leadingZeros = Long.numberOfLeadingZeros(long1) + Long.numberOfLeadingZeros(~long1)
+				+ Long.numberOfLeadingZeros(long2) + Long.numberOfLeadingZeros(~long2);
+		/*
+		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
+		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
+		 * the division below if at all possible.
+		 * 
+		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
+		 * are 0 and 1. We take care of all a < 0 with their own check, because
+		 * in particular, the case a == -1 will incorrectly pass the division
+		 * check below.
+		 * 
+		 * In all other cases, we check that either a is 0 or the result is
+		 * consistent with division.
+		 */
+		if (leadingZeros > Long.SIZE + 1) {
+			return false;
+		}
+		return leadingZeros < Long.SIZE || (long1 < 0 & long2 == Long.MIN_VALUE)
+				|| (long1 != 0 && (result / long1) != long2);
+	}
+
 	/**
 	 * Returns true if the quotient {@code dividend / divisor} will result in an
 	 * overflow.
@@ -176,28 +212,8 @@ final class Checked {
 	 *             if the calculation results in an overflow
 	 */
 	public static final long multiplyLong(long lValue1, long lValue2) {
-		// Hacker's Delight, Section 2-12
-		final int leadingZeros = Long.numberOfLeadingZeros(lValue1) + Long.numberOfLeadingZeros(~lValue1)
-				+ Long.numberOfLeadingZeros(lValue2) + Long.numberOfLeadingZeros(~lValue2);
-		/*
-		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
-		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
-		 * the division below if at all possible.
-		 * 
-		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
-		 * are 0 and 1. We take care of all a < 0 with their own check, because
-		 * in particular, the case a == -1 will incorrectly pass the division
-		 * check below.
-		 * 
-		 * In all other cases, we check that either a is 0 or the result is
-		 * consistent with division.
-		 */
 		final long result = lValue1 * lValue2;
-		if (leadingZeros > Long.SIZE + 1) {
-			return result;
-		}
-		if (leadingZeros < Long.SIZE || (lValue1 < 0 & lValue2 == Long.MIN_VALUE)
-				|| (lValue1 != 0 && (result / lValue1) != lValue2)) {
+		if (isMultiplyOverflow(lValue1, lValue2, result)) {
 			throw new ArithmeticException("Overflow: " + lValue1 + " * " + lValue2 + " = " + result);
 		}
 		return result;
@@ -220,28 +236,8 @@ final class Checked {
 	 *             if the calculation results in an overflow
 	 */
 	public static final long multiplyByLong(DecimalArithmetic arith, long uDecimal, long lValue) {
-		// Hacker's Delight, Section 2-12
-		final int leadingZeros = Long.numberOfLeadingZeros(uDecimal) + Long.numberOfLeadingZeros(~uDecimal)
-				+ Long.numberOfLeadingZeros(lValue) + Long.numberOfLeadingZeros(~lValue);
-		/*
-		 * If leadingZeros > Long.SIZE + 1 it's definitely fine, if it's <
-		 * Long.SIZE it's definitely bad. We do the leadingZeros check to avoid
-		 * the division below if at all possible.
-		 * 
-		 * Otherwise, if b == Long.MIN_VALUE, then the only allowed values of a
-		 * are 0 and 1. We take care of all a < 0 with their own check, because
-		 * in particular, the case a == -1 will incorrectly pass the division
-		 * check below.
-		 * 
-		 * In all other cases, we check that either a is 0 or the result is
-		 * consistent with division.
-		 */
 		final long result = uDecimal * lValue;
-		if (leadingZeros > Long.SIZE + 1) {
-			return result;
-		}
-		if (leadingZeros < Long.SIZE || (uDecimal < 0 & lValue == Long.MIN_VALUE)
-				|| (uDecimal != 0 && (result / uDecimal) != lValue)) {
+		if (isMultiplyOverflow(uDecimal, lValue, result)) {
 			throw new ArithmeticException(
 					"Overflow: " + arith.toString(uDecimal) + " * " + lValue + " = " + arith.toString(result));
 		}
@@ -154,6 +154,11 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 		return DoubleConversion.longToDouble(this, rounding, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), rounding, uDecimal);
+	}
+
 	@Override
 	public final long toUnscaled(long uDecimal, int scale) {
 		return UnscaledConversion.unscaledToUnscaled(rounding, scale, this, uDecimal);
@@ -176,7 +181,12 @@ public final class CheckedScale0fRoundingArithmetic extends AbstractCheckedScale
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToLong(getRoundingMode(), value);
+		return BigDecimalConversion.bigDecimalToLong(this, rounding, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, rounding, decimal64);
 	}
 
 	@Override
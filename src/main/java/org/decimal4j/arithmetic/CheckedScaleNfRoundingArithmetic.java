@@ -111,6 +111,11 @@ public final class CheckedScaleNfRoundingArithmetic extends AbstractCheckedScale
 		return Mul.multiplyChecked(this, rounding, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return Mul.multiplyAddChecked(this, rounding, uDecimal1, uDecimal2, uDecimalAugend);
+	}
+
 	@Override
 	public final long multiplyByPowerOf10(long uDecimal, int n) {
 		return Pow10.multiplyByPowerOf10Checked(this, rounding, uDecimal, n);
@@ -183,7 +188,12 @@ public final class CheckedScaleNfRoundingArithmetic extends AbstractCheckedScale
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToUnscaled(getScaleMetrics(), getRoundingMode(), value);
+		return BigDecimalConversion.bigDecimalToUnscaled(this, rounding, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, rounding, decimal64);
 	}
 
 	@Override
@@ -201,6 +211,11 @@ public final class CheckedScaleNfRoundingArithmetic extends AbstractCheckedScale
 		return DoubleConversion.unscaledToDouble(this, rounding, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), rounding, uDecimal);
+	}
+
 	@Override
 	public final long toUnscaled(long uDecimal, int scale) {
 		return UnscaledConversion.unscaledToUnscaled(rounding, scale, this, uDecimal);
@@ -81,6 +81,11 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return Mul.multiplyChecked(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return Mul.multiplyAddChecked(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalAugend);
+	}
+
 	@Override
 	public final long square(long uDecimal) {
 		return Square.squareChecked(this, uDecimal);
@@ -163,7 +168,12 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToUnscaled(getScaleMetrics(), RoundingMode.DOWN, value);
+		return BigDecimalConversion.bigDecimalToUnscaled(this, DecimalRounding.DOWN, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, decimal64);
 	}
 
 	@Override
@@ -181,6 +191,11 @@ public final class CheckedScaleNfTruncatingArithmetic extends AbstractCheckedSca
 		return DoubleConversion.unscaledToDouble(this, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), uDecimal);
+	}
+
 	@Override
 	public final long toUnscaled(long uDecimal, int scale) {
 		return UnscaledConversion.unscaledToUnscaled(scale, this, uDecimal);
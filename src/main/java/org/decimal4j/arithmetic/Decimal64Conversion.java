@@ -0,0 +1,249 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Contains static methods to convert between unscaled decimals and IEEE 754-2008
+ * <i>decimal64</i> values in the binary integer decimal (BID) encoding.
+ * <p>
+ * A decimal64 value consists of a sign bit, a biased decimal exponent and a
+ * coefficient with at most 16 digits. If the two bits following the sign bit
+ * are not {@code 11}, the next 10 bits hold the exponent and the remaining 53
+ * bits the coefficient. Otherwise the exponent occupies the 10 bits after the
+ * {@code 11} prefix and the coefficient is {@code 100} followed by the
+ * remaining 51 bits. Infinity and NaN values start with {@code 11110} and
+ * {@code 11111} after the sign bit, respectively.
+ */
+final class Decimal64Conversion {
+
+	/**
+	 * The exponent bias; the exponent of a decimal64 value is the negated scale
+	 * of its coefficient.
+	 */
+	private static final int EXPONENT_BIAS = 398;
+
+	private static final long STEERING_MASK = 0x6000000000000000L;
+	private static final long INFINITY_MASK = 0x7800000000000000L;
+	private static final long NAN_MASK = 0x7c00000000000000L;
+
+	private static final long SMALL_COEFFICIENT_MASK = (1L << 53) - 1;
+	private static final long LARGE_COEFFICIENT_MASK = (1L << 51) - 1;
+	private static final long LARGE_COEFFICIENT_PREFIX = 1L << 53;
+
+	private static final long MAX_COEFFICIENT = 9999999999999999L;
+	private static final long TEN_POW_16 = MAX_COEFFICIENT + 1;
+	private static final long TEN_POW_17 = 10 * TEN_POW_16;
+	private static final long TEN_POW_18 = 100 * TEN_POW_16;
+
+	/**
+	 * Converts the given decimal64 value to an unscaled value of the scale
+	 * defined by {@code arith}. The value is rounded DOWN if necessary. An
+	 * exception is thrown if the conversion is not possible.
+	 * 
+	 * @param arith
+	 *            arithmetic defining the target scale
+	 * @param decimal64
+	 *            the decimal64 bits in BID encoding
+	 * @return the unscaled value in the arithmetic's scale
+	 * @throws IllegalArgumentException
+	 *             if {@code decimal64} is NaN or infinite or if the conversion
+	 *             cannot be performed due to overflow
+	 */
+	public static final long decimal64ToUnscaled(DecimalArithmetic arith, long decimal64) {
+		final int exponent = getExponent(decimal64);
+		final long coefficient = getSignedCoefficient(decimal64);
+		try {
+			return Pow10.multiplyByPowerOf10Checked(arith, coefficient, arith.getScale() + exponent);
+		} catch (ArithmeticException e) {
+			throw toIllegalArgumentExceptionOrRethrow(e, arith, coefficient, exponent);
+		}
+	}
+
+	/**
+	 * Converts the given decimal64 value to an unscaled value of the scale
+	 * defined by {@code arith}. The value is rounded using the specified
+	 * {@code rounding} if necessary. An exception is thrown if the conversion
+	 * is not possible.
+	 * 
+	 * @param arith
+	 *            arithmetic defining the target scale
+	 * @param rounding
+	 *            the rounding to apply if rounding is necessary
+	 * @param decimal64
+	 *            the decimal64 bits in BID encoding
+	 * @return the unscaled value in the arithmetic's scale
+	 * @throws IllegalArgumentException
+	 *             if {@code decimal64} is NaN or infinite or if the conversion
+	 *             cannot be performed due to overflow
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding==UNNECESSARY}
+	 */
+	public static final long decimal64ToUnscaled(DecimalArithmetic arith, DecimalRounding rounding, long decimal64) {
+		final int exponent = getExponent(decimal64);
+		final long coefficient = getSignedCoefficient(decimal64);
+		try {
+			return Pow10.multiplyByPowerOf10Checked(arith, rounding, coefficient, arith.getScale() + exponent);
+		} catch (ArithmeticException e) {
+			throw toIllegalArgumentExceptionOrRethrow(e, arith, coefficient, exponent);
+		}
+	}
+
+	/**
+	 * Converts the given unscaled value to a decimal64 value. The value is
+	 * rounded DOWN if it has more than 16 significant digits.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the unscaled value
+	 * @param uDecimal
+	 *            the unscaled value to convert
+	 * @return the decimal64 bits in BID encoding
+	 */
+	public static final long unscaledToDecimal64(ScaleMetrics scaleMetrics, long uDecimal) {
+		if (-TEN_POW_16 < uDecimal & uDecimal < TEN_POW_16) {
+			return encode(uDecimal, -scaleMetrics.getScale());
+		}
+		final int digits = getExcessDigits(uDecimal);
+		return encodeRounded(Pow10.divideByPowerOf10(uDecimal, digits), digits - scaleMetrics.getScale());
+	}
+
+	/**
+	 * Converts the given unscaled value to a decimal64 value. The value is
+	 * rounded using the specified {@code rounding} if it has more than 16
+	 * significant digits.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the unscaled value
+	 * @param rounding
+	 *            the rounding to apply if rounding is necessary
+	 * @param uDecimal
+	 *            the unscaled value to convert
+	 * @return the decimal64 bits in BID encoding
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and {@code rounding==UNNECESSARY}
+	 */
+	public static final long unscaledToDecimal64(ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimal) {
+		if (-TEN_POW_16 < uDecimal & uDecimal < TEN_POW_16) {
+			return encode(uDecimal, -scaleMetrics.getScale());
+		}
+		final int digits = getExcessDigits(uDecimal);
+		return encodeRounded(Pow10.divideByPowerOf10(rounding, uDecimal, digits), digits - scaleMetrics.getScale());
+	}
+
+	/**
+	 * Returns the unbiased exponent of the given decimal64 value.
+	 * 
+	 * @param decimal64
+	 *            the decimal64 bits in BID encoding
+	 * @return the exponent, the negated scale of the coefficient
+	 * @throws IllegalArgumentException
+	 *             if {@code decimal64} is NaN or infinite
+	 */
+	private static final int getExponent(long decimal64) {
+		if ((decimal64 & STEERING_MASK) != STEERING_MASK) {
+			return ((int) (decimal64 >>> 53) & 0x3ff) - EXPONENT_BIAS;
+		}
+		if ((decimal64 & INFINITY_MASK) == INFINITY_MASK) {
+			final String value = (decimal64 & NAN_MASK) == NAN_MASK ? "NaN" : decimal64 < 0 ? "-Infinity" : "Infinity";
+			throw new IllegalArgumentException("Cannot convert decimal64 value to Decimal: " + value);
+		}
+		return ((int) (decimal64 >>> 51) & 0x3ff) - EXPONENT_BIAS;
+	}
+
+	/**
+	 * Returns the signed coefficient of the given finite decimal64 value.
+	 * Non-canonical coefficients exceeding 16 digits are treated as zero as
+	 * specified by IEEE 754-2008.
+	 * 
+	 * @param decimal64
+	 *            the decimal64 bits in BID encoding, not NaN or infinite
+	 * @return the coefficient with the sign of {@code decimal64}
+	 */
+	private static final long getSignedCoefficient(long decimal64) {
+		long coefficient;
+		if ((decimal64 & STEERING_MASK) != STEERING_MASK) {
+			coefficient = decimal64 & SMALL_COEFFICIENT_MASK;
+		} else {
+			coefficient = LARGE_COEFFICIENT_PREFIX | (decimal64 & LARGE_COEFFICIENT_MASK);
+			if (coefficient > MAX_COEFFICIENT) {
+				coefficient = 0;
+			}
+		}
+		return decimal64 < 0 ? -coefficient : coefficient;
+	}
+
+	/**
+	 * Returns the number of digits that have to be removed from the given
+	 * unscaled value to reduce it to at most 16 digits.
+	 * 
+	 * @param uDecimal
+	 *            an unscaled value with at least 17 digits
+	 * @return a value between 1 and 3
+	 */
+	private static final int getExcessDigits(long uDecimal) {
+		if (uDecimal >= TEN_POW_18 | uDecimal <= -TEN_POW_18) {
+			return 3;
+		}
+		return uDecimal >= TEN_POW_17 | uDecimal <= -TEN_POW_17 ? 2 : 1;
+	}
+
+	/**
+	 * Encodes a rounded coefficient which may have become 10<sup>16</sup>
+	 * after rounding up.
+	 */
+	private static final long encodeRounded(long coefficient, int exponent) {
+		if (coefficient == TEN_POW_16 | coefficient == -TEN_POW_16) {
+			return encode(coefficient / 10, exponent + 1);
+		}
+		return encode(coefficient, exponent);
+	}
+
+	/**
+	 * Encodes the given signed coefficient with at most 16 digits and the
+	 * unbiased exponent in BID format.
+	 */
+	private static final long encode(long coefficient, int exponent) {
+		final long sign = coefficient & Long.MIN_VALUE;
+		final long abs = Math.abs(coefficient);
+		final long biasedExponent = exponent + EXPONENT_BIAS;
+		if (abs <= SMALL_COEFFICIENT_MASK) {
+			return sign | (biasedExponent << 53) | abs;
+		}
+		return sign | STEERING_MASK | (biasedExponent << 51) | (abs & LARGE_COEFFICIENT_MASK);
+	}
+
+	private static final IllegalArgumentException toIllegalArgumentExceptionOrRethrow(ArithmeticException e, DecimalArithmetic arith, long coefficient, int exponent) {
+		Exceptions.rethrowIfRoundingNecessary(e);
+		return new IllegalArgumentException("Overflow: cannot convert decimal64 value " + coefficient + "E" + exponent
+				+ " to Decimal with scale " + arith.getScale(), e);
+	}
+
+	// no instances
+	private Decimal64Conversion() {
+		super();
+	}
+}
@@ -0,0 +1,177 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Reusable character sequence presenting an unscaled value with a scale in the same format as
+ * {@link Decimal#toString()}. The sequence can be re-pointed to another value through one of the {@code set(..)}
+ * methods without allocating any objects. The characters are rendered on demand when first accessed after setting a
+ * new value.
+ * <p>
+ * The sequence can be passed to logging frameworks accepting a {@link CharSequence} argument, or it can be appended
+ * to a {@link StringBuilder} through {@link #appendTo(StringBuilder)}; neither allocates a string.
+ * <p>
+ * A sequence is <b>not</b> thread safe; concurrent use requires separate instances.
+ */
+public final class DecimalCharSequence implements CharSequence {
+
+	private final char[] chars = new char[19 + 1 + 2];// unsigned long: 19 digits,
+														// sign: 1, decimal point
+														// and leading 0: 2
+	private long unscaledValue;
+	private int scale;
+	private int length;// -1 if chars are not rendered yet
+
+	/**
+	 * Constructor for a sequence representing the value zero with scale zero.
+	 */
+	public DecimalCharSequence() {
+		this.length = -1;
+	}
+
+	/**
+	 * Constructor for a sequence representing the given decimal value.
+	 * 
+	 * @param value
+	 *            the value to present
+	 */
+	public DecimalCharSequence(Decimal<?> value) {
+		set(value);
+	}
+
+	/**
+	 * Constructor for a sequence representing the given unscaled value with the specified scale.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to present
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 */
+	public DecimalCharSequence(long unscaledValue, int scale) {
+		set(unscaledValue, scale);
+	}
+
+	/**
+	 * Re-points this sequence to the given decimal value.
+	 * 
+	 * @param value
+	 *            the value to present
+	 * @return this sequence
+	 */
+	public final DecimalCharSequence set(Decimal<?> value) {
+		return set(value.unscaledValue(), value.getScale());
+	}
+
+	/**
+	 * Re-points this sequence to the given unscaled value with the specified scale.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to present
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @return this sequence
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 */
+	public final DecimalCharSequence set(long unscaledValue, int scale) {
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be in [" + Scales.MIN_SCALE + "," + Scales.MAX_SCALE + "] but was: " + scale);
+		}
+		this.unscaledValue = unscaledValue;
+		this.scale = scale;
+		this.length = -1;
+		return this;
+	}
+
+	/**
+	 * Returns the unscaled value presented by this sequence.
+	 * 
+	 * @return the unscaled value
+	 */
+	public final long getUnscaledValue() {
+		return unscaledValue;
+	}
+
+	/**
+	 * Returns the scale of the value presented by this sequence.
+	 * 
+	 * @return the scale
+	 */
+	public final int getScale() {
+		return scale;
+	}
+
+	/**
+	 * Appends the characters of this sequence to the given string builder.
+	 * 
+	 * @param sb
+	 *            the string builder to append to
+	 * @return the given string builder
+	 */
+	public final StringBuilder appendTo(StringBuilder sb) {
+		return sb.append(chars, 0, render());
+	}
+
+	@Override
+	public final int length() {
+		return render();
+	}
+
+	@Override
+	public final char charAt(int index) {
+		if (index < 0 | index >= render()) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for sequence of length " + length);
+		}
+		return chars[index];
+	}
+
+	@Override
+	public final CharSequence subSequence(int start, int end) {
+		if (start < 0 | end > render() | start > end) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ "] must be in [0, " + length + "]");
+		}
+		return new String(chars, start, end - start);
+	}
+
+	@Override
+	public final String toString() {
+		return new String(chars, 0, render());
+	}
+
+	/**
+	 * Renders the chars if necessary and returns the length.
+	 */
+	private final int render() {
+		if (length < 0) {
+			length = StringConversion.unscaledToChars(Scales.getScaleMetrics(scale).getDefaultArithmetic(), unscaledValue, chars, 0);
+		}
+		return length;
+	}
+}
@@ -0,0 +1,639 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Formatter for decimal values with configurable fraction digits, digit grouping, sign style and padding. Values are
+ * formatted directly into an {@link Appendable}, a {@code char[]} or an ASCII {@code byte[]} without allocating
+ * temporary objects.
+ * <p>
+ * Formatters are immutable and thread safe. A formatter is derived from {@link #DEFAULT} or from another formatter
+ * through the {@code with..} methods, for instance:
+ * 
+ * <pre>
+ * DecimalFormatter.DEFAULT.withLocale(Locale.GERMANY).withGrouping(3).withFractionDigits(2)
+ * </pre>
+ * 
+ * formats the value {@code -1234567.891} as {@code "-1.234.567,89"}.
+ */
+public final class DecimalFormatter {
+
+	/**
+	 * Defines how the sign of a formatted value is presented.
+	 */
+	public static enum SignStyle {
+		/**
+		 * Negative values are prefixed with the minus sign, non-negative values have no sign.
+		 */
+		NEGATIVE,
+		/**
+		 * Negative values are prefixed with the minus sign, non-negative values with a {@code '+'}.
+		 */
+		ALWAYS,
+		/**
+		 * Negative values are enclosed in parentheses, non-negative values have no sign.
+		 */
+		PARENTHESES
+	}
+
+	/**
+	 * Formatter producing the same strings as {@link Decimal#toString()}: all fraction digits of the value's scale,
+	 * no grouping, no padding and {@link RoundingMode#HALF_UP HALF_UP} rounding if fraction digits are reduced.
+	 */
+	public static final DecimalFormatter DEFAULT = new DecimalFormatter(-1, false, DecimalRounding.HALF_UP, 0, ',', '.', '-', SignStyle.NEGATIVE, 0, ' ');
+
+	/**
+	 * Maximum number of chars of a formatted value without padding: sign prefix and suffix, 19 integral digits with 18
+	 * grouping separators, decimal separator and {@link Scales#MAX_SCALE} fraction digits.
+	 */
+	private static final int MAX_LENGTH = 2 + 19 + 18 + 1 + Scales.MAX_SCALE;
+
+	/**
+	 * Thread-local with a char array used to format values; replaced by a larger array if a formatter's padding width
+	 * exceeds {@link #MAX_LENGTH}.
+	 */
+	static final ThreadLocal<char[]> CHAR_ARRAY_THREAD_LOCAL = new ThreadLocal<char[]>() {
+		@Override
+		protected char[] initialValue() {
+			return new char[MAX_LENGTH];
+		}
+	};
+
+	private final int fractionDigits;
+	private final boolean stripTrailingZeros;
+	private final DecimalRounding rounding;
+	private final int groupingSize;
+	private final char groupingSeparator;
+	private final char decimalSeparator;
+	private final char minusSign;
+	private final SignStyle signStyle;
+	private final int width;
+	private final char padChar;
+
+	private DecimalFormatter(int fractionDigits, boolean stripTrailingZeros, DecimalRounding rounding, int groupingSize, char groupingSeparator, char decimalSeparator, char minusSign, SignStyle signStyle, int width, char padChar) {
+		this.fractionDigits = fractionDigits;
+		this.stripTrailingZeros = stripTrailingZeros;
+		this.rounding = rounding;
+		this.groupingSize = groupingSize;
+		this.groupingSeparator = groupingSeparator;
+		this.decimalSeparator = decimalSeparator;
+		this.minusSign = minusSign;
+		this.signStyle = signStyle;
+		this.width = width;
+		this.padChar = padChar;
+	}
+
+	/**
+	 * Returns the number of fraction digits of formatted values, or -1 if values are formatted with all fraction
+	 * digits of their scale.
+	 * 
+	 * @return the number of fraction digits, or -1 for the scale of the formatted value
+	 */
+	public final int getFractionDigits() {
+		return fractionDigits;
+	}
+
+	/**
+	 * Returns a formatter with a fixed number of fraction digits. Values with a larger scale are rounded with the
+	 * {@link #getRoundingMode() rounding mode} of this formatter, values with a smaller scale are padded with zeros.
+	 * 
+	 * @param fractionDigits
+	 *            the number of fraction digits in {@code [0, 18]}, or -1 to format values with all fraction digits of
+	 *            their scale
+	 * @return a formatter with the given number of fraction digits
+	 * @throws IllegalArgumentException
+	 *             if {@code fractionDigits} is not in {@code [-1, 18]}
+	 */
+	public final DecimalFormatter withFractionDigits(int fractionDigits) {
+		if (fractionDigits < -1 | fractionDigits > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Fraction digits must be in [-1, " + Scales.MAX_SCALE + "] but was: " + fractionDigits);
+		}
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns true if trailing zero fraction digits are removed from formatted values.
+	 * 
+	 * @return true if trailing zeros are stripped
+	 */
+	public final boolean isStripTrailingZeros() {
+		return stripTrailingZeros;
+	}
+
+	/**
+	 * Returns a formatter that removes trailing zero fraction digits if {@code stripTrailingZeros} is true. The decimal
+	 * separator is omitted if all fraction digits are zero.
+	 * 
+	 * @param stripTrailingZeros
+	 *            true to strip trailing zero fraction digits
+	 * @return a formatter with the given trailing zeros behavior
+	 */
+	public final DecimalFormatter withStripTrailingZeros(boolean stripTrailingZeros) {
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the rounding mode applied if a value has more fraction digits than this formatter.
+	 * 
+	 * @return the rounding mode
+	 */
+	public final RoundingMode getRoundingMode() {
+		return rounding.getRoundingMode();
+	}
+
+	/**
+	 * Returns a formatter using the given rounding mode if a value has more fraction digits than the formatter. With
+	 * {@link RoundingMode#UNNECESSARY UNNECESSARY} formatting fails with an {@link ArithmeticException} if non-zero
+	 * digits would be lost.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode
+	 * @return a formatter with the given rounding mode
+	 */
+	public final DecimalFormatter withRoundingMode(RoundingMode roundingMode) {
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, DecimalRounding.valueOf(roundingMode), groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the number of integral digits between two grouping separators, or zero if digits are not grouped.
+	 * 
+	 * @return the grouping size, zero for no grouping
+	 */
+	public final int getGroupingSize() {
+		return groupingSize;
+	}
+
+	/**
+	 * Returns a formatter that groups integral digits, for instance thousands if {@code groupingSize} is 3.
+	 * 
+	 * @param groupingSize
+	 *            the number of digits between two grouping separators, zero to disable grouping
+	 * @return a formatter with the given grouping size
+	 * @throws IllegalArgumentException
+	 *             if {@code groupingSize} is negative
+	 */
+	public final DecimalFormatter withGrouping(int groupingSize) {
+		if (groupingSize < 0) {
+			throw new IllegalArgumentException("Grouping size must not be negative: " + groupingSize);
+		}
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the character separating groups of integral digits.
+	 * 
+	 * @return the grouping separator
+	 */
+	public final char getGroupingSeparator() {
+		return groupingSeparator;
+	}
+
+	/**
+	 * Returns a formatter using the given character to separate groups of integral digits.
+	 * 
+	 * @param groupingSeparator
+	 *            the grouping separator
+	 * @return a formatter with the given grouping separator
+	 */
+	public final DecimalFormatter withGroupingSeparator(char groupingSeparator) {
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the character separating integral and fraction digits.
+	 * 
+	 * @return the decimal separator
+	 */
+	public final char getDecimalSeparator() {
+		return decimalSeparator;
+	}
+
+	/**
+	 * Returns a formatter using the given character to separate integral and fraction digits.
+	 * 
+	 * @param decimalSeparator
+	 *            the decimal separator
+	 * @return a formatter with the given decimal separator
+	 */
+	public final DecimalFormatter withDecimalSeparator(char decimalSeparator) {
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the character used as prefix for negative values.
+	 * 
+	 * @return the minus sign
+	 */
+	public final char getMinusSign() {
+		return minusSign;
+	}
+
+	/**
+	 * Returns a formatter using the given character as prefix for negative values.
+	 * 
+	 * @param minusSign
+	 *            the minus sign
+	 * @return a formatter with the given minus sign
+	 */
+	public final DecimalFormatter withMinusSign(char minusSign) {
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns a formatter using grouping separator, decimal separator and minus sign of the given locale. Whether
+	 * digits are grouped at all is not changed by this method.
+	 * 
+	 * @param locale
+	 *            the locale providing the formatting symbols
+	 * @return a formatter with the symbols of the given locale
+	 * @see DecimalFormatSymbols#getInstance(Locale)
+	 */
+	public final DecimalFormatter withLocale(Locale locale) {
+		final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, symbols.getGroupingSeparator(), symbols.getDecimalSeparator(), symbols.getMinusSign(), signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the style used to present the sign of formatted values.
+	 * 
+	 * @return the sign style
+	 */
+	public final SignStyle getSignStyle() {
+		return signStyle;
+	}
+
+	/**
+	 * Returns a formatter using the given style to present the sign of formatted values. The sign is determined after
+	 * rounding, that is, a negative value rounded to zero is formatted without minus sign.
+	 * 
+	 * @param signStyle
+	 *            the sign style
+	 * @return a formatter with the given sign style
+	 */
+	public final DecimalFormatter withSignStyle(SignStyle signStyle) {
+		if (signStyle == null) {
+			throw new NullPointerException("Sign style must not be null");
+		}
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Returns the minimum number of chars of formatted values, zero for no padding.
+	 * 
+	 * @return the padding width
+	 */
+	public final int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the character used to pad formatted values to the {@link #getWidth() width}.
+	 * 
+	 * @return the padding character
+	 */
+	public final char getPadChar() {
+		return padChar;
+	}
+
+	/**
+	 * Returns a formatter that pads formatted values on the left to at least {@code width} chars. If {@code padChar} is
+	 * {@code '0'} the padding is inserted after the sign prefix, otherwise before it. Padding characters are never
+	 * grouped.
+	 * 
+	 * @param width
+	 *            the minimum number of chars of formatted values, zero for no padding
+	 * @param padChar
+	 *            the padding character
+	 * @return a formatter with the given padding
+	 * @throws IllegalArgumentException
+	 *             if {@code width} is negative
+	 */
+	public final DecimalFormatter withPadding(int width, char padChar) {
+		if (width < 0) {
+			throw new IllegalArgumentException("Width must not be negative: " + width);
+		}
+		return new DecimalFormatter(fractionDigits, stripTrailingZeros, rounding, groupingSize, groupingSeparator, decimalSeparator, minusSign, signStyle, width, padChar);
+	}
+
+	/**
+	 * Formats the given decimal value and returns it as a string.
+	 * 
+	 * @param value
+	 *            the value to format
+	 * @return the formatted value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final String format(Decimal<?> value) {
+		return format(value.unscaledValue(), value.getScale());
+	}
+
+	/**
+	 * Formats the given unscaled value and returns it as a string.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to format
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @return the formatted value
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final String format(long unscaledValue, int scale) {
+		final char[] buf = getBuffer();
+		final int start = format(unscaledValue, scale, buf);
+		return new String(buf, start, buf.length - start);
+	}
+
+	/**
+	 * Formats the given decimal value and appends it to the given appendable.
+	 * 
+	 * @param value
+	 *            the value to format
+	 * @param appendable
+	 *            the appendable to which the formatted value is appended
+	 * @throws IOException
+	 *             if an I/O error occurs when appending to {@code appendable}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final void format(Decimal<?> value, Appendable appendable) throws IOException {
+		format(value.unscaledValue(), value.getScale(), appendable);
+	}
+
+	/**
+	 * Formats the given unscaled value and appends it to the given appendable.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to format
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @param appendable
+	 *            the appendable to which the formatted value is appended
+	 * @throws IOException
+	 *             if an I/O error occurs when appending to {@code appendable}
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final void format(long unscaledValue, int scale, Appendable appendable) throws IOException {
+		final char[] buf = getBuffer();
+		final int start = format(unscaledValue, scale, buf);
+		if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(buf, start, buf.length - start);
+		} else {
+			for (int i = start; i < buf.length; i++) {
+				appendable.append(buf[i]);
+			}
+		}
+	}
+
+	/**
+	 * Formats the given decimal value into the given char array starting at {@code offset}. Nothing is written if the
+	 * array is too small.
+	 * 
+	 * @param value
+	 *            the value to format
+	 * @param dst
+	 *            the destination char array
+	 * @param offset
+	 *            the index in {@code dst} of the first char to write
+	 * @return the number of chars written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the formatted value
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final int format(Decimal<?> value, char[] dst, int offset) {
+		return format(value.unscaledValue(), value.getScale(), dst, offset);
+	}
+
+	/**
+	 * Formats the given unscaled value into the given char array starting at {@code offset}. Nothing is written if the
+	 * array is too small.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to format
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @param dst
+	 *            the destination char array
+	 * @param offset
+	 *            the index in {@code dst} of the first char to write
+	 * @return the number of chars written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the formatted value
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final int format(long unscaledValue, int scale, char[] dst, int offset) {
+		final char[] buf = getBuffer();
+		final int start = format(unscaledValue, scale, buf);
+		final int len = buf.length - start;
+		checkBounds(len, dst.length, offset);
+		System.arraycopy(buf, start, dst, offset, len);
+		return len;
+	}
+
+	/**
+	 * Formats the given decimal value into the given byte array starting at {@code offset}. Each char is written as a
+	 * single ASCII byte. Nothing is written if the array is too small.
+	 * 
+	 * @param value
+	 *            the value to format
+	 * @param dst
+	 *            the destination byte array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the formatted value
+	 * @throws IllegalStateException
+	 *             if the formatted value contains a non-ASCII character, for instance a grouping separator of the
+	 *             formatter's locale
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final int format(Decimal<?> value, byte[] dst, int offset) {
+		return format(value.unscaledValue(), value.getScale(), dst, offset);
+	}
+
+	/**
+	 * Formats the given unscaled value into the given byte array starting at {@code offset}. Each char is written as
+	 * a single ASCII byte. Nothing is written if the array is too small.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to format
+	 * @param scale
+	 *            the scale associated with {@code unscaledValue}
+	 * @param dst
+	 *            the destination byte array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the formatted value
+	 * @throws IllegalStateException
+	 *             if the formatted value contains a non-ASCII character, for instance a grouping separator of the
+	 *             formatter's locale
+	 * @throws IllegalArgumentException
+	 *             if {@code scale} is not in {@code [0, 18]}
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public final int format(long unscaledValue, int scale, byte[] dst, int offset) {
+		final char[] buf = getBuffer();
+		final int start = format(unscaledValue, scale, buf);
+		final int len = buf.length - start;
+		checkBounds(len, dst.length, offset);
+		for (int i = start; i < buf.length; i++) {
+			if (buf[i] > 0x7f) {
+				throw new IllegalStateException("Cannot write non-ASCII character '" + buf[i] + "' formatting "
+						+ unscaledValue + " with scale " + scale + " using " + this);
+			}
+		}
+		for (int i = start; i < buf.length; i++) {
+			dst[offset++] = (byte) buf[i];
+		}
+		return len;
+	}
+
+	/**
+	 * Returns the thread-local buffer, large enough for a formatted value of this formatter.
+	 */
+	private final char[] getBuffer() {
+		final char[] buf = CHAR_ARRAY_THREAD_LOCAL.get();
+		if (buf.length >= width) {
+			return buf;
+		}
+		final char[] larger = new char[width];
+		CHAR_ARRAY_THREAD_LOCAL.set(larger);
+		return larger;
+	}
+
+	private static final void checkBounds(int len, int dstLength, int offset) {
+		if (offset < 0 | offset > dstLength - len) {
+			throw new IndexOutOfBoundsException("Cannot write " + len + " chars at offset " + offset + " into array of length " + dstLength);
+		}
+	}
+
+	/**
+	 * Writes the formatted value backwards into the given buffer so that it ends at the end of the buffer.
+	 * 
+	 * @return the index in {@code buf} of the first char of the formatted value
+	 */
+	private final int format(long unscaledValue, int scale, char[] buf) {
+		final int digits = fractionDigits < 0 ? scale : fractionDigits;
+		long value = unscaledValue;
+		int valueScale = Scales.getScaleMetrics(scale).getScale();// validates scale
+		if (digits < valueScale) {
+			value = Pow10.divideByPowerOf10(rounding, value, valueScale - digits);
+			valueScale = digits;
+		}
+		int zeros = digits - valueScale;
+		if (stripTrailingZeros) {
+			zeros = 0;
+			while (valueScale > 0 && value % 10 == 0) {
+				value /= 10;
+				valueScale--;
+			}
+		}
+		final boolean negative = value < 0;
+		int pos = buf.length;
+		if (negative & signStyle == SignStyle.PARENTHESES) {
+			buf[--pos] = ')';
+		}
+		long integral = value;
+		if (valueScale + zeros > 0) {
+			for (; zeros > 0; zeros--) {
+				buf[--pos] = '0';
+			}
+			if (valueScale > 0) {
+				// single division to split into integral and fractional part
+				final ScaleMetrics scaleMetrics = Scales.getScaleMetrics(valueScale);
+				integral = scaleMetrics.divideByScaleFactor(value);
+				final long fraction = Math.abs(value - scaleMetrics.multiplyByScaleFactor(integral));
+				pos = StringConversion.writeFractionDigits(fraction, valueScale, buf, pos);
+			}
+			buf[--pos] = decimalSeparator;
+		}
+		// work with negative values to support Long.MIN_VALUE
+		long negated = integral < 0 ? integral : -integral;
+		if (groupingSize == 0) {
+			pos = StringConversion.writeNegatedDigits(negated, buf, pos);
+		} else {
+			int groupDigits = 0;
+			while (true) {
+				final long div = negated / 10;
+				buf[--pos] = (char) ('0' + (div * 10 - negated));
+				negated = div;
+				if (negated == 0) {
+					break;
+				}
+				if (++groupDigits == groupingSize) {
+					buf[--pos] = groupingSeparator;
+					groupDigits = 0;
+				}
+			}
+		}
+		final char prefix = negative ? (signStyle == SignStyle.PARENTHESES ? '(' : minusSign) : signStyle == SignStyle.ALWAYS ? '+' : 0;
+		final int start = buf.length - width;
+		if (padChar == '0') {
+			final int zeroPaddingStart = prefix == 0 ? start : start + 1;
+			while (pos > zeroPaddingStart) {
+				buf[--pos] = '0';
+			}
+		}
+		if (prefix != 0) {
+			buf[--pos] = prefix;
+		}
+		while (pos > start) {
+			buf[--pos] = padChar;
+		}
+		return pos;
+	}
+
+	@Override
+	public final String toString() {
+		return "DecimalFormatter[fractionDigits=" + fractionDigits + ", stripTrailingZeros=" + stripTrailingZeros
+				+ ", rounding=" + rounding.getRoundingMode() + ", groupingSize=" + groupingSize + ", groupingSeparator='"
+				+ groupingSeparator + "', decimalSeparator='" + decimalSeparator + "', minusSign='" + minusSign
+				+ "', signStyle=" + signStyle + ", width=" + width + ", padChar='" + padChar + "']";
+	}
+}
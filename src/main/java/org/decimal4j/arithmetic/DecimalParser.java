@@ -0,0 +1,415 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import java.nio.ByteBuffer;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.DecimalRounding;
+
+/**
+ * Parser for decimal values that reports failures through a status code instead of an exception. The accepted format
+ * as well as rounding and overflow behavior are identical to {@link DecimalArithmetic#parse(CharSequence, int, int)},
+ * but malformed or out-of-range input results in one of the error codes {@link #INVALID_FORMAT}, {@link #OVERFLOW}
+ * or {@link #ROUNDING_NECESSARY}. No objects are allocated by the parse methods, neither on success nor on error.
+ * <p>
+ * The parsed value is written into a caller-provided {@code long[]} or {@link MutableDecimal}, or it can be retrieved
+ * after a successful parse through {@link #getUnscaledValue()}. Invalid indices and null arguments are considered
+ * programming errors and are still signalled with the usual runtime exceptions.
+ * <p>
+ * A parser is cheap to create but it is <b>not</b> thread safe; concurrent use requires separate instances.
+ */
+public final class DecimalParser {
+
+	/**
+	 * Status code returned if the value was successfully parsed.
+	 */
+	public static final int OK = 0;
+	/**
+	 * Status code returned if the input does not represent a valid decimal value.
+	 */
+	public static final int INVALID_FORMAT = 1;
+	/**
+	 * Status code returned if the value is too large to be represented as a Decimal with the target scale.
+	 */
+	public static final int OVERFLOW = 2;
+	/**
+	 * Status code returned if the rounding mode is {@link java.math.RoundingMode#UNNECESSARY UNNECESSARY} and the input
+	 * has more non-zero fraction digits than the target scale.
+	 */
+	public static final int ROUNDING_NECESSARY = 3;
+
+	private final DecimalArithmetic arithmetic;
+	private final DecimalRounding rounding;
+	private final AsciiSequence asciiSequence = new AsciiSequence();
+	private final long[] value = new long[1];
+
+	/**
+	 * Constructor for a parser with the scale and rounding mode of the given arithmetic.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of parsed values
+	 */
+	public DecimalParser(DecimalArithmetic arithmetic) {
+		this.arithmetic = arithmetic;
+		this.rounding = DecimalRounding.valueOf(arithmetic.getRoundingMode());
+	}
+
+	/**
+	 * Constructor for a parser with the given scale and {@link java.math.RoundingMode#HALF_UP HALF_UP} rounding.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics defining the scale of parsed values
+	 */
+	public DecimalParser(ScaleMetrics scaleMetrics) {
+		this(scaleMetrics.getDefaultArithmetic());
+	}
+
+	/**
+	 * Returns the arithmetic defining scale and rounding mode of parsed values.
+	 * 
+	 * @return the arithmetic of this parser
+	 */
+	public final DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns the unscaled value of the last successful parse operation that did not write its result into a
+	 * caller-provided target. The value is undefined if the last such operation failed.
+	 * 
+	 * @return the unscaled value with the scale of this parser's arithmetic
+	 */
+	public final long getUnscaledValue() {
+		return value[0];
+	}
+
+	/**
+	 * Returns true if the given string represents a decimal value that can be parsed with this parser's scale and
+	 * rounding mode.
+	 * 
+	 * @param s
+	 *            the string to test
+	 * @return true if {@link #parse(CharSequence)} returns {@link #OK}
+	 */
+	public final boolean isParseable(CharSequence s) {
+		return isParseable(s, 0, s.length());
+	}
+
+	/**
+	 * Returns true if the given characters represent a decimal value that can be parsed with this parser's scale and
+	 * rounding mode.
+	 * 
+	 * @param s
+	 *            the character sequence to test
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @return true if {@link #parse(CharSequence, int, int)} returns {@link #OK}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > s.length()}
+	 */
+	public final boolean isParseable(CharSequence s, int start, int end) {
+		return StringConversion.tryParseUnscaledDecimal(arithmetic, rounding, s, start, end, null, 0) == OK;
+	}
+
+	/**
+	 * Returns true if the given ASCII bytes represent a decimal value that can be parsed with this parser's scale and
+	 * rounding mode.
+	 * 
+	 * @param bytes
+	 *            the bytes to test
+	 * @param start
+	 *            the start index to read bytes, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes, exclusive
+	 * @return true if {@link #parse(byte[], int, int)} returns {@link #OK}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 */
+	public final boolean isParseable(byte[] bytes, int start, int end) {
+		return parse(asciiSequence.wrap(bytes), start, end, null, 0) == OK;
+	}
+
+	/**
+	 * Returns true if the given ASCII bytes represent a decimal value that can be parsed with this parser's scale and
+	 * rounding mode.
+	 * 
+	 * @param bytes
+	 *            the buffer with the bytes to test
+	 * @param start
+	 *            the absolute start index to read bytes, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes, exclusive
+	 * @return true if {@link #parse(ByteBuffer, int, int)} returns {@link #OK}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.limit()}
+	 */
+	public final boolean isParseable(ByteBuffer bytes, int start, int end) {
+		return parse(asciiSequence.wrap(bytes), start, end, null, 0) == OK;
+	}
+
+	/**
+	 * Parses the given string. If successful, the result is available through {@link #getUnscaledValue()}.
+	 * 
+	 * @param s
+	 *            the string to parse
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 */
+	public final int parse(CharSequence s) {
+		return parse(s, 0, s.length());
+	}
+
+	/**
+	 * Parses the given characters. If successful, the result is available through {@link #getUnscaledValue()}.
+	 * 
+	 * @param s
+	 *            the character sequence to parse
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > s.length()}
+	 */
+	public final int parse(CharSequence s, int start, int end) {
+		return StringConversion.tryParseUnscaledDecimal(arithmetic, rounding, s, start, end, value, 0);
+	}
+
+	/**
+	 * Parses the given characters and writes the unscaled result into {@code result[index]} if successful; the array
+	 * is not modified otherwise.
+	 * 
+	 * @param s
+	 *            the character sequence to parse
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @param result
+	 *            the array receiving the unscaled value with the scale of this parser's arithmetic
+	 * @param index
+	 *            the index in {@code result} to write to
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > s.length()}, or if {@code index} is not a valid index of
+	 *             {@code result}
+	 */
+	public final int parse(CharSequence s, int start, int end, long[] result, int index) {
+		if (index < 0 | index >= result.length) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for array of length " + result.length);
+		}
+		return StringConversion.tryParseUnscaledDecimal(arithmetic, rounding, s, start, end, result, index);
+	}
+
+	/**
+	 * Parses the given characters and assigns the result to the given mutable decimal if successful; the decimal is
+	 * not modified otherwise. The value is parsed with the scale of {@code result} and the rounding mode of this
+	 * parser.
+	 * 
+	 * @param s
+	 *            the character sequence to parse
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @param result
+	 *            the mutable decimal receiving the parsed value
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > s.length()}
+	 */
+	public final int parse(CharSequence s, int start, int end, MutableDecimal<?> result) {
+		final DecimalArithmetic arith = arithmetic.deriveArithmetic(result.getScale());
+		final int status = StringConversion.tryParseUnscaledDecimal(arith, rounding, s, start, end, value, 0);
+		if (status == OK) {
+			result.setUnscaled(value[0]);
+		}
+		return status;
+	}
+
+	/**
+	 * Parses the given ASCII bytes. If successful, the result is available through {@link #getUnscaledValue()}.
+	 * 
+	 * @param bytes
+	 *            the bytes to parse
+	 * @param start
+	 *            the start index to read bytes, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes, exclusive
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 */
+	public final int parse(byte[] bytes, int start, int end) {
+		return parse(asciiSequence.wrap(bytes), start, end, value, 0);
+	}
+
+	/**
+	 * Parses the given ASCII bytes and writes the unscaled result into {@code result[index]} if successful; the array
+	 * is not modified otherwise.
+	 * 
+	 * @param bytes
+	 *            the bytes to parse
+	 * @param start
+	 *            the start index to read bytes, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes, exclusive
+	 * @param result
+	 *            the array receiving the unscaled value with the scale of this parser's arithmetic
+	 * @param index
+	 *            the index in {@code result} to write to
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}, or if {@code index} is not a valid index of
+	 *             {@code result}
+	 */
+	public final int parse(byte[] bytes, int start, int end, long[] result, int index) {
+		return parse(asciiSequence.wrap(bytes), start, end, result, index);
+	}
+
+	/**
+	 * Parses the given ASCII bytes and assigns the result to the given mutable decimal if successful; the decimal is
+	 * not modified otherwise. The value is parsed with the scale of {@code result} and the rounding mode of this
+	 * parser.
+	 * 
+	 * @param bytes
+	 *            the bytes to parse
+	 * @param start
+	 *            the start index to read bytes, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes, exclusive
+	 * @param result
+	 *            the mutable decimal receiving the parsed value
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.length}
+	 */
+	public final int parse(byte[] bytes, int start, int end, MutableDecimal<?> result) {
+		try {
+			return parse(asciiSequence.wrap(bytes), start, end, result);
+		} finally {
+			asciiSequence.clear();
+		}
+	}
+
+	/**
+	 * Parses the given ASCII bytes. If successful, the result is available through {@link #getUnscaledValue()}.
+	 * Direct buffers are read in place without copying.
+	 * 
+	 * @param bytes
+	 *            the buffer with the bytes to parse
+	 * @param start
+	 *            the absolute start index to read bytes, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes, exclusive
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.limit()}
+	 */
+	public final int parse(ByteBuffer bytes, int start, int end) {
+		return parse(asciiSequence.wrap(bytes), start, end, value, 0);
+	}
+
+	/**
+	 * Parses the given ASCII bytes and writes the unscaled result into {@code result[index]} if successful; the array
+	 * is not modified otherwise. Direct buffers are read in place without copying.
+	 * 
+	 * @param bytes
+	 *            the buffer with the bytes to parse
+	 * @param start
+	 *            the absolute start index to read bytes, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes, exclusive
+	 * @param result
+	 *            the array receiving the unscaled value with the scale of this parser's arithmetic
+	 * @param index
+	 *            the index in {@code result} to write to
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.limit()}, or if {@code index} is not a valid index of
+	 *             {@code result}
+	 */
+	public final int parse(ByteBuffer bytes, int start, int end, long[] result, int index) {
+		return parse(asciiSequence.wrap(bytes), start, end, result, index);
+	}
+
+	/**
+	 * Parses the given ASCII bytes and assigns the result to the given mutable decimal if successful; the decimal is
+	 * not modified otherwise. The value is parsed with the scale of {@code result} and the rounding mode of this
+	 * parser. Direct buffers are read in place without copying.
+	 * 
+	 * @param bytes
+	 *            the buffer with the bytes to parse
+	 * @param start
+	 *            the absolute start index to read bytes, inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes, exclusive
+	 * @param result
+	 *            the mutable decimal receiving the parsed value
+	 * @return the status, one of {@link #OK}, {@link #INVALID_FORMAT}, {@link #OVERFLOW} or
+	 *         {@link #ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > bytes.limit()}
+	 */
+	public final int parse(ByteBuffer bytes, int start, int end, MutableDecimal<?> result) {
+		try {
+			return parse(asciiSequence.wrap(bytes), start, end, result);
+		} finally {
+			asciiSequence.clear();
+		}
+	}
+
+	/**
+	 * Parses the given ASCII sequence, releasing the wrapped bytes afterwards.
+	 */
+	private final int parse(AsciiSequence bytes, int start, int end, long[] result, int index) {
+		try {
+			if (result == null) {
+				return StringConversion.tryParseUnscaledDecimal(arithmetic, rounding, bytes, start, end, null, 0);
+			}
+			return parse((CharSequence) bytes, start, end, result, index);
+		} finally {
+			bytes.clear();
+		}
+	}
+
+	@Override
+	public final String toString() {
+		return "DecimalParser[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode() + "]";
+	}
+}
@@ -95,13 +95,30 @@ final class Div {
 	 * @return the division result without rounding and without overflow checks.
 	 */
 	public static final long divide(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		return divide(arith, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * without rounding and overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the division result without rounding and without overflow checks.
+	 */
+	static final long divide(DecimalArithmetic arith, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
-		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
+		final SpecialDivisionResult special = SpecialDivisionResult.getFor(scaleMetrics, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10(uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -180,13 +197,32 @@ final class Div {
 	 * @return the division result with rounding and without overflow checks
 	 */
 	public static final long divide(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
+		return divide(arith, arith.getScaleMetrics(), rounding, uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * with rounding and without overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the division result with rounding and without overflow checks
+	 */
+	static final long divide(DecimalArithmetic arith, ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
-		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
+		final SpecialDivisionResult special = SpecialDivisionResult.getFor(scaleMetrics, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10(rounding, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -299,13 +335,30 @@ final class Div {
 	 * @return the division result without rounding and with overflow checks
 	 */
 	public static final long divideChecked(DecimalArithmetic arith, long uDecimalDividend, long uDecimalDivisor) {
+		return divideChecked(arith, arith.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * without rounding and with overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the division result without rounding and with overflow checks
+	 */
+	static final long divideChecked(DecimalArithmetic arith, ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
-		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
+		final SpecialDivisionResult special = SpecialDivisionResult.getFor(scaleMetrics, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -400,13 +453,32 @@ final class Div {
 	 * @return the division result with rounding and with overflow checks
 	 */
 	public static final long divideChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
+		return divideChecked(arith, arith.getScaleMetrics(), rounding, uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Calculates {@code (uDecimalDividend * scaleFactor) / uDecimalDivisor}
+	 * with rounding and with overflow checks.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param rounding
+	 *            the decimal rounding to apply if rounding is necessary
+	 * @param uDecimalDividend
+	 *            the unscaled decimal dividend
+	 * @param uDecimalDivisor
+	 *            the unscaled decimal divisor
+	 * @return the division result with rounding and with overflow checks
+	 */
+	static final long divideChecked(DecimalArithmetic arith, ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimalDividend, long uDecimalDivisor) {
 		// special cases first
-		final SpecialDivisionResult special = SpecialDivisionResult.getFor(arith, uDecimalDividend, uDecimalDivisor);
+		final SpecialDivisionResult special = SpecialDivisionResult.getFor(scaleMetrics, uDecimalDividend, uDecimalDivisor);
 		if (special != null) {
 			return special.divide(arith, uDecimalDividend, uDecimalDivisor);
 		}
 		// div by power of 10
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final ScaleMetrics pow10 = Scales.findByScaleFactor(Math.abs(uDecimalDivisor));
 		if (pow10 != null) {
 			return Pow10.divideByPowerOf10Checked(arith, rounding, uDecimalDividend, scaleMetrics, uDecimalDivisor > 0, pow10);
@@ -37,6 +37,9 @@ import org.decimal4j.truncate.DecimalRounding;
 final class Mul {
 
 	private static final ScaleMetrics SCALE9F = Scale9f.INSTANCE;
+	private static final double TWO_POW_62 = 4611686018427387904.0;
+	private static final double TWO_POW_64 = 18446744073709551616.0;
+	private static final double TWO_POW_65 = 2 * TWO_POW_64;
 
 	//sufficient (but not necessary) condition that product fits in long
 	private static final boolean doesProductFitInLong(long uDecimal1, long uDecimal2) {
@@ -62,11 +65,29 @@ final class Mul {
 	 * @return the multiplication result without rounding
 	 */
 	public static final long multiply(DecimalArithmetic arith, long uDecimal1, long uDecimal2) {
-		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+		return multiply(arith, arith.getScaleMetrics(), uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Calculates the multiple {@code uDecimal1 * uDecimal2 / scaleFactor}
+	 * without rounding.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @return the multiplication result without rounding
+	 */
+	static final long multiply(DecimalArithmetic arith, ScaleMetrics scaleMetrics, long uDecimal1, long uDecimal2) {
+		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(scaleMetrics, uDecimal1, uDecimal2);
 		if (special != null) {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
-		return multiply(uDecimal1, arith.getScaleMetrics(), uDecimal2);
+		return multiply(uDecimal1, scaleMetrics, uDecimal2);
 	}
 	
 	/**
@@ -156,11 +177,31 @@ final class Mul {
 	 * @return the multiplication result with rounding
 	 */
 	public static final long multiply(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2) {
-		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+		return multiply(arith, arith.getScaleMetrics(), rounding, uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Calculates the multiple {@code uDecimal1 * uDecimal2 / scaleFactor}
+	 * applying the specified rounding if necessary.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @return the multiplication result with rounding
+	 */
+	static final long multiply(DecimalArithmetic arith, ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimal1, long uDecimal2) {
+		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(scaleMetrics, uDecimal1, uDecimal2);
 		if (special != null) {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
-		return multiply(rounding, uDecimal1, arith.getScaleMetrics(), uDecimal2);
+		return multiply(rounding, uDecimal1, scaleMetrics, uDecimal2);
 	}
 
 	/**
@@ -285,11 +326,28 @@ final class Mul {
 	 * @return the multiplication result without rounding and with overflow checks
 	 */
 	public static final long multiplyChecked(final DecimalArithmetic arith, final long uDecimal1, final long uDecimal2) {
-		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+		return multiplyChecked(arith, arith.getScaleMetrics(), uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Calculates the multiple {@code uDecimal1 * uDecimal2 / scaleFactor}
+	 * without rounding checking for overflows.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @return the multiplication result without rounding and with overflow checks
+	 */
+	static final long multiplyChecked(final DecimalArithmetic arith, final ScaleMetrics scaleMetrics, final long uDecimal1, final long uDecimal2) {
+		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(scaleMetrics, uDecimal1, uDecimal2);
 		if (special != null) {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		return multiplyChecked(scaleMetrics, uDecimal1, scaleMetrics, uDecimal2);
 	}
 	
@@ -402,11 +460,31 @@ final class Mul {
 	 * @return the multiplication result with rounding and overflow checking
 	 */
 	public static final long multiplyChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2) {
-		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(arith, uDecimal1, uDecimal2);
+		return multiplyChecked(arith, arith.getScaleMetrics(), rounding, uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Calculates the multiple {@code uDecimal1 * uDecimal2 / scaleFactor}
+	 * with rounding.
+	 * 
+	 * @param arith
+	 *            the arithmetic used for special cases
+	 * @param scaleMetrics
+	 *            the scale metrics of {@code arith}
+	 * @param rounding
+	 *            the rounding to apply for truncated decimals
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 *            
+	 * @return the multiplication result with rounding and overflow checking
+	 */
+	static final long multiplyChecked(DecimalArithmetic arith, ScaleMetrics scaleMetrics, DecimalRounding rounding, long uDecimal1, long uDecimal2) {
+		final SpecialMultiplicationResult special = SpecialMultiplicationResult.getFor(scaleMetrics, uDecimal1, uDecimal2);
 		if (special != null) {
 			return special.multiply(arith, uDecimal1, uDecimal2);
 		}
-		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		return multiplyChecked(rounding, scaleMetrics, uDecimal1, scaleMetrics, uDecimal2);
 	}
 
@@ -519,6 +597,100 @@ final class Mul {
 			throw Exceptions.newArithmeticExceptionWithCause("Overflow: " + scaleMetrics1.toString(uDecimal1) + " * " + scaleMetrics2.toString(uDecimal2), e);
 		}
 	}
+	/**
+	 * Calculates {@code round(uDecimal1 * uDecimal2 / scaleFactor + uDecimalAugend)}
+	 * without overflow checks. The product is not rounded before the addition
+	 * and an overflow of the product alone does not affect the result if the
+	 * final result fits in a long.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @param uDecimalAugend
+	 *            the unscaled decimal to add to the product
+	 * @return the fused multiply-add result with rounding and without
+	 *         overflow checks
+	 */
+	public static final long multiplyAdd(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final long scaleFactor = scaleMetrics.getScaleFactor();
+		//the truncated product and the sum are correct modulo 2^64, and the
+		//remainder is exact as abs(remainder) < scaleFactor
+		final long product = multiply(uDecimal1, scaleMetrics, uDecimal2);
+		long remainder = uDecimal1 * uDecimal2 - scaleMetrics.multiplyByScaleFactor(product);
+		long truncated = product + uDecimalAugend;
+		
+		//make truncated value and remainder consistent with the sign of the result
+		final int signum = signumOfMultiplyAdd(scaleMetrics, uDecimal1, uDecimal2, uDecimalAugend, product, truncated);
+		if (signum > 0 & remainder < 0) {
+			truncated--;
+			remainder += scaleFactor;
+		} else if (signum < 0 & remainder > 0) {
+			truncated++;
+			remainder -= scaleFactor;
+		}
+		return truncated + Rounding.calculateRoundingIncrement(rounding, truncated, remainder, scaleFactor);
+	}
+
+	/**
+	 * Calculates {@code round(uDecimal1 * uDecimal2 / scaleFactor + uDecimalAugend)}
+	 * with overflow checks. The product is not rounded before the addition and
+	 * an overflow of the product alone is not reported if the final result
+	 * fits in a long.
+	 * 
+	 * @param arith
+	 *            the arithmetic with access to scale metrics etc.
+	 * @param rounding
+	 *            the rounding to apply if necessary
+	 * @param uDecimal1
+	 *            the first unscaled decimal factor
+	 * @param uDecimal2
+	 *            the second unscaled decimal factor
+	 * @param uDecimalAugend
+	 *            the unscaled decimal to add to the product
+	 * @return the fused multiply-add result with rounding and overflow checks
+	 */
+	public static final long multiplyAddChecked(DecimalArithmetic arith, DecimalRounding rounding, long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		final long result = multiplyAdd(arith, rounding, uDecimal1, uDecimal2, uDecimalAugend);
+		//the result is correct modulo 2^64; the estimate with an absolute error far
+		//below 2^63 reveals whether the exact result differs by a multiple of 2^64 
+		final double estimate = estimateMultiplyAdd(arith.getScaleMetrics(), uDecimal1, uDecimal2, uDecimalAugend);
+		if (!(Math.abs(estimate) < TWO_POW_65) || Math.round((estimate - result) / TWO_POW_64) != 0) {
+			throw new ArithmeticException("Overflow: " + arith.toString(uDecimal1) + " * " + arith.toString(uDecimal2)
+					+ " + " + arith.toString(uDecimalAugend));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the signum of {@code uDecimal1 * uDecimal2 / scaleFactor + uDecimalAugend}
+	 * given the truncated product and the truncated sum, both correct modulo
+	 * 2<sup>64</sup>.
+	 */
+	private static final int signumOfMultiplyAdd(ScaleMetrics scaleMetrics, long uDecimal1, long uDecimal2, long uDecimalAugend, long product, long truncated) {
+		if (doesProductFitInLong(uDecimal1, uDecimal2)) {
+			//product is exact, only the sum can overflow in which case product and augend have the same sign
+			return Checked.isAddOverflow(product, uDecimalAugend, truncated) ? Long.signum(product) : Long.signum(truncated);
+		}
+		//the truncated sum is exact if the estimate is not close to the long range boundaries
+		final double estimate = estimateMultiplyAdd(scaleMetrics, uDecimal1, uDecimal2, uDecimalAugend);
+		return Math.abs(estimate) < TWO_POW_62 ? Long.signum(truncated) : (int) Math.signum(estimate);
+	}
+
+	/**
+	 * Returns a double approximation of {@code uDecimal1 * uDecimal2 / scaleFactor + uDecimalAugend}.
+	 * The relative error is a small multiple of the double precision, hence
+	 * the absolute error is below 2<sup>16</sup> for results with an absolute
+	 * value less than 2<sup>65</sup>.
+	 */
+	private static final double estimateMultiplyAdd(ScaleMetrics scaleMetrics, long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return ((double) uDecimal1) * ((double) uDecimal2) / scaleMetrics.getScaleFactor() + uDecimalAugend;
+	}
 	
 	//no instances
 	private Mul() {
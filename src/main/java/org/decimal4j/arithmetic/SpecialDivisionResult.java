@@ -24,6 +24,7 @@
 package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.OverflowMode;
 
 /**
@@ -118,6 +119,21 @@ enum SpecialDivisionResult {
 	 * @return the special case if it is one and null otherwise
 	 */
 	static final SpecialDivisionResult getFor(DecimalArithmetic arithmetic, long uDecimalDividend, long uDecimalDivisor) {
+		return getFor(arithmetic.getScaleMetrics(), uDecimalDividend, uDecimalDivisor);
+	}
+
+	/**
+	 * Returns the special division case if it is one and null otherwise.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the arithmetic
+	 * @param uDecimalDividend
+	 *            the dividend
+	 * @param uDecimalDivisor
+	 *            the divisor
+	 * @return the special case if it is one and null otherwise
+	 */
+	static final SpecialDivisionResult getFor(ScaleMetrics scaleMetrics, long uDecimalDividend, long uDecimalDivisor) {
 		// NOTE: this must be the first case because 0/0 must also throw an
 		// exception!
 		if (uDecimalDivisor == 0) {
@@ -126,7 +142,7 @@ enum SpecialDivisionResult {
 		if (uDecimalDividend == 0) {
 			return DIVIDEND_IS_ZERO;
 		}
-		final long one = arithmetic.one();
+		final long one = scaleMetrics.getScaleFactor();
 		if (uDecimalDivisor == one) {
 			return DIVISOR_IS_ONE;
 		}
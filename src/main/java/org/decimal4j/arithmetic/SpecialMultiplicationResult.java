@@ -24,6 +24,7 @@
 package org.decimal4j.arithmetic;
 
 import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.truncate.OverflowMode;
 
 /**
@@ -116,10 +117,25 @@ enum SpecialMultiplicationResult {
 	 * @return special case if found one and null otherwise
 	 */
 	static final SpecialMultiplicationResult getFor(DecimalArithmetic arithmetic, long uDecimal1, long uDecimal2) {
+		return getFor(arithmetic.getScaleMetrics(), uDecimal1, uDecimal2);
+	}
+
+	/**
+	 * Returns the special multiplication case if it is one and null otherwise.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics of the arithmetic
+	 * @param uDecimal1
+	 *            the first factor
+	 * @param uDecimal2
+	 *            the second factor
+	 * @return special case if found one and null otherwise
+	 */
+	static final SpecialMultiplicationResult getFor(ScaleMetrics scaleMetrics, long uDecimal1, long uDecimal2) {
 		if (uDecimal1 == 0 | uDecimal2 == 0) {
 			return FACTOR_IS_ZERO;
 		}
-		final long one = arithmetic.one();
+		final long one = scaleMetrics.getScaleFactor();
 		if (uDecimal1 == one) {
 			return FACTOR_1_IS_ONE;
 		}
@@ -30,6 +30,9 @@ import org.decimal4j.truncate.DecimalRounding;
 import org.decimal4j.truncate.TruncatedPart;
 
 import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
 
 /**
  * Contains methods to convert from and to String.
@@ -48,6 +51,30 @@ final class StringConversion {
 		}
 	};
 
+	/**
+	 * Thread-local with a char array used to format Decimal strings. Allocated big enough for all values.
+	 */
+	static final ThreadLocal<char[]> CHAR_ARRAY_THREAD_LOCAL = new ThreadLocal<char[]>() {
+		@Override
+		protected char[] initialValue() {
+			return new char[19 + 1 + 2];// unsigned long: 19 digits,
+										// sign: 1, decimal point
+										// and leading 0: 2
+		}
+	};
+
+	/**
+	 * Digit pairs "00" to "99" used to format two digits per step; the two chars for {@code n} are at index
+	 * {@code 2*n} and {@code 2*n+1}.
+	 */
+	private static final char[] DIGIT_PAIRS = new char[200];
+	static {
+		for (int i = 0; i < 100; i++) {
+			DIGIT_PAIRS[2 * i] = (char) ('0' + i / 10);
+			DIGIT_PAIRS[2 * i + 1] = (char) ('0' + i % 10);
+		}
+	}
+
 	private static enum ParseMode {
 		Long, IntegralPart;
 	}
@@ -103,10 +130,13 @@ final class StringConversion {
 		}
 		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
 		final int scale = scaleMetrics.getScale();
-		final int indexOfDecimalPoint = indexOfDecimalPoint(s, start, end);
+		final int indexOfDecimalPoint = indexOfDecimalPointOrExponent(s, start, end);
 		if (indexOfDecimalPoint == end & scale > 0) {
 			throw newNumberFormatExceptionFor(arith, s, start, end);
 		}
+		if (indexOfDecimalPoint >= 0 && s.charAt(indexOfDecimalPoint) != '.') {
+			return parseWithExponent(arith, rounding, s, start, end, indexOfDecimalPoint, true, null, 0);
+		}
 
 		// parse a decimal number
 		final long integralPart;// unscaled
@@ -119,21 +149,33 @@ final class StringConversion {
 			truncatedPart = TruncatedPart.ZERO;
 			negative = integralPart < 0;
 		} else {
+			if (indexOfDecimalPoint - start > 18) {
+				// integral part may overflow, but an exponent could bring the value back into range
+				final int indexOfExponent = indexOfExponent(s, indexOfDecimalPoint + 1, end);
+				if (indexOfExponent >= 0) {
+					return parseWithExponent(arith, rounding, s, start, end, indexOfExponent, true, null, 0);
+				}
+			}
 			final int fractionalEnd = Math.min(end, indexOfDecimalPoint + 1 + scale);
 			if (indexOfDecimalPoint == start) {
 				// allowed format .45
 				integralPart = 0;
 				fractionalPart = parseFractionalPart(arith, s, start + 1, fractionalEnd);
-				truncatedPart = parseTruncatedPart(arith, s, fractionalEnd, end);
+				truncatedPart = fractionalPart < 0 ? null : parseTruncatedPart(arith, s, fractionalEnd, end);
 				negative = false;
 			} else {
 				// allowed formats: "0.45", "+0.45", "-0.45", ".45", "+.45",
 				// "-.45"
 				integralPart = parseIntegralPart(arith, s, start, indexOfDecimalPoint, ParseMode.IntegralPart);
 				fractionalPart = parseFractionalPart(arith, s, indexOfDecimalPoint + 1, fractionalEnd);
-				truncatedPart = parseTruncatedPart(arith, s, fractionalEnd, end);
+				truncatedPart = fractionalPart < 0 ? null : parseTruncatedPart(arith, s, fractionalEnd, end);
 				negative = integralPart < 0 | (integralPart == 0 && s.charAt(start) == '-');
 			}
+			if (truncatedPart == null) {
+				// fraction parsing stopped at an exponent indicator
+				final int indexOfExponent = indexOfExponent(s, indexOfDecimalPoint + 1, end);
+				return parseWithExponent(arith, rounding, s, start, end, indexOfExponent, true, null, 0);
+			}
 		}
 		if (truncatedPart.isGreaterThanZero() & rounding == DecimalRounding.UNNECESSARY) {
 			throw Exceptions.newRoundingNecessaryArithmeticException();
@@ -151,14 +193,269 @@ final class StringConversion {
 		}
 	}
 
+	/**
+	 * Parses the given string into an unscaled decimal, rounding extra digits if necessary. Other than
+	 * {@link #parseUnscaledDecimal(DecimalArithmetic, DecimalRounding, CharSequence, int, int)} this method does not
+	 * throw an exception if the value cannot be parsed but returns a status code instead. No objects are allocated.
+	 * 
+	 * @param arith
+	 *            the arithmetic of the target value
+	 * @param rounding
+	 *            the rounding to apply if extra fraction digits are present
+	 * @param s
+	 *            the string to parse
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @param result
+	 *            the array to receive the parsed value if successful, or null if only the status is of interest
+	 * @param index
+	 *            the index in {@code result} to which the parsed value is written
+	 * @return the parse status, one of {@link DecimalParser#OK}, {@link DecimalParser#INVALID_FORMAT},
+	 *         {@link DecimalParser#OVERFLOW} or {@link DecimalParser#ROUNDING_NECESSARY}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > s.length()}
+	 */
+	static final int tryParseUnscaledDecimal(DecimalArithmetic arith, DecimalRounding rounding, CharSequence s, int start, int end, long[] result, int index) {
+		if (start < 0 | end > s.length()) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end
+					+ " must be <= [0, " + s.length() + "]");
+		}
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		final int indexOfDecimalPoint = indexOfDecimalPointOrExponent(s, start, end);
+		if (indexOfDecimalPoint >= 0 && s.charAt(indexOfDecimalPoint) != '.') {
+			return (int) parseWithExponent(arith, rounding, s, start, end, indexOfDecimalPoint, false, result, index);
+		}
+
+		// parse a decimal number
+		final long negatedIntegralPart;// unscaled, <= 0 or status if > 0
+		final long fractionalPart;// scaled, >= 0 or -1 if invalid
+		final TruncatedPart truncatedPart;// null if invalid
+		if (indexOfDecimalPoint < 0) {
+			negatedIntegralPart = tryParseNegatedIntegralPart(s, start, end, ParseMode.Long);
+			fractionalPart = 0;
+			truncatedPart = TruncatedPart.ZERO;
+		} else {
+			final int fractionalEnd = Math.min(end, indexOfDecimalPoint + 1 + scale);
+			if (indexOfDecimalPoint == start) {
+				// allowed format .45
+				negatedIntegralPart = 0;
+			} else {
+				// allowed formats: "0.45", "+0.45", "-0.45", ".45", "+.45",
+				// "-.45"
+				negatedIntegralPart = tryParseNegatedIntegralPart(s, start, indexOfDecimalPoint, ParseMode.IntegralPart);
+			}
+			fractionalPart = tryParseFractionalPart(arith, s, indexOfDecimalPoint + 1, fractionalEnd);
+			truncatedPart = tryParseTruncatedPart(s, fractionalEnd, end);
+		}
+		if (negatedIntegralPart > 0) {
+			if (negatedIntegralPart == DecimalParser.OVERFLOW & indexOfDecimalPoint >= 0) {
+				// integral part overflowed, but an exponent could bring the value back into range
+				final int indexOfExponent = indexOfExponent(s, indexOfDecimalPoint + 1, end);
+				if (indexOfExponent >= 0) {
+					return (int) parseWithExponent(arith, rounding, s, start, end, indexOfExponent, false, result, index);
+				}
+			}
+			return (int) negatedIntegralPart;
+		}
+		if (fractionalPart < 0 | truncatedPart == null) {
+			// fraction parsing stopped at a non-digit, possibly an exponent indicator
+			final int indexOfExponent = indexOfExponent(s, indexOfDecimalPoint + 1, end);
+			if (indexOfExponent >= 0) {
+				return (int) parseWithExponent(arith, rounding, s, start, end, indexOfExponent, false, result, index);
+			}
+			return DecimalParser.INVALID_FORMAT;
+		}
+		if (truncatedPart.isGreaterThanZero() & rounding == DecimalRounding.UNNECESSARY) {
+			return DecimalParser.ROUNDING_NECESSARY;
+		}
+		final boolean negative = s.charAt(start) == '-';
+		final long integralPart = negative ? negatedIntegralPart : -negatedIntegralPart;
+		if (!scaleMetrics.isValidIntegerValue(integralPart)) {
+			return DecimalParser.OVERFLOW;
+		}
+		final long unscaledIntegeral = scaleMetrics.multiplyByScaleFactor(integralPart);
+		final long unscaledFractional = negative ? -fractionalPart : fractionalPart;// < Scale18.SCALE_FACTOR hence
+																					// no overflow
+		final long truncatedValue = unscaledIntegeral + unscaledFractional;
+		if (((unscaledIntegeral ^ truncatedValue) & (unscaledFractional ^ truncatedValue)) < 0) {
+			return DecimalParser.OVERFLOW;
+		}
+		final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue,
+				truncatedPart);
+		final long value = truncatedValue + roundingIncrement;
+		if (((truncatedValue ^ value) & (roundingIncrement ^ value)) < 0) {
+			return DecimalParser.OVERFLOW;
+		}
+		if (result != null) {
+			result[index] = value;
+		}
+		return DecimalParser.OK;
+	}
+
+	private static final long tryParseFractionalPart(DecimalArithmetic arith, CharSequence s, int start, int end) {
+		final int len = end - start;
+		if (len > 0) {
+			int i = start;
+			long value = 0;
+			// SWAR fast path: 8 digits at a time, no overflow since len <= 18
+			while (end - i >= 8) {
+				final long chunk = getEightChars(s, i);
+				if (!isEightDigits(chunk)) {
+					return -1;
+				}
+				value = value * 100000000 + eightDigitsToLong(chunk);
+				i += 8;
+			}
+			while (i < end) {
+				final char ch = s.charAt(i++);
+				if (ch < '0' | ch > '9') {
+					return -1;
+				}
+				value = value * 10 + (ch - '0');
+			}
+			final int scale = arith.getScale();
+			if (len < scale) {
+				final ScaleMetrics diffScale = Scales.getScaleMetrics(scale - len);
+				return diffScale.multiplyByScaleFactor(value);
+			}
+			return value;
+		}
+		return 0;
+	}
+
+	private static final TruncatedPart tryParseTruncatedPart(CharSequence s, int start, int end) {
+		if (start < end) {
+			final char firstChar = s.charAt(start);
+			TruncatedPart truncatedPart;
+			if (firstChar == '0') {
+				truncatedPart = TruncatedPart.ZERO;
+			} else if (firstChar == '5') {
+				truncatedPart = TruncatedPart.EQUAL_TO_HALF;
+			} else if (firstChar > '0' & firstChar < '5') {
+				truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+			} else if (firstChar > '5' & firstChar <= '9') {
+				truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+			} else {
+				return null;
+			}
+			int i = start + 1;
+			while (i < end) {
+				final char ch = s.charAt(i++);
+				if (ch > '0' & ch <= '9') {
+					if (truncatedPart == TruncatedPart.ZERO) {
+						truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+					} else if (truncatedPart == TruncatedPart.EQUAL_TO_HALF) {
+						truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+					}
+				} else if (ch != '0') {
+					return null;
+				}
+			}
+			return truncatedPart;
+		}
+		return TruncatedPart.ZERO;
+	}
+
+	// same as parseIntegralPart(..) but returning the negated value, or a positive status code if parsing fails
+	private static final long tryParseNegatedIntegralPart(CharSequence s, int start, int end, ParseMode mode) {
+		long result = 0;
+		int i = start;
+		long limit = -Long.MAX_VALUE;
+
+		if (end > start) {
+			char firstChar = s.charAt(start);
+			if (firstChar < '0') { // Possible leading "+" or "-"
+				if (firstChar == '-') {
+					limit = Long.MIN_VALUE;
+				} else {
+					if (firstChar != '+') {
+						// invalid first character
+						return DecimalParser.INVALID_FORMAT;
+					}
+				}
+
+				if (end - start == 1) {
+					if (mode == ParseMode.IntegralPart) {
+						// we allow something like "-.75" or "+.75"
+						return 0;
+					}
+					// Cannot have lone "+" or "-"
+					return DecimalParser.INVALID_FORMAT;
+				}
+				i++;
+			}
+
+			// SWAR fast path: 8 digits at a time
+			while (end - i >= 8) {
+				final long chunk = getEightChars(s, i);
+				if (!isEightDigits(chunk)) {
+					break;// let scalar path below deal with it
+				}
+				final long inc = eightDigitsToLong(chunk);
+				if (result < (-Long.MAX_VALUE / 100000000)) {//same limit with Long.MIN_VALUE
+					return overflowOrInvalid(s, i + 8, end);
+				}
+				result *= 100000000;
+				if (result < limit + inc) {
+					return overflowOrInvalid(s, i + 8, end);
+				}
+				result -= inc;
+				i += 8;
+			}
+			while (i < end) {
+				final char ch = s.charAt(i++);
+				if (ch < '0' | ch > '9') {
+					return DecimalParser.INVALID_FORMAT;
+				}
+				final int digit = ch - '0';
+				if (result < (-Long.MAX_VALUE / 10)) {//same limit with Long.MIN_VALUE
+					return overflowOrInvalid(s, i, end);
+				}
+				result *= 10;
+				if (result < limit + digit) {
+					return overflowOrInvalid(s, i, end);
+				}
+				result -= digit;
+			}
+			return result;
+		}
+		return DecimalParser.INVALID_FORMAT;
+	}
+
+	// returns OVERFLOW if all remaining chars are digits and INVALID_FORMAT otherwise
+	private static final int overflowOrInvalid(CharSequence s, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final char ch = s.charAt(i);
+			if (ch < '0' | ch > '9') {
+				return DecimalParser.INVALID_FORMAT;
+			}
+		}
+		return DecimalParser.OVERFLOW;
+	}
+
 	private static final long parseFractionalPart(DecimalArithmetic arith, CharSequence s, int start, int end) {
 		final int len = end - start;
 		if (len > 0) {
 			int i = start;
 			long value = 0;
+			// SWAR fast path: 8 digits at a time, no overflow since len <= 18
+			while (end - i >= 8) {
+				final long chunk = getEightChars(s, i);
+				if (!isEightDigits(chunk)) {
+					break;// let scalar path below deal with it
+				}
+				value = value * 100000000 + eightDigitsToLong(chunk);
+				i += 8;
+			}
 			while  (i < end) {
-				final int digit = getDigit(arith, s, start, end, s.charAt(i++));
-				value = value * 10 + digit;
+				final char ch = s.charAt(i++);
+				if (ch == 'e' | ch == 'E') {
+					return -1;// exponent indicator, let caller hand off to parseWithExponent(..)
+				}
+				value = value * 10 + getDigit(arith, s, start, end, ch);
 			}
 			final int scale = arith.getScale();
 			if (len < scale) {
@@ -182,6 +479,8 @@ final class StringConversion {
 				truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
 			} else if (firstChar > '5' & firstChar <= '9') {
 				truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+			} else if (firstChar == 'e' | firstChar == 'E') {
+				return null;// exponent indicator, let caller hand off to parseWithExponent(..)
 			} else {
 				throw newNumberFormatExceptionFor(arith, s, start, end);
 			}
@@ -194,6 +493,8 @@ final class StringConversion {
 					} else if (truncatedPart == TruncatedPart.EQUAL_TO_HALF) {
 						truncatedPart = TruncatedPart.GREATER_THAN_HALF;
 					}
+				} else if (ch == 'e' | ch == 'E') {
+					return null;// exponent indicator, let caller hand off to parseWithExponent(..)
 				} else if (ch != '0') {
 					throw newNumberFormatExceptionFor(arith, s, start, end);
 				}
@@ -203,6 +504,187 @@ final class StringConversion {
 		return TruncatedPart.ZERO;
 	}
 
+	/**
+	 * Returns the index of the first exponent indicator {@code 'e'} or {@code 'E'} in the given range, or -1 if there
+	 * is none. Only invoked after the forward parse stopped at a non-digit character.
+	 * 
+	 * @param s
+	 *            the string to inspect
+	 * @param start
+	 *            the start index in {@code s}, inclusive
+	 * @param end
+	 *            the end index in {@code s}, exclusive
+	 * @return the index of the exponent indicator, or -1 if there is no exponent
+	 */
+	private static final int indexOfExponent(CharSequence s, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final char ch = s.charAt(i);
+			if (ch == 'e' | ch == 'E') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses a string with an exponent such as {@code "1.25E-3"} into an unscaled decimal. The decimal point of the
+	 * mantissa is shifted by the exponent while the digits are read, hence the result is rounded only once using the
+	 * given rounding. Digits not consumed by the mantissa are padded with a power of ten multiplication which is
+	 * checked for overflow like the multiplication performed by checked arithmetic.
+	 * <p>
+	 * If {@code throwOnError} is true, the unscaled value is returned and an exception is thrown if parsing fails.
+	 * Otherwise a {@link DecimalParser} status code is returned and the unscaled value is written to
+	 * {@code result[index]} if parsing was successful and {@code result} is not null.
+	 * 
+	 * @param arith
+	 *            the arithmetic of the target value
+	 * @param rounding
+	 *            the rounding to apply if extra fraction digits are present
+	 * @param s
+	 *            the string to parse
+	 * @param start
+	 *            the start index to read characters in {@code s}, inclusive
+	 * @param end
+	 *            the end index where to stop reading in characters in {@code s}, exclusive
+	 * @param indexOfExponent
+	 *            the index of the first exponent indicator {@code 'e'} or {@code 'E'} in {@code s}
+	 * @param throwOnError
+	 *            true to throw an exception if parsing fails and to return the parsed value, false to return a status
+	 *            code instead
+	 * @param result
+	 *            the array to receive the parsed value if {@code throwOnError} is false, or null
+	 * @param index
+	 *            the index in {@code result} to which the parsed value is written
+	 * @return the parsed value if {@code throwOnError} is true, and the parse status otherwise
+	 * @throws NumberFormatException
+	 *             if {@code throwOnError} is true and {@code s} does not represent a valid {@code Decimal} or if the
+	 *             value is too large to be represented as a Decimal with the scale of the given arithmetic
+	 * @throws ArithmeticException
+	 *             if {@code throwOnError} is true and {@code rounding} is UNNECESSARY and rounding is necessary
+	 */
+	private static final long parseWithExponent(DecimalArithmetic arith, DecimalRounding rounding, CharSequence s, int start, int end, int indexOfExponent, boolean throwOnError, long[] result, int index) {
+		// exponent: optional sign followed by at least one digit
+		int i = indexOfExponent + 1;
+		final boolean negativeExponent = i < end && s.charAt(i) == '-';
+		if (negativeExponent || (i < end && s.charAt(i) == '+')) {
+			i++;
+		}
+		if (i == end) {
+			return parseError(arith, s, start, end, DecimalParser.INVALID_FORMAT, throwOnError);
+		}
+		long exponent = 0;
+		for (; i < end; i++) {
+			final char ch = s.charAt(i);
+			if (ch < '0' | ch > '9') {
+				return parseError(arith, s, start, end, DecimalParser.INVALID_FORMAT, throwOnError);
+			}
+			// cap to avoid overflow
+			exponent = Math.min(exponent * 10 + (ch - '0'), Integer.MAX_VALUE);
+		}
+		if (negativeExponent) {
+			exponent = -exponent;
+		}
+
+		// mantissa: optional sign, digits with optional decimal point
+		final boolean negative = s.charAt(start) == '-';
+		final int digitStart = negative | s.charAt(start) == '+' ? start + 1 : start;
+		final int indexOfDecimalPoint = indexOfDecimalPoint(s, digitStart, indexOfExponent);
+		final int integralDigits = (indexOfDecimalPoint < 0 ? indexOfExponent : indexOfDecimalPoint) - digitStart;
+		// number of mantissa digits that make up the unscaled value, remaining digits are truncated
+		final long keep = integralDigits + exponent + arith.getScale();
+
+		final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long value = 0;// negated
+		boolean overflow = false;
+		TruncatedPart truncatedPart = keep < 0 ? TruncatedPart.ZERO : null;// null until first truncated digit
+		int digits = 0;
+		for (i = digitStart; i < indexOfExponent; i++) {
+			if (i == indexOfDecimalPoint) {
+				continue;
+			}
+			final char ch = s.charAt(i);
+			if (ch < '0' | ch > '9') {
+				return parseError(arith, s, start, end, DecimalParser.INVALID_FORMAT, throwOnError);
+			}
+			final int digit = ch - '0';
+			if (digits < keep) {
+				if (value < (-Long.MAX_VALUE / 10)) {//same limit with Long.MIN_VALUE
+					overflow = true;
+				} else {
+					value *= 10;
+					if (value < limit + digit) {
+						overflow = true;
+					}
+					value -= digit;
+				}
+			} else if (truncatedPart == null) {
+				truncatedPart = digit == 0 ? TruncatedPart.ZERO : digit == 5 ? TruncatedPart.EQUAL_TO_HALF
+						: digit < 5 ? TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO : TruncatedPart.GREATER_THAN_HALF;
+			} else if (digit > 0) {
+				if (truncatedPart == TruncatedPart.ZERO) {
+					truncatedPart = TruncatedPart.LESS_THAN_HALF_BUT_NOT_ZERO;
+				} else if (truncatedPart == TruncatedPart.EQUAL_TO_HALF) {
+					truncatedPart = TruncatedPart.GREATER_THAN_HALF;
+				}
+			}
+			digits++;
+		}
+		if (digits == 0) {
+			return parseError(arith, s, start, end, DecimalParser.INVALID_FORMAT, throwOnError);
+		}
+		if (overflow) {
+			return parseError(arith, s, start, end, DecimalParser.OVERFLOW, throwOnError);
+		}
+		if (truncatedPart == null) {
+			truncatedPart = TruncatedPart.ZERO;
+		}
+		if (truncatedPart.isGreaterThanZero() & rounding == DecimalRounding.UNNECESSARY) {
+			return parseError(arith, s, start, end, DecimalParser.ROUNDING_NECESSARY, throwOnError);
+		}
+		long truncatedValue = negative ? value : -value;
+		if (digits < keep & truncatedValue != 0) {
+			// multiply by power of ten for missing digits, checked like Pow10.multiplyByPowerOf10Checked(..)
+			final long n = keep - digits;
+			if (n > 18 || !Scales.getScaleMetrics((int) n).isValidIntegerValue(truncatedValue)) {
+				return parseError(arith, s, start, end, DecimalParser.OVERFLOW, throwOnError);
+			}
+			truncatedValue = Scales.getScaleMetrics((int) n).multiplyByScaleFactor(truncatedValue);
+		}
+		final int roundingIncrement = rounding.calculateRoundingIncrement(negative ? -1 : 1, truncatedValue, truncatedPart);
+		final long unscaled = truncatedValue + roundingIncrement;
+		if (((truncatedValue ^ unscaled) & (roundingIncrement ^ unscaled)) < 0) {
+			return parseError(arith, s, start, end, DecimalParser.OVERFLOW, throwOnError);
+		}
+		if (throwOnError) {
+			return unscaled;
+		}
+		if (result != null) {
+			result[index] = unscaled;
+		}
+		return DecimalParser.OK;
+	}
+
+	private static final int parseError(DecimalArithmetic arith, CharSequence s, int start, int end, int status, boolean throwOnError) {
+		if (throwOnError) {
+			if (status == DecimalParser.ROUNDING_NECESSARY) {
+				throw Exceptions.newRoundingNecessaryArithmeticException();
+			}
+			throw newNumberFormatExceptionFor(arith, s, start, end);
+		}
+		return status;
+	}
+
+	// returns the index of the first decimal point or exponent indicator, or -1 if there is none
+	private static final int indexOfDecimalPointOrExponent(CharSequence s, int start, int end) {
+		for (int i = start; i < end; i++) {
+			final char ch = s.charAt(i);
+			if (ch == '.' | ch == 'e' | ch == 'E') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
 	private static final int indexOfDecimalPoint(CharSequence s, int start, int end) {
 		for (int i = start; i < end; i++) {
 			if (s.charAt(i) == '.') {
@@ -242,7 +724,25 @@ final class StringConversion {
 				}
 				i++;
 			}
-			
+
+			// SWAR fast path: 8 digits at a time
+			while (end - i >= 8) {
+				final long chunk = getEightChars(s, i);
+				if (!isEightDigits(chunk)) {
+					break;// let scalar path below deal with it
+				}
+				final long inc = eightDigitsToLong(chunk);
+				if (result < (-Long.MAX_VALUE / 100000000)) {//same limit with Long.MIN_VALUE
+					throw newNumberFormatExceptionFor(arith, s, start, end);
+				}
+				result *= 100000000;
+				if (result < limit + inc) {
+					throw newNumberFormatExceptionFor(arith, s, start, end);
+				}
+				result -= inc;
+				i += 8;
+			}
+
 			final int end2 = end - 1;
 			while (i < end2) {
 				final int digit0 = getDigit(arith, s, start, end, s.charAt(i++));
@@ -285,6 +785,60 @@ final class StringConversion {
 	
 	private static final int[] TENS = {0, 10, 20, 30, 40, 50, 60, 70, 80, 90};
 
+	/**
+	 * Returns 8 characters starting at {@code index} packed into a long value with one byte per character; the first
+	 * character is stored in the least significant byte. If any of the characters is outside of the 8-bit range, zero
+	 * is returned which is rejected by {@link #isEightDigits(long)}.
+	 * 
+	 * @param s
+	 *            the character sequence with at least {@code index + 8} characters
+	 * @param index
+	 *            the index of the first character
+	 * @return the 8 characters as little-endian long, or zero if some character does not fit into a byte
+	 */
+	static final long getEightChars(CharSequence s, int index) {
+		if (s instanceof AsciiSequence) {
+			return ((AsciiSequence) s).getLongLE(index);
+		}
+		long chunk = 0;
+		int any = 0;
+		for (int i = 7; i >= 0; i--) {
+			final char ch = s.charAt(index + i);
+			any |= ch;
+			chunk = (chunk << 8) | ch;
+		}
+		return (any >>> 8) == 0 ? chunk : 0;
+	}
+
+	/**
+	 * Returns true if all 8 bytes of the given little-endian chunk are ASCII digits {@code '0'} to {@code '9'}.
+	 * 
+	 * @param chunk
+	 *            8 characters as returned by {@link #getEightChars(CharSequence, int)}
+	 * @return true if the chunk consists of 8 digits
+	 */
+	static final boolean isEightDigits(long chunk) {
+		// high nibble of every byte must be 3, and adding 6 must not carry into the high nibble
+		return ((chunk & 0xf0f0f0f0f0f0f0f0L) == 0x3030303030303030L)
+				& (((chunk + 0x0606060606060606L) & 0xf0f0f0f0f0f0f0f0L) == 0x3030303030303030L);
+	}
+
+	/**
+	 * Converts 8 ASCII digits packed into a little-endian long into the corresponding value in {@code [0, 99999999]}
+	 * using three multiplications instead of eight.
+	 * 
+	 * @param chunk
+	 *            8 digits, validated with {@link #isEightDigits(long)}
+	 * @return the value of the 8 digits where the digit in the least significant byte is the most significant digit
+	 */
+	static final long eightDigitsToLong(long chunk) {
+		// combine adjacent digits into 2-digit values, then into 4-digit values and finally into the 8-digit value
+		long val = ((chunk & 0x0f0f0f0f0f0f0f0fL) * 2561) >>> 8;
+		val = ((val & 0x00ff00ff00ff00ffL) * 6553601) >>> 16;
+		val = ((val & 0x0000ffff0000ffffL) * 42949672960001L) >>> 32;
+		return val;
+	}
+
 	/**
 	 * Returns a {@code String} object representing the specified {@code long}. The argument is converted to signed
 	 * decimal representation and returned as a string, exactly as if passed to {@link Long#toString(long)}.
@@ -327,7 +881,9 @@ final class StringConversion {
 	 * @return a string representation of the argument
 	 */
 	static final String unscaledToString(DecimalArithmetic arith, long uDecimal) {
-		return unscaledToStringBuilder(arith, uDecimal).toString();
+		final char[] chars = CHAR_ARRAY_THREAD_LOCAL.get();
+		final int len = unscaledToChars(arith, uDecimal, chars, 0);
+		return new String(chars, 0, len);
 	}
 
 	/**
@@ -345,25 +901,348 @@ final class StringConversion {
 	 *             If an I/O error occurs when appending to {@code appendable}
 	 */
 	static final void unscaledToString(DecimalArithmetic arith, long uDecimal, Appendable appendable) throws IOException {
-		final StringBuilder sb = unscaledToStringBuilder(arith, uDecimal);
-		appendable.append(sb);
+		final char[] chars = CHAR_ARRAY_THREAD_LOCAL.get();
+		final int len = unscaledToChars(arith, uDecimal, chars, 0);
+		if (appendable instanceof StringBuilder) {
+			((StringBuilder) appendable).append(chars, 0, len);
+		} else {
+			final StringBuilder sb = STRING_BUILDER_THREAD_LOCAL.get();
+			sb.setLength(0);
+			sb.append(chars, 0, len);
+			appendable.append(sb);
+		}
 	}
 
-	private static final StringBuilder unscaledToStringBuilder(DecimalArithmetic arith, long uDecimal) {
-		final StringBuilder sb = STRING_BUILDER_THREAD_LOCAL.get();
-		sb.setLength(0);
+	/**
+	 * Writes the characters of the specified unscaled Decimal value {@code uDecimal} into the given char array starting
+	 * at {@code offset}. The produced characters are identical to those returned by
+	 * {@link #unscaledToString(DecimalArithmetic, long)}, but no temporary objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale to apply
+	 * @param uDecimal
+	 *            a unscaled Decimal to be converted
+	 * @param dst
+	 *            the destination char array
+	 * @param offset
+	 *            the index in {@code dst} of the first char to write
+	 * @return the number of chars written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the string representation
+	 */
+	static final int unscaledToChars(DecimalArithmetic arith, long uDecimal, char[] dst, int offset) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		final int len = unscaledLength(scale, uDecimal);
+		if (offset < 0 | offset > dst.length - len) {
+			throw new IndexOutOfBoundsException("Cannot write " + len + " chars at offset " + offset + " into array of length " + dst.length);
+		}
+		int pos = offset + len;
+		long integral = uDecimal;
+		if (scale > 0) {
+			// single division to split into integral and fractional part
+			integral = scaleMetrics.divideByScaleFactor(uDecimal);
+			final long fraction = Math.abs(uDecimal - scaleMetrics.multiplyByScaleFactor(integral));
+			pos = writeFractionDigits(fraction, scale, dst, pos);
+			dst[--pos] = '.';
+		}
+		// work with negative values to support Long.MIN_VALUE
+		pos = writeNegatedDigits(integral < 0 ? integral : -integral, dst, pos);
+		if (uDecimal < 0) {
+			dst[--pos] = '-';
+		}
+		return len;
+	}
+
+	/**
+	 * Writes exactly {@code digits} digits of the non-negative {@code fraction} value backwards into the given char
+	 * array, two digits per step. Leading zeros are written if {@code fraction} has fewer digits.
+	 * 
+	 * @param fraction
+	 *            the non-negative fraction value, less than <tt>10<sup>digits</sup></tt>
+	 * @param digits
+	 *            the number of digits to write
+	 * @param dst
+	 *            the destination char array
+	 * @param pos
+	 *            the index in {@code dst} after the last digit to write
+	 * @return the index in {@code dst} of the first digit written
+	 */
+	static final int writeFractionDigits(long fraction, int digits, char[] dst, int pos) {
+		for (; digits >= 2; digits -= 2) {
+			final long div = fraction / 100;
+			final int pair = (int) (fraction - div * 100) << 1;
+			dst[--pos] = DIGIT_PAIRS[pair + 1];
+			dst[--pos] = DIGIT_PAIRS[pair];
+			fraction = div;
+		}
+		if (digits > 0) {
+			dst[--pos] = (char) ('0' + fraction);
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes the digits of the negated value {@code -value} backwards into the given char array, two digits per step.
+	 * The value is passed negated to support {@link Long#MIN_VALUE}.
+	 * 
+	 * @param value
+	 *            the negated value to write, zero or negative
+	 * @param dst
+	 *            the destination char array
+	 * @param pos
+	 *            the index in {@code dst} after the last digit to write
+	 * @return the index in {@code dst} of the first digit written
+	 */
+	static final int writeNegatedDigits(long value, char[] dst, int pos) {
+		while (value <= -100) {
+			final long div = value / 100;
+			final int pair = (int) (div * 100 - value) << 1;
+			dst[--pos] = DIGIT_PAIRS[pair + 1];
+			dst[--pos] = DIGIT_PAIRS[pair];
+			value = div;
+		}
+		if (value <= -10) {
+			final int pair = (int) -value << 1;
+			dst[--pos] = DIGIT_PAIRS[pair + 1];
+			dst[--pos] = DIGIT_PAIRS[pair];
+		} else {
+			dst[--pos] = (char) ('0' - value);
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes exactly {@code digits} ASCII digits of the non-negative {@code fraction} value backwards into the given
+	 * byte array; same as {@link #writeFractionDigits(long, int, char[], int)} but for a byte sink.
+	 * 
+	 * @param fraction
+	 *            the non-negative fraction value, less than <tt>10<sup>digits</sup></tt>
+	 * @param digits
+	 *            the number of digits to write
+	 * @param dst
+	 *            the destination byte array
+	 * @param pos
+	 *            the index in {@code dst} after the last digit to write
+	 * @return the index in {@code dst} of the first digit written
+	 */
+	static final int writeFractionDigits(long fraction, int digits, byte[] dst, int pos) {
+		for (; digits >= 2; digits -= 2) {
+			final long div = fraction / 100;
+			final int pair = (int) (fraction - div * 100) << 1;
+			dst[--pos] = (byte) DIGIT_PAIRS[pair + 1];
+			dst[--pos] = (byte) DIGIT_PAIRS[pair];
+			fraction = div;
+		}
+		if (digits > 0) {
+			dst[--pos] = (byte) ('0' + fraction);
+		}
+		return pos;
+	}
 
-		final int scale = arith.getScale();
-		sb.append(uDecimal);
-		final int len = sb.length();
-		final int negativeOffset = uDecimal < 0 ? 1 : 0;
-		if (len <= scale + negativeOffset) {
-			// Long.MAX_VALUE = 9,223,372,036,854,775,807
-			sb.insert(negativeOffset, "0.00000000000000000000", 0, 2 + scale - len + negativeOffset);
+	/**
+	 * Writes the ASCII digits of the negated value {@code -value} backwards into the given byte array; same as
+	 * {@link #writeNegatedDigits(long, char[], int)} but for a byte sink.
+	 * 
+	 * @param value
+	 *            the negated value to write, zero or negative
+	 * @param dst
+	 *            the destination byte array
+	 * @param pos
+	 *            the index in {@code dst} after the last digit to write
+	 * @return the index in {@code dst} of the first digit written
+	 */
+	static final int writeNegatedDigits(long value, byte[] dst, int pos) {
+		while (value <= -100) {
+			final long div = value / 100;
+			final int pair = (int) (div * 100 - value) << 1;
+			dst[--pos] = (byte) DIGIT_PAIRS[pair + 1];
+			dst[--pos] = (byte) DIGIT_PAIRS[pair];
+			value = div;
+		}
+		if (value <= -10) {
+			final int pair = (int) -value << 1;
+			dst[--pos] = (byte) DIGIT_PAIRS[pair + 1];
+			dst[--pos] = (byte) DIGIT_PAIRS[pair];
 		} else {
-			sb.insert(len - scale, '.');
+			dst[--pos] = (byte) ('0' - value);
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes exactly {@code digits} ASCII digits of the non-negative {@code fraction} value backwards into the given
+	 * byte buffer using absolute puts; same as {@link #writeFractionDigits(long, int, char[], int)} but for a buffer
+	 * sink.
+	 * 
+	 * @param fraction
+	 *            the non-negative fraction value, less than <tt>10<sup>digits</sup></tt>
+	 * @param digits
+	 *            the number of digits to write
+	 * @param dst
+	 *            the destination byte buffer
+	 * @param pos
+	 *            the absolute index in {@code dst} after the last digit to write
+	 * @return the absolute index in {@code dst} of the first digit written
+	 */
+	static final int writeFractionDigits(long fraction, int digits, ByteBuffer dst, int pos) {
+		for (; digits >= 2; digits -= 2) {
+			final long div = fraction / 100;
+			final int pair = (int) (fraction - div * 100) << 1;
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair + 1]);
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair]);
+			fraction = div;
+		}
+		if (digits > 0) {
+			dst.put(--pos, (byte) ('0' + fraction));
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes the ASCII digits of the negated value {@code -value} backwards into the given byte buffer using absolute
+	 * puts; same as {@link #writeNegatedDigits(long, char[], int)} but for a buffer sink.
+	 * 
+	 * @param value
+	 *            the negated value to write, zero or negative
+	 * @param dst
+	 *            the destination byte buffer
+	 * @param pos
+	 *            the absolute index in {@code dst} after the last digit to write
+	 * @return the absolute index in {@code dst} of the first digit written
+	 */
+	static final int writeNegatedDigits(long value, ByteBuffer dst, int pos) {
+		while (value <= -100) {
+			final long div = value / 100;
+			final int pair = (int) (div * 100 - value) << 1;
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair + 1]);
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair]);
+			value = div;
+		}
+		if (value <= -10) {
+			final int pair = (int) -value << 1;
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair + 1]);
+			dst.put(--pos, (byte) DIGIT_PAIRS[pair]);
+		} else {
+			dst.put(--pos, (byte) ('0' - value));
+		}
+		return pos;
+	}
+
+	/**
+	 * Writes the ASCII representation of the specified unscaled Decimal value {@code uDecimal} into the given byte
+	 * array starting at {@code offset}. The produced characters are identical to those returned by
+	 * {@link #unscaledToString(DecimalArithmetic, long)}, but no temporary objects are allocated.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale to apply
+	 * @param uDecimal
+	 *            a unscaled Decimal to be converted
+	 * @param dst
+	 *            the destination byte array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code offset} is negative or if {@code dst} is too small to hold the ASCII representation
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, long uDecimal, byte[] dst, int offset) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		final int len = unscaledLength(scale, uDecimal);
+		if (offset < 0 | offset > dst.length - len) {
+			throw new IndexOutOfBoundsException("Cannot write " + len + " bytes at offset " + offset + " into array of length " + dst.length);
+		}
+		int pos = offset + len;
+		long integral = uDecimal;
+		if (scale > 0) {
+			// single division to split into integral and fractional part
+			integral = scaleMetrics.divideByScaleFactor(uDecimal);
+			final long fraction = Math.abs(uDecimal - scaleMetrics.multiplyByScaleFactor(integral));
+			pos = writeFractionDigits(fraction, scale, dst, pos);
+			dst[--pos] = '.';
+		}
+		// work with negative values to support Long.MIN_VALUE
+		pos = writeNegatedDigits(integral < 0 ? integral : -integral, dst, pos);
+		if (uDecimal < 0) {
+			dst[--pos] = '-';
+		}
+		return len;
+	}
+
+	/**
+	 * Writes the ASCII representation of the specified unscaled Decimal value {@code uDecimal} into the given byte
+	 * buffer at its current position and advances the position by the number of bytes written. The produced characters
+	 * are identical to those returned by {@link #unscaledToString(DecimalArithmetic, long)}, but no temporary objects
+	 * are allocated. Heap and direct buffers are both written to without intermediate copying.
+	 * 
+	 * @param arith
+	 *            the decimal arithmetics providing the scale to apply
+	 * @param uDecimal
+	 *            a unscaled Decimal to be converted
+	 * @param dst
+	 *            the destination buffer
+	 * @return the number of bytes written
+	 * @throws BufferOverflowException
+	 *             if there is insufficient space in {@code dst} for the ASCII representation
+	 * @throws ReadOnlyBufferException
+	 *             if {@code dst} is read-only
+	 */
+	static final int unscaledToAscii(DecimalArithmetic arith, long uDecimal, ByteBuffer dst) {
+		final ScaleMetrics scaleMetrics = arith.getScaleMetrics();
+		final int scale = scaleMetrics.getScale();
+		final int len = unscaledLength(scale, uDecimal);
+		final int start = dst.position();
+		if (len > dst.limit() - start) {
+			throw new BufferOverflowException();
+		}
+		if (dst.hasArray()) {
+			unscaledToAscii(arith, uDecimal, dst.array(), dst.arrayOffset() + start);
+			dst.position(start + len);
+			return len;
+		}
+		if (dst.isReadOnly()) {
+			throw new ReadOnlyBufferException();
+		}
+		int pos = start + len;
+		long integral = uDecimal;
+		if (scale > 0) {
+			// single division to split into integral and fractional part
+			integral = scaleMetrics.divideByScaleFactor(uDecimal);
+			final long fraction = Math.abs(uDecimal - scaleMetrics.multiplyByScaleFactor(integral));
+			pos = writeFractionDigits(fraction, scale, dst, pos);
+			dst.put(--pos, (byte) '.');
+		}
+		// work with negative values to support Long.MIN_VALUE
+		pos = writeNegatedDigits(integral < 0 ? integral : -integral, dst, pos);
+		if (uDecimal < 0) {
+			dst.put(--pos, (byte) '-');
+		}
+		dst.position(start + len);
+		return len;
+	}
+
+	/**
+	 * Returns the number of characters in the string representation of the given unscaled value with the specified
+	 * scale, including sign, leading zero and decimal point where applicable.
+	 * 
+	 * @param scale
+	 *            the scale of the unscaled value
+	 * @param uDecimal
+	 *            the unscaled value
+	 * @return the length of the string representation
+	 */
+	private static final int unscaledLength(int scale, long uDecimal) {
+		// count digits using negative values to support Long.MIN_VALUE
+		final long value = uDecimal < 0 ? uDecimal : -uDecimal;
+		int digits = 1;
+		long limit = -10;
+		while (digits < 19 && value <= limit) {
+			limit *= 10;
+			digits++;
 		}
-		return sb;
+		final int sign = uDecimal < 0 ? 1 : 0;
+		return scale == 0 ? sign + digits : sign + Math.max(digits, scale + 1) + 1;
 	}
 
 	private static final NumberFormatException newNumberFormatExceptionFor(DecimalArithmetic arith, CharSequence s, int start, int end) {
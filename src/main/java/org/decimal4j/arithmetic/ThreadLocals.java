@@ -37,6 +37,9 @@ public final class ThreadLocals {
 	 */
 	public static final void removeAll() {
 		StringConversion.STRING_BUILDER_THREAD_LOCAL.remove();
+		StringConversion.CHAR_ARRAY_THREAD_LOCAL.remove();
+		AsciiSequence.THREAD_LOCAL.remove();
+		DecimalFormatter.CHAR_ARRAY_THREAD_LOCAL.remove();
 		UnsignedDecimal9i36f.THREAD_LOCAL_1.remove();
 		UnsignedDecimal9i36f.THREAD_LOCAL_2.remove();
 	}
@@ -159,6 +159,11 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 		return DoubleConversion.longToDouble(this, rounding, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), rounding, uDecimal);
+	}
+
 	@Override
 	public final long fromUnscaled(long unscaledValue, int scale) {
 		return UnscaledConversion.unscaledToLong(this, rounding, unscaledValue, scale);
@@ -176,7 +181,12 @@ public final class UncheckedScale0fRoundingArithmetic extends AbstractUncheckedS
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToLong(getRoundingMode(), value);
+		return BigDecimalConversion.bigDecimalToLong(this, rounding, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, rounding, decimal64);
 	}
 
 	@Override
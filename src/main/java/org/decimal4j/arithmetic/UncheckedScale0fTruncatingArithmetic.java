@@ -137,6 +137,11 @@ public final class UncheckedScale0fTruncatingArithmetic extends AbstractUnchecke
 		return DoubleConversion.longToDouble(this, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), uDecimal);
+	}
+
 	@Override
 	public final float toFloat(long uDecimal) {
 		return FloatConversion.longToFloat(this, uDecimal);
@@ -159,7 +164,12 @@ public final class UncheckedScale0fTruncatingArithmetic extends AbstractUnchecke
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToLong(RoundingMode.DOWN, value);
+		return BigDecimalConversion.bigDecimalToLong(this, DecimalRounding.DOWN, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, decimal64);
 	}
 
 	@Override
@@ -95,6 +95,11 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 	public final long multiply(long uDecimal1, long uDecimal2) {
 		return Mul.multiply(this, rounding, uDecimal1, uDecimal2);
 	}
+
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return Mul.multiplyAdd(this, rounding, uDecimal1, uDecimal2, uDecimalAugend);
+	}
 	
 	@Override
 	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
@@ -183,7 +188,12 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToUnscaled(getScaleMetrics(), getRoundingMode(), value);
+		return BigDecimalConversion.bigDecimalToUnscaled(this, rounding, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, rounding, decimal64);
 	}
 
 	@Override
@@ -206,6 +216,11 @@ public final class UncheckedScaleNfRoundingArithmetic extends AbstractUncheckedS
 		return DoubleConversion.unscaledToDouble(this, rounding, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), rounding, uDecimal);
+	}
+
 	@Override
 	public final long parse(String value) {
 		return StringConversion.parseUnscaledDecimal(this, rounding, value, 0, value.length());
@@ -79,6 +79,11 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 		return Mul.multiply(this, uDecimal1, uDecimal2);
 	}
 
+	@Override
+	public final long multiplyAdd(long uDecimal1, long uDecimal2, long uDecimalAugend) {
+		return Mul.multiplyAdd(this, DecimalRounding.DOWN, uDecimal1, uDecimal2, uDecimalAugend);
+	}
+
 	@Override
 	public final long multiplyByUnscaled(long uDecimal, long unscaled, int scale) {
 		return Mul.multiplyByUnscaled(uDecimal, unscaled, scale);
@@ -171,7 +176,12 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 
 	@Override
 	public final long fromBigDecimal(BigDecimal value) {
-		return BigDecimalConversion.bigDecimalToUnscaled(getScaleMetrics(), RoundingMode.DOWN, value);
+		return BigDecimalConversion.bigDecimalToUnscaled(this, DecimalRounding.DOWN, value);
+	}
+
+	@Override
+	public final long fromDecimal64(long decimal64) {
+		return Decimal64Conversion.decimal64ToUnscaled(this, decimal64);
 	}
 
 	@Override
@@ -194,6 +204,11 @@ public final class UncheckedScaleNfTruncatingArithmetic extends AbstractUnchecke
 		return DoubleConversion.unscaledToDouble(this, uDecimal);
 	}
 
+	@Override
+	public final long toDecimal64(long uDecimal) {
+		return Decimal64Conversion.unscaledToDecimal64(getScaleMetrics(), uDecimal);
+	}
+
 	@Override
 	public final long parse(String value) {
 		return StringConversion.parseUnscaledDecimal(this, DecimalRounding.DOWN, value, 0, value.length());
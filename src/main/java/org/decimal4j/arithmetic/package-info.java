@@ -23,6 +23,9 @@
  */
 /**
  * Contains {@link org.decimal4j.api.DecimalArithmetic DecimalArithmetic} implementations
- * for different rounding and overflow modes.
+ * for different rounding and overflow modes, the exception free
+ * {@link org.decimal4j.arithmetic.DecimalParser DecimalParser} and the
+ * allocation free {@link org.decimal4j.arithmetic.DecimalFormatter DecimalFormatter}
+ * and {@link org.decimal4j.arithmetic.DecimalCharSequence DecimalCharSequence}.
  */
 package org.decimal4j.arithmetic;
\ No newline at end of file
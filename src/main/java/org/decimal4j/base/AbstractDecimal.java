@@ -555,6 +555,24 @@ abstract public class AbstractDecimal<S extends ScaleMetrics, D extends Abstract
 		return multiplyUnscaled(multiplicand.unscaledValue(), truncationPolicy);
 	}
 
+	@Override
+	public D multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend) {
+		final DecimalArithmetic arith = getDefaultArithmetic();
+		return createOrAssign(arith.multiplyAdd(unscaledValue(), multiplicand.unscaledValue(), augend.unscaledValue()));
+	}
+
+	@Override
+	public D multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, RoundingMode roundingMode) {
+		final DecimalArithmetic arith = getArithmeticFor(roundingMode);
+		return createOrAssign(arith.multiplyAdd(unscaledValue(), multiplicand.unscaledValue(), augend.unscaledValue()));
+	}
+
+	@Override
+	public D multiplyAdd(Decimal<S> multiplicand, Decimal<S> augend, TruncationPolicy truncationPolicy) {
+		final DecimalArithmetic arith = getArithmeticFor(truncationPolicy);
+		return createOrAssign(arith.multiplyAdd(unscaledValue(), multiplicand.unscaledValue(), augend.unscaledValue()));
+	}
+
 	@Override
 	public D multiplyBy(Decimal<?> multiplicand) {
 		return multiplyUnscaled(multiplicand.unscaledValue(), multiplicand.getScale());
@@ -26,8 +26,10 @@ package org.decimal4j.factory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.api.MutableDecimal;
 import org.decimal4j.scale.ScaleMetrics;
@@ -297,6 +299,15 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. An exception is thrown if
 	 * the value is too large to be represented as a Decimal of this factory's
 	 * scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into an immutable Decimal value of
@@ -322,6 +333,15 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 * {@link #getScale() scale}, the value is rounded using the specified
 	 * {@code roundingMode}. An exception is thrown if the value is too large to
 	 * be represented as a Decimal of this factory's scale.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into an immutable Decimal value of
@@ -340,6 +360,62 @@ public interface DecimalFactory<S extends ScaleMetrics> {
 	 */
 	ImmutableDecimal<S> parse(String value, RoundingMode roundingMode);
 
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} held in a byte
+	 * array into an immutable {@code Decimal}. The accepted format is the same
+	 * as for {@link #parse(String)} where every byte is interpreted as one
+	 * ASCII character. If the fraction contains more digits than this
+	 * factory's {@link #getScale() scale}, the value is rounded using
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding.
+	 *
+	 * @param value
+	 *            byte array with the ASCII value to convert into an immutable
+	 *            Decimal value of this factory's scale
+	 * @param start
+	 *            the start index to read bytes in {@code value}, inclusive
+	 * @param end
+	 *            the end index where to stop reading bytes in {@code value},
+	 *            exclusive
+	 * @return a Decimal calculated as: <tt>round<sub>HALF_UP</sub>(value)</tt>
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.length}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal}
+	 *             or if the value is too large to be represented as a Decimal
+	 *             with the scale of this factory
+	 * @see DecimalArithmetic#parse(byte[], int, int)
+	 */
+	ImmutableDecimal<S> parse(byte[] value, int start, int end);
+
+	/**
+	 * Translates the ASCII representation of a {@code Decimal} held in a byte
+	 * buffer into an immutable {@code Decimal}. The accepted format is the same
+	 * as for {@link #parse(String)} where every byte is interpreted as one
+	 * ASCII character. If the fraction contains more digits than this
+	 * factory's {@link #getScale() scale}, the value is rounded using
+	 * {@link RoundingMode#HALF_UP HALF_UP} rounding. The indices are absolute
+	 * buffer indices and direct buffers are read without copying.
+	 *
+	 * @param value
+	 *            byte buffer with the ASCII value to convert into an immutable
+	 *            Decimal value of this factory's scale
+	 * @param start
+	 *            the absolute start index to read bytes in {@code value},
+	 *            inclusive
+	 * @param end
+	 *            the absolute end index where to stop reading bytes in
+	 *            {@code value}, exclusive
+	 * @return a Decimal calculated as: <tt>round<sub>HALF_UP</sub>(value)</tt>
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code start < 0} or {@code end > value.limit()}
+	 * @throws NumberFormatException
+	 *             if {@code value} does not represent a valid {@code Decimal}
+	 *             or if the value is too large to be represented as a Decimal
+	 *             with the scale of this factory
+	 * @see DecimalArithmetic#parse(ByteBuffer, int, int)
+	 */
+	ImmutableDecimal<S> parse(ByteBuffer value, int start, int end);
+
 	/**
 	 * Returns a new immutable Decimal whose value is numerically equal to
 	 * <tt>(unscaled &times; 10<sup>-scale</sup>)</tt> where {@code scale}
@@ -0,0 +1,121 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.factory;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Compact serialized form of immutable decimals such as {@link org.decimal4j.immutable.Decimal2f Decimal2f} or
+ * {@link GenericImmutableDecimal}. Immutable decimals replace themselves with a proxy when they are serialized; the
+ * proxy is written as a single header byte with the scale followed by the unscaled value as zigzag encoded varint (the
+ * same encoding as {@link org.decimal4j.util.DecimalCodec DecimalCodec}). The most significant bit of the header byte is
+ * set for generic decimals.
+ * <p>
+ * When deserialized, the proxy resolves to a decimal of the original class. Values of the fixed scale classes are
+ * created via {@code valueOfUnscaled(..)} and hence resolve to the canonical constants such as {@code ZERO} or
+ * {@code ONE} where applicable.
+ * <p>
+ * This class is public only as required by the serialization mechanism and should not be used directly.
+ */
+public final class SerializationProxy implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final int GENERIC_FLAG = 0x80;
+
+	private int header;
+	private long unscaled;
+
+	/**
+	 * Constructor used for deserialization only.
+	 */
+	public SerializationProxy() {
+		super();
+	}
+
+	/**
+	 * Constructor for the serialized form of a decimal.
+	 * 
+	 * @param decimal
+	 *            the immutable decimal to serialize
+	 */
+	public SerializationProxy(ImmutableDecimal<?> decimal) {
+		this.header = decimal instanceof GenericImmutableDecimal ? GENERIC_FLAG | decimal.getScale() : decimal.getScale();
+		this.unscaled = decimal.unscaledValue();
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeByte(header);
+		long encoded = (unscaled << 1) ^ (unscaled >> 63);// zigzag
+		while ((encoded & ~0x7fL) != 0) {
+			out.writeByte((int) (encoded | 0x80));
+			encoded >>>= 7;
+		}
+		out.writeByte((int) encoded);
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		header = in.readUnsignedByte();
+		final int scale = header & ~GENERIC_FLAG;
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new InvalidObjectException("Illegal scale, must be in [" + Scales.MIN_SCALE + "," + Scales.MAX_SCALE + "] but was: " + scale);
+		}
+		long encoded = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			encoded |= (b & 0x7fL) << shift;
+			shift += 7;
+		} while (b < 0 & shift < 70);
+		if (b < 0 | (shift == 70 & b > 1)) {
+			throw new InvalidObjectException("Malformed varint for unscaled value");
+		}
+		unscaled = (encoded >>> 1) ^ -(encoded & 1);// zigzag
+	}
+
+	/**
+	 * Returns the deserialized decimal.
+	 * 
+	 * @return the immutable decimal represented by this proxy
+	 */
+	private Object readResolve() {
+		final int scale = header & ~GENERIC_FLAG;
+		if ((header & GENERIC_FLAG) != 0) {
+			return new GenericImmutableDecimal<ScaleMetrics>(Scales.getScaleMetrics(scale), unscaled);
+		}
+		return Factories.getDecimalFactory(scale).valueOfUnscaled(unscaled);
+	}
+}
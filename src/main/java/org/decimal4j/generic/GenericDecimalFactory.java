@@ -26,6 +26,7 @@ package org.decimal4j.generic;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 import java.util.Objects;
 
 import org.decimal4j.api.Decimal;
@@ -159,6 +160,16 @@ public final class GenericDecimalFactory<S extends ScaleMetrics> implements Deci
 		return new GenericImmutableDecimal<S>(scaleMetrics, scaleMetrics.getCheckedArithmetic(roundingMode).parse(value));
 	}
 
+	@Override
+	public GenericImmutableDecimal<S> parse(byte[] value, int start, int end) {
+		return new GenericImmutableDecimal<S>(scaleMetrics, scaleMetrics.getDefaultCheckedArithmetic().parse(value, start, end));
+	}
+
+	@Override
+	public GenericImmutableDecimal<S> parse(ByteBuffer value, int start, int end) {
+		return new GenericImmutableDecimal<S>(scaleMetrics, scaleMetrics.getDefaultCheckedArithmetic().parse(value, start, end));
+	}
+
 	@Override
 	public GenericImmutableDecimal<S> valueOfUnscaled(long unscaled) {
 		return new GenericImmutableDecimal<S>(scaleMetrics, unscaled);
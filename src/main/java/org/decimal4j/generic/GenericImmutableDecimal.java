@@ -29,6 +29,7 @@ import org.decimal4j.api.Decimal;
 import org.decimal4j.api.ImmutableDecimal;
 import org.decimal4j.base.AbstractImmutableDecimal;
 import org.decimal4j.factory.Factories;
+import org.decimal4j.factory.SerializationProxy;
 import org.decimal4j.scale.ScaleMetrics;
 import org.decimal4j.scale.Scales;
 
@@ -169,4 +170,15 @@ public final class GenericImmutableDecimal<S extends ScaleMetrics> extends Abstr
 	public GenericImmutableDecimal<S> toImmutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this decimal with a compact {@link SerializationProxy} when
+	 * serialized. The proxy resolves to a {@code GenericImmutableDecimal}
+	 * with the same scale and value when deserialized.
+	 * 
+	 * @return the serialization proxy for this decimal
+	 */
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
 }
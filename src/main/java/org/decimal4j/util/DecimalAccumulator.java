@@ -0,0 +1,408 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Mutable accumulator for sums of decimal values and sums of products of decimal values. The accumulator keeps two
+ * exact 128-bit running sums: one for the unscaled values with the scale of {@code S} and one for the unscaled
+ * products with twice the scale of {@code S}. Intermediate overflows of a 64-bit long do therefore not occur and no
+ * rounding is performed when adding values or products. The result is rounded only once when it is retrieved via one
+ * of the {@link #getSum() getSum(..)} methods.
+ * <p>
+ * Adding values or products is garbage free. Accumulators can be {@link #merge(DecimalAccumulator) merged}, for
+ * instance to combine partial results of a parallel reduction. Accumulators are not thread safe.
+ * <p>
+ * The 128-bit sums are exact as long as their absolute value remains below 2<sup>127</sup>. This is for instance
+ * guaranteed for up to 2<sup>63</sup> added values, for a single product of arbitrary long values, or for up to
+ * 2<sup>k</sup> products of unscaled values whose absolute values are less than 2<sup>63-k</sup>. If a 128-bit sum
+ * overflows, an {@link ArithmeticException} is thrown when the result is retrieved.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the accumulated values
+ */
+public final class DecimalAccumulator<S extends ScaleMetrics> {
+
+	private static final long LONG_MASK = 0xffffffffL;
+
+	private final S scaleMetrics;
+
+	private long count;
+	private long sumHigh;
+	private long sumLow;
+	private long productSumHigh;
+	private long productSumLow;
+	private long overflow;// sign bit set if a 128-bit sum has overflowed
+
+	/**
+	 * Creates a new accumulator for values with the specified scale metrics. The accumulator is initially empty.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the accumulated values
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 */
+	public DecimalAccumulator(S scaleMetrics) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+	}
+
+	/**
+	 * Returns the scale metrics associated with the accumulated values.
+	 * 
+	 * @return the scale metrics of the accumulated values
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of values and products added to this accumulator, including those of merged accumulators.
+	 * 
+	 * @return the number of accumulated values and products
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns true if nothing has been added to this accumulator since construction or the last {@link #reset()}.
+	 * 
+	 * @return true if the accumulator is empty
+	 */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * Adds the specified value to the sum of this accumulator.
+	 * 
+	 * @param value
+	 *            the value to add
+	 * @return this accumulator
+	 */
+	public DecimalAccumulator<S> add(Decimal<S> value) {
+		return addUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Adds the specified unscaled value to the sum of this accumulator. The unscaled value has the scale of this
+	 * accumulator's {@link #getScaleMetrics() scale metrics}.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to add
+	 * @return this accumulator
+	 */
+	public DecimalAccumulator<S> addUnscaled(long unscaledValue) {
+		final long low = sumLow + unscaledValue;
+		sumHigh = addHigh(sumHigh, unscaledValue >> 63, carry(sumLow, unscaledValue, low));
+		sumLow = low;
+		count++;
+		return this;
+	}
+
+	/**
+	 * Adds the product of the specified two values to the sum of products of this accumulator. The product is exact
+	 * and is not rounded before the addition.
+	 * 
+	 * @param factor1
+	 *            the first factor
+	 * @param factor2
+	 *            the second factor
+	 * @return this accumulator
+	 */
+	public DecimalAccumulator<S> addProduct(Decimal<S> factor1, Decimal<S> factor2) {
+		return addUnscaledProduct(factor1.unscaledValue(), factor2.unscaledValue());
+	}
+
+	/**
+	 * Adds the product of the specified two unscaled values to the sum of products of this accumulator. Both unscaled
+	 * values have the scale of this accumulator's {@link #getScaleMetrics() scale metrics}; the product is exact and is
+	 * not rounded before the addition.
+	 * 
+	 * @param unscaledFactor1
+	 *            the first unscaled factor
+	 * @param unscaledFactor2
+	 *            the second unscaled factor
+	 * @return this accumulator
+	 */
+	public DecimalAccumulator<S> addUnscaledProduct(long unscaledFactor1, long unscaledFactor2) {
+		final long productLow = unscaledFactor1 * unscaledFactor2;
+		final long productHigh = multiplyHigh(unscaledFactor1, unscaledFactor2);
+		addToProductSum(productHigh, productLow);
+		count++;
+		return this;
+	}
+
+	/**
+	 * Merges the sums of the specified accumulator into this accumulator. The other accumulator is not modified.
+	 * 
+	 * @param other
+	 *            the accumulator to merge into this accumulator
+	 * @return this accumulator
+	 * @throws IllegalArgumentException
+	 *             if the other accumulator has a different scale
+	 */
+	public DecimalAccumulator<S> merge(DecimalAccumulator<S> other) {
+		if (other.scaleMetrics.getScale() != scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Cannot merge accumulator with scale " + other.scaleMetrics.getScale()
+					+ " into accumulator with scale " + scaleMetrics.getScale());
+		}
+		final long low = sumLow + other.sumLow;
+		sumHigh = addHigh(sumHigh, other.sumHigh, carry(sumLow, other.sumLow, low));
+		sumLow = low;
+		addToProductSum(other.productSumHigh, other.productSumLow);
+		overflow |= other.overflow;
+		count += other.count;
+		return this;
+	}
+
+	/**
+	 * Resets this accumulator to its initial empty state.
+	 * 
+	 * @return this accumulator
+	 */
+	public DecimalAccumulator<S> reset() {
+		count = 0;
+		sumHigh = 0;
+		sumLow = 0;
+		productSumHigh = 0;
+		productSumLow = 0;
+		overflow = 0;
+		return this;
+	}
+
+	/**
+	 * Returns the accumulated sum rounded to the scale of this accumulator using default {@link RoundingMode#HALF_UP
+	 * HALF_UP} rounding.
+	 * 
+	 * @return the sum of all accumulated values and products
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the scale of this accumulator
+	 * @throws ArithmeticException
+	 *             if one of the 128-bit sums has overflowed
+	 */
+	public ImmutableDecimal<S> getSum() {
+		return getSum(scaleMetrics, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Returns the accumulated sum rounded to the specified target scale using the given rounding mode.
+	 * 
+	 * @param <T>
+	 *            the target scale metrics type
+	 * @param targetScale
+	 *            the scale metrics of the result
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @return the sum of all accumulated values and products
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the specified target scale
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary or if one of the 128-bit sums has
+	 *             overflowed
+	 */
+	public <T extends ScaleMetrics> ImmutableDecimal<T> getSum(T targetScale, RoundingMode roundingMode) {
+		final long unscaled = getUnscaledSum(targetScale.getArithmetic(roundingMode));
+		return Factories.getDecimalFactory(targetScale).valueOfUnscaled(unscaled);
+	}
+
+	/**
+	 * Returns the accumulated sum as unscaled value with the scale of the specified arithmetic. The sum is rounded
+	 * using the arithmetic's rounding mode if necessary. This method is garbage free unless both values and products
+	 * have been accumulated or the 64-bit range is exceeded by one of the 128-bit sums.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining target scale and rounding mode
+	 * @return the unscaled sum of all accumulated values and products
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the scale of the specified arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary or if one of the 128-bit sums has
+	 *             overflowed
+	 */
+	public long getUnscaledSum(DecimalArithmetic arithmetic) {
+		checkOverflow();
+		final int scale = scaleMetrics.getScale();
+		final boolean noProducts = productSumHigh == 0 & productSumLow == 0;
+		if (noProducts & isLong(sumHigh, sumLow)) {
+			return arithmetic.fromUnscaled(sumLow, scale);
+		}
+		final boolean noSum = sumHigh == 0 & sumLow == 0;
+		if (noSum & isLong(productSumHigh, productSumLow)) {
+			return arithmetic.fromUnscaled(productSumLow, 2 * scale);
+		}
+		return arithmetic.fromBigDecimal(toBigDecimal());
+	}
+
+	/**
+	 * Returns the average of the accumulated values and products rounded to the scale of this accumulator using
+	 * default {@link RoundingMode#HALF_UP HALF_UP} rounding. The average is the exact sum divided by the
+	 * {@link #getCount() count} and is rounded only once. Zero is returned if the accumulator is empty.
+	 * 
+	 * @return the average of all accumulated values and products
+	 * @throws ArithmeticException
+	 *             if one of the 128-bit sums has overflowed
+	 */
+	public ImmutableDecimal<S> getAverage() {
+		return getAverage(scaleMetrics, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Returns the average of the accumulated values and products rounded to the specified target scale using the
+	 * given rounding mode. The average is the exact sum divided by the {@link #getCount() count} and is rounded only
+	 * once; for two values the result is identical to {@link DecimalArithmetic#avg(long, long)}. Zero is returned if
+	 * the accumulator is empty.
+	 * 
+	 * @param <T>
+	 *            the target scale metrics type
+	 * @param targetScale
+	 *            the scale metrics of the result
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @return the average of all accumulated values and products
+	 * @throws IllegalArgumentException
+	 *             if the average is too large to be represented as a Decimal with the specified target scale
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary or if one of the 128-bit sums has
+	 *             overflowed
+	 */
+	public <T extends ScaleMetrics> ImmutableDecimal<T> getAverage(T targetScale, RoundingMode roundingMode) {
+		final long unscaled = getUnscaledAverage(targetScale.getArithmetic(roundingMode));
+		return Factories.getDecimalFactory(targetScale).valueOfUnscaled(unscaled);
+	}
+
+	/**
+	 * Returns the average of the accumulated values and products as unscaled value with the scale of the specified
+	 * arithmetic. The average is the exact sum divided by the {@link #getCount() count} and is rounded only once
+	 * using the arithmetic's rounding mode. Zero is returned if the accumulator is empty.
+	 * 
+	 * @param arithmetic
+	 *            the arithmetic defining target scale and rounding mode
+	 * @return the unscaled average of all accumulated values and products
+	 * @throws IllegalArgumentException
+	 *             if the average is too large to be represented as a Decimal with the scale of the specified
+	 *             arithmetic
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary or if one of the 128-bit sums has
+	 *             overflowed
+	 */
+	public long getUnscaledAverage(DecimalArithmetic arithmetic) {
+		checkOverflow();
+		if (count == 0) {
+			return 0;
+		}
+		final boolean noProducts = productSumHigh == 0 & productSumLow == 0;
+		if (noProducts & isLong(sumHigh, sumLow) & arithmetic.getScale() == scaleMetrics.getScale()) {
+			return arithmetic.divideByLong(sumLow, count);
+		}
+		final BigDecimal average = toBigDecimal().divide(BigDecimal.valueOf(count), arithmetic.getScale(),
+				arithmetic.getRoundingMode());
+		return arithmetic.fromBigDecimal(average);
+	}
+
+	private void checkOverflow() {
+		if (overflow < 0) {
+			throw new ArithmeticException("Overflow: 128-bit sum of " + count + " values has overflowed");
+		}
+	}
+
+	/**
+	 * Returns the exact total of values and products with twice the scale of this accumulator.
+	 */
+	private BigDecimal toBigDecimal() {
+		final int scale = scaleMetrics.getScale();
+		final BigInteger sum = toBigInteger(sumHigh, sumLow).multiply(BigInteger.TEN.pow(scale));
+		final BigInteger total = sum.add(toBigInteger(productSumHigh, productSumLow));
+		return new BigDecimal(total, 2 * scale);
+	}
+
+	private void addToProductSum(long productHigh, long productLow) {
+		final long low = productSumLow + productLow;
+		productSumHigh = addHigh(productSumHigh, productHigh, carry(productSumLow, productLow, low));
+		productSumLow = low;
+	}
+
+	/**
+	 * Returns the high order sum {@code high1 + high2 + carry} and records an overflow if it occurs.
+	 */
+	private long addHigh(long high1, long high2, long carry) {
+		final long sum = high1 + high2;
+		final long high = sum + carry;
+		overflow |= ((high1 ^ sum) & (high2 ^ sum)) | (~sum & high);
+		return high;
+	}
+
+	/**
+	 * Returns the carry (0 or 1) of the unsigned addition {@code sum = a + b}.
+	 */
+	private static long carry(long a, long b, long sum) {
+		return ((a & b) | ((a | b) & ~sum)) >>> 63;
+	}
+
+	/**
+	 * Returns the high order 64 bits of the signed 128-bit product {@code a * b} (Hacker's Delight, Section 8-2).
+	 */
+	private static long multiplyHigh(long a, long b) {
+		final long a1 = a >> 32;
+		final long a0 = a & LONG_MASK;
+		final long b1 = b >> 32;
+		final long b0 = b & LONG_MASK;
+		final long t = a1 * b0 + ((a0 * b0) >>> 32);
+		final long w1 = (t & LONG_MASK) + a0 * b1;
+		return a1 * b1 + (t >> 32) + (w1 >> 32);
+	}
+
+	private static boolean isLong(long high, long low) {
+		return high == (low >> 63);
+	}
+
+	private static BigInteger toBigInteger(long high, long low) {
+		final BigInteger unsignedLow = BigInteger.valueOf(low >>> 1).shiftLeft(1).or(BigInteger.valueOf(low & 1));
+		return BigInteger.valueOf(high).shiftLeft(64).or(unsignedLow);
+	}
+
+	/**
+	 * Returns a string representation of this accumulator with count and exact 128-bit sums.
+	 * 
+	 * @return a string representation of this accumulator
+	 */
+	@Override
+	public String toString() {
+		final int scale = scaleMetrics.getScale();
+		return getClass().getSimpleName() + "[count=" + count + ", sum="
+				+ new BigDecimal(toBigInteger(sumHigh, sumLow), scale).toPlainString() + ", productSum="
+				+ new BigDecimal(toBigInteger(productSumHigh, productSumLow), 2 * scale).toPlainString()
+				+ (overflow < 0 ? ", overflow" : "") + "]";
+	}
+}
@@ -0,0 +1,341 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Fixed length array of decimal values with the same scale backed by a {@code long[]} array with the unscaled values.
+ * Compared to an array of {@link ImmutableDecimal} objects, a decimal array avoids the object header and reference
+ * per element and hence uses about a third to a quarter of the heap memory.
+ * <p>
+ * Elements can be accessed by unscaled value, as newly allocated immutable decimal, by copying the value into a
+ * {@link MutableDecimal} or through a reusable read-only {@link #cursor() cursor}. Decimal arrays are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the elements of this array
+ * @see DecimalList
+ */
+public final class DecimalArray<S extends ScaleMetrics> {
+
+	private final S scaleMetrics;
+	private final long[] unscaled;
+
+	/**
+	 * Creates a new decimal array of the specified length with all elements initialized to zero.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the elements
+	 * @param length
+	 *            the length of the array
+	 * @throws NegativeArraySizeException
+	 *             if length is negative
+	 */
+	public DecimalArray(S scaleMetrics, int length) {
+		this(scaleMetrics, new long[length]);
+	}
+
+	private DecimalArray(S scaleMetrics, long[] unscaled) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.unscaled = unscaled;
+	}
+
+	/**
+	 * Returns a decimal array backed by the given unscaled values array. Changes of the given array are reflected in
+	 * the returned decimal array and vice versa.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param unscaledValues
+	 *            the unscaled values backing the returned array
+	 * @return a decimal array backed by the given array
+	 */
+	public static <S extends ScaleMetrics> DecimalArray<S> wrap(S scaleMetrics, long[] unscaledValues) {
+		return new DecimalArray<S>(scaleMetrics, Objects.requireNonNull(unscaledValues, "unscaledValues cannot be null"));
+	}
+
+	/**
+	 * Returns a new decimal array with a copy of the values of the given decimals.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the values
+	 * @param values
+	 *            the values to copy, for instance a {@code MutableDecimal<S>[]} array
+	 * @return a new decimal array with the given values
+	 * @throws NullPointerException
+	 *             if values or any of the values is null
+	 */
+	public static <S extends ScaleMetrics> DecimalArray<S> copyOf(S scaleMetrics, Decimal<S>[] values) {
+		final DecimalArray<S> array = new DecimalArray<S>(scaleMetrics, values.length);
+		for (int i = 0; i < values.length; i++) {
+			array.unscaled[i] = values[i].unscaledValue();
+		}
+		return array;
+	}
+
+	/**
+	 * Returns the scale metrics associated with the elements of this array.
+	 * 
+	 * @return the scale metrics of the elements
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the length of this array.
+	 * 
+	 * @return the number of elements
+	 */
+	public int length() {
+		return unscaled.length;
+	}
+
+	/**
+	 * Returns the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the unscaled value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public long getUnscaled(int index) {
+		return unscaled[index];
+	}
+
+	/**
+	 * Sets the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param unscaledValue
+	 *            the new unscaled value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public void setUnscaled(int index, long unscaledValue) {
+		unscaled[index] = unscaledValue;
+	}
+
+	/**
+	 * Returns the element at the specified index as immutable decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public ImmutableDecimal<S> get(int index) {
+		return getFactory().valueOfUnscaled(unscaled[index]);
+	}
+
+	/**
+	 * Copies the element at the specified index into the given mutable target decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param target
+	 *            the mutable decimal to assign
+	 * @return the target decimal now holding the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public MutableDecimal<S> get(int index, MutableDecimal<S> target) {
+		return target.setUnscaled(unscaled[index]);
+	}
+
+	/**
+	 * Sets the element at the specified index to the given value.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param value
+	 *            the new value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public void set(int index, Decimal<S> value) {
+		unscaled[index] = value.unscaledValue();
+	}
+
+	/**
+	 * Returns a new read-only cursor positioned at the first element of this array. The cursor can be reused to view
+	 * any element via {@link DecimalCursor#moveTo(int)}.
+	 * 
+	 * @return a new cursor viewing the elements of this array
+	 */
+	@SuppressWarnings("serial")
+	public DecimalCursor<S> cursor() {
+		return new DecimalCursor<S>(scaleMetrics) {
+			@Override
+			long getUnscaled(int index) {
+				return unscaled[index];
+			}
+			@Override
+			int size() {
+				return unscaled.length;
+			}
+		};
+	}
+
+	/**
+	 * Sorts the elements of this array into ascending numerical order.
+	 */
+	public void sort() {
+		Arrays.sort(unscaled);
+	}
+
+	/**
+	 * Sorts the specified range of elements into ascending numerical order.
+	 * 
+	 * @param from
+	 *            the index of the first element to sort, inclusive
+	 * @param to
+	 *            the index of the last element to sort, exclusive
+	 * @throws IllegalArgumentException
+	 *             if {@code from > to}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code from < 0} or {@code to > length()}
+	 */
+	public void sort(int from, int to) {
+		Arrays.sort(unscaled, from, to);
+	}
+
+	/**
+	 * Searches the specified value in this sorted array using binary search.
+	 * 
+	 * @param key
+	 *            the value to search
+	 * @return the index of the key if it is contained in the array; otherwise {@code (-(insertion point) - 1)}
+	 * @see Arrays#binarySearch(long[], long)
+	 */
+	public int binarySearch(Decimal<S> key) {
+		return binarySearchUnscaled(key.unscaledValue());
+	}
+
+	/**
+	 * Searches the specified unscaled value in this sorted array using binary search.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled value to search
+	 * @return the index of the key if it is contained in the array; otherwise {@code (-(insertion point) - 1)}
+	 * @see Arrays#binarySearch(long[], long)
+	 */
+	public int binarySearchUnscaled(long unscaledKey) {
+		return Arrays.binarySearch(unscaled, unscaledKey);
+	}
+
+	/**
+	 * Returns a copy of the unscaled values of this array.
+	 * 
+	 * @return a new array with the unscaled values
+	 */
+	public long[] toUnscaledArray() {
+		return unscaled.clone();
+	}
+
+	/**
+	 * Returns a new array of mutable decimals with the values of this array.
+	 * 
+	 * @return a new mutable decimal array
+	 */
+	public MutableDecimal<S>[] toMutableArray() {
+		return toMutableArray(getFactory(), unscaled, unscaled.length);
+	}
+
+	/**
+	 * Returns a sequential stream of the elements of this array.
+	 * 
+	 * @return a stream backed by this array
+	 */
+	public DecimalStream<S> stream() {
+		return DecimalStream.of(scaleMetrics, unscaled);
+	}
+
+	private DecimalFactory<S> getFactory() {
+		return Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	static <S extends ScaleMetrics> MutableDecimal<S>[] toMutableArray(DecimalFactory<S> factory, long[] unscaled, int size) {
+		final MutableDecimal<S>[] array = factory.newMutableArray(size);
+		for (int i = 0; i < size; i++) {
+			array[i] = factory.newMutable().setUnscaled(unscaled[i]);
+		}
+		return array;
+	}
+
+	static String toString(DecimalArithmetic arithmetic, long[] unscaled, int size) {
+		final StringBuilder sb = new StringBuilder(size * 8 + 2);
+		sb.append('[');
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(arithmetic.toString(unscaled[i]));
+		}
+		return sb.append(']').toString();
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * scaleMetrics.hashCode() + Arrays.hashCode(unscaled);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final DecimalArray<?> other = (DecimalArray<?>) obj;
+		return scaleMetrics.equals(other.scaleMetrics) && Arrays.equals(unscaled, other.unscaled);
+	}
+
+	/**
+	 * Returns a string representation of the elements of this array, for instance {@code [1.50, -2.00]}.
+	 * 
+	 * @return a string representation of this array
+	 */
+	@Override
+	public String toString() {
+		return toString(scaleMetrics.getDefaultArithmetic(), unscaled, unscaled.length);
+	}
+}
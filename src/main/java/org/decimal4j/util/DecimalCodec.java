@@ -0,0 +1,603 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Compact binary codec for unscaled decimal values. Values are written as zigzag encoded variable length integers
+ * (varint) with 7 bits per byte and the most significant bit of every byte indicating that more bytes follow. Zigzag
+ * encoding maps signed values to unsigned values such that values of small magnitude use few bytes regardless of
+ * their sign: values in the range [-64, 63] are encoded in one byte, values in the range [-8192, 8191] in two bytes
+ * and so on up to {@link #MAX_VARINT_LENGTH} bytes.
+ * <p>
+ * If the codec is created with {@code scaleEncoded=true}, every value is preceded by a single byte with its scale.
+ * Values with a scale different from the scale of the codec are converted when decoded using the rounding mode of the
+ * codec. Without scale byte, decimal values with a different scale are converted when encoded.
+ * <p>
+ * Values can be encoded to and decoded from byte arrays, byte buffers and {@link DataOutput} or {@link DataInput}
+ * streams, one at a time or in bulk from and to {@code long} arrays. Neither encoding nor decoding allocates objects.
+ * Instances of this class are immutable and thread safe.
+ */
+public final class DecimalCodec {
+
+	/**
+	 * Maximum number of bytes of a zigzag encoded varint.
+	 */
+	public static final int MAX_VARINT_LENGTH = 10;
+
+	private final DecimalArithmetic arithmetic;
+	private final boolean scaleEncoded;
+
+	/**
+	 * Constructor with scale, rounding mode and a flag indicating whether a scale byte is written with every value.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale of the encoded and decoded unscaled values
+	 * @param roundingMode
+	 *            the rounding mode applied if a value with a different scale is converted to the scale of the codec
+	 * @param scaleEncoded
+	 *            true if every value is preceded by a byte with its scale
+	 */
+	public DecimalCodec(ScaleMetrics scaleMetrics, RoundingMode roundingMode, boolean scaleEncoded) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(roundingMode, "roundingMode cannot be null");
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+		this.scaleEncoded = scaleEncoded;
+	}
+
+	/**
+	 * Returns the scale of the encoded and decoded unscaled values.
+	 * 
+	 * @return the scale metrics of this codec
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return arithmetic.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the rounding mode applied if a value with a different scale is converted to the scale of this codec.
+	 * 
+	 * @return the rounding mode
+	 */
+	public RoundingMode getRoundingMode() {
+		return arithmetic.getRoundingMode();
+	}
+
+	/**
+	 * Returns true if every value is preceded by a byte with its scale.
+	 * 
+	 * @return true if the scale is encoded with every value
+	 */
+	public boolean isScaleEncoded() {
+		return scaleEncoded;
+	}
+
+	/**
+	 * Returns the zigzag encoding of the given signed value.
+	 * 
+	 * @param value
+	 *            the signed value
+	 * @return the value mapped to an unsigned value: 0 to 0, -1 to 1, 1 to 2, -2 to 3 and so on
+	 */
+	public static long encodeZigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	/**
+	 * Returns the signed value for the given zigzag encoded value.
+	 * 
+	 * @param encoded
+	 *            the zigzag encoded value
+	 * @return the signed value
+	 * @see #encodeZigZag(long)
+	 */
+	public static long decodeZigZag(long encoded) {
+		return (encoded >>> 1) ^ -(encoded & 1);
+	}
+
+	/**
+	 * Returns the number of bytes of the zigzag encoded varint for the given value.
+	 * 
+	 * @param value
+	 *            the signed value
+	 * @return the number of varint bytes, a value between 1 and {@link #MAX_VARINT_LENGTH}
+	 */
+	public static int varintLength(long value) {
+		final int bits = 64 - Long.numberOfLeadingZeros(encodeZigZag(value) | 1);
+		return (bits + 6) / 7;
+	}
+
+	/**
+	 * Returns the number of bytes written by this codec for the given unscaled value, including the scale byte if
+	 * applicable.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value with the scale of this codec
+	 * @return the number of encoded bytes
+	 */
+	public int encodedLength(long unscaledValue) {
+		return scaleEncoded ? 1 + varintLength(unscaledValue) : varintLength(unscaledValue);
+	}
+
+	/**
+	 * Encodes the given unscaled value into a byte array.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value with the scale of this codec
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the index in {@code dst} after the last byte written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code dst} is too small for the encoded value
+	 */
+	public int encode(long unscaledValue, byte[] dst, int offset) {
+		if (scaleEncoded) {
+			dst[offset++] = (byte) arithmetic.getScale();
+		}
+		return writeVarint(unscaledValue, dst, offset);
+	}
+
+	/**
+	 * Encodes the given decimal value into a byte array. If this codec encodes the scale, the value is written with its
+	 * own scale; otherwise it is first converted to the scale of this codec.
+	 * 
+	 * @param value
+	 *            the decimal value to encode
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the index in {@code dst} after the last byte written
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code dst} is too small for the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the scale is not encoded and the value cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the scale is not encoded, the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int encode(Decimal<?> value, byte[] dst, int offset) {
+		if (scaleEncoded) {
+			dst[offset++] = (byte) value.getScale();
+			return writeVarint(value.unscaledValue(), dst, offset);
+		}
+		return writeVarint(toUnscaled(value), dst, offset);
+	}
+
+	/**
+	 * Encodes the given unscaled values into a byte array.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of this codec
+	 * @param srcOffset
+	 *            the index of the first value to encode
+	 * @param count
+	 *            the number of values to encode
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the index in {@code dst} of the first byte to write
+	 * @return the index in {@code dst} after the last byte written
+	 * @throws IndexOutOfBoundsException
+	 *             if the source range is invalid or if {@code dst} is too small for the encoded values
+	 */
+	public int encode(long[] src, int srcOffset, int count, byte[] dst, int offset) {
+		checkRange(src.length, srcOffset, count);
+		final byte scale = (byte) arithmetic.getScale();
+		for (int i = srcOffset; i < srcOffset + count; i++) {
+			if (scaleEncoded) {
+				dst[offset++] = scale;
+			}
+			offset = writeVarint(src[i], dst, offset);
+		}
+		return offset;
+	}
+
+	/**
+	 * Encodes the given unscaled value into a byte buffer starting at its current position.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value with the scale of this codec
+	 * @param dst
+	 *            the destination buffer, its position is advanced by the number of bytes written
+	 * @throws java.nio.BufferOverflowException
+	 *             if {@code dst} has not enough remaining bytes for the encoded value
+	 */
+	public void encode(long unscaledValue, ByteBuffer dst) {
+		if (scaleEncoded) {
+			dst.put((byte) arithmetic.getScale());
+		}
+		writeVarint(unscaledValue, dst);
+	}
+
+	/**
+	 * Encodes the given decimal value into a byte buffer starting at its current position. If this codec encodes the
+	 * scale, the value is written with its own scale; otherwise it is first converted to the scale of this codec.
+	 * 
+	 * @param value
+	 *            the decimal value to encode
+	 * @param dst
+	 *            the destination buffer, its position is advanced by the number of bytes written
+	 * @throws java.nio.BufferOverflowException
+	 *             if {@code dst} has not enough remaining bytes for the encoded value
+	 * @throws IllegalArgumentException
+	 *             if the scale is not encoded and the value cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the scale is not encoded, the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void encode(Decimal<?> value, ByteBuffer dst) {
+		if (scaleEncoded) {
+			dst.put((byte) value.getScale());
+			writeVarint(value.unscaledValue(), dst);
+		} else {
+			writeVarint(toUnscaled(value), dst);
+		}
+	}
+
+	/**
+	 * Encodes the given unscaled values into a byte buffer starting at its current position.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of this codec
+	 * @param srcOffset
+	 *            the index of the first value to encode
+	 * @param count
+	 *            the number of values to encode
+	 * @param dst
+	 *            the destination buffer, its position is advanced by the number of bytes written
+	 * @throws IndexOutOfBoundsException
+	 *             if the source range is invalid
+	 * @throws java.nio.BufferOverflowException
+	 *             if {@code dst} has not enough remaining bytes for the encoded values
+	 */
+	public void encode(long[] src, int srcOffset, int count, ByteBuffer dst) {
+		checkRange(src.length, srcOffset, count);
+		final byte scale = (byte) arithmetic.getScale();
+		for (int i = srcOffset; i < srcOffset + count; i++) {
+			if (scaleEncoded) {
+				dst.put(scale);
+			}
+			writeVarint(src[i], dst);
+		}
+	}
+
+	/**
+	 * Encodes the given unscaled value to a data output.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value with the scale of this codec
+	 * @param out
+	 *            the data output
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void encode(long unscaledValue, DataOutput out) throws IOException {
+		if (scaleEncoded) {
+			out.writeByte(arithmetic.getScale());
+		}
+		writeVarint(unscaledValue, out);
+	}
+
+	/**
+	 * Encodes the given decimal value to a data output. If this codec encodes the scale, the value is written with its
+	 * own scale; otherwise it is first converted to the scale of this codec.
+	 * 
+	 * @param value
+	 *            the decimal value to encode
+	 * @param out
+	 *            the data output
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the scale is not encoded and the value cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the scale is not encoded, the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void encode(Decimal<?> value, DataOutput out) throws IOException {
+		if (scaleEncoded) {
+			out.writeByte(value.getScale());
+			writeVarint(value.unscaledValue(), out);
+		} else {
+			writeVarint(toUnscaled(value), out);
+		}
+	}
+
+	/**
+	 * Encodes the given unscaled values to a data output.
+	 * 
+	 * @param src
+	 *            the unscaled values with the scale of this codec
+	 * @param srcOffset
+	 *            the index of the first value to encode
+	 * @param count
+	 *            the number of values to encode
+	 * @param out
+	 *            the data output
+	 * @throws IndexOutOfBoundsException
+	 *             if the source range is invalid
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void encode(long[] src, int srcOffset, int count, DataOutput out) throws IOException {
+		checkRange(src.length, srcOffset, count);
+		final int scale = arithmetic.getScale();
+		for (int i = srcOffset; i < srcOffset + count; i++) {
+			if (scaleEncoded) {
+				out.writeByte(scale);
+			}
+			writeVarint(src[i], out);
+		}
+	}
+
+	/**
+	 * Decodes a single value from a byte array and stores the unscaled value with the scale of this codec in the
+	 * result array.
+	 * 
+	 * @param src
+	 *            the source array
+	 * @param offset
+	 *            the index in {@code src} of the first byte to read
+	 * @param result
+	 *            the array receiving the decoded unscaled value
+	 * @param index
+	 *            the index in {@code result} at which the decoded value is stored
+	 * @return the index in {@code src} after the last byte read
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is not a valid index of {@code result} or if {@code src} ends before the value
+	 * @throws IllegalArgumentException
+	 *             if the encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int decode(byte[] src, int offset, long[] result, int index) {
+		return decode(src, offset, result, index, 1);
+	}
+
+	/**
+	 * Decodes values from a byte array and stores the unscaled values with the scale of this codec in the result
+	 * array.
+	 * 
+	 * @param src
+	 *            the source array
+	 * @param offset
+	 *            the index in {@code src} of the first byte to read
+	 * @param result
+	 *            the array receiving the decoded unscaled values
+	 * @param resultOffset
+	 *            the index in {@code result} at which the first decoded value is stored
+	 * @param count
+	 *            the number of values to decode
+	 * @return the index in {@code src} after the last byte read
+	 * @throws IndexOutOfBoundsException
+	 *             if the result range is invalid or if {@code src} ends before the last value
+	 * @throws IllegalArgumentException
+	 *             if an encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public int decode(byte[] src, int offset, long[] result, int resultOffset, int count) {
+		checkRange(result.length, resultOffset, count);
+		for (int i = resultOffset; i < resultOffset + count; i++) {
+			final int scale = scaleEncoded ? src[offset++] : arithmetic.getScale();
+			long encoded = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = src[offset++];
+				encoded |= (b & 0x7fL) << shift;
+				shift += 7;
+			} while (b < 0 & shift < 70);
+			if (b < 0 | (shift == 70 & b > 1)) {
+				throw malformedVarint();
+			}
+			result[i] = toUnscaled(decodeZigZag(encoded), scale);
+		}
+		return offset;
+	}
+
+	/**
+	 * Decodes a single unscaled value from a byte buffer starting at its current position.
+	 * 
+	 * @param src
+	 *            the source buffer, its position is advanced by the number of bytes read
+	 * @return the decoded unscaled value with the scale of this codec
+	 * @throws java.nio.BufferUnderflowException
+	 *             if {@code src} ends before the value
+	 * @throws IllegalArgumentException
+	 *             if the encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long decode(ByteBuffer src) {
+		final int scale = scaleEncoded ? src.get() : arithmetic.getScale();
+		long encoded = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = src.get();
+			encoded |= (b & 0x7fL) << shift;
+			shift += 7;
+		} while (b < 0 & shift < 70);
+		if (b < 0 | (shift == 70 & b > 1)) {
+			throw malformedVarint();
+		}
+		return toUnscaled(decodeZigZag(encoded), scale);
+	}
+
+	/**
+	 * Decodes unscaled values from a byte buffer starting at its current position.
+	 * 
+	 * @param src
+	 *            the source buffer, its position is advanced by the number of bytes read
+	 * @param result
+	 *            the array receiving the decoded unscaled values
+	 * @param resultOffset
+	 *            the index in {@code result} at which the first decoded value is stored
+	 * @param count
+	 *            the number of values to decode
+	 * @throws IndexOutOfBoundsException
+	 *             if the result range is invalid
+	 * @throws java.nio.BufferUnderflowException
+	 *             if {@code src} ends before the last value
+	 * @throws IllegalArgumentException
+	 *             if an encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void decode(ByteBuffer src, long[] result, int resultOffset, int count) {
+		checkRange(result.length, resultOffset, count);
+		for (int i = resultOffset; i < resultOffset + count; i++) {
+			result[i] = decode(src);
+		}
+	}
+
+	/**
+	 * Decodes a single unscaled value from a data input.
+	 * 
+	 * @param in
+	 *            the data input
+	 * @return the decoded unscaled value with the scale of this codec
+	 * @throws java.io.EOFException
+	 *             if the input ends before the value
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if the encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long decode(DataInput in) throws IOException {
+		final int scale = scaleEncoded ? in.readByte() : arithmetic.getScale();
+		long encoded = 0;
+		int shift = 0;
+		byte b;
+		do {
+			b = in.readByte();
+			encoded |= (b & 0x7fL) << shift;
+			shift += 7;
+		} while (b < 0 & shift < 70);
+		if (b < 0 | (shift == 70 & b > 1)) {
+			throw malformedVarint();
+		}
+		return toUnscaled(decodeZigZag(encoded), scale);
+	}
+
+	/**
+	 * Decodes unscaled values from a data input.
+	 * 
+	 * @param in
+	 *            the data input
+	 * @param result
+	 *            the array receiving the decoded unscaled values
+	 * @param resultOffset
+	 *            the index in {@code result} at which the first decoded value is stored
+	 * @param count
+	 *            the number of values to decode
+	 * @throws IndexOutOfBoundsException
+	 *             if the result range is invalid
+	 * @throws java.io.EOFException
+	 *             if the input ends before the last value
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 * @throws IllegalArgumentException
+	 *             if an encoded value is malformed or if it cannot be represented with the scale of this codec
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void decode(DataInput in, long[] result, int resultOffset, int count) throws IOException {
+		checkRange(result.length, resultOffset, count);
+		for (int i = resultOffset; i < resultOffset + count; i++) {
+			result[i] = decode(in);
+		}
+	}
+
+	private long toUnscaled(Decimal<?> value) {
+		return toUnscaled(value.unscaledValue(), value.getScale());
+	}
+
+	private long toUnscaled(long unscaledValue, int scale) {
+		if (scale == arithmetic.getScale()) {
+			return unscaledValue;
+		}
+		if (scale < Scales.MIN_SCALE | scale > Scales.MAX_SCALE) {
+			throw new IllegalArgumentException("Illegal scale, must be in [" + Scales.MIN_SCALE + "," + Scales.MAX_SCALE + "] but was: " + scale);
+		}
+		return arithmetic.fromUnscaled(unscaledValue, scale);
+	}
+
+	private static int writeVarint(long value, byte[] dst, int offset) {
+		long encoded = encodeZigZag(value);
+		while ((encoded & ~0x7fL) != 0) {
+			dst[offset++] = (byte) (encoded | 0x80);
+			encoded >>>= 7;
+		}
+		dst[offset++] = (byte) encoded;
+		return offset;
+	}
+
+	private static void writeVarint(long value, ByteBuffer dst) {
+		long encoded = encodeZigZag(value);
+		while ((encoded & ~0x7fL) != 0) {
+			dst.put((byte) (encoded | 0x80));
+			encoded >>>= 7;
+		}
+		dst.put((byte) encoded);
+	}
+
+	private static void writeVarint(long value, DataOutput out) throws IOException {
+		long encoded = encodeZigZag(value);
+		while ((encoded & ~0x7fL) != 0) {
+			out.writeByte((int) (encoded | 0x80));
+			encoded >>>= 7;
+		}
+		out.writeByte((int) encoded);
+	}
+
+	private static void checkRange(int length, int offset, int count) {
+		if (offset < 0 | count < 0 | offset > length - count) {
+			throw new IndexOutOfBoundsException("Invalid range: offset=" + offset + ", count=" + count + ", length=" + length);
+		}
+	}
+
+	private static IllegalArgumentException malformedVarint() {
+		return new IllegalArgumentException("Malformed varint, more than " + MAX_VARINT_LENGTH + " bytes or value exceeding 64 bits");
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode() + ", scaleEncoded=" + scaleEncoded + "]";
+	}
+}
@@ -0,0 +1,653 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArrayArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Column of decimal values with the same scale stored off-heap as unscaled longs in a direct {@link ByteBuffer}. The
+ * values are stored in {@link ByteOrder#LITTLE_ENDIAN little-endian} byte order, 8 bytes per value, which allows
+ * sharing a column with other processes through a memory-mapped buffer that is {@link #wrap(ScaleMetrics, ByteBuffer)
+ * wrapped} as decimal column.
+ * <p>
+ * Off-heap columns are not scanned by the garbage collector which makes them suitable for very large data sets. The
+ * maximum length of a column is {@code Integer.MAX_VALUE / 8} values.
+ * <p>
+ * Elements can be accessed by unscaled value or through an allocation free read-only {@link #cursor() cursor}. Bulk
+ * operations such as {@link #add(DecimalArrayArithmetic, DecimalColumn, DecimalColumn, DecimalColumn, int, int) add}
+ * apply the kernels of a {@link DecimalArrayArithmetic} to chunks of the columns and have the same semantics as the
+ * corresponding array operations. Decimal columns are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the elements of this column
+ */
+public final class DecimalColumn<S extends ScaleMetrics> {
+
+	/**
+	 * Maximum length of a decimal column.
+	 */
+	public static final int MAX_LENGTH = Integer.MAX_VALUE >>> 3;
+
+	/**
+	 * Number of elements copied to the heap and processed at once by bulk operations.
+	 */
+	private static final int CHUNK_SIZE = 1 << 9;
+
+	/**
+	 * Per-thread scratch arrays of {@link #CHUNK_SIZE} elements reused by bulk operations for the two source chunks and
+	 * the result chunk.
+	 */
+	private static final ThreadLocal<long[][]> CHUNKS_THREAD_LOCAL = new ThreadLocal<long[][]>() {
+		@Override
+		protected long[][] initialValue() {
+			return new long[3][CHUNK_SIZE];
+		}
+	};
+
+	private final S scaleMetrics;
+	private final ByteBuffer buffer;
+	private final LongBuffer longs;
+	private final int length;
+
+	private DecimalColumn(S scaleMetrics, ByteBuffer buffer) {
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.buffer = buffer;
+		this.longs = buffer.asLongBuffer();
+		this.length = buffer.capacity() >>> 3;
+	}
+
+	/**
+	 * Allocates a new off-heap decimal column of the specified length with all elements initialized to zero.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the column
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the elements
+	 * @param length
+	 *            the length of the column
+	 * @return a new decimal column backed by a direct byte buffer
+	 * @throws IllegalArgumentException
+	 *             if length is negative or exceeds {@link #MAX_LENGTH}
+	 */
+	public static <S extends ScaleMetrics> DecimalColumn<S> allocate(S scaleMetrics, int length) {
+		if (length < 0 | length > MAX_LENGTH) {
+			throw new IllegalArgumentException("length must be in [0, " + MAX_LENGTH + "] but was " + length);
+		}
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(length << 3).order(ByteOrder.LITTLE_ENDIAN);
+		return new DecimalColumn<S>(scaleMetrics, buffer);
+	}
+
+	/**
+	 * Returns a decimal column backed by the remaining bytes of the given buffer, for instance a memory-mapped file
+	 * buffer. The column starts at the buffer's current position; its length is the number of remaining bytes divided
+	 * by 8. The position, limit and byte order of the given buffer are not modified.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the column
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the elements
+	 * @param buffer
+	 *            the buffer with the little-endian unscaled values
+	 * @return a decimal column backed by the given buffer
+	 * @throws IllegalArgumentException
+	 *             if the remaining bytes of the buffer are not a multiple of 8
+	 */
+	public static <S extends ScaleMetrics> DecimalColumn<S> wrap(S scaleMetrics, ByteBuffer buffer) {
+		if ((buffer.remaining() & 7) != 0) {
+			throw new IllegalArgumentException("remaining bytes must be a multiple of 8 but was " + buffer.remaining());
+		}
+		return new DecimalColumn<S>(scaleMetrics, buffer.slice().order(ByteOrder.LITTLE_ENDIAN));
+	}
+
+	/**
+	 * Returns the scale metrics associated with the elements of this column.
+	 * 
+	 * @return the scale metrics of the elements
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the length of this column.
+	 * 
+	 * @return the number of elements
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Returns true if this column cannot be modified, for instance because it is backed by a read-only mapped file.
+	 * 
+	 * @return true if the column is read-only
+	 */
+	public boolean isReadOnly() {
+		return buffer.isReadOnly();
+	}
+
+	/**
+	 * Returns a new little-endian byte buffer sharing the content of this column. Changes are visible in both
+	 * directions.
+	 * 
+	 * @return a byte buffer view of this column
+	 */
+	public ByteBuffer getByteBuffer() {
+		return buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Returns the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the unscaled value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public long getUnscaled(int index) {
+		return longs.get(index);
+	}
+
+	/**
+	 * Sets the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param unscaledValue
+	 *            the new unscaled value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if this column is read-only
+	 */
+	public void setUnscaled(int index, long unscaledValue) {
+		longs.put(index, unscaledValue);
+	}
+
+	/**
+	 * Returns the element at the specified index as immutable decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public ImmutableDecimal<S> get(int index) {
+		return Factories.getDecimalFactory(scaleMetrics).valueOfUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Copies the element at the specified index into the given mutable target decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param target
+	 *            the mutable decimal to assign
+	 * @return the target decimal now holding the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public MutableDecimal<S> get(int index, MutableDecimal<S> target) {
+		return target.setUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Sets the element at the specified index to the given value.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param value
+	 *            the new value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if this column is read-only
+	 */
+	public void set(int index, Decimal<S> value) {
+		setUnscaled(index, value.unscaledValue());
+	}
+
+	/**
+	 * Copies unscaled values from this column into the given array.
+	 * 
+	 * @param index
+	 *            the column index of the first value to copy
+	 * @param dst
+	 *            the destination array
+	 * @param offset
+	 *            the array index of the first copied value
+	 * @param length
+	 *            the number of values to copy
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for column or array
+	 */
+	public void copyTo(int index, long[] dst, int offset, int length) {
+		checkRange(index, length);
+		final LongBuffer src = longs.duplicate();
+		src.position(index);
+		src.get(dst, offset, length);
+	}
+
+	/**
+	 * Copies unscaled values from the given array into this column.
+	 * 
+	 * @param src
+	 *            the source array
+	 * @param offset
+	 *            the array index of the first value to copy
+	 * @param index
+	 *            the column index of the first copied value
+	 * @param length
+	 *            the number of values to copy
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for column or array
+	 * @throws java.nio.ReadOnlyBufferException
+	 *             if this column is read-only
+	 */
+	public void copyFrom(long[] src, int offset, int index, int length) {
+		checkRange(index, length);
+		final LongBuffer dst = longs.duplicate();
+		dst.position(index);
+		dst.put(src, offset, length);
+	}
+
+	/**
+	 * Returns a new read-only cursor positioned at the first element of this column. The cursor reads the column
+	 * directly and can be reused to view any element via {@link DecimalCursor#moveTo(int)}.
+	 * 
+	 * @return a new cursor viewing the elements of this column
+	 */
+	@SuppressWarnings("serial")
+	public DecimalCursor<S> cursor() {
+		return new DecimalCursor<S>(scaleMetrics) {
+			@Override
+			long getUnscaled(int index) {
+				return longs.get(index);
+			}
+			@Override
+			int size() {
+				return length;
+			}
+		};
+	}
+
+	/**
+	 * Calculates {@code (src1[i] + src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the first summands
+	 * @param src2
+	 *            the second summands
+	 * @param dst
+	 *            the destination column for the sums
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#add(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int add(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.ADD, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code (src1[i] - src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the minuends
+	 * @param src2
+	 *            the subtrahends
+	 * @param dst
+	 *            the destination column for the differences
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#subtract(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int subtract(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.SUBTRACT, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code (src1[i] * src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the first factors
+	 * @param src2
+	 *            the second factors
+	 * @param dst
+	 *            the destination column for the products
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#multiply(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int multiply(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.MULTIPLY, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code (src1[i] / src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the dividends
+	 * @param src2
+	 *            the divisors
+	 * @param dst
+	 *            the destination column for the quotients
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @throws ArithmeticException
+	 *             if one of the divisors is zero
+	 * @see DecimalArrayArithmetic#divide(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int divide(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.DIVIDE, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code min(src1[i], src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the first values
+	 * @param src2
+	 *            the second values
+	 * @param dst
+	 *            the destination column for the smaller values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @see DecimalArrayArithmetic#min(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> void min(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		apply(BinaryOperation.MIN, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code max(src1[i], src2[i])} for all {@code i} from {@code offset} to {@code offset+length-1} and
+	 * stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src1
+	 *            the first values
+	 * @param src2
+	 *            the second values
+	 * @param dst
+	 *            the destination column for the larger values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @see DecimalArrayArithmetic#max(long[], long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> void max(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		apply(BinaryOperation.MAX, arithmetic, src1, src2, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code -src[i]} for all {@code i} from {@code offset} to {@code offset+length-1} and stores the
+	 * results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src
+	 *            the values to negate
+	 * @param dst
+	 *            the destination column for the negated values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#negate(long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int negate(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.NEGATE, arithmetic, src, src, dst, offset, length);
+	}
+
+	/**
+	 * Calculates {@code |src[i]|} for all {@code i} from {@code offset} to {@code offset+length-1} and stores the
+	 * results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src
+	 *            the values
+	 * @param dst
+	 *            the destination column for the absolute values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#abs(long[], long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int abs(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src, DecimalColumn<S> dst, int offset, int length) {
+		return apply(BinaryOperation.ABS, arithmetic, src, src, dst, offset, length);
+	}
+
+	/**
+	 * Rounds {@code src[i]} to the specified {@code precision} for all {@code i} from {@code offset} to
+	 * {@code offset+length-1} and stores the results in {@code dst[i]}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the columns
+	 * @param arithmetic
+	 *            the array arithmetic with the scale of the columns
+	 * @param src
+	 *            the values to round
+	 * @param precision
+	 *            the precision to use for the rounding, for instance 2 to round to the second digit after the decimal
+	 *            point; must be at least {@code (scale - 18)}
+	 * @param dst
+	 *            the destination column for the rounded values
+	 * @param offset
+	 *            the index of the first element to process
+	 * @param length
+	 *            the number of elements to process
+	 * @return the index of the first element whose result overflowed if the overflow mode is set to CHECKED, and
+	 *         {@link DecimalArrayArithmetic#NO_OVERFLOW} otherwise
+	 * @see DecimalArrayArithmetic#round(long[], int, long[], int, int)
+	 */
+	public static <S extends ScaleMetrics> int round(DecimalArrayArithmetic arithmetic, DecimalColumn<S> src, final int precision, DecimalColumn<S> dst, int offset, int length) {
+		return apply(new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.round(src1, precision, dst, 0, length);
+			}
+		}, arithmetic, src, src, dst, offset, length);
+	}
+
+	private static <S extends ScaleMetrics> int apply(BinaryOperation operation, DecimalArrayArithmetic arithmetic, DecimalColumn<S> src1, DecimalColumn<S> src2, DecimalColumn<S> dst, int offset, int length) {
+		final int scale = arithmetic.getArithmetic().getScale();
+		if (scale != dst.scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Arithmetic scale " + scale + " does not match column scale " + dst.scaleMetrics.getScale());
+		}
+		src1.checkRange(offset, length);
+		src2.checkRange(offset, length);
+		dst.checkRange(offset, length);
+		final long[][] chunks = CHUNKS_THREAD_LOCAL.get();
+		final long[] chunk1 = chunks[0];
+		final long[] chunk2 = src1 == src2 ? chunk1 : chunks[1];
+		final long[] result = chunks[2];
+		// absolute get/put on the shared views, no buffer duplicates or heap arrays allocated per call
+		final LongBuffer in1 = src1.longs;
+		final LongBuffer in2 = src2.longs;
+		final LongBuffer out = dst.longs;
+		final int end = offset + length;
+		for (int start = offset; start < end; start += CHUNK_SIZE) {
+			final int n = Math.min(CHUNK_SIZE, end - start);
+			for (int i = 0; i < n; i++) {
+				chunk1[i] = in1.get(start + i);
+			}
+			if (chunk2 != chunk1) {
+				for (int i = 0; i < n; i++) {
+					chunk2[i] = in2.get(start + i);
+				}
+			}
+			final int overflow = operation.apply(arithmetic, chunk1, chunk2, result, n);
+			final int written = overflow < 0 ? n : overflow;
+			for (int i = 0; i < written; i++) {
+				out.put(start + i, result[i]);
+			}
+			if (overflow >= 0) {
+				return start + overflow;
+			}
+		}
+		return DecimalArrayArithmetic.NO_OVERFLOW;
+	}
+
+	private void checkRange(int index, int length) {
+		if (index < 0 | length < 0 | index > this.length - length) {
+			throw new IndexOutOfBoundsException("Invalid range [" + index + ", " + (index + length) + ") for column of length " + this.length);
+		}
+	}
+
+	/**
+	 * Operation applying an array arithmetic kernel to a chunk.
+	 */
+	private static abstract class BinaryOperation {
+		static final BinaryOperation ADD = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.add(src1, src2, dst, 0, length);
+			}
+		};
+		static final BinaryOperation SUBTRACT = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.subtract(src1, src2, dst, 0, length);
+			}
+		};
+		static final BinaryOperation MULTIPLY = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.multiply(src1, src2, dst, 0, length);
+			}
+		};
+		static final BinaryOperation DIVIDE = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.divide(src1, src2, dst, 0, length);
+			}
+		};
+		static final BinaryOperation MIN = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				arithmetic.min(src1, src2, dst, 0, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		};
+		static final BinaryOperation MAX = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				arithmetic.max(src1, src2, dst, 0, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		};
+		static final BinaryOperation NEGATE = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.negate(src1, dst, 0, length);
+			}
+		};
+		static final BinaryOperation ABS = new BinaryOperation() {
+			@Override
+			int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length) {
+				return arithmetic.abs(src1, dst, 0, length);
+			}
+		};
+
+		abstract int apply(DecimalArrayArithmetic arithmetic, long[] src1, long[] src2, long[] dst, int length);
+	}
+
+	/**
+	 * Returns a string representation of this column with scale and length.
+	 * 
+	 * @return a string representation of this column
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + scaleMetrics.getScale() + ", length=" + length + "]";
+	}
+}
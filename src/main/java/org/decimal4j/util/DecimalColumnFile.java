@@ -0,0 +1,406 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Persistent decimal column stored in a simple self-describing binary file. The file starts with a header of
+ * {@link #HEADER_SIZE} bytes followed by the unscaled values as little-endian longs. The header consists of the
+ * following little-endian fields:
+ * <ul>
+ * <li>{@code int} magic number {@link #MAGIC}</li>
+ * <li>{@code int} file format {@link #VERSION version}</li>
+ * <li>{@code int} scale of the values</li>
+ * <li>{@code int} ordinal of the {@link RoundingMode} applied when values with a different scale are appended</li>
+ * <li>{@code long} number of values</li>
+ * <li>{@code long} reserved, currently zero</li>
+ * </ul>
+ * The values are accessed as zero-copy {@link DecimalColumn} view of the memory-mapped file. A file opened via
+ * {@link #open(Path)} supports appending values; a file opened via {@link #openReadOnly(Path)} is mapped read-only.
+ * Appended values are collected in a write buffer and written to the file together with the updated header length
+ * when the buffer is full, when a column view is requested, or on {@link #force()} and {@link #close()}. Instances of
+ * this class are not thread safe.
+ */
+public final class DecimalColumnFile implements Closeable {
+
+	/**
+	 * Magic number at the beginning of a decimal column file.
+	 */
+	public static final int MAGIC = 0x434a3444;// "D4JC" in little-endian byte order
+
+	/**
+	 * Version of the file format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * Size of the file header in bytes; the unscaled values start at this offset.
+	 */
+	public static final int HEADER_SIZE = 32;
+
+	private static final int LENGTH_OFFSET = 16;
+
+	private final FileChannel channel;
+	private final boolean readOnly;
+	private final ScaleMetrics scaleMetrics;
+	private final RoundingMode roundingMode;
+	private final ByteBuffer writeBuffer;
+	private long length;// including buffered values
+	private long headerLength;// length last written to the header
+	private DecimalColumn<?> column;// mapped lazily, remapped if length has changed
+
+	private DecimalColumnFile(FileChannel channel, boolean readOnly, ScaleMetrics scaleMetrics, RoundingMode roundingMode, long length) {
+		this.channel = channel;
+		this.readOnly = readOnly;
+		this.scaleMetrics = scaleMetrics;
+		this.roundingMode = roundingMode;
+		this.length = length;
+		this.headerLength = length;
+		this.writeBuffer = readOnly ? null : ByteBuffer.allocateDirect(1 << 13).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Creates a new empty decimal column file, replacing any existing file.
+	 * 
+	 * @param path
+	 *            the path of the file to create
+	 * @param scaleMetrics
+	 *            the scale of the values stored in the file
+	 * @param roundingMode
+	 *            the rounding mode applied when values with a different scale are appended
+	 * @return the new file opened for appending
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static DecimalColumnFile create(Path path, ScaleMetrics scaleMetrics, RoundingMode roundingMode) throws IOException {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(roundingMode, "roundingMode cannot be null");
+		final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC).putInt(VERSION).putInt(scaleMetrics.getScale()).putInt(roundingMode.ordinal());
+			header.putLong(0).putLong(0).flip();
+			writeFully(channel, header, 0);
+			return new DecimalColumnFile(channel, false, scaleMetrics, roundingMode, 0);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens an existing decimal column file for reading and appending.
+	 * 
+	 * @param path
+	 *            the path of the file to open
+	 * @return the opened file
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file is not a valid decimal column file
+	 */
+	public static DecimalColumnFile open(Path path) throws IOException {
+		return open(FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE), false);
+	}
+
+	/**
+	 * Opens an existing decimal column file for reading only. The values are mapped read-only.
+	 * 
+	 * @param path
+	 *            the path of the file to open
+	 * @return the opened file
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file is not a valid decimal column file
+	 */
+	public static DecimalColumnFile openReadOnly(Path path) throws IOException {
+		return open(FileChannel.open(path, StandardOpenOption.READ), true);
+	}
+
+	private static DecimalColumnFile open(FileChannel channel, boolean readOnly) throws IOException {
+		try {
+			final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining()) {
+				if (channel.read(header, header.position()) < 0) {
+					throw new IOException("Invalid decimal column file: incomplete header");
+				}
+			}
+			header.flip();
+			final int magic = header.getInt();
+			final int version = header.getInt();
+			final int scale = header.getInt();
+			final int rounding = header.getInt();
+			final long length = header.getLong();
+			if (magic != MAGIC) {
+				throw new IOException("Invalid decimal column file: bad magic number 0x" + Integer.toHexString(magic));
+			}
+			if (version != VERSION) {
+				throw new IOException("Unsupported decimal column file version: " + version);
+			}
+			if (scale < 0 | scale > Scales.MAX_SCALE | rounding < 0 | rounding >= RoundingMode.values().length) {
+				throw new IOException("Invalid decimal column file: scale=" + scale + ", rounding=" + rounding);
+			}
+			if (length < 0 | length > DecimalColumn.MAX_LENGTH | HEADER_SIZE + (length << 3) > channel.size()) {
+				throw new IOException("Invalid decimal column file: length=" + length + ", file size=" + channel.size());
+			}
+			return new DecimalColumnFile(channel, readOnly, Scales.getScaleMetrics(scale), RoundingMode.values()[rounding], length);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Returns the scale metrics of the values stored in this file.
+	 * 
+	 * @return the scale of the values
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the rounding mode applied when values with a different scale are appended.
+	 * 
+	 * @return the rounding mode of this file
+	 */
+	public RoundingMode getRoundingMode() {
+		return roundingMode;
+	}
+
+	/**
+	 * Returns the number of values stored in this file.
+	 * 
+	 * @return the number of values
+	 */
+	public int length() {
+		return (int) length;
+	}
+
+	/**
+	 * Returns true if this file has been opened read-only.
+	 * 
+	 * @return true if appending is not supported
+	 */
+	public boolean isReadOnly() {
+		return readOnly;
+	}
+
+	/**
+	 * Returns a zero-copy column view of the values in this file. The returned column is backed by the memory-mapped
+	 * file and is read-only if this file has been opened read-only. Values appended later are not visible through the
+	 * returned column. Buffered appended values are written to the file before it is mapped.
+	 * 
+	 * @return a column view of the mapped values
+	 * @throws IOException
+	 *             if an I/O error occurs while mapping the file
+	 */
+	public DecimalColumn<?> getColumn() throws IOException {
+		return getColumn(scaleMetrics);
+	}
+
+	/**
+	 * Returns a zero-copy column view of the values in this file after checking that the file has the specified
+	 * scale.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the column
+	 * @param scaleMetrics
+	 *            the expected scale metrics of the values
+	 * @return a column view of the mapped values
+	 * @throws IllegalArgumentException
+	 *             if the scale of this file is different from the specified scale
+	 * @throws IOException
+	 *             if an I/O error occurs while mapping the file
+	 * @see #getColumn()
+	 */
+	public <S extends ScaleMetrics> DecimalColumn<S> getColumn(S scaleMetrics) throws IOException {
+		if (scaleMetrics.getScale() != this.scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Scale " + scaleMetrics.getScale() + " does not match file scale " + this.scaleMetrics.getScale());
+		}
+		if (!readOnly) {
+			flush();
+		}
+		if (column == null || column.length() != length) {
+			final MappedByteBuffer buffer = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, HEADER_SIZE, length << 3);
+			column = DecimalColumn.wrap(scaleMetrics, buffer);
+		}
+		@SuppressWarnings("unchecked")
+		// safe: we know it is the same scale metrics
+		final DecimalColumn<S> typed = (DecimalColumn<S>) column;
+		return typed;
+	}
+
+	/**
+	 * Appends the specified unscaled value with the scale of this file. The value is buffered and written to the file
+	 * when the write buffer is full or the file is flushed.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to append
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file has been opened read-only
+	 */
+	public void appendUnscaled(long unscaledValue) throws IOException {
+		checkAppend(1);
+		if (!writeBuffer.hasRemaining()) {
+			flush();
+		}
+		writeBuffer.putLong(unscaledValue);
+		length++;
+	}
+
+	/**
+	 * Appends the specified value after converting it to the scale of this file using the file's rounding mode if
+	 * necessary.
+	 * 
+	 * @param value
+	 *            the value to append
+	 * @throws IllegalArgumentException
+	 *             if the value cannot be represented with the scale of this file
+	 * @throws ArithmeticException
+	 *             if rounding is necessary and the rounding mode of the file is UNNECESSARY
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file has been opened read-only
+	 */
+	public void append(Decimal<?> value) throws IOException {
+		final DecimalArithmetic arithmetic = scaleMetrics.getArithmetic(roundingMode);
+		appendUnscaled(arithmetic.fromUnscaled(value.unscaledValue(), value.getScale()));
+	}
+
+	/**
+	 * Appends unscaled values with the scale of this file.
+	 * 
+	 * @param unscaledValues
+	 *            the array with the unscaled values to append
+	 * @param offset
+	 *            the array index of the first value to append
+	 * @param count
+	 *            the number of values to append
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the given array
+	 * @throws IOException
+	 *             if an I/O error occurs or if the file has been opened read-only
+	 */
+	public void appendUnscaled(long[] unscaledValues, int offset, int count) throws IOException {
+		if (offset < 0 | count < 0 | offset > unscaledValues.length - count) {
+			throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + (offset + count) + ") for array of length " + unscaledValues.length);
+		}
+		checkAppend(count);
+		for (int i = 0; i < count; ) {
+			if (!writeBuffer.hasRemaining()) {
+				flush();
+			}
+			final int n = Math.min(writeBuffer.remaining() >>> 3, count - i);
+			writeBuffer.asLongBuffer().put(unscaledValues, offset + i, n);
+			writeBuffer.position(writeBuffer.position() + (n << 3));
+			length += n;
+			i += n;
+		}
+	}
+
+	private void checkAppend(int count) throws IOException {
+		if (readOnly) {
+			throw new IOException("Cannot append to decimal column file opened read-only");
+		}
+		if (length + count > DecimalColumn.MAX_LENGTH) {
+			throw new IOException("Cannot append " + count + " values, maximum length " + DecimalColumn.MAX_LENGTH + " exceeded");
+		}
+	}
+
+	// writes buffered values and updates the length in the header if it has changed
+	private void flush() throws IOException {
+		if (writeBuffer.position() > 0) {
+			writeBuffer.flip();
+			final long buffered = writeBuffer.remaining() >>> 3;
+			writeFully(channel, writeBuffer, HEADER_SIZE + ((length - buffered) << 3));
+			writeBuffer.clear();
+		}
+		if (headerLength != length) {
+			writeBuffer.putLong(length).flip();
+			writeFully(channel, writeBuffer, LENGTH_OFFSET);
+			writeBuffer.clear();
+			headerLength = length;
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while (buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	/**
+	 * Forces appended values and the updated header to be written to the storage device.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public void force() throws IOException {
+		if (!readOnly) {
+			flush();
+		}
+		channel.force(false);
+	}
+
+	/**
+	 * Writes buffered values and the updated header and closes the underlying file channel. Column views that have been returned by {@link #getColumn()} remain valid
+	 * until they are garbage collected.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (!readOnly & channel.isOpen()) {
+				flush();
+			}
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Returns a string representation of this file with scale, rounding mode and length.
+	 * 
+	 * @return a string representation of this file
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + scaleMetrics.getScale() + ", roundingMode=" + roundingMode + ", length=" + length + (readOnly ? ", read-only" : "") + "]";
+	}
+}
@@ -0,0 +1,628 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalParser;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Parser for delimited text with decimal fields such as comma or pipe separated price files. The input is scanned
+ * once; rows are terminated by a line feed (optionally preceded by a carriage return) and fields within a row are
+ * separated by the delimiter character. Field {@code f} of row {@code r} is parsed with the scale and rounding mode
+ * of this parser and stored as unscaled value at index {@code offset+r} of the target column {@code f}. Fields
+ * without a target column, that is, fields beyond the number of columns or with a null column, are skipped.
+ * <p>
+ * Fields that cannot be parsed are not reported by exception but through a {@link BadRowHandler}; the target element
+ * of such a field remains unchanged. Missing fields are reported with status {@link DecimalParser#INVALID_FORMAT}.
+ * <p>
+ * Bytes are interpreted as ASCII characters. Large inputs such as memory-mapped files can be parsed in parallel via
+ * {@link #parseParallel(ByteBuffer, int, int, long[][], int, BadRowHandler, ForkJoinPool) parseParallel(..)}, which
+ * splits the input on row boundaries and parses the parts in a fork/join pool.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ */
+public final class DecimalColumnParser {
+
+	/**
+	 * Callback receiving fields that cannot be parsed.
+	 */
+	public static interface BadRowHandler {
+		/**
+		 * Invoked for every field of a row that cannot be parsed or is missing. When parsing in parallel, this method
+		 * is invoked concurrently from multiple threads.
+		 * 
+		 * @param row
+		 *            the index of the row relative to the first parsed row
+		 * @param field
+		 *            the index of the field within the row
+		 * @param status
+		 *            the parse status, one of {@link DecimalParser#INVALID_FORMAT}, {@link DecimalParser#OVERFLOW} or
+		 *            {@link DecimalParser#ROUNDING_NECESSARY}
+		 * @param start
+		 *            the start index of the field in the input, inclusive
+		 * @param end
+		 *            the end index of the field in the input, exclusive; equal to {@code start} for a missing field
+		 */
+		void onBadRow(int row, int field, int status, int start, int end);
+	}
+
+	/**
+	 * Minimum number of bytes parsed by a single task when parsing in parallel.
+	 */
+	private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+	private final DecimalArithmetic arithmetic;
+	private final char delimiter;
+
+	/**
+	 * Constructor with scale, rounding mode and field delimiter.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale of the parsed values
+	 * @param roundingMode
+	 *            the rounding mode applied if a field has more fraction digits than the scale
+	 * @param delimiter
+	 *            the ASCII character separating fields, for instance {@code ','} or {@code '|'}
+	 * @throws IllegalArgumentException
+	 *             if delimiter is not an ASCII character or if it is a line feed or carriage return
+	 */
+	public DecimalColumnParser(ScaleMetrics scaleMetrics, RoundingMode roundingMode, char delimiter) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(roundingMode, "roundingMode cannot be null");
+		if (delimiter > 0x7f | delimiter == '\n' | delimiter == '\r') {
+			throw new IllegalArgumentException("delimiter must be an ASCII character other than line feed or carriage return: " + (int) delimiter);
+		}
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+		this.delimiter = delimiter;
+	}
+
+	/**
+	 * Returns the scale of the parsed values.
+	 * 
+	 * @return the scale metrics of the parsed values
+	 */
+	public ScaleMetrics getScaleMetrics() {
+		return arithmetic.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the rounding mode applied if a field has more fraction digits than the scale.
+	 * 
+	 * @return the rounding mode
+	 */
+	public RoundingMode getRoundingMode() {
+		return arithmetic.getRoundingMode();
+	}
+
+	/**
+	 * Returns the character separating fields.
+	 * 
+	 * @return the field delimiter
+	 */
+	public char getDelimiter() {
+		return delimiter;
+	}
+
+	/**
+	 * Returns the number of rows in the given range of bytes, which can be used to size the target columns. A final
+	 * row without terminating line feed is counted.
+	 * 
+	 * @param input
+	 *            the input bytes
+	 * @param start
+	 *            the absolute start index of the range, inclusive
+	 * @param end
+	 *            the absolute end index of the range, exclusive
+	 * @return the number of rows
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the buffer
+	 */
+	public static int countRows(ByteBuffer input, int start, int end) {
+		checkRange(start, end, input.limit());
+		int rows = 0;
+		for (int i = start; i < end; i++) {
+			if (input.get(i) == '\n') {
+				rows++;
+			}
+		}
+		return start < end && input.get(end - 1) != '\n' ? rows + 1 : rows;
+	}
+
+	/**
+	 * Returns the number of rows in the given range of characters, which can be used to size the target columns. A
+	 * final row without terminating line feed is counted.
+	 * 
+	 * @param input
+	 *            the input characters
+	 * @param start
+	 *            the start index of the range, inclusive
+	 * @param end
+	 *            the end index of the range, exclusive
+	 * @return the number of rows
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the character sequence
+	 */
+	public static int countRows(CharSequence input, int start, int end) {
+		checkRange(start, end, input.length());
+		int rows = 0;
+		for (int i = start; i < end; i++) {
+			if (input.charAt(i) == '\n') {
+				rows++;
+			}
+		}
+		return start < end && input.charAt(end - 1) != '\n' ? rows + 1 : rows;
+	}
+
+	/**
+	 * Parses the rows in the given range of bytes into the given arrays.
+	 * 
+	 * @param input
+	 *            the input bytes
+	 * @param start
+	 *            the start index of the range, inclusive
+	 * @param end
+	 *            the end index of the range, exclusive
+	 * @param columns
+	 *            the target arrays indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target arrays for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, or null to ignore such fields
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target array is too small in which case all rows
+	 *             before the failing row have been stored
+	 */
+	public int parse(byte[] input, int start, int end, long[][] columns, int offset, BadRowHandler handler) {
+		return parse(ByteBuffer.wrap(input), start, end, columns, offset, handler);
+	}
+
+	/**
+	 * Parses the rows in the given range of bytes into the given arrays. Direct buffers such as memory-mapped files
+	 * are read in place without copying.
+	 * 
+	 * @param input
+	 *            the input bytes
+	 * @param start
+	 *            the absolute start index of the range, inclusive
+	 * @param end
+	 *            the absolute end index of the range, exclusive
+	 * @param columns
+	 *            the target arrays indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target arrays for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, or null to ignore such fields
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target array is too small in which case all rows
+	 *             before the failing row have been stored
+	 */
+	public int parse(ByteBuffer input, int start, int end, long[][] columns, int offset, BadRowHandler handler) {
+		checkRange(start, end, input.limit());
+		return parseRows(new DecimalParser(arithmetic), input, start, end, new ArrayTarget(columns), offset, 0, handler);
+	}
+
+	/**
+	 * Parses the rows in the given range of bytes into the given off-heap columns. Direct buffers such as
+	 * memory-mapped files are read in place without copying.
+	 * 
+	 * @param input
+	 *            the input bytes
+	 * @param start
+	 *            the absolute start index of the range, inclusive
+	 * @param end
+	 *            the absolute end index of the range, exclusive
+	 * @param columns
+	 *            the target columns indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target columns for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, or null to ignore such fields
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IllegalArgumentException
+	 *             if the scale of a target column differs from the scale of this parser
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target column is too small in which case all rows
+	 *             before the failing row have been stored
+	 */
+	public int parse(ByteBuffer input, int start, int end, DecimalColumn<?>[] columns, int offset, BadRowHandler handler) {
+		checkRange(start, end, input.limit());
+		return parseRows(new DecimalParser(arithmetic), input, start, end, new ColumnTarget(columns, getScaleMetrics()), offset, 0, handler);
+	}
+
+	/**
+	 * Parses the rows in the given range of characters into the given arrays.
+	 * 
+	 * @param input
+	 *            the input characters, for instance a {@link java.nio.CharBuffer CharBuffer}
+	 * @param start
+	 *            the start index of the range, inclusive
+	 * @param end
+	 *            the end index of the range, exclusive
+	 * @param columns
+	 *            the target arrays indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target arrays for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, or null to ignore such fields
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target array is too small in which case all rows
+	 *             before the failing row have been stored
+	 */
+	public int parse(CharSequence input, int start, int end, long[][] columns, int offset, BadRowHandler handler) {
+		checkRange(start, end, input.length());
+		final DecimalParser parser = new DecimalParser(arithmetic);
+		final Target target = new ArrayTarget(columns);
+		final int fieldCount = target.fieldCount();
+		int row = 0;
+		int pos = start;
+		while (pos < end) {
+			final int index = offset + row;
+			int field = 0;
+			int fieldStart = pos;
+			while (true) {
+				final char ch = pos < end ? input.charAt(pos) : '\n';
+				if (ch == delimiter | ch == '\n') {
+					if (field < fieldCount && target.isSet(field)) {
+						final int fieldEnd = ch == '\n' && pos > fieldStart && input.charAt(pos - 1) == '\r' ? pos - 1 : pos;
+						final int status = target.parse(parser, input, fieldStart, fieldEnd, field, index);
+						if (status != DecimalParser.OK & handler != null) {
+							handler.onBadRow(row, field, status, fieldStart, fieldEnd);
+						}
+					}
+					field++;
+					fieldStart = ++pos;
+					if (ch == '\n') {
+						break;
+					}
+				} else {
+					pos++;
+				}
+			}
+			missingFields(target, row, field, pos - 1, handler);
+			row++;
+		}
+		return row;
+	}
+
+	/**
+	 * Parses the rows in the given range of bytes in parallel into the given arrays. The range is split on row
+	 * boundaries into parts that are parsed by tasks of the given pool; the number of rows per part is counted first
+	 * to determine the target index of the first row of each part. All target arrays must be large enough for all
+	 * rows, which is verified before any value is stored.
+	 * 
+	 * @param input
+	 *            the input bytes, for instance a memory-mapped file
+	 * @param start
+	 *            the absolute start index of the range, inclusive
+	 * @param end
+	 *            the absolute end index of the range, exclusive
+	 * @param columns
+	 *            the target arrays indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target arrays for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, invoked concurrently by multiple threads, or null to
+	 *            ignore such fields
+	 * @param pool
+	 *            the pool executing the parse tasks
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target array is too small
+	 */
+	public int parseParallel(ByteBuffer input, int start, int end, long[][] columns, int offset, BadRowHandler handler, ForkJoinPool pool) {
+		return parseParallel(input, start, end, new ArrayTarget(columns), offset, handler, pool);
+	}
+
+	/**
+	 * Parses the rows in the given range of bytes in parallel into the given off-heap columns. The range is split on
+	 * row boundaries into parts that are parsed by tasks of the given pool; the number of rows per part is counted
+	 * first to determine the target index of the first row of each part. All target columns must be large enough for
+	 * all rows, which is verified before any value is stored. The columns must not be accessed by other threads while
+	 * parsing.
+	 * 
+	 * @param input
+	 *            the input bytes, for instance a memory-mapped file
+	 * @param start
+	 *            the absolute start index of the range, inclusive
+	 * @param end
+	 *            the absolute end index of the range, exclusive
+	 * @param columns
+	 *            the target columns indexed by field, null elements for fields to skip
+	 * @param offset
+	 *            the index in the target columns for the first row
+	 * @param handler
+	 *            the handler for fields that cannot be parsed, invoked concurrently by multiple threads, or null to
+	 *            ignore such fields
+	 * @param pool
+	 *            the pool executing the parse tasks
+	 * @return the number of parsed rows including rows with bad fields
+	 * @throws IllegalArgumentException
+	 *             if the scale of a target column differs from the scale of this parser
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the input, or if a target column is too small
+	 */
+	public int parseParallel(ByteBuffer input, int start, int end, DecimalColumn<?>[] columns, int offset, BadRowHandler handler, ForkJoinPool pool) {
+		return parseParallel(input, start, end, new ColumnTarget(columns, getScaleMetrics()), offset, handler, pool);
+	}
+
+	private int parseParallel(ByteBuffer input, int start, int end, Target target, int offset, BadRowHandler handler, ForkJoinPool pool) {
+		checkRange(start, end, input.limit());
+		final int parts = (int) Math.max(1, Math.min(4L * pool.getParallelism(), (end - start) / MIN_CHUNK_SIZE));
+		final int[] bounds = new int[parts + 1];
+		bounds[0] = start;
+		bounds[parts] = end;
+		for (int i = 1; i < parts; i++) {
+			bounds[i] = nextRowStart(input, Math.max(bounds[i - 1], start + (int) ((end - start) * (long) i / parts)), end);
+		}
+		// count rows of all parts first to determine the target index of the first row of each part
+		final CountTask[] countTasks = new CountTask[parts];
+		for (int i = 0; i < parts; i++) {
+			countTasks[i] = new CountTask(input.duplicate(), bounds[i], bounds[i + 1]);
+			pool.execute(countTasks[i]);
+		}
+		final ParseTask[] parseTasks = new ParseTask[parts];
+		int rows = 0;
+		for (int i = 0; i < parts; i++) {
+			countTasks[i].join();
+			parseTasks[i] = new ParseTask(this, input.duplicate(), bounds[i], bounds[i + 1], target, offset, rows, handler);
+			rows += countTasks[i].rows;
+		}
+		target.checkLength(offset, rows);
+		for (final ParseTask task : parseTasks) {
+			pool.execute(task);
+		}
+		for (final ParseTask task : parseTasks) {
+			task.join();
+		}
+		return rows;
+	}
+
+	private int parseRows(DecimalParser parser, ByteBuffer input, int start, int end, Target target, int offset, int firstRow, BadRowHandler handler) {
+		final int fieldCount = target.fieldCount();
+		int row = firstRow;
+		int pos = start;
+		while (pos < end) {
+			final int index = offset + row;
+			int field = 0;
+			int fieldStart = pos;
+			while (true) {
+				final int ch = pos < end ? input.get(pos) : '\n';
+				if (ch == delimiter | ch == '\n') {
+					if (field < fieldCount && target.isSet(field)) {
+						final int fieldEnd = ch == '\n' && pos > fieldStart && input.get(pos - 1) == '\r' ? pos - 1 : pos;
+						final int status = target.parse(parser, input, fieldStart, fieldEnd, field, index);
+						if (status != DecimalParser.OK & handler != null) {
+							handler.onBadRow(row, field, status, fieldStart, fieldEnd);
+						}
+					}
+					field++;
+					fieldStart = ++pos;
+					if (ch == '\n') {
+						break;
+					}
+				} else {
+					pos++;
+				}
+			}
+			missingFields(target, row, field, pos - 1, handler);
+			row++;
+		}
+		return row - firstRow;
+	}
+
+	private static void missingFields(Target target, int row, int field, int pos, BadRowHandler handler) {
+		if (handler != null) {
+			final int fieldCount = target.fieldCount();
+			for (; field < fieldCount; field++) {
+				if (target.isSet(field)) {
+					handler.onBadRow(row, field, DecimalParser.INVALID_FORMAT, pos, pos);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the start index of the first row starting at or after {@code pos}, or {@code end} if there is none.
+	 */
+	private static int nextRowStart(ByteBuffer input, int pos, int end) {
+		for (int i = pos - 1; i < end; i++) {
+			if (input.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return end;
+	}
+
+	private static void checkRange(int start, int end, int length) {
+		if (start < 0 | end > length | start > end) {
+			throw new IndexOutOfBoundsException("Start or end index is out of bounds: [" + start + ", " + end + "] must be in [0, " + length + "]");
+		}
+	}
+
+	/**
+	 * Task counting the rows of a part of the input.
+	 */
+	@SuppressWarnings("serial")
+	private static final class CountTask extends RecursiveAction {
+		private final ByteBuffer input;
+		private final int start;
+		private final int end;
+		private int rows;
+
+		CountTask(ByteBuffer input, int start, int end) {
+			this.input = input;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		protected void compute() {
+			rows = countRows(input, start, end);
+		}
+	}
+
+	/**
+	 * Task parsing the rows of a part of the input.
+	 */
+	@SuppressWarnings("serial")
+	private static final class ParseTask extends RecursiveAction {
+		private final DecimalColumnParser parser;
+		private final ByteBuffer input;
+		private final int start;
+		private final int end;
+		private final Target target;
+		private final int offset;
+		private final int firstRow;
+		private final BadRowHandler handler;
+
+		ParseTask(DecimalColumnParser parser, ByteBuffer input, int start, int end, Target target, int offset, int firstRow, BadRowHandler handler) {
+			this.parser = parser;
+			this.input = input;
+			this.start = start;
+			this.end = end;
+			this.target = target;
+			this.offset = offset;
+			this.firstRow = firstRow;
+			this.handler = handler;
+		}
+
+		@Override
+		protected void compute() {
+			parser.parseRows(new DecimalParser(parser.arithmetic), input, start, end, target, offset, firstRow, handler);
+		}
+	}
+
+	/**
+	 * Target columns receiving the parsed values, either arrays or off-heap columns.
+	 */
+	private static abstract class Target {
+		abstract int fieldCount();
+		abstract boolean isSet(int field);
+		abstract void checkLength(int offset, int rows);
+		abstract int parse(DecimalParser parser, ByteBuffer input, int start, int end, int field, int index);
+		abstract int parse(DecimalParser parser, CharSequence input, int start, int end, int field, int index);
+	}
+
+	private static final class ArrayTarget extends Target {
+		private final long[][] columns;
+
+		ArrayTarget(long[][] columns) {
+			this.columns = Objects.requireNonNull(columns, "columns cannot be null");
+		}
+
+		@Override
+		int fieldCount() {
+			return columns.length;
+		}
+
+		@Override
+		boolean isSet(int field) {
+			return columns[field] != null;
+		}
+
+		@Override
+		void checkLength(int offset, int rows) {
+			for (final long[] column : columns) {
+				if (column != null && (offset < 0 | offset > column.length - rows)) {
+					throw new IndexOutOfBoundsException("Cannot store " + rows + " rows at offset " + offset + " into array of length " + column.length);
+				}
+			}
+		}
+
+		@Override
+		int parse(DecimalParser parser, ByteBuffer input, int start, int end, int field, int index) {
+			return parser.parse(input, start, end, columns[field], index);
+		}
+
+		@Override
+		int parse(DecimalParser parser, CharSequence input, int start, int end, int field, int index) {
+			return parser.parse(input, start, end, columns[field], index);
+		}
+	}
+
+	private static final class ColumnTarget extends Target {
+		private final DecimalColumn<?>[] columns;
+
+		ColumnTarget(DecimalColumn<?>[] columns, ScaleMetrics scaleMetrics) {
+			for (final DecimalColumn<?> column : columns) {
+				if (column != null && column.getScaleMetrics() != scaleMetrics) {
+					throw new IllegalArgumentException("column scale " + column.getScaleMetrics().getScale() + " does not match parser scale " + scaleMetrics.getScale());
+				}
+			}
+			this.columns = columns;
+		}
+
+		@Override
+		int fieldCount() {
+			return columns.length;
+		}
+
+		@Override
+		boolean isSet(int field) {
+			return columns[field] != null;
+		}
+
+		@Override
+		void checkLength(int offset, int rows) {
+			for (final DecimalColumn<?> column : columns) {
+				if (column != null && (offset < 0 | offset > column.length() - rows)) {
+					throw new IndexOutOfBoundsException("Cannot store " + rows + " rows at offset " + offset + " into column of length " + column.length());
+				}
+			}
+		}
+
+		@Override
+		int parse(DecimalParser parser, ByteBuffer input, int start, int end, int field, int index) {
+			final int status = parser.parse(input, start, end);
+			if (status == DecimalParser.OK) {
+				columns[field].setUnscaled(index, parser.getUnscaledValue());
+			}
+			return status;
+		}
+
+		@Override
+		int parse(DecimalParser parser, CharSequence input, int start, int end, int field, int index) {
+			final int status = parser.parse(input, start, end);
+			if (status == DecimalParser.OK) {
+				columns[field].setUnscaled(index, parser.getUnscaledValue());
+			}
+			return status;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode() + ", delimiter='" + delimiter + "']";
+	}
+}
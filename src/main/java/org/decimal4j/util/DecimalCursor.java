@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.base.AbstractDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Reusable read-only {@link Decimal} view of an element of a {@link DecimalArray}, {@link DecimalList} or
+ * {@link DecimalColumn}. The cursor is a flyweight: it is positioned at an index via {@link #moveTo(int)} and its value
+ * is read from the underlying container whenever it is accessed. Changes of the container are hence immediately visible
+ * through the cursor.
+ * <p>
+ * Arithmetic operations performed on a cursor do not modify the container but return new immutable decimal values.
+ * Use {@link #toImmutableDecimal()} to obtain a snapshot of the current value.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with this decimal
+ */
+@SuppressWarnings("serial")
+public abstract class DecimalCursor<S extends ScaleMetrics> extends AbstractDecimal<S, GenericImmutableDecimal<S>> {
+
+	private final S scaleMetrics;
+	private int index;
+
+	DecimalCursor(S scaleMetrics) {
+		this.scaleMetrics = scaleMetrics;
+	}
+
+	/**
+	 * Returns the unscaled value at the given index of the underlying container.
+	 * 
+	 * @param index
+	 *            the index of the element in the container
+	 * @return the unscaled value at index
+	 */
+	abstract long getUnscaled(int index);
+
+	/**
+	 * Returns the number of elements of the underlying container.
+	 * 
+	 * @return the container size
+	 */
+	abstract int size();
+
+	/**
+	 * Returns the index of the element currently viewed by this cursor.
+	 * 
+	 * @return the current index
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * Moves this cursor to the element with the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element to view
+	 * @return this cursor
+	 * @throws IndexOutOfBoundsException
+	 *             if index is negative or not less than the size of the container
+	 */
+	public DecimalCursor<S> moveTo(int index) {
+		if (index < 0 | index >= size()) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+		}
+		this.index = index;
+		return this;
+	}
+
+	@Override
+	public long unscaledValue() {
+		return getUnscaled(index);
+	}
+
+	@Override
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	@Override
+	public int getScale() {
+		return scaleMetrics.getScale();
+	}
+
+	@Override
+	public DecimalFactory<S> getFactory() {
+		return Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> self() {
+		return create(unscaledValue());
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> createOrAssign(long unscaled) {
+		return create(unscaled);
+	}
+
+	@Override
+	protected GenericImmutableDecimal<S> create(long unscaled) {
+		return new GenericImmutableDecimal<S>(scaleMetrics, unscaled);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	protected GenericImmutableDecimal<S>[] createArray(int length) {
+		return new GenericImmutableDecimal[length];
+	}
+
+	@Override
+	public Decimal<?> scale(int scale) {
+		return toImmutableDecimal().scale(scale);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> Decimal<S> scale(S scaleMetrics) {
+		return toImmutableDecimal().scale(scaleMetrics);
+	}
+
+	@Override
+	public Decimal<?> scale(int scale, RoundingMode roundingMode) {
+		return toImmutableDecimal().scale(scale, roundingMode);
+	}
+
+	@Override
+	@SuppressWarnings("hiding")
+	public <S extends ScaleMetrics> Decimal<S> scale(S scaleMetrics, RoundingMode roundingMode) {
+		return toImmutableDecimal().scale(scaleMetrics, roundingMode);
+	}
+
+	@Override
+	public Decimal<?> multiplyExact(Decimal<?> multiplicand) {
+		return toImmutableDecimal().multiplyExact(multiplicand);
+	}
+
+	@Override
+	public ImmutableDecimal<S> toImmutableDecimal() {
+		return getFactory().valueOfUnscaled(unscaledValue());
+	}
+
+	@Override
+	public MutableDecimal<S> toMutableDecimal() {
+		return getFactory().newMutable().setUnscaled(unscaledValue());
+	}
+}
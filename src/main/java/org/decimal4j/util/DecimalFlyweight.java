@@ -0,0 +1,304 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+
+/**
+ * Flyweight reading and writing a decimal field of a binary message, for instance a price in an SBE or ITCH style
+ * market data message. The field consists of a 64 bit signed mantissa and an exponent, representing the value
+ * <tt>mantissa &times; 10<sup>exponent</sup></tt>. The exponent is either fixed for the message type and not present
+ * in the buffer, or it is stored as signed byte directly after the mantissa. Numbers are read and written in the byte
+ * order of the buffer.
+ * <p>
+ * The flyweight is {@link #wrap(ByteBuffer, int) positioned} at the offset of the field in a buffer and converts the
+ * field to and from unscaled values of its scale without allocating objects; rounding is applied if necessary using the
+ * rounding mode of the flyweight. A read-only {@link Decimal} view of the field is available through
+ * {@link #asDecimal()}; the view reflects the field currently wrapped by the flyweight and is meant to be used only for
+ * the duration of a message callback. Use {@link DecimalCursor#toImmutableDecimal()} to retain the value.
+ * <p>
+ * Instances of this class are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type of the unscaled values
+ */
+public final class DecimalFlyweight<S extends ScaleMetrics> {
+
+	/**
+	 * Length of the mantissa in bytes.
+	 */
+	public static final int MANTISSA_LENGTH = 8;
+
+	private final DecimalArithmetic arithmetic;
+	private final boolean exponentFixed;
+	private final int fixedExponent;
+	private final DecimalCursor<S> view;
+
+	private ByteBuffer buffer;
+	private int offset;
+
+	@SuppressWarnings("serial")
+	private DecimalFlyweight(S scaleMetrics, RoundingMode roundingMode, boolean exponentFixed, int fixedExponent) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(roundingMode, "roundingMode cannot be null");
+		this.arithmetic = scaleMetrics.getArithmetic(roundingMode);
+		this.exponentFixed = exponentFixed;
+		this.fixedExponent = fixedExponent;
+		this.view = new DecimalCursor<S>(scaleMetrics) {
+			@Override
+			long getUnscaled(int index) {
+				return DecimalFlyweight.this.getUnscaled();
+			}
+
+			@Override
+			int size() {
+				return 1;
+			}
+		};
+	}
+
+	/**
+	 * Returns a flyweight for fields with a mantissa only and a fixed exponent.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the unscaled values
+	 * @param scaleMetrics
+	 *            the scale of the unscaled values
+	 * @param roundingMode
+	 *            the rounding mode applied if a conversion between field and unscaled value loses digits
+	 * @param exponent
+	 *            the fixed exponent of all fields, for instance -4 for prices with 4 decimal places
+	 * @return a new flyweight with fixed exponent
+	 */
+	public static <S extends ScaleMetrics> DecimalFlyweight<S> withFixedExponent(S scaleMetrics, RoundingMode roundingMode, int exponent) {
+		return new DecimalFlyweight<S>(scaleMetrics, roundingMode, true, exponent);
+	}
+
+	/**
+	 * Returns a flyweight for fields with a mantissa followed by a signed byte exponent.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the unscaled values
+	 * @param scaleMetrics
+	 *            the scale of the unscaled values
+	 * @param roundingMode
+	 *            the rounding mode applied if a conversion between field and unscaled value loses digits
+	 * @return a new flyweight for fields with exponent
+	 */
+	public static <S extends ScaleMetrics> DecimalFlyweight<S> withExponentField(S scaleMetrics, RoundingMode roundingMode) {
+		return new DecimalFlyweight<S>(scaleMetrics, roundingMode, false, 0);
+	}
+
+	/**
+	 * Returns the scale of the unscaled values.
+	 * 
+	 * @return the scale metrics of the unscaled values
+	 */
+	public S getScaleMetrics() {
+		return view.getScaleMetrics();
+	}
+
+	/**
+	 * Returns the rounding mode applied if a conversion between field and unscaled value loses digits.
+	 * 
+	 * @return the rounding mode
+	 */
+	public RoundingMode getRoundingMode() {
+		return arithmetic.getRoundingMode();
+	}
+
+	/**
+	 * Returns true if the exponent is fixed and not stored in the buffer.
+	 * 
+	 * @return true for a fixed exponent, false if the exponent is stored after the mantissa
+	 */
+	public boolean isExponentFixed() {
+		return exponentFixed;
+	}
+
+	/**
+	 * Returns the length of a field in bytes.
+	 * 
+	 * @return {@link #MANTISSA_LENGTH} for a fixed exponent and one more byte otherwise
+	 */
+	public int getEncodedLength() {
+		return exponentFixed ? MANTISSA_LENGTH : MANTISSA_LENGTH + 1;
+	}
+
+	/**
+	 * Positions this flyweight at the field starting at the given offset of the buffer.
+	 * 
+	 * @param buffer
+	 *            the buffer with the field
+	 * @param offset
+	 *            the absolute index of the first byte of the field in the buffer
+	 * @return this flyweight
+	 * @throws IndexOutOfBoundsException
+	 *             if the field is not within the limit of the buffer
+	 */
+	public DecimalFlyweight<S> wrap(ByteBuffer buffer, int offset) {
+		Objects.requireNonNull(buffer, "buffer cannot be null");
+		if (offset < 0 | offset > buffer.limit() - getEncodedLength()) {
+			throw new IndexOutOfBoundsException("Field of length " + getEncodedLength() + " at offset " + offset + " exceeds buffer limit " + buffer.limit());
+		}
+		this.buffer = buffer;
+		this.offset = offset;
+		return this;
+	}
+
+	/**
+	 * Returns the buffer currently wrapped by this flyweight.
+	 * 
+	 * @return the wrapped buffer or null if no buffer has been wrapped yet
+	 */
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Returns the offset of the field currently wrapped by this flyweight.
+	 * 
+	 * @return the absolute index of the first byte of the field in the buffer
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the mantissa of the field.
+	 * 
+	 * @return the mantissa
+	 */
+	public long getMantissa() {
+		return buffer.getLong(offset);
+	}
+
+	/**
+	 * Returns the exponent of the field.
+	 * 
+	 * @return the fixed exponent or the exponent stored after the mantissa
+	 */
+	public int getExponent() {
+		return exponentFixed ? fixedExponent : buffer.get(offset + MANTISSA_LENGTH);
+	}
+
+	/**
+	 * Sets mantissa and exponent of the field.
+	 * 
+	 * @param mantissa
+	 *            the mantissa
+	 * @param exponent
+	 *            the exponent
+	 * @throws IllegalArgumentException
+	 *             if the exponent is fixed and different from {@code exponent}, or if it is not fixed and
+	 *             {@code exponent} is not in the range of a byte
+	 */
+	public void set(long mantissa, int exponent) {
+		if (exponentFixed ? exponent != fixedExponent : exponent != (byte) exponent) {
+			throw new IllegalArgumentException("Illegal exponent " + exponent + (exponentFixed ? ", must be " + fixedExponent : ", must be in [-128,127]"));
+		}
+		buffer.putLong(offset, mantissa);
+		if (!exponentFixed) {
+			buffer.put(offset + MANTISSA_LENGTH, (byte) exponent);
+		}
+	}
+
+	/**
+	 * Returns the value of the field as unscaled value of the scale of this flyweight.
+	 * 
+	 * @return the unscaled value, rounded if the field has more decimal places than the scale
+	 * @throws IllegalArgumentException
+	 *             if the value is too large to be represented with the scale of this flyweight
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public long getUnscaled() {
+		return arithmetic.fromUnscaled(buffer.getLong(offset), -getExponent());
+	}
+
+	/**
+	 * Sets the field to the given unscaled value of the scale of this flyweight. With exponent field, the mantissa is
+	 * set to the unscaled value and the exponent to the negated scale. With fixed exponent, the value is converted to
+	 * the exponent.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value of the scale of this flyweight
+	 * @throws IllegalArgumentException
+	 *             if the value is too large to be represented with the fixed exponent
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void setUnscaled(long unscaledValue) {
+		if (exponentFixed) {
+			buffer.putLong(offset, arithmetic.toUnscaled(unscaledValue, -fixedExponent));
+		} else {
+			buffer.putLong(offset, unscaledValue);
+			buffer.put(offset + MANTISSA_LENGTH, (byte) -arithmetic.getScale());
+		}
+	}
+
+	/**
+	 * Sets the field to the given decimal value. With exponent field, the value is stored with its own scale. With
+	 * fixed exponent, the value is converted to the exponent.
+	 * 
+	 * @param value
+	 *            the decimal value
+	 * @throws IllegalArgumentException
+	 *             if the value is too large to be represented with the fixed exponent
+	 * @throws ArithmeticException
+	 *             if the rounding mode is UNNECESSARY and rounding is necessary
+	 */
+	public void set(Decimal<?> value) {
+		if (exponentFixed) {
+			final DecimalArithmetic valueArithmetic = Scales.getScaleMetrics(value.getScale()).getArithmetic(arithmetic.getRoundingMode());
+			buffer.putLong(offset, valueArithmetic.toUnscaled(value.unscaledValue(), -fixedExponent));
+		} else {
+			buffer.putLong(offset, value.unscaledValue());
+			buffer.put(offset + MANTISSA_LENGTH, (byte) -value.getScale());
+		}
+	}
+
+	/**
+	 * Returns a read-only decimal view of the field currently wrapped by this flyweight. The same view instance is
+	 * returned on every invocation and its value changes whenever the flyweight is moved to another field or the
+	 * buffer is modified. The view should hence not be retained beyond the processing of the current message.
+	 * 
+	 * @return a read-only view of the wrapped field
+	 */
+	public DecimalCursor<S> asDecimal() {
+		return view;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + arithmetic.getScale() + ", rounding=" + arithmetic.getRoundingMode() + ", exponent=" + (exponentFixed ? String.valueOf(fixedExponent) : "field") + ", offset=" + offset + "]";
+	}
+}
@@ -0,0 +1,415 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Growable list of decimal values with the same scale backed by a {@code long[]} array with the unscaled values.
+ * Compared to a list of {@link ImmutableDecimal} objects, a decimal list avoids the object header and reference per
+ * element and hence uses about a third to a quarter of the heap memory.
+ * <p>
+ * Elements can be accessed by unscaled value, as newly allocated immutable decimal, by copying the value into a
+ * {@link MutableDecimal} or through a reusable read-only {@link #cursor() cursor}. Decimal lists are not thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the elements of this list
+ * @see DecimalArray
+ */
+public final class DecimalList<S extends ScaleMetrics> {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final S scaleMetrics;
+	private long[] unscaled;
+	private int size;
+
+	/**
+	 * Creates a new empty decimal list with a default initial capacity.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the elements
+	 */
+	public DecimalList(S scaleMetrics) {
+		this(scaleMetrics, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new empty decimal list with the specified initial capacity.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the elements
+	 * @param initialCapacity
+	 *            the initial capacity of the list
+	 * @throws IllegalArgumentException
+	 *             if initial capacity is negative
+	 */
+	public DecimalList(S scaleMetrics, int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException("initialCapacity cannot be negative: " + initialCapacity);
+		}
+		this.scaleMetrics = Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		this.unscaled = new long[initialCapacity];
+	}
+
+	/**
+	 * Returns a new decimal list with a copy of the values of the given decimals.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the values
+	 * @param values
+	 *            the values to copy, for instance a {@code MutableDecimal<S>[]} array
+	 * @return a new decimal list with the given values
+	 * @throws NullPointerException
+	 *             if values or any of the values is null
+	 */
+	public static <S extends ScaleMetrics> DecimalList<S> copyOf(S scaleMetrics, Decimal<S>[] values) {
+		final DecimalList<S> list = new DecimalList<S>(scaleMetrics, values.length);
+		for (final Decimal<S> value : values) {
+			list.add(value);
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the scale metrics associated with the elements of this list.
+	 * 
+	 * @return the scale metrics of the elements
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the number of elements in this list.
+	 * 
+	 * @return the size of this list
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns true if this list contains no elements.
+	 * 
+	 * @return true if the list is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Appends the specified value to the end of this list.
+	 * 
+	 * @param value
+	 *            the value to append
+	 * @return this list
+	 */
+	public DecimalList<S> add(Decimal<S> value) {
+		return addUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Appends the specified unscaled value to the end of this list.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to append
+	 * @return this list
+	 */
+	public DecimalList<S> addUnscaled(long unscaledValue) {
+		if (size == unscaled.length) {
+			grow(size + 1);
+		}
+		unscaled[size++] = unscaledValue;
+		return this;
+	}
+
+	/**
+	 * Returns the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the unscaled value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public long getUnscaled(int index) {
+		checkIndex(index);
+		return unscaled[index];
+	}
+
+	/**
+	 * Sets the unscaled value of the element at the specified index.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param unscaledValue
+	 *            the new unscaled value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public void setUnscaled(int index, long unscaledValue) {
+		checkIndex(index);
+		unscaled[index] = unscaledValue;
+	}
+
+	/**
+	 * Returns the element at the specified index as immutable decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @return the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public ImmutableDecimal<S> get(int index) {
+		return getFactory().valueOfUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Copies the element at the specified index into the given mutable target decimal.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param target
+	 *            the mutable decimal to assign
+	 * @return the target decimal now holding the value at index
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public MutableDecimal<S> get(int index, MutableDecimal<S> target) {
+		return target.setUnscaled(getUnscaled(index));
+	}
+
+	/**
+	 * Sets the element at the specified index to the given value.
+	 * 
+	 * @param index
+	 *            the index of the element
+	 * @param value
+	 *            the new value
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public void set(int index, Decimal<S> value) {
+		setUnscaled(index, value.unscaledValue());
+	}
+
+	/**
+	 * Removes the element at the specified index and shifts subsequent elements to the left.
+	 * 
+	 * @param index
+	 *            the index of the element to remove
+	 * @return the unscaled value of the removed element
+	 * @throws IndexOutOfBoundsException
+	 *             if index is out of range
+	 */
+	public long removeUnscaled(int index) {
+		final long removed = getUnscaled(index);
+		System.arraycopy(unscaled, index + 1, unscaled, index, size - index - 1);
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Removes all elements from this list. The capacity of the list is not changed.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Increases the capacity of this list if necessary to hold at least the specified number of elements.
+	 * 
+	 * @param minCapacity
+	 *            the desired minimum capacity
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity > unscaled.length) {
+			grow(minCapacity);
+		}
+	}
+
+	/**
+	 * Trims the capacity of this list to its current size.
+	 */
+	public void trimToSize() {
+		if (size < unscaled.length) {
+			unscaled = Arrays.copyOf(unscaled, size);
+		}
+	}
+
+	private void grow(int minCapacity) {
+		final int newCapacity = Math.max(minCapacity, unscaled.length + (unscaled.length >> 1) + 1);
+		unscaled = Arrays.copyOf(unscaled, newCapacity);
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 | index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * Returns a new read-only cursor positioned at the first element of this list. The cursor can be reused to view
+	 * any element via {@link DecimalCursor#moveTo(int)} and remains valid if the list grows.
+	 * 
+	 * @return a new cursor viewing the elements of this list
+	 */
+	@SuppressWarnings("serial")
+	public DecimalCursor<S> cursor() {
+		return new DecimalCursor<S>(scaleMetrics) {
+			@Override
+			long getUnscaled(int index) {
+				return DecimalList.this.getUnscaled(index);
+			}
+			@Override
+			int size() {
+				return size;
+			}
+		};
+	}
+
+	/**
+	 * Sorts the elements of this list into ascending numerical order.
+	 */
+	public void sort() {
+		Arrays.sort(unscaled, 0, size);
+	}
+
+	/**
+	 * Searches the specified value in this sorted list using binary search.
+	 * 
+	 * @param key
+	 *            the value to search
+	 * @return the index of the key if it is contained in the list; otherwise {@code (-(insertion point) - 1)}
+	 * @see Arrays#binarySearch(long[], int, int, long)
+	 */
+	public int binarySearch(Decimal<S> key) {
+		return binarySearchUnscaled(key.unscaledValue());
+	}
+
+	/**
+	 * Searches the specified unscaled value in this sorted list using binary search.
+	 * 
+	 * @param unscaledKey
+	 *            the unscaled value to search
+	 * @return the index of the key if it is contained in the list; otherwise {@code (-(insertion point) - 1)}
+	 * @see Arrays#binarySearch(long[], int, int, long)
+	 */
+	public int binarySearchUnscaled(long unscaledKey) {
+		return Arrays.binarySearch(unscaled, 0, size, unscaledKey);
+	}
+
+	/**
+	 * Returns a new decimal array with the elements of this list.
+	 * 
+	 * @return a new decimal array with a copy of the elements
+	 */
+	public DecimalArray<S> toArray() {
+		return DecimalArray.wrap(scaleMetrics, toUnscaledArray());
+	}
+
+	/**
+	 * Returns a copy of the unscaled values of this list.
+	 * 
+	 * @return a new array with the unscaled values
+	 */
+	public long[] toUnscaledArray() {
+		return Arrays.copyOf(unscaled, size);
+	}
+
+	/**
+	 * Returns a new array of mutable decimals with the values of this list.
+	 * 
+	 * @return a new mutable decimal array
+	 */
+	public MutableDecimal<S>[] toMutableArray() {
+		return DecimalArray.toMutableArray(getFactory(), unscaled, size);
+	}
+
+	/**
+	 * Returns a sequential stream of the elements of this list. The list should not be modified while the stream is
+	 * evaluated.
+	 * 
+	 * @return a stream backed by this list
+	 */
+	public DecimalStream<S> stream() {
+		return DecimalStream.of(scaleMetrics, unscaled, 0, size);
+	}
+
+	private DecimalFactory<S> getFactory() {
+		return Factories.getDecimalFactory(scaleMetrics);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = scaleMetrics.hashCode();
+		for (int i = 0; i < size; i++) {
+			final long value = unscaled[i];
+			hash = 31 * hash + (int) (value ^ (value >>> 32));
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null || getClass() != obj.getClass()) {
+			return false;
+		}
+		final DecimalList<?> other = (DecimalList<?>) obj;
+		if (!scaleMetrics.equals(other.scaleMetrics) || size != other.size) {
+			return false;
+		}
+		for (int i = 0; i < size; i++) {
+			if (unscaled[i] != other.unscaled[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns a string representation of the elements of this list, for instance {@code [1.50, -2.00]}.
+	 * 
+	 * @return a string representation of this list
+	 */
+	@Override
+	public String toString() {
+		return DecimalArray.toString(scaleMetrics.getDefaultArithmetic(), unscaled, size);
+	}
+}
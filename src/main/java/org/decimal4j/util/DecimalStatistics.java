@@ -0,0 +1,222 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Mutable state object collecting statistics such as count, sum, average, min and max of decimal values. Sum and
+ * average are calculated with a {@link DecimalAccumulator} and are hence exact up to the point when they are
+ * retrieved; the average uses the same rounding semantics as {@link DecimalArithmetic#avg(long, long) avg} that is,
+ * the exact average is rounded once.
+ * <p>
+ * Accepting values is garbage free. Statistics are not thread safe but partial statistics of a parallel computation
+ * can be {@link #combine(DecimalStatistics) combined}. With Java 8 a statistics object can for instance be used in a
+ * parallel stream reduction:
+ * 
+ * <pre>
+ * DecimalStatistics&lt;Scale2f&gt; stats = decimals.parallelStream().collect(
+ * 		() -&gt; new DecimalStatistics&lt;&gt;(Scale2f.INSTANCE), DecimalStatistics::accept, DecimalStatistics::combine);
+ * </pre>
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the collected values
+ */
+public final class DecimalStatistics<S extends ScaleMetrics> {
+
+	private final DecimalAccumulator<S> accumulator;
+	private long min = Long.MAX_VALUE;
+	private long max = Long.MIN_VALUE;
+
+	/**
+	 * Creates a new empty statistics object for values with the specified scale metrics.
+	 * 
+	 * @param scaleMetrics
+	 *            the scale metrics associated with the collected values
+	 * @throws NullPointerException
+	 *             if scale metrics is null
+	 */
+	public DecimalStatistics(S scaleMetrics) {
+		this.accumulator = new DecimalAccumulator<S>(scaleMetrics);
+	}
+
+	/**
+	 * Returns the scale metrics associated with the collected values.
+	 * 
+	 * @return the scale metrics of the collected values
+	 */
+	public S getScaleMetrics() {
+		return accumulator.getScaleMetrics();
+	}
+
+	/**
+	 * Records the specified value in these statistics.
+	 * 
+	 * @param value
+	 *            the value to record
+	 */
+	public void accept(Decimal<S> value) {
+		acceptUnscaled(value.unscaledValue());
+	}
+
+	/**
+	 * Records the specified unscaled value in these statistics. The unscaled value has the scale of these statistics'
+	 * {@link #getScaleMetrics() scale metrics}.
+	 * 
+	 * @param unscaledValue
+	 *            the unscaled value to record
+	 */
+	public void acceptUnscaled(long unscaledValue) {
+		accumulator.addUnscaled(unscaledValue);
+		min = Math.min(min, unscaledValue);
+		max = Math.max(max, unscaledValue);
+	}
+
+	/**
+	 * Combines the state of the other statistics object into this one. The other statistics object is not modified.
+	 * 
+	 * @param other
+	 *            the statistics to combine with these statistics
+	 * @throws IllegalArgumentException
+	 *             if the other statistics object has a different scale
+	 */
+	public void combine(DecimalStatistics<S> other) {
+		accumulator.merge(other.accumulator);
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 * 
+	 * @return the count of values
+	 */
+	public long getCount() {
+		return accumulator.getCount();
+	}
+
+	/**
+	 * Returns the sum of the recorded values, or zero if no values have been recorded.
+	 * 
+	 * @return the sum of the values
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the scale of these statistics
+	 * @throws ArithmeticException
+	 *             if the 128-bit sum has overflowed
+	 */
+	public ImmutableDecimal<S> getSum() {
+		return accumulator.getSum();
+	}
+
+	/**
+	 * Returns the sum of the recorded values rounded to the specified target scale using the given rounding mode.
+	 * 
+	 * @param <T>
+	 *            the target scale metrics type
+	 * @param targetScale
+	 *            the scale metrics of the result
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @return the sum of the values
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the specified target scale
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary or if the 128-bit sum has overflowed
+	 */
+	public <T extends ScaleMetrics> ImmutableDecimal<T> getSum(T targetScale, RoundingMode roundingMode) {
+		return accumulator.getSum(targetScale, roundingMode);
+	}
+
+	/**
+	 * Returns the average of the recorded values using default {@link RoundingMode#HALF_UP HALF_UP} rounding, or zero
+	 * if no values have been recorded.
+	 * 
+	 * @return the average of the values
+	 * @throws ArithmeticException
+	 *             if the 128-bit sum has overflowed
+	 */
+	public ImmutableDecimal<S> getAverage() {
+		return accumulator.getAverage();
+	}
+
+	/**
+	 * Returns the average of the recorded values rounded to the specified target scale using the given rounding mode,
+	 * or zero if no values have been recorded.
+	 * 
+	 * @param <T>
+	 *            the target scale metrics type
+	 * @param targetScale
+	 *            the scale metrics of the result
+	 * @param roundingMode
+	 *            the rounding mode to apply if rounding is necessary
+	 * @return the average of the values
+	 * @throws IllegalArgumentException
+	 *             if the average is too large to be represented as a Decimal with the specified target scale
+	 * @throws ArithmeticException
+	 *             if {@code roundingMode==UNNECESSARY} and rounding is necessary or if the 128-bit sum has overflowed
+	 */
+	public <T extends ScaleMetrics> ImmutableDecimal<T> getAverage(T targetScale, RoundingMode roundingMode) {
+		return accumulator.getAverage(targetScale, roundingMode);
+	}
+
+	/**
+	 * Returns the minimum recorded value, or null if no values have been recorded.
+	 * 
+	 * @return the minimum value or null if empty
+	 */
+	public ImmutableDecimal<S> getMin() {
+		return getCount() == 0 ? null : getFactory().valueOfUnscaled(min);
+	}
+
+	/**
+	 * Returns the maximum recorded value, or null if no values have been recorded.
+	 * 
+	 * @return the maximum value or null if empty
+	 */
+	public ImmutableDecimal<S> getMax() {
+		return getCount() == 0 ? null : getFactory().valueOfUnscaled(max);
+	}
+
+	private DecimalFactory<S> getFactory() {
+		return Factories.getDecimalFactory(getScaleMetrics());
+	}
+
+	/**
+	 * Returns a string representation of these statistics including count, min, max and the exact sum.
+	 * 
+	 * @return a string representation of these statistics
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[count=" + getCount() + ", min=" + getMin() + ", max=" + getMax()
+				+ ", accumulator=" + accumulator + "]";
+	}
+}
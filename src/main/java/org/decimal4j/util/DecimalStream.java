@@ -0,0 +1,713 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.truncate.TruncationPolicy;
+
+/**
+ * A lazy sequence of decimal values with a fixed scale supporting aggregate operations similar to a
+ * {@code LongStream}. The values are represented by their unscaled long value and all operations are performed through
+ * the {@link DecimalArithmetic} of the stream; no decimal objects are created unless the values are explicitly
+ * {@link #boxed() boxed}.
+ * <p>
+ * Intermediate operations such as {@link #map(UnscaledOperator) map}, {@link #filter(UnscaledPredicate) filter},
+ * {@link #multiply(Decimal) multiply} or {@link #rescale(ScaleMetrics) rescale} return a new stream and are only
+ * evaluated when a terminal operation such as {@link #sum()} or {@link #toArray()} is invoked. Rounding and overflow
+ * behavior of the operations is defined by the stream's {@link #getArithmetic() arithmetic} at the time when the
+ * intermediate operation is added to the pipeline; it can be changed with {@link #withRounding(RoundingMode)} and
+ * {@link #withTruncationPolicy(TruncationPolicy)}.
+ * <p>
+ * A stream can be evaluated in {@link #parallel(ForkJoinPool) parallel} in which case the source range is split
+ * recursively and evaluated by the tasks of the given fork/join pool. Functions passed to intermediate and terminal
+ * operations must then be stateless and thread safe. Streams are immutable and can be evaluated multiple times; the
+ * source array is not copied and should not be modified while a terminal operation is in progress.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values of this stream
+ */
+public final class DecimalStream<S extends ScaleMetrics> {
+
+	/**
+	 * Minimum number of values evaluated by a single task when the stream is evaluated in parallel.
+	 */
+	private static final int MIN_TASK_SIZE = 1 << 10;
+
+	/**
+	 * Function transforming an unscaled value into another unscaled value.
+	 */
+	public static interface UnscaledOperator {
+		/**
+		 * Applies this operator to the given unscaled value.
+		 * 
+		 * @param unscaled
+		 *            the unscaled operand
+		 * @return the unscaled result
+		 */
+		long apply(long unscaled);
+	}
+
+	/**
+	 * Function combining two unscaled values into one unscaled value.
+	 */
+	public static interface UnscaledBinaryOperator {
+		/**
+		 * Applies this operator to the given unscaled values.
+		 * 
+		 * @param unscaled1
+		 *            the first unscaled operand
+		 * @param unscaled2
+		 *            the second unscaled operand
+		 * @return the unscaled result
+		 */
+		long apply(long unscaled1, long unscaled2);
+	}
+
+	/**
+	 * Predicate for unscaled values.
+	 */
+	public static interface UnscaledPredicate {
+		/**
+		 * Evaluates this predicate for the given unscaled value.
+		 * 
+		 * @param unscaled
+		 *            the unscaled value to test
+		 * @return true if the value matches the predicate
+		 */
+		boolean test(long unscaled);
+	}
+
+	/**
+	 * Operation accepting unscaled values.
+	 */
+	public static interface UnscaledConsumer {
+		/**
+		 * Performs this operation on the given unscaled value.
+		 * 
+		 * @param unscaled
+		 *            the unscaled value
+		 */
+		void accept(long unscaled);
+	}
+
+	private final S scaleMetrics;
+	private final DecimalArithmetic arithmetic;
+	private final long[] source;
+	private final int from;
+	private final int to;
+	private final DecimalStream<?> upstream;// null for source stream
+	private final Stage stage;// null for source stream or if only arithmetic has changed
+	private final ForkJoinPool pool;// null for sequential evaluation
+
+	private DecimalStream(S scaleMetrics, DecimalArithmetic arithmetic, long[] source, int from, int to, DecimalStream<?> upstream, Stage stage, ForkJoinPool pool) {
+		this.scaleMetrics = scaleMetrics;
+		this.arithmetic = arithmetic;
+		this.source = source;
+		this.from = from;
+		this.to = to;
+		this.upstream = upstream;
+		this.stage = stage;
+		this.pool = pool;
+	}
+
+	/**
+	 * Returns a sequential stream of the given unscaled values. The array is not copied.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param unscaledValues
+	 *            the unscaled values of the stream
+	 * @return a stream of the given values using {@link RoundingMode#HALF_UP HALF_UP} rounding for its operations
+	 */
+	public static <S extends ScaleMetrics> DecimalStream<S> of(S scaleMetrics, long... unscaledValues) {
+		return of(scaleMetrics, unscaledValues, 0, unscaledValues.length);
+	}
+
+	/**
+	 * Returns a sequential stream of the unscaled values in the specified array range. The array is not copied.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param unscaledValues
+	 *            the array with the unscaled values of the stream
+	 * @param from
+	 *            the first index, inclusive
+	 * @param to
+	 *            the last index, exclusive
+	 * @return a stream of the given values using {@link RoundingMode#HALF_UP HALF_UP} rounding for its operations
+	 * @throws IndexOutOfBoundsException
+	 *             if the range is invalid for the given array
+	 */
+	public static <S extends ScaleMetrics> DecimalStream<S> of(S scaleMetrics, long[] unscaledValues, int from, int to) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		if (from < 0 | from > to | to > unscaledValues.length) {
+			throw new IndexOutOfBoundsException("Invalid range [" + from + ", " + to + ") for array of length " + unscaledValues.length);
+		}
+		return new DecimalStream<S>(scaleMetrics, scaleMetrics.getDefaultArithmetic(), unscaledValues, from, to, null, null, null);
+	}
+
+	/**
+	 * Returns a sequential stream of the unscaled values of the given decimals. The unscaled values are copied into a
+	 * new array.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the values
+	 * @param values
+	 *            the values of the stream
+	 * @return a stream of the given values using {@link RoundingMode#HALF_UP HALF_UP} rounding for its operations
+	 */
+	public static <S extends ScaleMetrics> DecimalStream<S> of(S scaleMetrics, Iterable<? extends Decimal<S>> values) {
+		long[] unscaled = new long[16];
+		int size = 0;
+		for (final Decimal<S> value : values) {
+			if (size == unscaled.length) {
+				unscaled = Arrays.copyOf(unscaled, size << 1);
+			}
+			unscaled[size++] = value.unscaledValue();
+		}
+		return of(scaleMetrics, unscaled, 0, size);
+	}
+
+	/**
+	 * Returns the scale metrics associated with the values of this stream.
+	 * 
+	 * @return the scale metrics of this stream
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the arithmetic used by operations subsequently added to this stream.
+	 * 
+	 * @return the arithmetic with the scale of this stream
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return arithmetic;
+	}
+
+	/**
+	 * Returns true if terminal operations are evaluated in parallel.
+	 * 
+	 * @return true if this stream is parallel
+	 */
+	public boolean isParallel() {
+		return pool != null;
+	}
+
+	/**
+	 * Returns an equivalent stream whose terminal operations are evaluated in parallel by the given fork/join pool.
+	 * 
+	 * @param pool
+	 *            the pool used to evaluate terminal operations
+	 * @return a parallel stream
+	 */
+	public DecimalStream<S> parallel(ForkJoinPool pool) {
+		Objects.requireNonNull(pool, "pool cannot be null");
+		return new DecimalStream<S>(scaleMetrics, arithmetic, source, from, to, this, null, pool);
+	}
+
+	/**
+	 * Returns an equivalent stream whose terminal operations are evaluated sequentially.
+	 * 
+	 * @return a sequential stream
+	 */
+	public DecimalStream<S> sequential() {
+		return pool == null ? this : new DecimalStream<S>(scaleMetrics, arithmetic, source, from, to, this, null, null);
+	}
+
+	/**
+	 * Returns an equivalent stream using the given rounding mode for subsequently added operations.
+	 * 
+	 * @param roundingMode
+	 *            the rounding mode for subsequent operations
+	 * @return a stream using the specified rounding mode
+	 */
+	public DecimalStream<S> withRounding(RoundingMode roundingMode) {
+		return withArithmetic(arithmetic.deriveArithmetic(roundingMode));
+	}
+
+	/**
+	 * Returns an equivalent stream using the given truncation policy for subsequently added operations.
+	 * 
+	 * @param truncationPolicy
+	 *            the rounding mode and overflow policy for subsequent operations
+	 * @return a stream using the specified truncation policy
+	 */
+	public DecimalStream<S> withTruncationPolicy(TruncationPolicy truncationPolicy) {
+		return withArithmetic(arithmetic.deriveArithmetic(truncationPolicy));
+	}
+
+	private DecimalStream<S> withArithmetic(DecimalArithmetic arithmetic) {
+		return new DecimalStream<S>(scaleMetrics, arithmetic, source, from, to, this, null, pool);
+	}
+
+	private DecimalStream<S> append(Stage stage) {
+		return new DecimalStream<S>(scaleMetrics, arithmetic, source, from, to, this, stage, pool);
+	}
+
+	/**
+	 * Returns a stream consisting of the results of applying the given operator to the unscaled values of this stream.
+	 * 
+	 * @param operator
+	 *            the operator to apply to each unscaled value
+	 * @return the new stream
+	 */
+	public DecimalStream<S> map(final UnscaledOperator operator) {
+		Objects.requireNonNull(operator, "operator cannot be null");
+		return append(new Stage() {
+			@Override
+			UnscaledConsumer wrap(final UnscaledConsumer downstream) {
+				return new UnscaledConsumer() {
+					@Override
+					public void accept(long unscaled) {
+						downstream.accept(operator.apply(unscaled));
+					}
+				};
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream that match the given predicate.
+	 * 
+	 * @param predicate
+	 *            the predicate applied to each unscaled value
+	 * @return the new stream
+	 */
+	public DecimalStream<S> filter(final UnscaledPredicate predicate) {
+		Objects.requireNonNull(predicate, "predicate cannot be null");
+		return append(new Stage() {
+			@Override
+			UnscaledConsumer wrap(final UnscaledConsumer downstream) {
+				return new UnscaledConsumer() {
+					@Override
+					public void accept(long unscaled) {
+						if (predicate.test(unscaled)) {
+							downstream.accept(unscaled);
+						}
+					}
+				};
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream multiplied by the given multiplicand. The products are
+	 * rounded and overflows are handled according to the arithmetic of this stream.
+	 * 
+	 * @param multiplicand
+	 *            the factor to multiply with each value
+	 * @return the new stream
+	 * @see DecimalArithmetic#multiply(long, long)
+	 */
+	public DecimalStream<S> multiply(Decimal<S> multiplicand) {
+		final DecimalArithmetic arith = arithmetic;
+		final long unscaledMultiplicand = multiplicand.unscaledValue();
+		return map(new UnscaledOperator() {
+			@Override
+			public long apply(long unscaled) {
+				return arith.multiply(unscaled, unscaledMultiplicand);
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream multiplied by the given long multiplicand. Overflows
+	 * are handled according to the arithmetic of this stream.
+	 * 
+	 * @param multiplicand
+	 *            the long factor to multiply with each value
+	 * @return the new stream
+	 * @see DecimalArithmetic#multiplyByLong(long, long)
+	 */
+	public DecimalStream<S> multiply(final long multiplicand) {
+		final DecimalArithmetic arith = arithmetic;
+		return map(new UnscaledOperator() {
+			@Override
+			public long apply(long unscaled) {
+				return arith.multiplyByLong(unscaled, multiplicand);
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream divided by the given divisor. The quotients are rounded
+	 * and overflows are handled according to the arithmetic of this stream.
+	 * 
+	 * @param divisor
+	 *            the divisor of each value
+	 * @return the new stream
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0}
+	 * @see DecimalArithmetic#divide(long, long)
+	 */
+	public DecimalStream<S> divide(Decimal<S> divisor) {
+		final DecimalArithmetic arith = arithmetic;
+		final long unscaledDivisor = divisor.unscaledValue();
+		if (unscaledDivisor == 0) {
+			throw new ArithmeticException("Division by zero: " + divisor);
+		}
+		return map(new UnscaledOperator() {
+			@Override
+			public long apply(long unscaled) {
+				return arith.divide(unscaled, unscaledDivisor);
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream divided by the given long divisor. The quotients are
+	 * rounded and overflows are handled according to the arithmetic of this stream.
+	 * 
+	 * @param divisor
+	 *            the long divisor of each value
+	 * @return the new stream
+	 * @throws ArithmeticException
+	 *             if {@code divisor==0}
+	 * @see DecimalArithmetic#divideByLong(long, long)
+	 */
+	public DecimalStream<S> divide(final long divisor) {
+		final DecimalArithmetic arith = arithmetic;
+		if (divisor == 0) {
+			throw new ArithmeticException("Division by zero: " + divisor);
+		}
+		return map(new UnscaledOperator() {
+			@Override
+			public long apply(long unscaled) {
+				return arith.divideByLong(unscaled, divisor);
+			}
+		});
+	}
+
+	/**
+	 * Returns a stream consisting of the values of this stream converted to the given target scale. Values are rounded
+	 * and overflows are handled according to the rounding mode and overflow mode of the arithmetic of this stream.
+	 * 
+	 * @param <T>
+	 *            the target scale metrics type
+	 * @param targetScale
+	 *            the scale metrics of the new stream
+	 * @return the new stream with the target scale
+	 * @throws IllegalArgumentException
+	 *             during evaluation of a terminal operation if a value cannot be represented with the target scale
+	 */
+	public <T extends ScaleMetrics> DecimalStream<T> rescale(T targetScale) {
+		final int sourceScale = scaleMetrics.getScale();
+		final DecimalArithmetic targetArith = targetScale.getArithmetic(arithmetic.getTruncationPolicy());
+		return new DecimalStream<T>(targetScale, targetArith, source, from, to, this, new Stage() {
+			@Override
+			UnscaledConsumer wrap(final UnscaledConsumer downstream) {
+				return new UnscaledConsumer() {
+					@Override
+					public void accept(long unscaled) {
+						downstream.accept(targetArith.fromUnscaled(unscaled, sourceScale));
+					}
+				};
+			}
+		}, pool);
+	}
+
+	/**
+	 * Performs the given action for each unscaled value of this stream. For parallel streams, the action may be
+	 * invoked concurrently and in any order.
+	 * 
+	 * @param action
+	 *            the action to perform for each unscaled value
+	 */
+	public void forEach(final UnscaledConsumer action) {
+		Objects.requireNonNull(action, "action cannot be null");
+		evaluate(new ForEachTerminal(action));
+	}
+
+	/**
+	 * Returns the number of values in this stream.
+	 * 
+	 * @return the count of values
+	 */
+	public long count() {
+		return evaluate(new CountTerminal()).count;
+	}
+
+	/**
+	 * Returns the exact sum of the values in this stream. The sum is accumulated with 128 bits and intermediate sums
+	 * do therefore not overflow.
+	 * 
+	 * @return the sum of the values in this stream
+	 * @throws IllegalArgumentException
+	 *             if the sum is too large to be represented as a Decimal with the scale of this stream
+	 * @see DecimalAccumulator
+	 */
+	public ImmutableDecimal<S> sum() {
+		return evaluate(new StatisticsTerminal<S>(scaleMetrics)).statistics.getSum();
+	}
+
+	/**
+	 * Returns count, sum, average, min and max of the values of this stream.
+	 * 
+	 * @return the statistics of this stream
+	 */
+	public DecimalStatistics<S> statistics() {
+		return evaluate(new StatisticsTerminal<S>(scaleMetrics)).statistics;
+	}
+
+	/**
+	 * Performs a reduction on the unscaled values of this stream using the given identity value and associative
+	 * accumulation function.
+	 * 
+	 * @param identity
+	 *            the unscaled identity value of the accumulation function
+	 * @param operator
+	 *            an associative and stateless function combining two unscaled values
+	 * @return the unscaled result of the reduction
+	 */
+	public long reduce(long identity, UnscaledBinaryOperator operator) {
+		Objects.requireNonNull(operator, "operator cannot be null");
+		return evaluate(new ReduceTerminal(identity, operator)).result;
+	}
+
+	/**
+	 * Returns an array with the unscaled values of this stream.
+	 * 
+	 * @return a new array with the unscaled values
+	 */
+	public long[] toArray() {
+		final ArrayTerminal terminal = evaluate(new ArrayTerminal());
+		return Arrays.copyOf(terminal.values, terminal.size);
+	}
+
+	/**
+	 * Returns a list with the values of this stream as immutable decimal objects.
+	 * 
+	 * @return a new list with the values of this stream
+	 */
+	public List<ImmutableDecimal<S>> boxed() {
+		final long[] values = toArray();
+		final DecimalFactory<S> factory = Factories.getDecimalFactory(scaleMetrics);
+		final List<ImmutableDecimal<S>> list = new ArrayList<ImmutableDecimal<S>>(values.length);
+		for (final long value : values) {
+			list.add(factory.valueOfUnscaled(value));
+		}
+		return list;
+	}
+
+	private <T extends Terminal<T>> T evaluate(T terminal) {
+		if (pool == null | to - from <= MIN_TASK_SIZE) {
+			evaluate(terminal, from, to);
+			return terminal;
+		}
+		final int taskSize = Math.max(MIN_TASK_SIZE, (to - from) / (pool.getParallelism() << 2));
+		return pool.invoke(new EvaluationTask<T>(terminal, from, to, taskSize));
+	}
+
+	private void evaluate(UnscaledConsumer terminal, int from, int to) {
+		UnscaledConsumer sink = terminal;
+		for (DecimalStream<?> stream = this; stream != null; stream = stream.upstream) {
+			if (stream.stage != null) {
+				sink = stream.stage.wrap(sink);
+			}
+		}
+		final long[] source = this.source;
+		for (int i = from; i < to; i++) {
+			sink.accept(source[i]);
+		}
+	}
+
+	/**
+	 * A pipeline stage wrapping the downstream consumer.
+	 */
+	private static abstract class Stage {
+		abstract UnscaledConsumer wrap(UnscaledConsumer downstream);
+	}
+
+	/**
+	 * Terminal consumer collecting a result that can be combined with the result of another terminal consumer of the
+	 * same kind.
+	 */
+	private static abstract class Terminal<T extends Terminal<?>> implements UnscaledConsumer {
+		abstract T newInstance();
+		abstract void combine(T other);
+	}
+
+	private static final class ForEachTerminal extends Terminal<ForEachTerminal> {
+		final UnscaledConsumer action;
+		ForEachTerminal(UnscaledConsumer action) {
+			this.action = action;
+		}
+		@Override
+		public void accept(long unscaled) {
+			action.accept(unscaled);
+		}
+		@Override
+		ForEachTerminal newInstance() {
+			return this;
+		}
+		@Override
+		void combine(ForEachTerminal other) {
+			// nothing to do
+		}
+	}
+
+	private static final class CountTerminal extends Terminal<CountTerminal> {
+		long count;
+		@Override
+		public void accept(long unscaled) {
+			count++;
+		}
+		@Override
+		CountTerminal newInstance() {
+			return new CountTerminal();
+		}
+		@Override
+		void combine(CountTerminal other) {
+			count += other.count;
+		}
+	}
+
+	private static final class StatisticsTerminal<S extends ScaleMetrics> extends Terminal<StatisticsTerminal<S>> {
+		final DecimalStatistics<S> statistics;
+		StatisticsTerminal(S scaleMetrics) {
+			statistics = new DecimalStatistics<S>(scaleMetrics);
+		}
+		@Override
+		public void accept(long unscaled) {
+			statistics.acceptUnscaled(unscaled);
+		}
+		@Override
+		StatisticsTerminal<S> newInstance() {
+			return new StatisticsTerminal<S>(statistics.getScaleMetrics());
+		}
+		@Override
+		void combine(StatisticsTerminal<S> other) {
+			statistics.combine(other.statistics);
+		}
+	}
+
+	private static final class ReduceTerminal extends Terminal<ReduceTerminal> {
+		final long identity;
+		final UnscaledBinaryOperator operator;
+		long result;
+		ReduceTerminal(long identity, UnscaledBinaryOperator operator) {
+			this.identity = identity;
+			this.operator = operator;
+			this.result = identity;
+		}
+		@Override
+		public void accept(long unscaled) {
+			result = operator.apply(result, unscaled);
+		}
+		@Override
+		ReduceTerminal newInstance() {
+			return new ReduceTerminal(identity, operator);
+		}
+		@Override
+		void combine(ReduceTerminal other) {
+			result = operator.apply(result, other.result);
+		}
+	}
+
+	private static final class ArrayTerminal extends Terminal<ArrayTerminal> {
+		long[] values = new long[16];
+		int size;
+		@Override
+		public void accept(long unscaled) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size << 1);
+			}
+			values[size++] = unscaled;
+		}
+		@Override
+		ArrayTerminal newInstance() {
+			return new ArrayTerminal();
+		}
+		@Override
+		void combine(ArrayTerminal other) {
+			if (size + other.size > values.length) {
+				values = Arrays.copyOf(values, size + other.size);
+			}
+			System.arraycopy(other.values, 0, values, size, other.size);
+			size += other.size;
+		}
+	}
+
+	private final class EvaluationTask<T extends Terminal<T>> extends RecursiveTask<T> {
+		private static final long serialVersionUID = 1L;
+		private final T terminal;
+		private final int from;
+		private final int to;
+		private final int taskSize;
+
+		EvaluationTask(T terminal, int from, int to, int taskSize) {
+			this.terminal = terminal;
+			this.from = from;
+			this.to = to;
+			this.taskSize = taskSize;
+		}
+
+		@Override
+		protected T compute() {
+			if (to - from <= taskSize) {
+				evaluate(terminal, from, to);
+				return terminal;
+			}
+			final int mid = (from + to) >>> 1;
+			final EvaluationTask<T> left = new EvaluationTask<T>(terminal, from, mid, taskSize);
+			final EvaluationTask<T> right = new EvaluationTask<T>(terminal.newInstance(), mid, to, taskSize);
+			right.fork();
+			final T result = left.compute();
+			result.combine(right.join());
+			return result;
+		}
+	}
+
+	/**
+	 * Returns a string representation of this stream's scale, source range and evaluation mode.
+	 * 
+	 * @return a string representation of this stream
+	 */
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + scaleMetrics.getScale() + ", arithmetic=" + arithmetic
+				+ ", source=[" + from + ", " + to + "), " + (pool == null ? "sequential" : "parallel") + "]";
+	}
+}
@@ -0,0 +1,512 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+import org.decimal4j.scale.ScaleMetrics;
+
+/**
+ * Compressed series of unscaled decimal values of a single scale, for instance a tick history of prices. The values
+ * are split into blocks of {@link #getBlockSize() blockSize} values; every block starts with the raw 64 bit value of
+ * its first element followed by the bit-packed differences to the preceding values. Depending on the
+ * {@link Encoding}, the differences are either the deltas between consecutive values or the deltas of these deltas.
+ * Differences are zigzag encoded and packed with the minimum number of bits required for the largest difference of the
+ * block.
+ * <p>
+ * Series that move by few ticks at a time, such as prices, compress to a few bits per value. Encoding is lossless for
+ * all values: differences overflowing a long wrap around and are restored when decoded. Values are decoded block by
+ * block directly into {@code long} arrays ready for {@link org.decimal4j.api.DecimalArrayArithmetic bulk arithmetic};
+ * the bit offsets of all blocks are kept to provide random access to the start of every block.
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ * 
+ * @param <S>
+ *            the scale metrics type associated with the values of this series
+ */
+public final class DecimalTimeSeriesBlock<S extends ScaleMetrics> {
+
+	/**
+	 * Encoding of the differences between values of a block.
+	 */
+	public static enum Encoding {
+		/**
+		 * Encodes the difference between each value and its predecessor. Suited for values varying by small amounts
+		 * such as prices.
+		 */
+		DELTA,
+		/**
+		 * Encodes the difference between each delta and the previous delta. Suited for values changing at a roughly
+		 * constant rate such as timestamps or cumulative volumes.
+		 */
+		DELTA_OF_DELTA
+	}
+
+	/**
+	 * Default number of values per block.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 128;
+
+	/**
+	 * Size of the header written by {@link #writeTo(ByteBuffer)} in bytes.
+	 */
+	public static final int HEADER_SIZE = 20;
+
+	private static final int WIDTH_BITS = 7;
+
+	private final S scaleMetrics;
+	private final Encoding encoding;
+	private final int blockSize;
+	private final int length;
+	private final long[] blockStarts;
+	private final long[] words;
+
+	private DecimalTimeSeriesBlock(S scaleMetrics, Encoding encoding, int blockSize, int length, long[] blockStarts, long[] words) {
+		this.scaleMetrics = scaleMetrics;
+		this.encoding = encoding;
+		this.blockSize = blockSize;
+		this.length = length;
+		this.blockStarts = blockStarts;
+		this.words = words;
+	}
+
+	/**
+	 * Encodes the given unscaled values using the {@link #DEFAULT_BLOCK_SIZE default block size}.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param encoding
+	 *            the encoding of the differences between values
+	 * @param unscaledValues
+	 *            the unscaled values to encode
+	 * @param offset
+	 *            the index of the first value to encode
+	 * @param length
+	 *            the number of values to encode
+	 * @return the encoded series
+	 * @throws IndexOutOfBoundsException
+	 *             if the range defined by {@code offset} and {@code length} is invalid
+	 */
+	public static <S extends ScaleMetrics> DecimalTimeSeriesBlock<S> encode(S scaleMetrics, Encoding encoding, long[] unscaledValues, int offset, int length) {
+		return encode(scaleMetrics, encoding, DEFAULT_BLOCK_SIZE, unscaledValues, offset, length);
+	}
+
+	/**
+	 * Encodes the given unscaled values using the specified block size.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param encoding
+	 *            the encoding of the differences between values
+	 * @param blockSize
+	 *            the number of values per block; larger blocks compress better but slow down access to individual
+	 *            values
+	 * @param unscaledValues
+	 *            the unscaled values to encode
+	 * @param offset
+	 *            the index of the first value to encode
+	 * @param length
+	 *            the number of values to encode
+	 * @return the encoded series
+	 * @throws IllegalArgumentException
+	 *             if {@code blockSize} is not positive
+	 * @throws IndexOutOfBoundsException
+	 *             if the range defined by {@code offset} and {@code length} is invalid
+	 */
+	public static <S extends ScaleMetrics> DecimalTimeSeriesBlock<S> encode(S scaleMetrics, Encoding encoding, int blockSize, long[] unscaledValues, int offset, int length) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		Objects.requireNonNull(encoding, "encoding cannot be null");
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("blockSize must be positive: " + blockSize);
+		}
+		if (offset < 0 | length < 0 | offset > unscaledValues.length - length) {
+			throw new IndexOutOfBoundsException("Invalid range: offset=" + offset + ", length=" + length + ", array length=" + unscaledValues.length);
+		}
+		final int blockCount = (int) ((length + (long) blockSize - 1) / blockSize);
+		final long[] blockStarts = new long[blockCount];
+		final byte[] widths = new byte[2 * blockCount];
+		long bits = 0;
+		for (int block = 0; block < blockCount; block++) {
+			final int start = offset + block * blockSize;
+			final int end = start + Math.min(blockSize, offset + length - start);
+			blockStarts[block] = bits;
+			bits += 64 + WIDTH_BITS;
+			if (encoding == Encoding.DELTA) {
+				long or = 0;
+				for (int i = start + 1; i < end; i++) {
+					or |= zigzag(unscaledValues[i] - unscaledValues[i - 1]);
+				}
+				widths[2 * block] = (byte) width(or);
+				bits += (end - start - 1L) * widths[2 * block];
+			} else {
+				long or = 0;
+				for (int i = start + 2; i < end; i++) {
+					or |= zigzag(unscaledValues[i] - 2 * unscaledValues[i - 1] + unscaledValues[i - 2]);
+				}
+				widths[2 * block] = (byte) (end - start > 1 ? width(zigzag(unscaledValues[start + 1] - unscaledValues[start])) : 0);
+				widths[2 * block + 1] = (byte) width(or);
+				bits += widths[2 * block] + WIDTH_BITS + Math.max(0, end - start - 2L) * widths[2 * block + 1];
+			}
+		}
+		// one spare word allows reading without bounds checks for the last value
+		final long[] words = new long[(int) ((bits + 63) >>> 6) + 1];
+		for (int block = 0; block < blockCount; block++) {
+			final int start = offset + block * blockSize;
+			final int end = start + Math.min(blockSize, offset + length - start);
+			long pos = blockStarts[block];
+			writeBits(words, pos, unscaledValues[start], 64);
+			pos += 64;
+			final int width = widths[2 * block];
+			writeBits(words, pos, width, WIDTH_BITS);
+			pos += WIDTH_BITS;
+			if (encoding == Encoding.DELTA) {
+				for (int i = start + 1; i < end; i++) {
+					writeBits(words, pos, zigzag(unscaledValues[i] - unscaledValues[i - 1]), width);
+					pos += width;
+				}
+			} else {
+				if (end - start > 1) {
+					writeBits(words, pos, zigzag(unscaledValues[start + 1] - unscaledValues[start]), width);
+					pos += width;
+				}
+				final int ddWidth = widths[2 * block + 1];
+				writeBits(words, pos, ddWidth, WIDTH_BITS);
+				pos += WIDTH_BITS;
+				for (int i = start + 2; i < end; i++) {
+					writeBits(words, pos, zigzag(unscaledValues[i] - 2 * unscaledValues[i - 1] + unscaledValues[i - 2]), ddWidth);
+					pos += ddWidth;
+				}
+			}
+		}
+		return new DecimalTimeSeriesBlock<S>(scaleMetrics, encoding, blockSize, length, blockStarts, words);
+	}
+
+	/**
+	 * Reads a series written by {@link #writeTo(ByteBuffer)} from the given buffer starting at its current position.
+	 * The buffer's byte order must be the same as when the series was written.
+	 * 
+	 * @param <S>
+	 *            the scale metrics type of the values
+	 * @param scaleMetrics
+	 *            the scale metrics of the unscaled values
+	 * @param src
+	 *            the source buffer, its position is advanced by the number of bytes read
+	 * @return the series read from the buffer
+	 * @throws IllegalArgumentException
+	 *             if the scale of the series is different from the given scale metrics or if the header is corrupt
+	 * @throws BufferUnderflowException
+	 *             if the buffer ends before the series
+	 */
+	public static <S extends ScaleMetrics> DecimalTimeSeriesBlock<S> readFrom(S scaleMetrics, ByteBuffer src) {
+		Objects.requireNonNull(scaleMetrics, "scaleMetrics cannot be null");
+		final int scale = src.getInt();
+		final int encoding = src.getInt();
+		final int blockSize = src.getInt();
+		final int length = src.getInt();
+		final int wordCount = src.getInt();
+		if (scale != scaleMetrics.getScale()) {
+			throw new IllegalArgumentException("Scale of series " + scale + " does not match expected scale " + scaleMetrics.getScale());
+		}
+		if (encoding < 0 | encoding >= Encoding.values().length | blockSize <= 0 | length < 0 | wordCount <= 0) {
+			throw new IllegalArgumentException("Corrupt header: encoding=" + encoding + ", blockSize=" + blockSize + ", length=" + length + ", words=" + wordCount);
+		}
+		final int blockCount = (int) ((length + (long) blockSize - 1) / blockSize);
+		if (8L * (blockCount + (long) wordCount) > src.remaining()) {
+			throw new BufferUnderflowException();
+		}
+		final long[] blockStarts = new long[blockCount];
+		final long[] words = new long[wordCount];
+		src.asLongBuffer().get(blockStarts).get(words);
+		src.position(src.position() + 8 * (blockStarts.length + words.length));
+		return new DecimalTimeSeriesBlock<S>(scaleMetrics, Encoding.values()[encoding], blockSize, length, blockStarts, words);
+	}
+
+	/**
+	 * Returns the scale metrics associated with the values of this series.
+	 * 
+	 * @return the scale metrics of the values
+	 */
+	public S getScaleMetrics() {
+		return scaleMetrics;
+	}
+
+	/**
+	 * Returns the encoding of the differences between values.
+	 * 
+	 * @return the encoding of this series
+	 */
+	public Encoding getEncoding() {
+		return encoding;
+	}
+
+	/**
+	 * Returns the number of values per block; the last block may contain fewer values.
+	 * 
+	 * @return the block size
+	 */
+	public int getBlockSize() {
+		return blockSize;
+	}
+
+	/**
+	 * Returns the number of blocks.
+	 * 
+	 * @return the number of blocks of this series
+	 */
+	public int getBlockCount() {
+		return blockStarts.length;
+	}
+
+	/**
+	 * Returns the number of values in this series.
+	 * 
+	 * @return the number of values
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Returns the number of bytes written by {@link #writeTo(ByteBuffer)}, which can be used to compute the
+	 * compression ratio compared to the 8 bytes per value of uncompressed unscaled values.
+	 * 
+	 * @return the encoded size in bytes
+	 */
+	public int getEncodedSize() {
+		return HEADER_SIZE + 8 * (blockStarts.length + words.length);
+	}
+
+	/**
+	 * Returns the first unscaled value of the given block without decoding the block.
+	 * 
+	 * @param block
+	 *            the block index
+	 * @return the unscaled value at index {@code block*blockSize}
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code block} is not a valid block index
+	 */
+	public long getBlockStart(int block) {
+		return readBits(words, blockStarts[block], 64);
+	}
+
+	/**
+	 * Returns the unscaled value at the given index. The value is decoded from the start of the containing block; use
+	 * {@link #decode(int, long[], int, int)} to decode consecutive values efficiently.
+	 * 
+	 * @param index
+	 *            the index of the value
+	 * @return the unscaled value at the given index
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code index} is not a valid index of this series
+	 */
+	public long getUnscaled(int index) {
+		if (index < 0 | index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " is out of bounds for length " + length);
+		}
+		// skip all values up to and including index without storing any
+		final int skip = index % blockSize + 1;
+		return decodeBlock(index / blockSize, skip, skip, null, 0);
+	}
+
+	/**
+	 * Decodes all values of the given block into the destination array.
+	 * 
+	 * @param block
+	 *            the block index
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index in {@code dst} of the first value of the block
+	 * @return the number of values decoded, equal to the block size except for the last block
+	 * @throws IndexOutOfBoundsException
+	 *             if {@code block} is not a valid block index or if {@code dst} is too small
+	 */
+	public int decodeBlock(int block, long[] dst, int dstOffset) {
+		final int count = Math.min(blockSize, length - block * blockSize);
+		if (block < 0 | block >= blockStarts.length | dstOffset < 0 | dstOffset > dst.length - count) {
+			throw new IndexOutOfBoundsException("Invalid block " + block + " or destination offset " + dstOffset + " for destination length " + dst.length);
+		}
+		decodeBlock(block, 0, count, dst, dstOffset);
+		return count;
+	}
+
+	/**
+	 * Decodes a range of values into the destination array.
+	 * 
+	 * @param index
+	 *            the index of the first value to decode
+	 * @param dst
+	 *            the destination array for the unscaled values
+	 * @param dstOffset
+	 *            the index in {@code dst} of the first decoded value
+	 * @param count
+	 *            the number of values to decode
+	 * @throws IndexOutOfBoundsException
+	 *             if the source or destination range is invalid
+	 */
+	public void decode(int index, long[] dst, int dstOffset, int count) {
+		if (index < 0 | count < 0 | index > length - count | dstOffset < 0 | dstOffset > dst.length - count) {
+			throw new IndexOutOfBoundsException("Invalid range: index=" + index + ", count=" + count + ", dstOffset=" + dstOffset + ", length=" + length + ", destination length=" + dst.length);
+		}
+		final int end = index + count;
+		while (index < end) {
+			final int block = index / blockSize;
+			final int from = index - block * blockSize;
+			final int to = Math.min(blockSize, end - block * blockSize);
+			decodeBlock(block, from, to, dst, dstOffset);
+			dstOffset += to - from;
+			index += to - from;
+		}
+	}
+
+	/**
+	 * Decodes all values into a new decimal array.
+	 * 
+	 * @return a new decimal array with all values of this series
+	 */
+	public DecimalArray<S> toDecimalArray() {
+		final long[] unscaled = new long[length];
+		decode(0, unscaled, 0, length);
+		return DecimalArray.wrap(scaleMetrics, unscaled);
+	}
+
+	/**
+	 * Writes this series to the given buffer starting at its current position. The series is written with a header of
+	 * {@link #HEADER_SIZE} bytes followed by the bit offsets of all blocks and the bit-packed values; numbers are
+	 * written in the buffer's byte order.
+	 * 
+	 * @param dst
+	 *            the destination buffer, its position is advanced by {@link #getEncodedSize()} bytes
+	 * @throws BufferOverflowException
+	 *             if {@code dst} has fewer than {@link #getEncodedSize()} remaining bytes
+	 */
+	public void writeTo(ByteBuffer dst) {
+		if (dst.remaining() < getEncodedSize()) {
+			throw new BufferOverflowException();
+		}
+		dst.putInt(scaleMetrics.getScale());
+		dst.putInt(encoding.ordinal());
+		dst.putInt(blockSize);
+		dst.putInt(length);
+		dst.putInt(words.length);
+		dst.asLongBuffer().put(blockStarts).put(words);
+		dst.position(dst.position() + 8 * (blockStarts.length + words.length));
+	}
+
+	/**
+	 * Decodes the values of a block up to index {@code to} (exclusive) and stores those starting at index
+	 * {@code from}; returns the last decoded value.
+	 */
+	private long decodeBlock(int block, int from, int to, long[] dst, int dstOffset) {
+		final long[] words = this.words;
+		long pos = blockStarts[block];
+		long value = readBits(words, pos, 64);
+		pos += 64;
+		if (from == 0) {
+			dst[dstOffset++] = value;
+		}
+		final int width = (int) readBits(words, pos, WIDTH_BITS);
+		pos += WIDTH_BITS;
+		if (encoding == Encoding.DELTA) {
+			int i = 1;
+			for (; i < from; i++) {
+				value += unzigzag(readBits(words, pos, width));
+				pos += width;
+			}
+			for (; i < to; i++) {
+				value += unzigzag(readBits(words, pos, width));
+				pos += width;
+				dst[dstOffset++] = value;
+			}
+		} else if (to > 1) {
+			long delta = unzigzag(readBits(words, pos, width));
+			pos += width;
+			value += delta;
+			if (from <= 1) {
+				dst[dstOffset++] = value;
+			}
+			final int ddWidth = (int) readBits(words, pos, WIDTH_BITS);
+			pos += WIDTH_BITS;
+			int i = 2;
+			for (; i < from; i++) {
+				delta += unzigzag(readBits(words, pos, ddWidth));
+				pos += ddWidth;
+				value += delta;
+			}
+			for (; i < to; i++) {
+				delta += unzigzag(readBits(words, pos, ddWidth));
+				pos += ddWidth;
+				value += delta;
+				dst[dstOffset++] = value;
+			}
+		}
+		return value;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long encoded) {
+		return (encoded >>> 1) ^ -(encoded & 1);
+	}
+
+	private static int width(long unsigned) {
+		return 64 - Long.numberOfLeadingZeros(unsigned);
+	}
+
+	private static void writeBits(long[] words, long pos, long value, int bits) {
+		if (bits == 0) {
+			return;
+		}
+		final int index = (int) (pos >>> 6);
+		final int shift = (int) pos & 63;
+		words[index] |= value << shift;
+		if (shift + bits > 64) {
+			words[index + 1] |= value >>> (64 - shift);
+		}
+	}
+
+	private static long readBits(long[] words, long pos, int bits) {
+		final int index = (int) (pos >>> 6);
+		final int shift = (int) pos & 63;
+		long value = words[index] >>> shift;
+		if (shift + bits > 64) {
+			value |= words[index + 1] << (64 - shift);
+		}
+		return bits == 64 ? value : value & ((1L << bits) - 1);
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + scaleMetrics.getScale() + ", encoding=" + encoding + ", blockSize=" + blockSize + ", length=" + length + ", encodedSize=" + getEncodedSize() + "]";
+	}
+}
@@ -0,0 +1,318 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalParser;
+
+/**
+ * Streaming reader for delimited decimal fields. Bytes are pulled from a {@link ReadableByteChannel} into a reusable
+ * direct buffer and parsed field by field; memory use is constant regardless of the input size. Rows are terminated by
+ * a line feed (optionally preceded by a carriage return) and fields within a row are separated by the delimiter
+ * character. Fields split across two reads are moved to the beginning of the buffer before the buffer is refilled.
+ * <p>
+ * Fields are parsed with the scale and rounding mode of the tokenizer's arithmetic and with the same rules as
+ * {@link DecimalArithmetic#parse(java.nio.ByteBuffer, int, int)}, but errors are reported as status code as by
+ * {@link DecimalParser}. A field longer than the buffer cannot be a valid decimal value; it is skipped and reported with
+ * status {@link DecimalParser#INVALID_FORMAT}.
+ * <p>
+ * The fields can be consumed like an iterator via {@link #next()} followed by the accessors of the current field, or
+ * passed to a {@link FieldHandler} via {@link #forEach(FieldHandler)}. Neither allocates objects per field. Instances
+ * of this class are not thread safe.
+ */
+public final class DecimalTokenizer implements Closeable {
+
+	/**
+	 * Callback receiving the parsed fields.
+	 */
+	public static interface FieldHandler {
+		/**
+		 * Invoked for every field of the input.
+		 * 
+		 * @param row
+		 *            the zero based index of the row
+		 * @param field
+		 *            the zero based index of the field within the row
+		 * @param status
+		 *            the parse status, one of {@link DecimalParser#OK}, {@link DecimalParser#INVALID_FORMAT},
+		 *            {@link DecimalParser#OVERFLOW} or {@link DecimalParser#ROUNDING_NECESSARY}
+		 * @param unscaledValue
+		 *            the parsed unscaled value if status is {@link DecimalParser#OK}, undefined otherwise
+		 */
+		void onField(long row, int field, int status, long unscaledValue);
+	}
+
+	/**
+	 * Default size of the read buffer in bytes.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * Minimum size of the read buffer in bytes.
+	 */
+	public static final int MIN_BUFFER_SIZE = 64;
+
+	private final ReadableByteChannel channel;
+	private final DecimalParser parser;
+	private final char delimiter;
+	private final ByteBuffer buffer;
+	private int pos;// scan position in buffer
+	private int limit;// end of valid bytes in buffer
+	private boolean endOfInput;
+	private boolean endOfRow = true;// true if the current field is the last of its row
+	private boolean skipping;// true while skipping a field longer than the buffer
+	private boolean afterDelimiter;// true if the last consumed byte was a delimiter
+	private long row = -1;
+	private int field;
+	private int status = DecimalParser.INVALID_FORMAT;
+
+	/**
+	 * Constructor for a tokenizer reading from the given channel with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+	 * 
+	 * @param channel
+	 *            the blocking channel to read from
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of parsed values
+	 * @param delimiter
+	 *            the ASCII character separating fields, for instance {@code ','} or {@code '|'}
+	 * @throws IllegalArgumentException
+	 *             if delimiter is not an ASCII character or if it is a line feed or carriage return
+	 */
+	public DecimalTokenizer(ReadableByteChannel channel, DecimalArithmetic arithmetic, char delimiter) {
+		this(channel, arithmetic, delimiter, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Constructor for a tokenizer reading from the given channel with a buffer of the specified size.
+	 * 
+	 * @param channel
+	 *            the blocking channel to read from
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of parsed values
+	 * @param delimiter
+	 *            the ASCII character separating fields, for instance {@code ','} or {@code '|'}
+	 * @param bufferSize
+	 *            the size of the direct read buffer in bytes, at least {@link #MIN_BUFFER_SIZE}
+	 * @throws IllegalArgumentException
+	 *             if delimiter is not an ASCII character, if it is a line feed or carriage return, or if bufferSize is
+	 *             less than {@link #MIN_BUFFER_SIZE}
+	 */
+	public DecimalTokenizer(ReadableByteChannel channel, DecimalArithmetic arithmetic, char delimiter, int bufferSize) {
+		this.channel = Objects.requireNonNull(channel, "channel cannot be null");
+		if (delimiter > 0x7f | delimiter == '\n' | delimiter == '\r') {
+			throw new IllegalArgumentException("delimiter must be an ASCII character other than line feed or carriage return: " + (int) delimiter);
+		}
+		if (bufferSize < MIN_BUFFER_SIZE) {
+			throw new IllegalArgumentException("bufferSize must be at least " + MIN_BUFFER_SIZE + " but was " + bufferSize);
+		}
+		this.parser = new DecimalParser(arithmetic);
+		this.delimiter = delimiter;
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	/**
+	 * Constructor for a tokenizer reading from the given input stream with a buffer of {@link #DEFAULT_BUFFER_SIZE}.
+	 * 
+	 * @param in
+	 *            the input stream to read from
+	 * @param arithmetic
+	 *            the arithmetic defining scale and rounding mode of parsed values
+	 * @param delimiter
+	 *            the ASCII character separating fields, for instance {@code ','} or {@code '|'}
+	 * @throws IllegalArgumentException
+	 *             if delimiter is not an ASCII character or if it is a line feed or carriage return
+	 */
+	public DecimalTokenizer(InputStream in, DecimalArithmetic arithmetic, char delimiter) {
+		this(Channels.newChannel(in), arithmetic, delimiter);
+	}
+
+	/**
+	 * Returns the arithmetic defining scale and rounding mode of parsed values.
+	 * 
+	 * @return the arithmetic of this tokenizer
+	 */
+	public DecimalArithmetic getArithmetic() {
+		return parser.getArithmetic();
+	}
+
+	/**
+	 * Advances to the next field and parses it.
+	 * 
+	 * @return true if a field was read, false if the end of the input has been reached
+	 * @throws IOException
+	 *             if an I/O error occurs when reading from the channel
+	 */
+	public boolean next() throws IOException {
+		int start = pos;
+		while (true) {
+			for (; pos < limit; pos++) {
+				final int ch = buffer.get(pos);
+				if (ch == delimiter | ch == '\n') {
+					afterDelimiter = ch != '\n';
+					parseField(start, pos, !afterDelimiter);
+					pos++;
+					return true;
+				}
+			}
+			if (endOfInput) {
+				if (start == limit & !skipping & !afterDelimiter) {
+					return false;
+				}
+				// last field of the input, possibly empty if the input ends with a delimiter
+				afterDelimiter = false;
+				parseField(start, limit, true);
+				return true;
+			}
+			if (start == 0 & limit == buffer.capacity()) {
+				// field longer than the buffer, discard what we have
+				skipping = true;
+				start = pos = limit = 0;
+			}
+			start = refill(start);
+		}
+	}
+
+	/**
+	 * Returns the zero based row index of the current field.
+	 * 
+	 * @return the row of the current field, -1 before the first field
+	 */
+	public long getRow() {
+		return row;
+	}
+
+	/**
+	 * Returns the zero based index of the current field within its row.
+	 * 
+	 * @return the index of the current field
+	 */
+	public int getField() {
+		return field;
+	}
+
+	/**
+	 * Returns the parse status of the current field.
+	 * 
+	 * @return the status, one of {@link DecimalParser#OK}, {@link DecimalParser#INVALID_FORMAT},
+	 *         {@link DecimalParser#OVERFLOW} or {@link DecimalParser#ROUNDING_NECESSARY}
+	 */
+	public int getStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns the unscaled value of the current field. The value is undefined if the {@link #getStatus() status} is
+	 * not {@link DecimalParser#OK}.
+	 * 
+	 * @return the unscaled value with the scale of this tokenizer's arithmetic
+	 */
+	public long getUnscaledValue() {
+		return parser.getUnscaledValue();
+	}
+
+	/**
+	 * Reads all remaining fields and passes them to the given handler.
+	 * 
+	 * @param handler
+	 *            the handler receiving the fields
+	 * @return the number of fields passed to the handler
+	 * @throws IOException
+	 *             if an I/O error occurs when reading from the channel
+	 */
+	public long forEach(FieldHandler handler) throws IOException {
+		long count = 0;
+		while (next()) {
+			handler.onField(row, field, status, parser.getUnscaledValue());
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Closes the underlying channel.
+	 * 
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void parseField(int start, int end, boolean lastInRow) {
+		if (endOfRow) {
+			row++;
+			field = 0;
+		} else {
+			field++;
+		}
+		endOfRow = lastInRow;
+		if (skipping) {
+			skipping = false;
+			status = DecimalParser.INVALID_FORMAT;
+		} else {
+			if (lastInRow && end > start && buffer.get(end - 1) == '\r') {
+				end--;
+			}
+			status = parser.parse(buffer, start, end);
+		}
+	}
+
+	/**
+	 * Moves the bytes of the current field to the beginning of the buffer and reads more bytes from the channel.
+	 * 
+	 * @return the new start index of the current field, always zero
+	 */
+	private int refill(int start) throws IOException {
+		if (start > 0) {
+			final ByteBuffer src = buffer.duplicate();
+			src.limit(limit).position(start);
+			buffer.clear();
+			buffer.put(src);
+			pos -= start;
+			limit -= start;
+		}
+		buffer.limit(buffer.capacity()).position(limit);
+		final int n = channel.read(buffer);
+		if (n < 0) {
+			endOfInput = true;
+		} else {
+			limit += n;
+		}
+		return 0;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[scale=" + parser.getArithmetic().getScale() + ", rounding=" + parser.getArithmetic().getRoundingMode() + ", delimiter='" + delimiter + "', row=" + row + ", field=" + field + "]";
+	}
+}
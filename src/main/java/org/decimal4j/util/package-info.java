@@ -23,6 +23,21 @@
  */
 /**
  * Provides utility classes that may be of general interest such as the 
- * {@link org.decimal4j.util.DoubleRounder DoubleRounder}.  
+ * {@link org.decimal4j.util.DoubleRounder DoubleRounder}, aggregation of many
+ * values with {@link org.decimal4j.util.DecimalAccumulator DecimalAccumulator}
+ * or {@link org.decimal4j.util.DecimalStream DecimalStream} and compact
+ * containers for unscaled values such as
+ * {@link org.decimal4j.util.DecimalArray DecimalArray} and
+ * {@link org.decimal4j.util.DecimalList DecimalList}. Delimited text files are
+ * loaded into such containers with the
+ * {@link org.decimal4j.util.DecimalColumnParser DecimalColumnParser}, or
+ * streamed field by field from a channel with the
+ * {@link org.decimal4j.util.DecimalTokenizer DecimalTokenizer}. Unscaled
+ * values are serialized in compact binary form with the
+ * {@link org.decimal4j.util.DecimalCodec DecimalCodec}, and series such as
+ * price histories are compressed with the
+ * {@link org.decimal4j.util.DecimalTimeSeriesBlock DecimalTimeSeriesBlock}.
+ * Mantissa/exponent fields of binary messages are accessed in place with the
+ * {@link org.decimal4j.util.DecimalFlyweight DecimalFlyweight}.
  */
 package org.decimal4j.util;
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.decimal4j.api.DecimalArithmetic;
 import org.decimal4j.base.AbstractImmutableDecimal;
 import org.decimal4j.exact.Multipliable${scale}f;
 import org.decimal4j.factory.Factory${scale}f;
+import org.decimal4j.factory.SerializationProxy;
 import org.decimal4j.mutable.MutableDecimal${scale}f;
 import org.decimal4j.scale.Scale${scale}f;
 
@@ -208,6 +209,15 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code Decimal${scale}f}.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
@@ -480,6 +490,15 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code Decimal${scale}f}.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
@@ -505,6 +524,15 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	 * or the fraction. If the fraction contains more than ${scale} digits, the 
 	 * value is rounded using the specified {@code roundingMode}. An exception 
 	 * is thrown if the value is too large to be represented as a {@code Decimal${scale}f}.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into a {@code Decimal${scale}f}
@@ -642,5 +670,16 @@ public final class Decimal${scale}f extends AbstractImmutableDecimal<Scale${scal
 	public Decimal${scale}f toImmutableDecimal() {
 		return this;
 	}
+
+	/**
+	 * Replaces this decimal with a compact {@link SerializationProxy} when
+	 * serialized. The proxy resolves to a {@code Decimal${scale}f} again when
+	 * deserialized, retaining the canonical constants such as {@link #ZERO}.
+	 * 
+	 * @return the serialization proxy for this decimal
+	 */
+	private Object writeReplace() {
+		return new SerializationProxy(this);
+	}
 }
 </#list> 
\ No newline at end of file
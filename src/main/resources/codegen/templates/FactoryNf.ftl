@@ -6,6 +6,7 @@ package org.decimal4j.factory;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.ByteBuffer;
 
 import org.decimal4j.api.Decimal;
 import org.decimal4j.immutable.Decimal${scale}f;
@@ -114,6 +115,16 @@ public enum Factory${scale}f implements DecimalFactory<Scale${scale}f> {
 		return Decimal${scale}f.valueOf(value, roundingMode);
 	}
 
+	@Override
+	public final Decimal${scale}f parse(byte[] value, int start, int end) {
+		return Decimal${scale}f.valueOfUnscaled(Decimal${scale}f.DEFAULT_CHECKED_ARITHMETIC.parse(value, start, end));
+	}
+
+	@Override
+	public final Decimal${scale}f parse(ByteBuffer value, int start, int end) {
+		return Decimal${scale}f.valueOfUnscaled(Decimal${scale}f.DEFAULT_CHECKED_ARITHMETIC.parse(value, start, end));
+	}
+
 	@Override
 	public final Decimal${scale}f valueOfUnscaled(long unscaledValue) {
 		return Decimal${scale}f.valueOfUnscaled(unscaledValue);
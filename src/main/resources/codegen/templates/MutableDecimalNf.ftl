@@ -58,6 +58,15 @@ public final class MutableDecimal${scale}f extends AbstractMutableDecimal<Scale$
 	 * value is rounded using {@link RoundingMode#HALF_UP HALF_UP} rounding. An 
 	 * exception is thrown if the value is too large to be represented as a 
 	 * {@code MutableDecimal${scale}f}.
+	 * <p>
+	 * The integer and fraction may be followed by an exponent consisting of the
+	 * character {@code 'e'} or {@code 'E'}, an optional sign and one or more
+	 * decimal digits, for instance {@code "1.25E-3"} or {@code "6e+2"}. The
+	 * decimal point is shifted by the exponent before the value is rounded, hence
+	 * rounding is applied only once to the digits beyond the scale of the shifted
+	 * value. The overflow check also applies to the shifted value; an exception is
+	 * thrown if it is too large to be represented, regardless of how many digits
+	 * the string contains.
 	 *
 	 * @param value
 	 *            String value to convert into a {@code MutableDecimal${scale}f}
@@ -0,0 +1,421 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.DecimalArrayArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArrayArithmetic} comparing bulk results with the
+ * single value operations of {@link DecimalArithmetic}.
+ */
+@RunWith(Parameterized.class)
+public class ArrayArithmeticTest extends AbstractDecimalTest {
+
+	private static final int RANDOM_LENGTH = 1000;
+	private static final long UNTOUCHED = 0x5555555555555555L;
+
+	private final DecimalArrayArithmetic arrayArithmetic;
+	private final long[] values1;
+	private final long[] values2;
+
+	public ArrayArithmeticTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.arrayArithmetic = arithmetic.getArrayArithmetic();
+		final long[] specialValues = getSpecialValues(scaleMetrics);
+		final int specialLength = specialValues.length * specialValues.length;
+		values1 = new long[specialLength + RANDOM_LENGTH];
+		values2 = new long[specialLength + RANDOM_LENGTH];
+		for (int i = 0; i < specialValues.length; i++) {
+			for (int j = 0; j < specialValues.length; j++) {
+				values1[i * specialValues.length + j] = specialValues[i];
+				values2[i * specialValues.length + j] = specialValues[j];
+			}
+		}
+		for (int i = specialLength; i < values1.length; i++) {
+			values1[i] = nextLongOrInt();
+			values2[i] = nextLongOrInt();
+		}
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldReturnAssociatedArithmetic() {
+		assertSame("unexpected arithmetic", arithmetic, arrayArithmetic.getArithmetic());
+		assertSame("unexpected array arithmetic", arrayArithmetic, arithmetic.getArrayArithmetic());
+	}
+
+	@Test
+	public void shouldAdd() {
+		assertBulkOperation("add", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.add(uDecimal1, uDecimal2);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.add(uDecimals1, uDecimals2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldSubtract() {
+		assertBulkOperation("subtract", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.subtract(uDecimal1, uDecimal2);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.subtract(uDecimals1, uDecimals2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldMultiply() {
+		assertBulkOperation("multiply", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.multiply(uDecimal1, uDecimal2);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.multiply(uDecimals1, uDecimals2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldMultiplyByLong() {
+		assertBulkOperation("multiplyByLong", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.multiplyByLong(uDecimal1, uDecimal2);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.multiplyByLong(uDecimals1, uDecimals2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldDivide() {
+		final long[] divisors = values2.clone();
+		for (int i = 0; i < divisors.length; i++) {
+			if (divisors[i] == 0) {
+				divisors[i] = arithmetic.one();
+			}
+		}
+		assertBulkOperation("divide", values1, divisors, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.divide(uDecimal1, uDecimal2);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.divide(uDecimals1, uDecimals2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldThrowExceptionForDivisionByZero() {
+		final long[] dividends = {arithmetic.one(), arithmetic.one()};
+		final long[] divisors = {arithmetic.one(), 0};
+		try {
+			arrayArithmetic.divide(dividends, divisors, new long[2], 0, 2);
+			fail("expected division by zero exception");
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void shouldRound() {
+		for (int precision = getScale() - 18; precision <= getScale() + 1; precision++) {
+			final int p = precision;
+			assertBulkOperation("round(" + p + ")", values1, values1, new Operation() {
+				@Override
+				public long calculate(long uDecimal1, long uDecimal2) {
+					return arithmetic.round(uDecimal1, p);
+				}
+
+				@Override
+				public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+					return arrayArithmetic.round(uDecimals1, p, dst, offset, length);
+				}
+			});
+		}
+	}
+
+	@Test
+	public void shouldNegate() {
+		assertBulkOperation("negate", values1, values1, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.negate(uDecimal1);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.negate(uDecimals1, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldAbs() {
+		assertBulkOperation("abs", values1, values1, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.abs(uDecimal1);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				return arrayArithmetic.abs(uDecimals1, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldMin() {
+		assertBulkOperation("min", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.compare(uDecimal1, uDecimal2) <= 0 ? uDecimal1 : uDecimal2;
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				arrayArithmetic.min(uDecimals1, uDecimals2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+	}
+
+	@Test
+	public void shouldMax() {
+		assertBulkOperation("max", values1, values2, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.compare(uDecimal1, uDecimal2) >= 0 ? uDecimal1 : uDecimal2;
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				arrayArithmetic.max(uDecimals1, uDecimals2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+	}
+
+	@Test
+	public void shouldCompare() {
+		final int[] actual = new int[values1.length];
+		arrayArithmetic.compare(values1, values2, actual, 0, values1.length);
+		for (int i = 0; i < values1.length; i++) {
+			assertEquals("unexpected comparison result for " + values1[i] + " and " + values2[i],
+					arithmetic.compare(values1[i], values2[i]), actual[i]);
+		}
+	}
+
+	@Test
+	public void shouldConvertToDecimal64() {
+		assertBulkOperation("toDecimal64", values1, values1, new Operation() {
+			@Override
+			public long calculate(long uDecimal1, long uDecimal2) {
+				return arithmetic.toDecimal64(uDecimal1);
+			}
+
+			@Override
+			public int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length) {
+				arrayArithmetic.toDecimal64(uDecimals1, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+	}
+
+	@Test
+	public void shouldConvertFromDecimal64() {
+		final long[] decimal64s = new long[values1.length];
+		getScaleMetrics().getRoundingDownArithmetic().getArrayArithmetic().toDecimal64(values1, decimal64s, 0, values1.length);
+		assertBulkOperation("fromDecimal64", decimal64s, decimal64s, new Operation() {
+			@Override
+			public long calculate(long decimal64, long uDecimal2) {
+				return arithmetic.fromDecimal64(decimal64);
+			}
+
+			@Override
+			public int calculate(long[] decimal64s, long[] uDecimals2, long[] dst, int offset, int length) {
+				arrayArithmetic.fromDecimal64(decimal64s, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+	}
+
+	@Test
+	public void shouldReturnFirstOverflowIndex() {
+		if (isUnchecked()) {
+			return;
+		}
+		final int length = 300;
+		for (final int overflowIndex : new int[] {0, 1, 63, 64, 65, 127, 128, 200, length - 1}) {
+			final long[] summands = new long[length];
+			Arrays.fill(summands, arithmetic.one());
+			summands[overflowIndex] = Long.MAX_VALUE;
+			final long[] negatives = new long[length];
+			Arrays.fill(negatives, -arithmetic.one());
+			negatives[overflowIndex] = Long.MIN_VALUE;
+			final long[] dst = new long[length];
+
+			Arrays.fill(dst, UNTOUCHED);
+			assertEquals("add", overflowIndex, arrayArithmetic.add(summands, summands, dst, 0, length));
+			assertOverflowResult(2 * arithmetic.one(), overflowIndex, dst);
+
+			Arrays.fill(dst, UNTOUCHED);
+			assertEquals("subtract", overflowIndex, arrayArithmetic.subtract(negatives, summands, dst, 0, length));
+			assertOverflowResult(-2 * arithmetic.one(), overflowIndex, dst);
+
+			Arrays.fill(dst, UNTOUCHED);
+			assertEquals("negate", overflowIndex, arrayArithmetic.negate(negatives, dst, 0, length));
+			assertOverflowResult(arithmetic.one(), overflowIndex, dst);
+
+			Arrays.fill(dst, UNTOUCHED);
+			assertEquals("abs", overflowIndex, arrayArithmetic.abs(negatives, dst, 0, length));
+			assertOverflowResult(arithmetic.one(), overflowIndex, dst);
+		}
+	}
+
+	@Test
+	public void shouldOperateInPlace() {
+		final long[] values = {arithmetic.one(), -arithmetic.one(), 0, arithmetic.one() * 3};
+		final int overflowIndex = arrayArithmetic.negate(values, values, 1, 2);
+		assertEquals("unexpected overflow index", DecimalArrayArithmetic.NO_OVERFLOW, overflowIndex);
+		assertArrayEquals("unexpected result", new long[] {arithmetic.one(), arithmetic.one(), 0, arithmetic.one() * 3}, values);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionForNegativeOffset() {
+		arrayArithmetic.add(new long[4], new long[4], new long[4], -1, 2);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionIfLengthExceedsArray() {
+		arrayArithmetic.add(new long[4], new long[3], new long[4], 1, 3);
+	}
+
+	private void assertBulkOperation(String name, long[] uDecimals1, long[] uDecimals2, Operation operation) {
+		// expected result by applying single value operation
+		final long[] expected = new long[uDecimals1.length];
+		int expectedIndex = DecimalArrayArithmetic.NO_OVERFLOW;
+		ArithmeticException expectedException = null;
+		for (int i = 0; i < uDecimals1.length; i++) {
+			try {
+				expected[i] = operation.calculate(uDecimals1[i], uDecimals2[i]);
+			} catch (ArithmeticException e) {
+				if (isUnchecked() || "Rounding necessary".equals(e.getMessage())) {
+					expectedException = e;
+				} else {
+					expectedIndex = i;
+				}
+				break;
+			}
+		}
+
+		// actual result by applying bulk operation
+		final long[] actual = new long[uDecimals1.length];
+		Arrays.fill(actual, UNTOUCHED);
+		final int actualIndex;
+		try {
+			actualIndex = operation.calculate(uDecimals1, uDecimals2, actual, 0, uDecimals1.length);
+		} catch (ArithmeticException e) {
+			if (expectedException == null) {
+				throw e;
+			}
+			assertEquals(name + ": unexpected exception message", expectedException.getMessage(), e.getMessage());
+			return;
+		}
+		if (expectedException != null) {
+			fail(name + ": expected exception " + expectedException);
+		}
+		assertEquals(name + ": unexpected overflow index", expectedIndex, actualIndex);
+		final int end = expectedIndex == DecimalArrayArithmetic.NO_OVERFLOW ? uDecimals1.length : expectedIndex;
+		for (int i = 0; i < uDecimals1.length; i++) {
+			final long expectedValue = i < end ? expected[i] : UNTOUCHED;
+			if (expectedValue != actual[i]) {
+				fail(name + ": unexpected result at index " + i + " for " + arithmetic.toString(uDecimals1[i]) + ", "
+						+ arithmetic.toString(uDecimals2[i]) + ": expected " + expectedValue + " but was " + actual[i]);
+			}
+		}
+	}
+
+	private static void assertOverflowResult(long expected, int overflowIndex, long[] actual) {
+		for (int i = 0; i < actual.length; i++) {
+			assertEquals("unexpected result at index " + i, i < overflowIndex ? expected : UNTOUCHED, actual[i]);
+		}
+	}
+
+	private static interface Operation {
+		long calculate(long uDecimal1, long uDecimal2);
+
+		int calculate(long[] uDecimals1, long[] uDecimals2, long[] dst, int offset, int length);
+	}
+}
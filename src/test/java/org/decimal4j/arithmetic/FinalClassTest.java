@@ -69,6 +69,8 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {AbstractUncheckedScale0fArithmetic.class});
 		data.add(new Object[] {AbstractUncheckedScaleNfArithmetic.class});
 		data.add(new Object[] {Add.class});
+		data.add(new Object[] {ArrayArithmetic.class});
+		data.add(new Object[] {AsciiSequence.class});
 		data.add(new Object[] {Avg.class});
 		data.add(new Object[] {BigDecimalConversion.class});
 		data.add(new Object[] {BigIntegerConversion.class});
@@ -78,6 +80,9 @@ public class FinalClassTest extends AbstractFinalTest {
 		data.add(new Object[] {CheckedScaleNfRoundingArithmetic.class});
 		data.add(new Object[] {CheckedScaleNfTruncatingArithmetic.class});
 		data.add(new Object[] {Compare.class});
+		data.add(new Object[] {DecimalCharSequence.class});
+		data.add(new Object[] {DecimalFormatter.class});
+		data.add(new Object[] {DecimalParser.class});
 		data.add(new Object[] {Div.class});
 		data.add(new Object[] {DoubleConversion.class});
 		data.add(new Object[] {Exceptions.class});
@@ -129,11 +134,17 @@ public class FinalClassTest extends AbstractFinalTest {
 	
 	@Override
 	protected boolean isAllowedNonStaticField(Field field) {
-		return AbstractArithmetic.class.isAssignableFrom(clazz);
+		return AbstractArithmetic.class.isAssignableFrom(clazz) || ArrayArithmetic.class.equals(clazz) || AsciiSequence.class.equals(clazz) || DecimalCharSequence.class.equals(clazz) || DecimalFormatter.class.equals(clazz) || DecimalParser.class.equals(clazz);
 	}
 	
 	@Override
 	protected boolean isAllowedNonFinalField(Field field) {
+		if (AsciiSequence.class.equals(clazz)) {
+			return Arrays.asList("array", "arrayOffset", "length", "buffer").contains(field.getName());
+		}
+		if (DecimalCharSequence.class.equals(clazz)) {
+			return Arrays.asList("unscaledValue", "scale", "length").contains(field.getName());
+		}
 		if (UnsignedDecimal9i36f.class.equals(clazz)) {
 			return Arrays.asList("norm", "pow10", "ival", "val3", "val2", "val1", "val0").contains(field.getName());
 		}
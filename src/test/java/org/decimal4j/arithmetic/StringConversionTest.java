@@ -0,0 +1,144 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.arithmetic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Random;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.Scales;
+import org.junit.Test;
+
+/**
+ * Unit test for the 8-digit fast path of {@link StringConversion}.
+ */
+public class StringConversionTest {
+
+	private static final Random RND = new Random();
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	@Test
+	public void eightDigitsToLongShouldConvertAllDigitPositions() {
+		for (int i = 0; i < 10000; i++) {
+			final int value = RND.nextInt(100000000);
+			final String digits = String.format("%08d", value);
+			final long chunk = StringConversion.getEightChars(digits, 0);
+			assertTrue(digits, StringConversion.isEightDigits(chunk));
+			assertEquals(digits, value, StringConversion.eightDigitsToLong(chunk));
+		}
+		assertEquals(0, StringConversion.eightDigitsToLong(StringConversion.getEightChars("00000000", 0)));
+		assertEquals(99999999, StringConversion.eightDigitsToLong(StringConversion.getEightChars("99999999", 0)));
+		assertEquals(12345678, StringConversion.eightDigitsToLong(StringConversion.getEightChars("x12345678", 1)));
+	}
+
+	@Test
+	public void isEightDigitsShouldRejectNonDigits() {
+		final char[] invalid = { '/', ':', ' ', '.', '-', '+', 'A', '\u0000', '\u00b0', '\u00b9', '\u0130', '\u0660', '\uff10' };
+		for (int pos = 0; pos < 8; pos++) {
+			for (final char ch : invalid) {
+				final StringBuilder sb = new StringBuilder("12345678");
+				sb.setCharAt(pos, ch);
+				assertFalse(sb.toString(), StringConversion.isEightDigits(StringConversion.getEightChars(sb, 0)));
+				if (ch <= 0xff) {
+					final byte[] bytes = sb.toString().getBytes(Charset.forName("ISO-8859-1"));
+					final long chunk = AsciiSequence.THREAD_LOCAL.get().wrap(bytes).getLongLE(0);
+					assertFalse(sb.toString(), StringConversion.isEightDigits(chunk));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void getEightCharsShouldBeSameForAllSources() {
+		final String s = "ab0123456789cd";
+		final byte[] bytes = s.getBytes(ASCII);
+		final ByteBuffer bigEndian = ByteBuffer.allocateDirect(bytes.length);
+		bigEndian.put(bytes);
+		final ByteBuffer littleEndian = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+		littleEndian.put(bytes);
+		final AsciiSequence seq = AsciiSequence.THREAD_LOCAL.get();
+		try {
+			for (int i = 0; i + 8 <= s.length(); i++) {
+				final long expected = StringConversion.getEightChars(s, i);
+				assertEquals(expected, StringConversion.getEightChars(seq.wrap(bytes), i));
+				assertEquals(expected, StringConversion.getEightChars(seq.wrap(ByteBuffer.wrap(bytes)), i));
+				assertEquals(expected, StringConversion.getEightChars(seq.wrap(bigEndian), i));
+				assertEquals(expected, StringConversion.getEightChars(seq.wrap(littleEndian), i));
+			}
+		} finally {
+			seq.clear();
+		}
+	}
+
+	@Test
+	public void parseShouldHandleLongDigitSequences() {
+		for (int scale = 0; scale <= Scales.MAX_SCALE; scale++) {
+			final DecimalArithmetic arith = Scales.getScaleMetrics(scale).getDefaultCheckedArithmetic();
+			for (int i = 0; i < 1000; i++) {
+				final long unscaled = RND.nextLong();
+				final String s = arith.toString(unscaled);
+				assertEquals(s, unscaled, arith.parse(s));
+				final byte[] bytes = s.getBytes(ASCII);
+				assertEquals(s, unscaled, arith.parse(bytes, 0, bytes.length));
+			}
+			assertEquals(Long.MAX_VALUE, arith.parse(arith.toString(Long.MAX_VALUE)));
+			assertEquals(Long.MIN_VALUE, arith.parse(arith.toString(Long.MIN_VALUE)));
+		}
+	}
+
+	@Test
+	public void parseShouldRejectNonAsciiDigitsInFastPath() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(9).getDefaultArithmetic();
+		final String[] invalid = { "1234567\u0660.123456789", "12345678.1234\u01305678", "12345678.12345678\u0130" };
+		for (final String s : invalid) {
+			try {
+				arith.parse(s);
+				fail("expected NumberFormatException for: " + s);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void parseShouldDetectOverflowInFastPath() {
+		final DecimalArithmetic arith = Scales.getScaleMetrics(0).getDefaultArithmetic();
+		final String[] invalid = { "9223372036854775808", "-9223372036854775809", "99999999999999999999", "12345678123456781234" };
+		for (final String s : invalid) {
+			try {
+				arith.parse(s);
+				fail("expected NumberFormatException for: " + s);
+			} catch (NumberFormatException e) {
+				// expected
+			}
+		}
+	}
+}
@@ -37,6 +37,9 @@ public class ThreadLocalsTest {
 	
 	private static class ThreadLocalInstances {
 		public final StringBuilder stringBuilder = StringConversion.STRING_BUILDER_THREAD_LOCAL.get();
+		public final char[] charArray = StringConversion.CHAR_ARRAY_THREAD_LOCAL.get();
+		public final AsciiSequence asciiSequence = AsciiSequence.THREAD_LOCAL.get();
+		public final char[] formatterCharArray = DecimalFormatter.CHAR_ARRAY_THREAD_LOCAL.get();
 		public final UnsignedDecimal9i36f unsignedDecimal1 = UnsignedDecimal9i36f.THREAD_LOCAL_1.get();
 		public final UnsignedDecimal9i36f unsignedDecimal2 = UnsignedDecimal9i36f.THREAD_LOCAL_2.get();
 	}
@@ -63,6 +66,9 @@ public class ThreadLocalsTest {
 
 		//then
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
+		assertNotSame("char array should be different instances", tli1.charArray, tli2.charArray);
+		assertNotSame("ascii sequence should be different instances", tli1.asciiSequence, tli2.asciiSequence);
+		assertNotSame("formatter char array should be different instances", tli1.formatterCharArray, tli2.formatterCharArray);
 		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
@@ -75,6 +81,9 @@ public class ThreadLocalsTest {
 		
 		//then
 		assertSame("string builder should be same instance", tli1.stringBuilder, tli2.stringBuilder);
+		assertSame("char array should be same instance", tli1.charArray, tli2.charArray);
+		assertSame("ascii sequence should be same instance", tli1.asciiSequence, tli2.asciiSequence);
+		assertSame("formatter char array should be same instance", tli1.formatterCharArray, tli2.formatterCharArray);
 		assertSame("unsigned decimal 1 should be same instance", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertSame("unsigned decimal 2 should be same instance", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
@@ -90,6 +99,9 @@ public class ThreadLocalsTest {
 		
 		//then
 		assertNotSame("string builder should be different instances", tli1.stringBuilder, tli2.stringBuilder);
+		assertNotSame("char array should be different instances", tli1.charArray, tli2.charArray);
+		assertNotSame("ascii sequence should be different instances", tli1.asciiSequence, tli2.asciiSequence);
+		assertNotSame("formatter char array should be different instances", tli1.formatterCharArray, tli2.formatterCharArray);
 		assertNotSame("unsigned decimal 1 should be different instances", tli1.unsignedDecimal1, tli2.unsignedDecimal1);
 		assertNotSame("unsigned decimal 2 should be different instances", tli1.unsignedDecimal2, tli2.unsignedDecimal2);
 	}
@@ -0,0 +1,148 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.factory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.generic.GenericImmutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for serialization of immutable decimals via {@link SerializationProxy}.
+ */
+@RunWith(Parameterized.class)
+public class SerializationProxyTest extends AbstractDecimalTest {
+
+	private static final int COUNT = 100;
+
+	public SerializationProxyTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void testImmutableDecimal() throws Exception {
+		final DecimalFactory<ScaleMetrics> factory = Factories.getDecimalFactory(getScaleMetrics());
+		for (int i = 0; i < COUNT; i++) {
+			final ImmutableDecimal<ScaleMetrics> value = factory.valueOfUnscaled(nextLongOrInt());
+			final Object copy = roundTrip(value);
+			assertSame("unexpected class", value.getClass(), copy.getClass());
+			assertEquals("unexpected value", value, copy);
+		}
+	}
+
+	@Test
+	public void testGenericImmutableDecimal() throws Exception {
+		for (int i = 0; i < COUNT; i++) {
+			final GenericImmutableDecimal<ScaleMetrics> value = GenericImmutableDecimal.valueOfUnscaled(getScaleMetrics(), nextLongOrInt());
+			final Object copy = roundTrip(value);
+			assertSame("unexpected class", GenericImmutableDecimal.class, copy.getClass());
+			assertEquals("unexpected value", value, copy);
+			assertSame("unexpected scale metrics", getScaleMetrics(), ((GenericImmutableDecimal<?>) copy).getScaleMetrics());
+		}
+	}
+
+	@Test
+	public void testCanonicalConstants() throws Exception {
+		final DecimalFactory<ScaleMetrics> factory = Factories.getDecimalFactory(getScaleMetrics());
+		for (final long unscaled : new long[] {0, 1, getScaleMetrics().getScaleFactor(), -getScaleMetrics().getScaleFactor()}) {
+			final ImmutableDecimal<ScaleMetrics> constant = factory.valueOfUnscaled(unscaled);
+			assertSame("should resolve to constant " + constant, constant, roundTrip(factory.valueOfUnscaled(unscaled)));
+		}
+	}
+
+	@Test
+	public void testCompactForm() throws Exception {
+		final DecimalFactory<ScaleMetrics> factory = Factories.getDecimalFactory(getScaleMetrics());
+		final ImmutableDecimal<ScaleMetrics> value = factory.valueOfUnscaled(123);
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			for (int i = 0; i < COUNT; i++) {
+				out.writeObject(factory.valueOfUnscaled(123 + i));
+			}
+		}
+		// after the first value, every value takes a class reference, block data and the payload
+		final int first = serialize(value).length;
+		assertTrue("serialized form too large: " + first, first < 100);
+		assertTrue("serialized values too large: " + bytes.size(), bytes.size() < first + COUNT * 14);
+	}
+
+	@Test(expected = InvalidObjectException.class)
+	public void testIllegalScale() throws Exception {
+		final byte[] bytes = serialize(Factories.getDecimalFactory(getScaleMetrics()).valueOfUnscaled(5));
+		// payload is header byte with the scale followed by the varint 10
+		for (int i = bytes.length - 1; i >= 1; i--) {
+			if (bytes[i] == 10 && bytes[i - 1] == getScale()) {
+				bytes[i - 1] = 19;
+				deserialize(bytes);
+			}
+		}
+		throw new AssertionError("payload not found");
+	}
+
+	private static Object roundTrip(Object value) throws IOException, ClassNotFoundException {
+		return deserialize(serialize(value));
+	}
+
+	private static byte[] serialize(Object value) throws IOException {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return in.readObject();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.arith;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractDecimalDecimalToDecimalTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link Decimal#multiplyAdd(Decimal, Decimal)}. The augend is
+ * chosen randomly for every test case; it is either a random value, a value
+ * close to the negated product so that the result fits even if the product
+ * overflows, or zero.
+ */
+@RunWith(Parameterized.class)
+public class MultiplyAddTest extends AbstractDecimalDecimalToDecimalTest {
+
+	private static final BigDecimal LONG_MIN = BigDecimal.valueOf(Long.MIN_VALUE);
+	private static final BigDecimal LONG_MAX = BigDecimal.valueOf(Long.MAX_VALUE);
+
+	private Decimal<?> augend;
+
+	public MultiplyAddTest(ScaleMetrics scaleMetrics, TruncationPolicy tp, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> void runTest(S scaleMetrics, String name, Decimal<S> dOpA, Decimal<S> dOpB) {
+		final Decimal<S> dAugend = newDecimal(scaleMetrics, randomAugend(dOpA, dOpB));
+		augend = dAugend;
+		super.runTest(scaleMetrics, name + "(+" + dAugend + ")", dOpA, dOpB);
+	}
+
+	private long randomAugend(Decimal<?> a, Decimal<?> b) {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return 0;
+		case 1:
+			return nextLongOrInt();
+		default:
+			//negated product plus a small random value, clamped to the long range
+			final BigInteger product = toBigDecimal(a).multiply(toBigDecimal(b)).setScale(getScale(), BigDecimal.ROUND_DOWN).unscaledValue();
+			final BigDecimal negated = new BigDecimal(product.negate().add(BigInteger.valueOf(RND.nextInt())));
+			return negated.max(LONG_MIN).min(LONG_MAX).longValue();
+		}
+	}
+
+	@Override
+	protected String operation() {
+		return "* (+augend)";
+	}
+
+	@Override
+	protected BigDecimal expectedResult(BigDecimal a, BigDecimal b) {
+		return a.multiply(b).add(toBigDecimal(augend));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected <S extends ScaleMetrics> Decimal<S> actualResult(Decimal<S> a, Decimal<S> b) {
+		final Decimal<S> c = (Decimal<S>) augend;
+		if (isStandardTruncationPolicy() && RND.nextBoolean()) {
+			return a.multiplyAdd(b, c);
+		}
+		if (isUnchecked() && RND.nextBoolean()) {
+			return a.multiplyAdd(b, c, getRoundingMode());
+		}
+		return a.multiplyAdd(b, c, getTruncationPolicy());
+	}
+}
@@ -0,0 +1,263 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArithmetic#fromDecimal64(long)} and
+ * {@link DecimalArithmetic#toDecimal64(long)}. Expected results are derived
+ * from {@link BigDecimal} values and a straight forward reference
+ * implementation of the decimal64 BID encoding.
+ */
+@RunWith(Parameterized.class)
+public class Decimal64ConversionTest extends AbstractDecimalTest {
+
+	private static final long MAX_COEFFICIENT = 9999999999999999L;
+	private static final long TWO_POW_53 = 1L << 53;
+	private static final MathContext DECIMAL64_PRECISION = new MathContext(16);
+
+	public Decimal64ConversionTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				data.add(new Object[] {s, tp, s.getArithmetic(tp)});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldEncodeReferenceValues() {
+		assertEquals("unexpected reference encoding of 1", 0x31c0000000000001L, encode(BigDecimal.ONE));
+		assertEquals("unexpected reference encoding of -7.50", 0xb1800000000002eeL, encode(new BigDecimal("-7.50")));
+		assertEquals("unexpected reference encoding of max coefficient", 0x6c7386f26fc0ffffL,
+				encode(BigDecimal.valueOf(MAX_COEFFICIENT)));
+		assertEquals("unexpected value for 1", arithmetic.one(), arithmetic.fromDecimal64(0x31c0000000000001L));
+		assertEquals("unexpected decimal64 for 1", encode(BigDecimal.ONE.setScale(getScale()).round(DECIMAL64_PRECISION)),
+				arithmetic.toDecimal64(arithmetic.one()));
+	}
+
+	@Test
+	public void shouldConvertFromDecimal64() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final BigDecimal value = BigDecimal.valueOf(randomCoefficient(), -randomExponent());
+			assertFromDecimal64("[" + i + "]", value);
+		}
+		for (final long special : getSpecialValues(getScaleMetrics())) {
+			for (final ScaleMetrics scale : Scales.VALUES) {
+				final BigDecimal value = BigDecimal.valueOf(special, scale.getScale());
+				if (value.precision() <= 16) {
+					assertFromDecimal64("[special]", value);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void shouldConvertToDecimal64() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			assertToDecimal64("[" + i + "]", nextLongOrInt());
+		}
+		for (final long special : getSpecialValues(getScaleMetrics())) {
+			assertToDecimal64("[special]", special);
+		}
+	}
+
+	@Test
+	public void shouldConvertToDecimal64AndBack() {
+		final int n = TestSettings.getRandomTestCount();
+		for (int i = 0; i < n; i++) {
+			final long uDecimal = RND.nextLong(MAX_COEFFICIENT) - RND.nextLong(MAX_COEFFICIENT);
+			assertEquals("unexpected result for " + uDecimal, uDecimal,
+					arithmetic.fromDecimal64(arithmetic.toDecimal64(uDecimal)));
+		}
+	}
+
+	@Test
+	public void shouldConvertZeroValues() {
+		// negative zero
+		assertEquals(0, arithmetic.fromDecimal64(0xb1c0000000000000L));
+		// zero with minimum and maximum exponent
+		assertEquals(0, arithmetic.fromDecimal64(0x0000000000000000L));
+		assertEquals(0, arithmetic.fromDecimal64(0x5fe0000000000000L));
+		// non-canonical coefficients are treated as zero
+		assertEquals(0, arithmetic.fromDecimal64(0x6c7fffffffffffffL));
+		assertEquals(0, arithmetic.fromDecimal64(0xec7fffffffffffffL));
+		assertEquals(0, arithmetic.fromDecimal64(0x6bffffffffffffffL));
+	}
+
+	@Test
+	public void shouldThrowExceptionForNaNAndInfinity() {
+		final long[] values = { 0x7c00000000000000L, 0xfc00000000000000L, 0x7e00000000000000L, 0x7800000000000000L,
+				0xf800000000000000L, 0x7a00000000000001L };
+		for (final long value : values) {
+			try {
+				arithmetic.fromDecimal64(value);
+				fail("expected IllegalArgumentException for " + Long.toHexString(value));
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	private static long randomCoefficient() {
+		final long coefficient;
+		switch (RND.nextInt(4)) {
+		case 0:
+			coefficient = RND.nextInt(1000);
+			break;
+		case 1:
+			coefficient = RND.nextInt(Integer.MAX_VALUE);
+			break;
+		case 2:
+			// encoded with the implicit 100 prefix
+			coefficient = TWO_POW_53 + RND.nextLong(MAX_COEFFICIENT - TWO_POW_53 + 1);
+			break;
+		default:
+			coefficient = RND.nextLong(MAX_COEFFICIENT + 1);
+			break;
+		}
+		return RND.nextBoolean() ? coefficient : -coefficient;
+	}
+
+	private static int randomExponent() {
+		if (RND.nextInt(10) == 0) {
+			return -398 + RND.nextInt(768);
+		}
+		return -24 + RND.nextInt(30);
+	}
+
+	private void assertFromDecimal64(String name, BigDecimal value) {
+		final long decimal64 = encode(value);
+		final String message = getClass().getSimpleName() + name + ": fromDecimal64 " + value + " ["
+				+ Long.toHexString(decimal64) + "]";
+
+		// expected
+		Long expected = null;
+		RuntimeException expectedException = null;
+		try {
+			final BigDecimal rounded = value.setScale(getScale(), getRoundingMode());
+			if (rounded.unscaledValue().bitLength() > 63) {
+				throw new IllegalArgumentException("Overflow: " + rounded);
+			}
+			expected = rounded.unscaledValue().longValue();
+		} catch (ArithmeticException e) {
+			expectedException = e;
+		} catch (IllegalArgumentException e) {
+			expectedException = e;
+		}
+
+		// actual
+		Long actual = null;
+		RuntimeException actualException = null;
+		try {
+			actual = arithmetic.fromDecimal64(decimal64);
+		} catch (ArithmeticException e) {
+			actualException = e;
+		} catch (IllegalArgumentException e) {
+			actualException = e;
+		}
+
+		assertResult(message, expected, expectedException, actual, actualException);
+	}
+
+	private void assertToDecimal64(String name, long uDecimal) {
+		final String message = getClass().getSimpleName() + name + ": toDecimal64 " + arithmetic.toString(uDecimal);
+
+		// expected
+		Long expected = null;
+		RuntimeException expectedException = null;
+		try {
+			final BigDecimal rounded = BigDecimal.valueOf(uDecimal, getScale())
+					.round(new MathContext(DECIMAL64_PRECISION.getPrecision(), getRoundingMode()));
+			expected = encode(rounded);
+		} catch (ArithmeticException e) {
+			expectedException = e;
+		}
+
+		// actual
+		Long actual = null;
+		RuntimeException actualException = null;
+		try {
+			actual = arithmetic.toDecimal64(uDecimal);
+		} catch (ArithmeticException e) {
+			actualException = e;
+		}
+
+		assertResult(message, expected, expectedException, actual, actualException);
+	}
+
+	private static void assertResult(String message, Long expected, RuntimeException expectedException, Long actual, RuntimeException actualException) {
+		if (expectedException != null) {
+			if (actualException == null) {
+				fail(message + ": expected exception " + expectedException + " but result was " + actual);
+			}
+			assertEquals(message + ": unexpected exception type", expectedException.getClass(), actualException.getClass());
+		} else {
+			if (actualException != null) {
+				throw new AssertionError(message + ": expected " + expected + " but exception was " + actualException, actualException);
+			}
+			assertEquals(message, expected, actual);
+		}
+	}
+
+	/**
+	 * Reference implementation of the decimal64 BID encoding for values with
+	 * at most 16 digits and an exponent within the decimal64 exponent range.
+	 */
+	private static long encode(BigDecimal value) {
+		final long sign = value.signum() < 0 ? Long.MIN_VALUE : 0;
+		final long coefficient = value.unscaledValue().abs().longValue();
+		final long exponent = 398 - value.scale();
+		if (coefficient < TWO_POW_53) {
+			return sign | (exponent << 53) | coefficient;
+		}
+		return sign | (3L << 61) | (exponent << 51) | (coefficient - (4L << 51));
+	}
+}
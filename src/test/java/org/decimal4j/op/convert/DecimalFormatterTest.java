@@ -0,0 +1,202 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.Charset;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalFormatter;
+import org.decimal4j.arithmetic.DecimalFormatter.SignStyle;
+import org.decimal4j.immutable.Decimal3f;
+import org.decimal4j.op.AbstractDecimalToAnyTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFormatter} comparing the formatted values with the output of {@link DecimalFormat} for
+ * the equivalent {@link BigDecimal} value.
+ */
+@RunWith(Parameterized.class)
+public class DecimalFormatterTest extends AbstractDecimalToAnyTest<String> {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	private final DecimalFormatter formatter;
+
+	public DecimalFormatterTest(ScaleMetrics scaleMetrics, String name, DecimalFormatter formatter, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.formatter = formatter;
+	}
+
+	@Parameters(name = "{index}: scale={0}, {1}")
+	public static Iterable<Object[]> data() {
+		final DecimalFormatter d = DecimalFormatter.DEFAULT;
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			final DecimalArithmetic arith = s.getDefaultArithmetic();
+			data.add(new Object[] {s, "default", d, arith});
+			data.add(new Object[] {s, "grouping, 2 digits", d.withGrouping(3).withFractionDigits(2), arith});
+			data.add(new Object[] {s, "6 digits, stripped, signed", d.withFractionDigits(6).withStripTrailingZeros(true).withSignStyle(SignStyle.ALWAYS).withRoundingMode(RoundingMode.HALF_EVEN), arith});
+			data.add(new Object[] {s, "german, parentheses, padded", d.withLocale(Locale.GERMANY).withGrouping(3).withSignStyle(SignStyle.PARENTHESES).withPadding(30, ' '), arith});
+			data.add(new Object[] {s, "0 digits, zero padded", d.withFractionDigits(0).withRoundingMode(RoundingMode.FLOOR).withPadding(25, '0'), arith});
+			data.add(new Object[] {s, "4 digits, unnecessary", d.withFractionDigits(4).withRoundingMode(RoundingMode.UNNECESSARY), arith});
+			data.add(new Object[] {s, "grouping 1, 18 digits, wide", d.withGrouping(1).withGroupingSeparator('_').withFractionDigits(18).withPadding(70, '*'), arith});
+		}
+		return data;
+	}
+
+	@Test
+	public void testGermanGroupingWithTwoDigits() {
+		final DecimalFormatter german = DecimalFormatter.DEFAULT.withLocale(Locale.GERMANY).withGrouping(3).withFractionDigits(2);
+		assertEquals("-1.234.567,89", german.format(Decimal3f.valueOf("-1234567.891")));
+	}
+
+	@Test
+	public void testArrayTooSmall() {
+		final long uDecimal = -arithmetic.one();
+		final int len = formatter.format(uDecimal, getScale()).length();
+		final char[] chars = new char[len + 2];
+		final byte[] bytes = new byte[len + 2];
+		assertEquals(len, formatter.format(uDecimal, getScale(), chars, 2));
+		assertEquals(len, formatter.format(uDecimal, getScale(), bytes, 2));
+		for (final int offset : new int[] {-1, 3}) {
+			try {
+				formatter.format(uDecimal, getScale(), chars, offset);
+				fail("expected IndexOutOfBoundsException");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+			try {
+				formatter.format(uDecimal, getScale(), bytes, offset);
+				fail("expected IndexOutOfBoundsException");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testNonAsciiBytes() {
+		formatter.withSignStyle(SignStyle.NEGATIVE).withMinusSign('\u2212').format(-arithmetic.one(), getScale(), new byte[100], 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalFractionDigits() {
+		formatter.withFractionDigits(19);
+	}
+
+	@Override
+	protected String operation() {
+		return "format[" + formatter + "]";
+	}
+
+	@Override
+	protected String expectedResult(BigDecimal operand) {
+		final int digits = formatter.getFractionDigits() < 0 ? getScale() : formatter.getFractionDigits();
+		BigDecimal rounded = operand.setScale(digits, formatter.getRoundingMode());
+		if (formatter.isStripTrailingZeros()) {
+			rounded = rounded.stripTrailingZeros();
+			if (rounded.scale() < 0) {
+				rounded = rounded.setScale(0);
+			}
+		}
+		final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.ROOT);
+		symbols.setGroupingSeparator(formatter.getGroupingSeparator());
+		symbols.setDecimalSeparator(formatter.getDecimalSeparator());
+		final DecimalFormat format = new DecimalFormat("0", symbols);
+		format.setGroupingUsed(formatter.getGroupingSize() > 0);
+		format.setGroupingSize(formatter.getGroupingSize());
+		format.setMinimumFractionDigits(rounded.scale());
+		format.setMaximumFractionDigits(rounded.scale());
+		final String digitString = format.format(rounded.abs());
+		final String prefix;
+		final String suffix;
+		if (rounded.signum() < 0) {
+			prefix = formatter.getSignStyle() == SignStyle.PARENTHESES ? "(" : String.valueOf(formatter.getMinusSign());
+			suffix = formatter.getSignStyle() == SignStyle.PARENTHESES ? ")" : "";
+		} else {
+			prefix = formatter.getSignStyle() == SignStyle.ALWAYS ? "+" : "";
+			suffix = "";
+		}
+		final StringBuilder padding = new StringBuilder();
+		while (padding.length() + prefix.length() + digitString.length() + suffix.length() < formatter.getWidth()) {
+			padding.append(formatter.getPadChar());
+		}
+		if (formatter.getPadChar() == '0') {
+			return prefix + padding + digitString + suffix;
+		}
+		return padding + prefix + digitString + suffix;
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> String actualResult(Decimal<S> operand) {
+		final int offset = RND.nextInt(8);
+		try {
+			switch (RND.nextInt(5)) {
+			case 0:
+				return formatter.format(operand);
+			case 1: {
+				final StringBuilder sb = new StringBuilder("prefix");
+				formatter.format(operand, sb);
+				return sb.substring("prefix".length());
+			}
+			case 2: {
+				final StringWriter writer = new StringWriter();
+				formatter.format(operand, writer);
+				return writer.toString();
+			}
+			case 3: {
+				final char[] chars = new char[offset + 80];
+				final int len = formatter.format(operand, chars, offset);
+				return new String(chars, offset, len);
+			}
+			case 4://fallthrough
+			default: {
+				final byte[] bytes = new byte[offset + 80];
+				final int len = formatter.format(operand, bytes, offset);
+				return new String(bytes, offset, len, ASCII);
+			}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+	}
+}
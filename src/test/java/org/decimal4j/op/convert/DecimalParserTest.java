@@ -0,0 +1,146 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.arithmetic.DecimalParser;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Test {@link DecimalParser} comparing status and result with the exceptions
+ * and values of {@link DecimalArithmetic#parse(CharSequence, int, int)}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalParserTest extends FromStringTest {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	private final DecimalParser parser;
+
+	public DecimalParserTest(ScaleMetrics s, RoundingMode mode, DecimalArithmetic arithmetic) {
+		super(s, mode, arithmetic);
+		this.parser = new DecimalParser(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				final DecimalArithmetic arith = s.getArithmetic(mode);
+				data.add(new Object[] { s, mode, arith });
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "decimalParser";
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> Decimal<S> actualResult(S scaleMetrics, String operand) {
+		final DecimalFactory<S> factory = getDecimalFactory(scaleMetrics);
+		if (operand == null) {
+			return factory.valueOfUnscaled(parser.parse(null));
+		}
+		final byte[] bytes = operand.getBytes(ASCII);
+		final long[] holder = { RND.nextLong(), RND.nextLong() };
+		final long initial = holder[1];
+		final MutableDecimal<S> mutable = factory.newMutable().setUnscaled(initial);
+		final int status;
+		final long unscaled;
+		switch (RND.nextInt(6)) {
+		case 0:
+			status = parser.parse(operand);
+			unscaled = parser.getUnscaledValue();
+			break;
+		case 1:
+			status = parser.parse(operand, 0, operand.length(), holder, 1);
+			unscaled = holder[1];
+			break;
+		case 2:
+			status = parser.parse(operand, 0, operand.length(), mutable);
+			unscaled = mutable.unscaledValue();
+			break;
+		case 3:
+			status = parser.parse(bytes, 0, bytes.length);
+			unscaled = parser.getUnscaledValue();
+			break;
+		case 4:
+			status = parser.parse(bytes, 0, bytes.length, holder, 1);
+			unscaled = holder[1];
+			break;
+		case 5://fallthrough
+		default: {
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes);
+			status = parser.parse(buffer, 0, bytes.length, mutable);
+			unscaled = mutable.unscaledValue();
+			break;
+		}
+		}
+		assertEquals("isParseable(" + operand + ")", status == DecimalParser.OK, parser.isParseable(operand));
+		assertEquals("isParseable(" + operand + ")", status == DecimalParser.OK, parser.isParseable(bytes, 0, bytes.length));
+
+		//compare with exception thrown by parse method
+		try {
+			final long expected = arithmetic.parse(operand);
+			assertEquals("status for " + operand, DecimalParser.OK, status);
+			assertEquals("value for " + operand, expected, unscaled);
+		} catch (NumberFormatException e) {
+			assertTrue("status for " + operand + " should be INVALID_FORMAT or OVERFLOW but was " + status,
+					status == DecimalParser.INVALID_FORMAT || status == DecimalParser.OVERFLOW);
+			assertEquals("holder should not be modified for " + operand, initial, holder[1]);
+			assertEquals("mutable should not be modified for " + operand, initial, mutable.unscaledValue());
+		} catch (ArithmeticException e) {
+			assertEquals("status for " + operand, DecimalParser.ROUNDING_NECESSARY, status);
+		}
+		switch (status) {
+		case DecimalParser.OK:
+			return factory.valueOfUnscaled(unscaled);
+		case DecimalParser.ROUNDING_NECESSARY:
+			throw new ArithmeticException("Rounding necessary: " + operand);
+		default:
+			throw new NumberFormatException("Status " + status + ": " + operand);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Test {@link DecimalArithmetic#parse(byte[], int, int)},
+ * {@link DecimalArithmetic#parse(ByteBuffer, int, int)} and the equivalent
+ * methods of {@link DecimalFactory}.
+ */
+@RunWith(Parameterized.class)
+public class FromAsciiTest extends FromStringTest {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	public FromAsciiTest(ScaleMetrics s, RoundingMode mode, DecimalArithmetic arithmetic) {
+		super(s, mode, arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode mode : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				final DecimalArithmetic arith = s.getArithmetic(mode);
+				data.add(new Object[] { s, mode, arith });
+			}
+		}
+		return data;
+	}
+
+	@Override
+	protected String operation() {
+		return "fromAscii";
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> Decimal<S> actualResult(S scaleMetrics, String operand) {
+		final DecimalFactory<S> factory = getDecimalFactory(scaleMetrics);
+		final DecimalArithmetic arith = RND.nextBoolean() ? arithmetic : arithmetic.deriveArithmetic(OverflowMode.CHECKED);
+		if (operand == null) {
+			return factory.valueOfUnscaled(arith.parse((byte[]) null, 0, 0));
+		}
+		//prepend and append some crap chars
+		final String blabla = "BLABLA";
+		final String prefix = blabla.substring(0, RND.nextInt(blabla.length()));
+		final String postfix = blabla.substring(0, RND.nextInt(blabla.length()));
+		final byte[] bytes = (prefix + operand + postfix).getBytes(ASCII);
+		final int start = prefix.length();
+		final int end = bytes.length - postfix.length();
+		switch (RND.nextInt(4)) {
+		case 0:
+			// Factory with byte array or buffer, HALF_UP only
+			if (isRoundingDefault()) {
+				if (RND.nextBoolean()) {
+					return factory.parse(bytes, start, end);
+				}
+				return factory.parse(ByteBuffer.wrap(bytes), start, end);
+			}
+			//else: fallthrough
+		case 1:
+			// DecimalArithmetic API with byte array
+			return factory.valueOfUnscaled(arith.parse(bytes, start, end));
+		case 2: {
+			// DecimalArithmetic API with sliced heap buffer
+			final ByteBuffer buffer = ByteBuffer.allocate(bytes.length + 3);
+			buffer.position(3);
+			final ByteBuffer slice = buffer.slice();
+			slice.put(bytes);
+			return factory.valueOfUnscaled(arith.parse(slice, start, end));
+		}
+		case 3:// fallthrough
+		default: {
+			// DecimalArithmetic API with direct buffer
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+			buffer.put(bytes);
+			return factory.valueOfUnscaled(arith.parse(buffer, start, end));
+		}
+		}
+	}
+}
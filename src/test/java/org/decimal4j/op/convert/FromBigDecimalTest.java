@@ -69,6 +69,15 @@ public class FromBigDecimalTest extends AbstractBigDecimalToDecimalTest {
 		return "fromBigDecimal";
 	}
 
+	@Override
+	protected BigDecimal randomBigDecimalOperand() {
+		if (RND.nextInt(5) == 0) {
+			// negative scales and scales exceeding the max scale
+			return BigDecimal.valueOf(nextLongOrInt(), RND.nextInt(60) - 20);
+		}
+		return super.randomBigDecimalOperand();
+	}
+
 	@Override
 	protected BigDecimal expectedResult(BigDecimal operand) {
 		final BigDecimal result = operand.setScale(getScale(), getRoundingMode());
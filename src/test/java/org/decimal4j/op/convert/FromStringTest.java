@@ -75,8 +75,16 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 	}
 
 	protected String randomStringOperand() {
-		final String s = Long.toString(RND.nextLong());
-		return toDecimalString(s, RND.nextInt(s.length() + 1));
+		final String s = RND.nextInt(8) == 0 ?
+				// more than 19 digits
+				Long.toString(RND.nextLong()) + Long.toString(Long.MAX_VALUE & RND.nextLong()) :
+				Long.toString(RND.nextLong());
+		final String decimalString = toDecimalString(s, RND.nextInt(s.length() + 1));
+		if (RND.nextInt(4) == 0) {
+			// with exponent
+			return decimalString + (RND.nextBoolean() ? "E" : "e") + (RND.nextInt(81) - 50);
+		}
+		return decimalString;
 	}
 
 	private static String toDecimalString(String s, int decimalIndex) {
@@ -110,8 +118,24 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 					values.add(decimalString + "5000000000000000000000000000001");
 					values.add(decimalString + "9999999999999999999999999999999");
 				}
+				// with exponent
+				values.add(decimalString + "E0");
+				values.add(decimalString + "E1");
+				values.add(decimalString + "e+2");
+				values.add(decimalString + "E-1");
+				values.add(decimalString + "e-" + getScale());
+				values.add(decimalString + "E-" + (getScale() + 1));
+				values.add(decimalString + "E18");
+				values.add(decimalString + "E-19");
+				values.add(decimalString + "E-40");
+				values.add(decimalString + "E0005");
 				// some invalid
 				values.add(decimalString + "A");
+				values.add(decimalString + "E");
+				values.add(decimalString + "E+");
+				values.add(decimalString + "E-");
+				values.add(decimalString + "E1.5");
+				values.add(decimalString + "EE1");
 				values.add(decimalString + "000000000000000000000000000000Z");
 			}
 		}
@@ -149,6 +173,28 @@ public class FromStringTest extends AbstractRandomAndSpecialValueTest {
 		values.add("-1.");
 		values.add("+1.A");
 		values.add("-1.A");
+		values.add("E1");
+		values.add(".E1");
+		values.add("-E1");
+		values.add("1.2.3E1");
+		values.add("1E400");
+		values.add("1E-400");
+		values.add("-1E-400");
+		values.add("0E400");
+		values.add("0.00000000000000000000123456789E20");
+		values.add("-0.00000000000000000000999999999E21");
+		values.add("1.25E-3");
+		values.add("6e2");
+		// integral part with more than 19 digits, brought back into range by the exponent
+		values.add("1234567890123456789012.5e-10");
+		values.add("-1234567890123456789012.5e-10");
+		values.add("99999999999999999999.0e-5");
+		values.add("+99999999999999999999.0E-5");
+		values.add("-99999999999999999999.99e-5");
+		values.add("99999999999999999999e-5");
+		values.add("123456789012345678901234567890.123456789E-20");
+		values.add("-123456789012345678901234567890.5E-29");
+		values.add("123456789012345678901234567890.5E-10");
 		values.add(null);// test null input
 		return values.toArray(new String[values.size()]);
 	}
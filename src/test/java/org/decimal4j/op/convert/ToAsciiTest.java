@@ -0,0 +1,162 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.op.AbstractDecimalToAnyTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.OverflowMode;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArithmetic#toAscii(long, byte[], int)} and
+ * {@link DecimalArithmetic#toAscii(long, ByteBuffer)}
+ */
+@RunWith(Parameterized.class)
+public class ToAsciiTest extends AbstractDecimalToAnyTest<String> {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+
+	public ToAsciiTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getArithmetic(RoundingMode.DOWN)});
+		}
+		return data;
+	}
+
+	@Test
+	public void testArrayTooSmall() {
+		final long uDecimal = -arithmetic.one();
+		final int len = arithmetic.toString(uDecimal).length();
+		final byte[] dst = new byte[len + 2];
+		assertEquals(len, arithmetic.toAscii(uDecimal, dst, 2));
+		try {
+			arithmetic.toAscii(uDecimal, dst, 3);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		try {
+			arithmetic.toAscii(uDecimal, dst, -1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testBufferTooSmall() {
+		final long uDecimal = Long.MIN_VALUE;
+		final int len = arithmetic.toString(uDecimal).length();
+		for (final ByteBuffer dst : new ByteBuffer[] { ByteBuffer.allocate(len - 1), ByteBuffer.allocateDirect(len - 1) }) {
+			try {
+				arithmetic.toAscii(uDecimal, dst);
+				fail("expected BufferOverflowException");
+			} catch (BufferOverflowException e) {
+				// expected
+			}
+			assertEquals(0, dst.position());
+		}
+	}
+
+	@Override
+	protected String operation() {
+		return "toAscii";
+	}
+
+	@Override
+	protected String expectedResult(BigDecimal operand) {
+		return operand.toPlainString();
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> String actualResult(Decimal<S> operand) {
+		final long uDecimal = operand.unscaledValue();
+		final int offset = RND.nextInt(8);
+		switch (RND.nextInt(4)) {
+		case 0: {
+			final byte[] dst = new byte[offset + 24];
+			final int len = arithmetic.toAscii(uDecimal, dst, offset);
+			assertFill(dst, 0, offset);
+			assertFill(dst, offset + len, dst.length);
+			return new String(dst, offset, len, ASCII);
+		}
+		case 1: {
+			final ByteBuffer dst = ByteBuffer.allocate(offset + 24);
+			dst.position(offset);
+			return fromBuffer(dst, arithmetic.toAscii(uDecimal, dst));
+		}
+		case 2: {
+			final ByteBuffer dst = ByteBuffer.allocateDirect(offset + 24);
+			dst.position(offset);
+			return fromBuffer(dst, arithmetic.toAscii(uDecimal, dst));
+		}
+		case 3://fallthrough
+		default: {
+			//checked arithmetic into a sliced heap buffer with array offset
+			final ByteBuffer dst = ByteBuffer.allocate(offset + 24);
+			dst.position(offset);
+			final ByteBuffer slice = dst.slice();
+			return fromBuffer(slice, arithmetic.deriveArithmetic(OverflowMode.CHECKED).toAscii(uDecimal, slice));
+		}
+		}
+	}
+
+	private static String fromBuffer(ByteBuffer dst, int len) {
+		final int end = dst.position();
+		final byte[] bytes = new byte[len];
+		for (int i = 0; i < len; i++) {
+			bytes[i] = dst.get(end - len + i);
+		}
+		return new String(bytes, ASCII);
+	}
+
+	private static void assertFill(byte[] dst, int from, int to) {
+		for (int i = from; i < to; i++) {
+			assertEquals("byte at index " + i + " should not have been written", 0, dst[i]);
+		}
+	}
+}
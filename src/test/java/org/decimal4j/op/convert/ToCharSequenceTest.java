@@ -0,0 +1,124 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.op.convert;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalCharSequence;
+import org.decimal4j.op.AbstractDecimalToAnyTest;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalCharSequence}; a single sequence instance is re-pointed to every tested value.
+ */
+@RunWith(Parameterized.class)
+public class ToCharSequenceTest extends AbstractDecimalToAnyTest<String> {
+
+	private final DecimalCharSequence sequence = new DecimalCharSequence();
+
+	public ToCharSequenceTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getArithmetic(RoundingMode.DOWN)});
+		}
+		return data;
+	}
+
+	@Test
+	public void testIndexOutOfBounds() {
+		sequence.set(-arithmetic.one(), getScale());
+		final int len = sequence.length();
+		assertEquals('-', sequence.charAt(0));
+		assertEquals('1', sequence.charAt(1));
+		for (final int index : new int[] {-1, len}) {
+			try {
+				sequence.charAt(index);
+				fail("expected IndexOutOfBoundsException");
+			} catch (IndexOutOfBoundsException e) {
+				// expected
+			}
+		}
+		try {
+			sequence.subSequence(1, len + 1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalScale() {
+		sequence.set(1, 19);
+	}
+
+	@Override
+	protected String operation() {
+		return "toCharSequence";
+	}
+
+	@Override
+	protected String expectedResult(BigDecimal operand) {
+		return operand.toPlainString();
+	}
+
+	@Override
+	protected <S extends ScaleMetrics> String actualResult(Decimal<S> operand) {
+		switch (RND.nextInt(4)) {
+		case 0:
+			return sequence.set(operand).toString();
+		case 1:
+			return sequence.set(operand.unscaledValue(), getScale()).appendTo(new StringBuilder()).toString();
+		case 2: {
+			sequence.set(operand);
+			final StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < sequence.length(); i++) {
+				sb.append(sequence.charAt(i));
+			}
+			return sb.toString();
+		}
+		case 3://fallthrough
+		default:
+			sequence.set(operand);
+			return sequence.subSequence(0, sequence.length()).toString();
+		}
+	}
+}
@@ -72,7 +72,7 @@ public class ToStringTest extends AbstractDecimalToAnyTest<String> {
 	@Override
 	protected <S extends ScaleMetrics> String actualResult(Decimal<S> operand) {
 		try {
-			switch (RND.nextInt(5)) {
+			switch (RND.nextInt(6)) {
 			case 0:
 				return operand.toString();
 			case 1:
@@ -92,7 +92,14 @@ public class ToStringTest extends AbstractDecimalToAnyTest<String> {
 				arithmetic.toString(operand.unscaledValue(), sb);
 				return sb.substring(prefix.length());
 			}
-			case 4://fallthrough
+			case 4: {
+				//use char array version with some offset
+				final char[] chars = new char[32];
+				final int offset = RND.nextInt(8);
+				final int len = arithmetic.toChars(operand.unscaledValue(), chars, offset);
+				return new String(chars, offset, len);
+			}
+			case 5://fallthrough
 			default: {
 				//use appendable version for checked arithmetic
 				final StringBuilder sb = new StringBuilder();
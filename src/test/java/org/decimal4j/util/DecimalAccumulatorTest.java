@@ -0,0 +1,233 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalAccumulator} comparing accumulated sums with the
+ * exact sums calculated with {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalAccumulatorTest extends AbstractDecimalTest {
+
+	private static final int RANDOM_VALUES = 100;
+
+	public DecimalAccumulatorTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldBeEmptyInitially() {
+		final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		assertTrue("should be empty", accumulator.isEmpty());
+		assertEquals("unexpected count", 0, accumulator.getCount());
+		assertEquals("unexpected sum", 0, accumulator.getUnscaledSum(arithmetic));
+	}
+
+	@Test
+	public void shouldSumValues() {
+		for (int i = 0; i < 10; i++) {
+			final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+			BigDecimal expected = BigDecimal.ZERO;
+			for (int j = 0; j < RANDOM_VALUES; j++) {
+				final long value = nextLongOrInt();
+				accumulator.addUnscaled(value);
+				expected = expected.add(toBigDecimal(value, getScale()));
+			}
+			assertEquals("unexpected count", RANDOM_VALUES, accumulator.getCount());
+			assertSum(expected, accumulator);
+		}
+	}
+
+	@Test
+	public void shouldSumSpecialValues() {
+		final long[] specialValues = getSpecialValues(getScaleMetrics());
+		final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		BigDecimal expected = BigDecimal.ZERO;
+		for (final long value : specialValues) {
+			accumulator.addUnscaled(value);
+			expected = expected.add(toBigDecimal(value, getScale()));
+			assertSum(expected, accumulator);
+		}
+	}
+
+	@Test
+	public void shouldSumProducts() {
+		for (int i = 0; i < 10; i++) {
+			final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+			BigDecimal expected = BigDecimal.ZERO;
+			for (int j = 0; j < RANDOM_VALUES; j++) {
+				//int values to avoid 128 bit overflow
+				final long factor1 = RND.nextBoolean() ? RND.nextInt() : nextLongOrInt() >> 8;
+				final long factor2 = RND.nextInt();
+				accumulator.addUnscaledProduct(factor1, factor2);
+				expected = expected.add(toBigDecimal(factor1, getScale()).multiply(toBigDecimal(factor2, getScale())));
+				if (RND.nextBoolean()) {
+					final long value = nextLongOrInt();
+					accumulator.addUnscaled(value);
+					expected = expected.add(toBigDecimal(value, getScale()));
+				}
+			}
+			assertSum(expected, accumulator);
+		}
+	}
+
+	@Test
+	public void shouldSumSpecialValueProducts() {
+		final long[] specialValues = getSpecialValues(getScaleMetrics());
+		for (final long factor1 : specialValues) {
+			for (final long factor2 : specialValues) {
+				final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+				accumulator.addUnscaledProduct(factor1, factor2);
+				assertSum(toBigDecimal(factor1, getScale()).multiply(toBigDecimal(factor2, getScale())), accumulator);
+			}
+		}
+	}
+
+	@Test
+	public void shouldNotOverflowForIntermediateSums() {
+		final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		for (int i = 0; i < 1000; i++) {
+			accumulator.addUnscaled(Long.MAX_VALUE);
+		}
+		for (int i = 0; i < 1000; i++) {
+			accumulator.addUnscaled(-Long.MAX_VALUE);
+		}
+		accumulator.addUnscaled(42);
+		assertEquals("unexpected sum", 42, accumulator.getUnscaledSum(getScaleMetrics().getDefaultArithmetic()));
+	}
+
+	@Test
+	public void shouldMerge() {
+		final DecimalAccumulator<ScaleMetrics> all = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		final DecimalAccumulator<ScaleMetrics> part1 = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		final DecimalAccumulator<ScaleMetrics> part2 = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		BigDecimal expected = BigDecimal.ZERO;
+		for (int i = 0; i < RANDOM_VALUES; i++) {
+			final long value = nextLongOrInt();
+			final long factor = RND.nextInt();
+			all.addUnscaled(value).addUnscaledProduct(value, factor);
+			(RND.nextBoolean() ? part1 : part2).addUnscaled(value).addUnscaledProduct(value, factor);
+			expected = expected.add(toBigDecimal(value, getScale()));
+			expected = expected.add(toBigDecimal(value, getScale()).multiply(toBigDecimal(factor, getScale())));
+		}
+		part1.merge(part2);
+		assertEquals("unexpected count", all.getCount(), part1.getCount());
+		assertSum(expected, part1);
+		assertSum(expected, all);
+	}
+
+	@Test
+	public void shouldReset() {
+		final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		accumulator.addUnscaled(Long.MAX_VALUE).addUnscaledProduct(Long.MIN_VALUE, Long.MIN_VALUE);
+		accumulator.reset();
+		assertTrue("should be empty", accumulator.isEmpty());
+		assertEquals("unexpected sum", 0, accumulator.getUnscaledSum(arithmetic));
+	}
+
+	@Test
+	public void shouldThrowExceptionIf128BitSumOverflows() {
+		final DecimalAccumulator<ScaleMetrics> accumulator = new DecimalAccumulator<ScaleMetrics>(getScaleMetrics());
+		accumulator.addUnscaledProduct(Long.MIN_VALUE, Long.MIN_VALUE);
+		accumulator.addUnscaledProduct(Long.MIN_VALUE, Long.MIN_VALUE);
+		try {
+			accumulator.getUnscaledSum(arithmetic);
+			fail("expected overflow exception for " + accumulator);
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionWhenMergingDifferentScales() {
+		final ScaleMetrics other = Scales.getScaleMetrics((getScale() + 1) % (Scales.MAX_SCALE + 1));
+		new DecimalAccumulator<ScaleMetrics>(getScaleMetrics()).merge(new DecimalAccumulator<ScaleMetrics>(other));
+	}
+
+	private void assertSum(BigDecimal expected, DecimalAccumulator<ScaleMetrics> accumulator) {
+		assertSum(expected, accumulator, arithmetic);
+		final int otherScale = RND.nextInt(Scales.MAX_SCALE + 1);
+		assertSum(expected, accumulator, arithmetic.deriveArithmetic(otherScale));
+	}
+
+	private static void assertSum(BigDecimal expected, DecimalAccumulator<ScaleMetrics> accumulator, DecimalArithmetic targetArithmetic) {
+		final BigDecimal rounded;
+		try {
+			rounded = expected.setScale(targetArithmetic.getScale(), targetArithmetic.getRoundingMode());
+		} catch (ArithmeticException e) {
+			try {
+				accumulator.getUnscaledSum(targetArithmetic);
+				fail("expected rounding exception for " + expected + " and " + targetArithmetic);
+			} catch (ArithmeticException e2) {
+				// expected
+			}
+			return;
+		}
+		if (rounded.unscaledValue().bitLength() > 63) {
+			try {
+				accumulator.getUnscaledSum(targetArithmetic);
+				fail("expected exception for " + expected + " and " + targetArithmetic);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			return;
+		}
+		assertEquals("unexpected sum for " + expected + " and " + targetArithmetic, rounded.unscaledValue().longValue(), accumulator.getUnscaledSum(targetArithmetic));
+	}
+
+	private static BigDecimal toBigDecimal(long unscaled, int scale) {
+		return BigDecimal.valueOf(unscaled, scale);
+	}
+}
@@ -0,0 +1,173 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalArray} and the {@link DecimalCursor} returned by
+ * {@link DecimalArray#cursor()}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalArrayTest extends AbstractDecimalTest {
+
+	private static final int SIZE = 100;
+
+	public DecimalArrayTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldGetAndSetValues() {
+		final DecimalArray<ScaleMetrics> array = new DecimalArray<ScaleMetrics>(getScaleMetrics(), SIZE);
+		final MutableDecimal<ScaleMetrics> mutable = getDecimalFactory(getScaleMetrics()).newMutable();
+		assertEquals("unexpected length", SIZE, array.length());
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("should be zero initially", 0, array.getUnscaled(i));
+			final Decimal<ScaleMetrics> value = randomDecimal(getScaleMetrics());
+			if (RND.nextBoolean()) {
+				array.set(i, value);
+			} else {
+				array.setUnscaled(i, value.unscaledValue());
+			}
+			assertEquals("unexpected unscaled value", value.unscaledValue(), array.getUnscaled(i));
+			assertEquals("unexpected value", value.toImmutableDecimal(), array.get(i));
+			assertEquals("unexpected mutable value", value.toImmutableDecimal(), array.get(i, mutable).toImmutableDecimal());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionForInvalidIndex() {
+		new DecimalArray<ScaleMetrics>(getScaleMetrics(), SIZE).getUnscaled(SIZE);
+	}
+
+	@Test
+	public void shouldViewValuesThroughCursor() {
+		final long[] values = randomValues(SIZE);
+		final DecimalArray<ScaleMetrics> array = DecimalArray.wrap(getScaleMetrics(), values);
+		final DecimalCursor<ScaleMetrics> cursor = array.cursor();
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("unexpected index", i, cursor.moveTo(i).getIndex());
+			assertEquals("unexpected unscaled value", values[i], cursor.unscaledValue());
+			assertEquals("unexpected value", array.get(i), cursor);
+			assertEquals("unexpected immutable value", array.get(i), cursor.toImmutableDecimal());
+			assertEquals("unexpected string", array.get(i).toString(), cursor.toString());
+			assertEquals("unexpected hash code", array.get(i).hashCode(), cursor.hashCode());
+			assertEquals("unexpected BigDecimal", BigDecimal.valueOf(values[i], getScale()), cursor.toBigDecimal());
+			assertEquals("unexpected negation", array.get(i).negate(), cursor.negate());
+			//changes are visible through cursor
+			final long changed = values[i] ^ 1;
+			array.setUnscaled(i, changed);
+			assertEquals("change should be visible", changed, cursor.unscaledValue());
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionIfCursorIsMovedOutOfBounds() {
+		new DecimalArray<ScaleMetrics>(getScaleMetrics(), SIZE).cursor().moveTo(SIZE);
+	}
+
+	@Test
+	public void shouldSortAndSearch() {
+		final long[] values = randomValues(SIZE);
+		final DecimalArray<ScaleMetrics> array = DecimalArray.wrap(getScaleMetrics(), values.clone());
+		array.sort();
+		Arrays.sort(values);
+		assertArrayEquals("unexpected sorted values", values, array.toUnscaledArray());
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("unexpected search result", values[i], array.getUnscaled(array.binarySearch(array.get(i))));
+			assertEquals("unexpected search result", Arrays.binarySearch(values, values[i] + 1), array.binarySearchUnscaled(values[i] + 1));
+		}
+	}
+
+	@Test
+	public void shouldSortRange() {
+		final long[] values = randomValues(SIZE);
+		final DecimalArray<ScaleMetrics> array = DecimalArray.wrap(getScaleMetrics(), values.clone());
+		array.sort(10, 20);
+		Arrays.sort(values, 10, 20);
+		assertArrayEquals("unexpected sorted values", values, array.toUnscaledArray());
+	}
+
+	@Test
+	public void shouldConvertToAndFromMutableArray() {
+		final DecimalArray<ScaleMetrics> array = DecimalArray.wrap(getScaleMetrics(), randomValues(SIZE));
+		final MutableDecimal<ScaleMetrics>[] mutables = array.toMutableArray();
+		assertEquals("unexpected length", SIZE, mutables.length);
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("unexpected value", array.get(i), mutables[i].toImmutableDecimal());
+		}
+		final DecimalArray<ScaleMetrics> copy = DecimalArray.copyOf(getScaleMetrics(), mutables);
+		assertEquals("copy should be equal", array, copy);
+		assertEquals("unexpected hash code", array.hashCode(), copy.hashCode());
+		assertEquals("unexpected string", Arrays.toString(mutables), copy.toString());
+		copy.setUnscaled(0, array.getUnscaled(0) ^ 1);
+		assertNotEquals("should not be equal", array, copy);
+	}
+
+	@Test
+	public void shouldStreamValues() {
+		final long[] values = randomValues(SIZE);
+		final DecimalArray<ScaleMetrics> array = DecimalArray.wrap(getScaleMetrics(), values);
+		assertArrayEquals("unexpected values", values, array.stream().toArray());
+		values[0] ^= 1;
+		assertEquals("wrapped array change should be visible", values[0], array.getUnscaled(0));
+		assertEquals("wrapped array change should be visible in stream", values[0], array.stream().toArray()[0]);
+	}
+
+	private long[] randomValues(int size) {
+		final long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = nextLongOrInt();
+		}
+		return values;
+	}
+}
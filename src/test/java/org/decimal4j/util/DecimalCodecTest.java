@@ -0,0 +1,265 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalCodec} encoding values to and decoding them from byte arrays, buffers and data streams.
+ */
+@RunWith(Parameterized.class)
+public class DecimalCodecTest extends AbstractDecimalTest {
+
+	private static final int COUNT = 1000;
+
+	private final DecimalCodec codec;
+
+	public DecimalCodecTest(ScaleMetrics scaleMetrics, boolean scaleEncoded, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.codec = new DecimalCodec(scaleMetrics, RoundingMode.HALF_EVEN, scaleEncoded);
+	}
+
+	@Parameters(name = "{index}: scale={0}, scaleEncoded={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, false, s.getDefaultArithmetic()});
+			data.add(new Object[] {s, true, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void testZigZag() {
+		assertEquals(0, DecimalCodec.encodeZigZag(0));
+		assertEquals(1, DecimalCodec.encodeZigZag(-1));
+		assertEquals(2, DecimalCodec.encodeZigZag(1));
+		assertEquals(3, DecimalCodec.encodeZigZag(-2));
+		assertEquals(-2, DecimalCodec.encodeZigZag(Long.MAX_VALUE));
+		assertEquals(-1, DecimalCodec.encodeZigZag(Long.MIN_VALUE));
+		for (final long value : randomValues()) {
+			assertEquals("zigzag round trip failed for " + value, value, DecimalCodec.decodeZigZag(DecimalCodec.encodeZigZag(value)));
+		}
+	}
+
+	@Test
+	public void testVarintLength() {
+		assertEquals(1, DecimalCodec.varintLength(0));
+		assertEquals(1, DecimalCodec.varintLength(-64));
+		assertEquals(1, DecimalCodec.varintLength(63));
+		assertEquals(2, DecimalCodec.varintLength(-65));
+		assertEquals(2, DecimalCodec.varintLength(64));
+		assertEquals(2, DecimalCodec.varintLength(8191));
+		assertEquals(3, DecimalCodec.varintLength(8192));
+		assertEquals(DecimalCodec.MAX_VARINT_LENGTH, DecimalCodec.varintLength(Long.MIN_VALUE));
+		assertEquals(DecimalCodec.MAX_VARINT_LENGTH, DecimalCodec.varintLength(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testByteArray() {
+		final long[] values = randomValues();
+		final byte[] bytes = new byte[values.length * (DecimalCodec.MAX_VARINT_LENGTH + 1)];
+		int offset = 3;
+		for (final long value : values) {
+			final int end = codec.encode(value, bytes, offset);
+			assertEquals("unexpected encoded length for " + value, codec.encodedLength(value), end - offset);
+			offset = end;
+		}
+		final long[] decoded = new long[values.length];
+		int pos = 3;
+		for (int i = 0; i < values.length; i++) {
+			pos = codec.decode(bytes, pos, decoded, i);
+		}
+		assertEquals("unexpected end offset", offset, pos);
+		assertEquals("decoded values differ", Arrays.toString(values), Arrays.toString(decoded));
+	}
+
+	@Test
+	public void testByteArrayBulk() {
+		final long[] values = randomValues();
+		final byte[] bytes = new byte[values.length * (DecimalCodec.MAX_VARINT_LENGTH + 1)];
+		final int end = codec.encode(values, 1, values.length - 1, bytes, 0);
+		assertEquals("unexpected encoded length", encodedLength(values, 1), end);
+		final long[] decoded = new long[values.length];
+		assertEquals("unexpected end offset", end, codec.decode(bytes, 0, decoded, 1, values.length - 1));
+		decoded[0] = values[0];
+		assertEquals("decoded values differ", Arrays.toString(values), Arrays.toString(decoded));
+	}
+
+	@Test
+	public void testByteBuffer() {
+		final long[] values = randomValues();
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(values.length * (DecimalCodec.MAX_VARINT_LENGTH + 1));
+		codec.encode(values[0], buffer);
+		codec.encode(values, 1, values.length - 1, buffer);
+		assertEquals("unexpected encoded length", encodedLength(values, 0), buffer.position());
+		buffer.flip();
+		final long[] decoded = new long[values.length];
+		decoded[0] = codec.decode(buffer);
+		codec.decode(buffer, decoded, 1, values.length - 1);
+		assertEquals("buffer should be fully consumed", 0, buffer.remaining());
+		assertEquals("decoded values differ", Arrays.toString(values), Arrays.toString(decoded));
+	}
+
+	@Test
+	public void testDataStream() throws IOException {
+		final long[] values = randomValues();
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		final DataOutputStream out = new DataOutputStream(bytes);
+		codec.encode(values[0], out);
+		codec.encode(values, 1, values.length - 1, out);
+		out.flush();
+		assertEquals("unexpected encoded length", encodedLength(values, 0), bytes.size());
+		final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+		final long[] decoded = new long[values.length];
+		decoded[0] = codec.decode(in);
+		codec.decode(in, decoded, 1, values.length - 1);
+		assertEquals("stream should be fully consumed", -1, in.read());
+		assertEquals("decoded values differ", Arrays.toString(values), Arrays.toString(decoded));
+	}
+
+	@Test
+	public void testDecimalWithOtherScale() throws IOException {
+		for (final ScaleMetrics other : TestSettings.SCALES) {
+			// small values can be converted to any scale without overflow
+			final Decimal<?> value = newDecimal(other, RND.nextInt(17) - 8);
+			final long expected = getScaleMetrics().getArithmetic(RoundingMode.HALF_EVEN).fromUnscaled(value.unscaledValue(), other.getScale());
+			final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 1];
+			final int end = codec.encode(value, bytes, 0);
+			final ByteBuffer buffer = ByteBuffer.allocate(bytes.length);
+			codec.encode(value, buffer);
+			final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			codec.encode(value, new DataOutputStream(stream));
+			assertEquals("buffer differs from array", Arrays.toString(Arrays.copyOf(bytes, end)), Arrays.toString(Arrays.copyOf(buffer.array(), buffer.position())));
+			assertEquals("stream differs from array", Arrays.toString(Arrays.copyOf(bytes, end)), Arrays.toString(stream.toByteArray()));
+			if (codec.isScaleEncoded()) {
+				assertEquals("unexpected scale byte", other.getScale(), bytes[0]);
+			}
+			final long[] decoded = new long[1];
+			assertEquals("unexpected end offset", end, codec.decode(bytes, 0, decoded, 0));
+			assertEquals("unexpected value for " + value, expected, decoded[0]);
+		}
+	}
+
+	@Test
+	public void testDecodeWithOtherScale() {
+		final DecimalCodec encoder = new DecimalCodec(Scales.getScaleMetrics(getScale() == 0 ? 1 : getScale() - 1), RoundingMode.HALF_EVEN, codec.isScaleEncoded());
+		final DecimalArithmetic rescale = getScaleMetrics().getArithmetic(RoundingMode.HALF_EVEN);
+		final int scale = encoder.getScaleMetrics().getScale();
+		final long value = RND.nextInt();
+		final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 1];
+		encoder.encode(value, bytes, 0);
+		final long[] decoded = new long[1];
+		codec.decode(bytes, 0, decoded, 0);
+		assertEquals("unexpected decoded value", codec.isScaleEncoded() ? rescale.fromUnscaled(value, scale) : value, decoded[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMalformedVarint() {
+		final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 2];
+		Arrays.fill(bytes, (byte) 0x80);
+		if (codec.isScaleEncoded()) {
+			bytes[0] = (byte) getScale();
+		}
+		bytes[bytes.length - 1] = 0;
+		codec.decode(ByteBuffer.wrap(bytes));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testVarintExceeding64Bits() {
+		final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 1];
+		Arrays.fill(bytes, (byte) 0xff);
+		bytes[0] = (byte) getScale();
+		bytes[bytes.length - 1] = 0x02;
+		codec.decode(bytes, codec.isScaleEncoded() ? 0 : 1, new long[1], 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalScale() {
+		if (!codec.isScaleEncoded()) {
+			throw new IllegalArgumentException("no scale encoded");
+		}
+		codec.decode(new byte[] {19, 0}, 0, new long[1], 0);
+	}
+
+	@Test(expected = BufferUnderflowException.class)
+	public void testTruncatedBuffer() {
+		final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 1];
+		final int end = codec.encode(Long.MAX_VALUE, bytes, 0);
+		codec.decode(ByteBuffer.wrap(bytes, 0, end - 1));
+	}
+
+	@Test(expected = EOFException.class)
+	public void testTruncatedStream() throws IOException {
+		final byte[] bytes = new byte[DecimalCodec.MAX_VARINT_LENGTH + 1];
+		final int end = codec.encode(Long.MIN_VALUE, bytes, 0);
+		codec.decode(new DataInputStream(new ByteArrayInputStream(bytes, 0, end - 1)));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testInvalidRange() {
+		codec.encode(new long[3], 2, 2, new byte[100], 0);
+	}
+
+	private int encodedLength(long[] values, int offset) {
+		int length = 0;
+		for (int i = offset; i < values.length; i++) {
+			length += codec.encodedLength(values[i]);
+		}
+		return length;
+	}
+
+	private long[] randomValues() {
+		final long[] values = new long[COUNT];
+		final long[] special = getSpecialValues(getScaleMetrics());
+		for (int i = 0; i < COUNT; i++) {
+			values[i] = i < special.length ? special[i] : i % 3 == 0 ? RND.nextInt(1 << (i % 20)) - (1 << (i % 20)) / 2 : nextLongOrInt();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,239 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalColumnFile} writing, appending and mapping
+ * decimal column files.
+ */
+@RunWith(Parameterized.class)
+public class DecimalColumnFileTest extends AbstractDecimalTest {
+
+	private static final int LENGTH = 3000;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	public DecimalColumnFileTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldWriteAndReadValues() throws IOException {
+		final Path path = newPath();
+		final long[] values = randomValues(LENGTH);
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.HALF_EVEN)) {
+			file.appendUnscaled(values[0]);
+			file.appendUnscaled(values, 1, LENGTH - 1);
+			assertEquals("unexpected length", LENGTH, file.length());
+			assertValues(values, file.getColumn(getScaleMetrics()));
+		}
+		assertEquals("unexpected file size", DecimalColumnFile.HEADER_SIZE + 8L * LENGTH, Files.size(path));
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(path)) {
+			assertTrue("should be read-only", file.isReadOnly());
+			assertEquals("unexpected scale", getScaleMetrics(), file.getScaleMetrics());
+			assertEquals("unexpected rounding mode", RoundingMode.HALF_EVEN, file.getRoundingMode());
+			assertEquals("unexpected length", LENGTH, file.length());
+			assertValues(values, file.getColumn(getScaleMetrics()));
+			assertTrue("column should be read-only", file.getColumn().isReadOnly());
+		}
+	}
+
+	@Test
+	public void shouldWriteLittleEndianHeaderAndValues() throws IOException {
+		final Path path = newPath();
+		final long[] values = randomValues(10);
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.DOWN)) {
+			file.appendUnscaled(values, 0, values.length);
+		}
+		final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+		assertEquals("unexpected magic", DecimalColumnFile.MAGIC, bytes.getInt());
+		assertEquals("unexpected version", DecimalColumnFile.VERSION, bytes.getInt());
+		assertEquals("unexpected scale", getScale(), bytes.getInt());
+		assertEquals("unexpected rounding", RoundingMode.DOWN.ordinal(), bytes.getInt());
+		assertEquals("unexpected length", values.length, bytes.getLong());
+		assertEquals("unexpected reserved", 0, bytes.getLong());
+		for (final long value : values) {
+			assertEquals("unexpected value", value, bytes.getLong());
+		}
+		assertFalse("unexpected trailing bytes", bytes.hasRemaining());
+	}
+
+	@Test
+	public void shouldAppendToExistingFile() throws IOException {
+		final Path path = newPath();
+		final long[] values = randomValues(LENGTH);
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.HALF_UP)) {
+			file.appendUnscaled(values, 0, 100);
+		}
+		try (final DecimalColumnFile file = DecimalColumnFile.open(path)) {
+			assertEquals("unexpected length", 100, file.length());
+			final DecimalColumn<?> before = file.getColumn();
+			file.appendUnscaled(values, 100, LENGTH - 100);
+			assertEquals("old view should keep its length", 100, before.length());
+			assertValues(values, file.getColumn(getScaleMetrics()));
+			//modify through writable mapped column
+			file.getColumn().setUnscaled(0, 42);
+		}
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(path)) {
+			assertEquals("unexpected modified value", 42, file.getColumn().getUnscaled(0));
+		}
+	}
+
+	@Test
+	public void shouldAppendDecimalsWithRounding() throws IOException {
+		final Path path = newPath();
+		final ScaleMetrics otherScale = Scales.getScaleMetrics(RND.nextInt(Scales.MAX_SCALE + 1));
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.HALF_UP)) {
+			for (int i = 0; i < 100; i++) {
+				final long unscaled = RND.nextInt();
+				final Decimal<?> value = newDecimal(otherScale, unscaled);
+				final BigDecimal expected = value.toBigDecimal().setScale(getScale(), RoundingMode.HALF_UP);
+				if (expected.unscaledValue().bitLength() > 63) {
+					try {
+						file.append(value);
+						fail("expected exception for " + value);
+					} catch (IllegalArgumentException e) {
+						// expected
+					}
+					continue;
+				}
+				file.append(value);
+				assertEquals("unexpected appended value", expected.unscaledValue().longValue(), file.getColumn().getUnscaled(file.length() - 1));
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionWhenAppendingToReadOnlyFile() throws IOException {
+		final Path path = newPath();
+		DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.HALF_UP).close();
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(path)) {
+			try {
+				file.appendUnscaled(1);
+				fail("expected IOException");
+			} catch (IOException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionWhenModifyingReadOnlyColumn() throws IOException {
+		final Path path = newPath();
+		try (final DecimalColumnFile file = DecimalColumnFile.create(path, getScaleMetrics(), RoundingMode.HALF_UP)) {
+			file.appendUnscaled(1);
+		}
+		try (final DecimalColumnFile file = DecimalColumnFile.openReadOnly(path)) {
+			file.getColumn().setUnscaled(0, 2);
+			fail("expected ReadOnlyBufferException");
+		} catch (ReadOnlyBufferException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionForInvalidFile() throws IOException {
+		final Path path = newPath();
+		Files.write(path, new byte[DecimalColumnFile.HEADER_SIZE]);
+		try {
+			DecimalColumnFile.openReadOnly(path);
+			fail("expected IOException");
+		} catch (IOException e) {
+			// expected
+		}
+		Files.write(path, new byte[3]);
+		try {
+			DecimalColumnFile.open(path);
+			fail("expected IOException");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForColumnWithDifferentScale() throws IOException {
+		try (final DecimalColumnFile file = DecimalColumnFile.create(newPath(), getScaleMetrics(), RoundingMode.HALF_UP)) {
+			file.getColumn(Scales.getScaleMetrics((getScale() + 1) % (Scales.MAX_SCALE + 1)));
+		}
+	}
+
+	private void assertValues(long[] expected, DecimalColumn<ScaleMetrics> column) {
+		assertEquals("unexpected column length", expected.length, column.length());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals("unexpected value at index " + i, expected[i], column.getUnscaled(i));
+		}
+		assertEquals("unexpected decimal", newDecimal(getScaleMetrics(), expected[0]), column.get(0));
+	}
+
+	private Path newPath() throws IOException {
+		return folder.newFile().toPath();
+	}
+
+	private long[] randomValues(int length) {
+		final long[] values = new long[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = nextLongOrInt();
+		}
+		return values;
+	}
+}
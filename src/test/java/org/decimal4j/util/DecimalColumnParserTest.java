@@ -0,0 +1,268 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalParser;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.util.DecimalColumnParser.BadRowHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalColumnParser} parsing delimited rows sequentially and in parallel.
+ */
+@RunWith(Parameterized.class)
+public class DecimalColumnParserTest extends AbstractDecimalTest {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+	private static final int ROWS = 500;
+	private static final int PARALLEL_ROWS = 40000;
+	private static final long UNSET = 0x5a5a5a5a5a5a5a5aL;
+
+	private final DecimalColumnParser parser;
+
+	public DecimalColumnParserTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.parser = new DecimalColumnParser(scaleMetrics, arithmetic.getRoundingMode(), '|');
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldParseFieldsIntoArrays() {
+		final long[][] expected = randomValues(ROWS);
+		final String text = toText(expected);
+		final byte[] bytes = text.getBytes(ASCII);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 3);
+		direct.position(3);
+		direct.put(bytes);
+
+		assertParsed(expected, 1, new Parse() {
+			@Override
+			int parse(long[][] columns, int offset, BadRowHandler handler) {
+				return parser.parse(bytes, 0, bytes.length, columns, offset, handler);
+			}
+		});
+		assertParsed(expected, 0, new Parse() {
+			@Override
+			int parse(long[][] columns, int offset, BadRowHandler handler) {
+				return parser.parse(direct, 3, direct.limit(), columns, offset, handler);
+			}
+		});
+		assertParsed(expected, 5, new Parse() {
+			@Override
+			int parse(long[][] columns, int offset, BadRowHandler handler) {
+				return parser.parse(text, 0, text.length(), columns, offset, handler);
+			}
+		});
+		assertEquals("unexpected row count", ROWS, DecimalColumnParser.countRows(text, 0, text.length()));
+		assertEquals("unexpected row count", ROWS, DecimalColumnParser.countRows(direct, 3, direct.limit()));
+	}
+
+	@Test
+	public void shouldParseFieldsIntoColumns() {
+		final long[][] expected = randomValues(ROWS);
+		final ByteBuffer bytes = ByteBuffer.wrap(toText(expected).getBytes(ASCII));
+		final DecimalColumn<?> column0 = DecimalColumn.allocate(getScaleMetrics(), ROWS);
+		final DecimalColumn<?> column2 = DecimalColumn.allocate(getScaleMetrics(), ROWS);
+		final DecimalColumn<?>[] columns = {column0, null, column2};
+		assertEquals("unexpected row count", ROWS, parser.parse(bytes, 0, bytes.limit(), columns, 0, failOnBadRow()));
+		for (int i = 0; i < ROWS; i++) {
+			assertEquals("unexpected value at row " + i, expected[0][i], column0.getUnscaled(i));
+			assertEquals("unexpected value at row " + i, expected[2][i], column2.getUnscaled(i));
+		}
+	}
+
+	@Test
+	public void shouldParseFieldsInParallel() {
+		final long[][] expected = randomValues(PARALLEL_ROWS);
+		final byte[] bytes = toText(expected).getBytes(ASCII);
+		final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+		direct.put(bytes);
+		final ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			assertParsed(expected, 2, new Parse() {
+				@Override
+				int parse(long[][] columns, int offset, BadRowHandler handler) {
+					return parser.parseParallel(direct, 0, direct.limit(), columns, offset, handler, pool);
+				}
+			});
+			final DecimalColumn<?> column = DecimalColumn.allocate(getScaleMetrics(), PARALLEL_ROWS);
+			assertEquals("unexpected row count", PARALLEL_ROWS, parser.parseParallel(direct, 0, direct.limit(), new DecimalColumn<?>[] {null, null, column}, 0, failOnBadRow(), pool));
+			for (int i = 0; i < PARALLEL_ROWS; i++) {
+				assertEquals("unexpected value at row " + i, expected[2][i], column.getUnscaled(i));
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void shouldReportBadRows() {
+		final String one = arithmetic.toString(arithmetic.one());
+		final String text = one + "|x|" + one + "\n" // good
+				+ "abc|x|" + one + "\r\n" // invalid field 0
+				+ one + "|x|99999999999999999999\n" // overflow field 2
+				+ one + "\n" // missing field 2
+				+ "\n" // empty row
+				+ "|x|" + one;// empty field 0, no line feed
+		final List<String> badRows = Collections.synchronizedList(new ArrayList<String>());
+		final BadRowHandler handler = new BadRowHandler() {
+			@Override
+			public void onBadRow(int row, int field, int status, int start, int end) {
+				badRows.add(row + ":" + field + ":" + status + ":" + text.substring(start, end));
+			}
+		};
+		final long[][] columns = {newArray(7), null, newArray(7)};
+		assertEquals("unexpected row count", 6, parser.parse(text, 0, text.length(), columns, 1, handler));
+		assertEquals("unexpected bad rows", Arrays.asList(
+				"1:0:" + DecimalParser.INVALID_FORMAT + ":abc",
+				"2:2:" + DecimalParser.OVERFLOW + ":99999999999999999999",
+				"3:2:" + DecimalParser.INVALID_FORMAT + ":",
+				"4:0:" + DecimalParser.INVALID_FORMAT + ":",
+				"4:2:" + DecimalParser.INVALID_FORMAT + ":",
+				"5:0:" + DecimalParser.INVALID_FORMAT + ":"), badRows);
+		final long one1 = arithmetic.one();
+		assertArrayEquals("unexpected column 0", new long[] {UNSET, one1, UNSET, one1, one1, UNSET, UNSET}, columns[0]);
+		assertArrayEquals("unexpected column 2", new long[] {UNSET, one1, one1, UNSET, UNSET, UNSET, one1}, columns[2]);
+
+		// same in parallel with bytes
+		badRows.clear();
+		final ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(ASCII));
+		final long[][] parallelColumns = {newArray(7), null, newArray(7)};
+		final ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			assertEquals("unexpected row count", 6, parser.parseParallel(bytes, 0, bytes.limit(), parallelColumns, 1, handler, pool));
+		} finally {
+			pool.shutdown();
+		}
+		assertEquals("unexpected bad row count", 6, badRows.size());
+		assertArrayEquals("unexpected column 0", columns[0], parallelColumns[0]);
+		assertArrayEquals("unexpected column 2", columns[2], parallelColumns[2]);
+	}
+
+	@Test
+	public void shouldNotStoreAnyValueInParallelIfArrayIsTooSmall() {
+		final long[][] expected = randomValues(ROWS);
+		final ByteBuffer bytes = ByteBuffer.wrap(toText(expected).getBytes(ASCII));
+		final long[][] columns = {newArray(ROWS - 1)};
+		final ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			parser.parseParallel(bytes, 0, bytes.limit(), columns, 0, null, pool);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		} finally {
+			pool.shutdown();
+		}
+		assertArrayEquals("no value should have been stored", newArray(ROWS - 1), columns[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForColumnWithDifferentScale() {
+		final ScaleMetrics otherScale = Scales.getScaleMetrics((getScale() + 1) % (Scales.MAX_SCALE + 1));
+		parser.parse(ByteBuffer.allocate(0), 0, 0, new DecimalColumn<?>[] {DecimalColumn.allocate(otherScale, 1)}, 0, null);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForLineFeedDelimiter() {
+		new DecimalColumnParser(getScaleMetrics(), RoundingMode.HALF_UP, '\n');
+	}
+
+	private void assertParsed(long[][] expected, int offset, Parse parse) {
+		final int rows = expected[0].length;
+		final long[][] columns = {newArray(offset + rows), null, newArray(offset + rows)};
+		assertEquals("unexpected row count", rows, parse.parse(columns, offset, failOnBadRow()));
+		for (int i = 0; i < offset; i++) {
+			assertEquals("value before offset should not be modified", UNSET, columns[0][i]);
+			assertEquals("value before offset should not be modified", UNSET, columns[2][i]);
+		}
+		assertArrayEquals("unexpected column 0", expected[0], Arrays.copyOfRange(columns[0], offset, offset + rows));
+		assertArrayEquals("unexpected column 2", expected[2], Arrays.copyOfRange(columns[2], offset, offset + rows));
+	}
+
+	private static BadRowHandler failOnBadRow() {
+		return new BadRowHandler() {
+			@Override
+			public void onBadRow(int row, int field, int status, int start, int end) {
+				fail("unexpected bad row " + row + ", field " + field + ", status " + status);
+			}
+		};
+	}
+
+	private long[][] randomValues(int rows) {
+		final long[][] values = new long[3][rows];
+		for (int i = 0; i < rows; i++) {
+			values[0][i] = nextLongOrInt();
+			values[1][i] = i;
+			values[2][i] = nextLongOrInt();
+		}
+		return values;
+	}
+
+	private String toText(long[][] values) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < values[0].length; i++) {
+			sb.append(arithmetic.toString(values[0][i])).append("|row-").append(values[1][i]).append('|');
+			sb.append(arithmetic.toString(values[2][i])).append(i % 3 == 0 ? "\r\n" : "\n");
+		}
+		return sb.toString();
+	}
+
+	private static long[] newArray(int length) {
+		final long[] array = new long[length];
+		Arrays.fill(array, UNSET);
+		return array;
+	}
+
+	private static abstract class Parse {
+		abstract int parse(long[][] columns, int offset, BadRowHandler handler);
+	}
+}
@@ -0,0 +1,329 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.DecimalArrayArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalColumn} comparing the results of bulk operations
+ * with those of {@link DecimalArrayArithmetic}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalColumnTest extends AbstractDecimalTest {
+
+	private static final int LENGTH = 1500;//more than one chunk
+	private static final long UNTOUCHED = 0x5555555555555555L;
+
+	private final DecimalArrayArithmetic arrayArithmetic;
+	private final long[] values1 = new long[LENGTH];
+	private final long[] values2 = new long[LENGTH];
+
+	public DecimalColumnTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.arrayArithmetic = arithmetic.getArrayArithmetic();
+		for (int i = 0; i < LENGTH; i++) {
+			values1[i] = nextLongOrInt();
+			values2[i] = RND.nextBoolean() ? RND.nextInt() : nextLongOrInt();
+			if (values2[i] == 0) {
+				values2[i] = 1;
+			}
+		}
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldGetAndSetValues() {
+		final DecimalColumn<ScaleMetrics> column = DecimalColumn.allocate(getScaleMetrics(), LENGTH);
+		final MutableDecimal<ScaleMetrics> mutable = getDecimalFactory(getScaleMetrics()).newMutable();
+		assertEquals("unexpected length", LENGTH, column.length());
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals("should be zero initially", 0, column.getUnscaled(i));
+			column.setUnscaled(i, values1[i]);
+			assertEquals("unexpected unscaled value", values1[i], column.getUnscaled(i));
+			assertEquals("unexpected value", newDecimal(getScaleMetrics(), values1[i]), column.get(i));
+			assertEquals("unexpected mutable value", column.get(i), column.get(i, mutable).toImmutableDecimal());
+			column.set(i, newDecimal(getScaleMetrics(), values2[i]));
+			assertEquals("unexpected value after set", values2[i], column.getUnscaled(i));
+		}
+	}
+
+	@Test
+	public void shouldCopyToAndFromArrays() {
+		final DecimalColumn<ScaleMetrics> column = DecimalColumn.allocate(getScaleMetrics(), LENGTH);
+		column.copyFrom(values1, 0, 0, LENGTH);
+		final long[] copy = new long[LENGTH];
+		column.copyTo(0, copy, 0, LENGTH);
+		assertArrayEquals("unexpected values", values1, copy);
+		column.copyFrom(values2, 10, 20, 30);
+		column.copyTo(20, copy, 5, 30);
+		assertArrayEquals("unexpected range values", Arrays.copyOfRange(values2, 10, 40), Arrays.copyOfRange(copy, 5, 35));
+	}
+
+	@Test
+	public void shouldUseLittleEndianByteOrder() {
+		final ByteBuffer buffer = ByteBuffer.allocate(8 * LENGTH + 3);
+		buffer.position(3);
+		final DecimalColumn<ScaleMetrics> column = DecimalColumn.wrap(getScaleMetrics(), buffer);
+		column.copyFrom(values1, 0, 0, LENGTH);
+		assertEquals("unexpected length", LENGTH, column.length());
+		assertEquals("unexpected buffer position", 3, buffer.position());
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals("unexpected value in buffer", values1[i], buffer.getLong(3 + 8 * i));
+			assertEquals("unexpected value in byte buffer view", values1[i], column.getByteBuffer().getLong(8 * i));
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionWhenModifyingReadOnlyColumn() {
+		final ByteBuffer buffer = ByteBuffer.allocateDirect(8 * LENGTH);
+		final DecimalColumn<ScaleMetrics> column = DecimalColumn.wrap(getScaleMetrics(), buffer.asReadOnlyBuffer());
+		assertTrue("should be read-only", column.isReadOnly());
+		try {
+			column.setUnscaled(0, 1);
+			fail("expected ReadOnlyBufferException");
+		} catch (ReadOnlyBufferException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionIfBufferLengthIsNotMultipleOf8() {
+		DecimalColumn.wrap(getScaleMetrics(), ByteBuffer.allocate(12));
+	}
+
+	@Test
+	public void shouldViewValuesThroughCursor() {
+		final DecimalColumn<ScaleMetrics> column = newColumn(values1);
+		final DecimalCursor<ScaleMetrics> cursor = column.cursor();
+		for (int i = 0; i < LENGTH; i++) {
+			assertEquals("unexpected cursor value", column.get(i), cursor.moveTo(i));
+			column.setUnscaled(i, values2[i]);
+			assertEquals("change should be visible", values2[i], cursor.unscaledValue());
+		}
+	}
+
+	@Test
+	public void shouldAdd() {
+		assertBulkOperation("add", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.add(src1, src2, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.add(arrayArithmetic, src1, src2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldSubtract() {
+		assertBulkOperation("subtract", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.subtract(src1, src2, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.subtract(arrayArithmetic, src1, src2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldMultiply() {
+		assertBulkOperation("multiply", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.multiply(src1, src2, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.multiply(arrayArithmetic, src1, src2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldDivide() {
+		assertBulkOperation("divide", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.divide(src1, src2, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.divide(arrayArithmetic, src1, src2, dst, offset, length);
+			}
+		});
+	}
+
+	@Test
+	public void shouldMinAndMax() {
+		assertBulkOperation("min", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				arrayArithmetic.min(src1, src2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				DecimalColumn.min(arrayArithmetic, src1, src2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+		assertBulkOperation("max", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				arrayArithmetic.max(src1, src2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				DecimalColumn.max(arrayArithmetic, src1, src2, dst, offset, length);
+				return DecimalArrayArithmetic.NO_OVERFLOW;
+			}
+		});
+	}
+
+	@Test
+	public void shouldNegateAbsAndRound() {
+		assertBulkOperation("negate", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.negate(src1, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.negate(arrayArithmetic, src1, dst, offset, length);
+			}
+		});
+		assertBulkOperation("abs", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.abs(src1, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.abs(arrayArithmetic, src1, dst, offset, length);
+			}
+		});
+		final int precision = RND.nextInt(getScale() + 1);
+		assertBulkOperation("round", new Operation() {
+			@Override
+			public int calculate(long[] src1, long[] src2, long[] dst, int offset, int length) {
+				return arrayArithmetic.round(src1, precision, dst, offset, length);
+			}
+			@Override
+			public int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length) {
+				return DecimalColumn.round(arrayArithmetic, src1, precision, dst, offset, length);
+			}
+		});
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForArithmeticWithDifferentScale() {
+		final DecimalArrayArithmetic other = arithmetic.deriveArithmetic((getScale() + 1) % 19).getArrayArithmetic();
+		final DecimalColumn<ScaleMetrics> column = newColumn(values1);
+		DecimalColumn.add(other, column, column, column, 0, LENGTH);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void shouldThrowExceptionForInvalidRange() {
+		final DecimalColumn<ScaleMetrics> column = newColumn(values1);
+		DecimalColumn.add(arrayArithmetic, column, column, column, 1, LENGTH);
+	}
+
+	private interface Operation {
+		int calculate(long[] src1, long[] src2, long[] dst, int offset, int length);
+		int calculate(DecimalColumn<ScaleMetrics> src1, DecimalColumn<ScaleMetrics> src2, DecimalColumn<ScaleMetrics> dst, int offset, int length);
+	}
+
+	private void assertBulkOperation(String name, Operation operation) {
+		final int offset = RND.nextInt(10);
+		final int length = LENGTH - offset - RND.nextInt(10);
+		final long[] expected = new long[LENGTH];
+		Arrays.fill(expected, UNTOUCHED);
+		final long[] actual = new long[LENGTH];
+		Arrays.fill(actual, UNTOUCHED);
+		final DecimalColumn<ScaleMetrics> src1 = newColumn(values1);
+		final DecimalColumn<ScaleMetrics> src2 = newColumn(values2);
+		final DecimalColumn<ScaleMetrics> dst = newColumn(actual);
+		final int expectedIndex;
+		try {
+			expectedIndex = operation.calculate(values1, values2, expected, offset, length);
+		} catch (ArithmeticException e) {
+			try {
+				operation.calculate(src1, src2, dst, offset, length);
+				fail("expected exception for " + name + ": " + e);
+			} catch (ArithmeticException e2) {
+				// expected
+			}
+			return;
+		}
+		assertEquals("unexpected overflow index for " + name, expectedIndex, operation.calculate(src1, src2, dst, offset, length));
+		dst.copyTo(0, actual, 0, LENGTH);
+		assertArrayEquals("unexpected result values for " + name, expected, actual);
+	}
+
+	private DecimalColumn<ScaleMetrics> newColumn(long[] values) {
+		final DecimalColumn<ScaleMetrics> column = DecimalColumn.allocate(getScaleMetrics(), values.length);
+		column.copyFrom(values, 0, 0, values.length);
+		return column;
+	}
+}
@@ -0,0 +1,238 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.JDKSupport;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalFlyweight} reading and writing mantissa/exponent fields.
+ */
+@RunWith(Parameterized.class)
+public class DecimalFlyweightTest extends AbstractDecimalTest {
+
+	private static final int COUNT = 500;
+
+	public DecimalFlyweightTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode rm : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] {s, rm, s.getArithmetic(rm)});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testGetUnscaledWithExponentField() {
+		final DecimalFlyweight<ScaleMetrics> flyweight = DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode());
+		final ByteBuffer buffer = ByteBuffer.allocate(3 + COUNT * flyweight.getEncodedLength()).order(ByteOrder.LITTLE_ENDIAN);
+		final long[] mantissas = new long[COUNT];
+		final int[] exponents = new int[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			mantissas[i] = nextLongOrInt();
+			exponents[i] = RND.nextInt(30) - 22;
+			flyweight.wrap(buffer, 3 + i * flyweight.getEncodedLength()).set(mantissas[i], exponents[i]);
+		}
+		for (int i = 0; i < COUNT; i++) {
+			flyweight.wrap(buffer, 3 + i * flyweight.getEncodedLength());
+			assertEquals("unexpected mantissa", mantissas[i], flyweight.getMantissa());
+			assertEquals("unexpected exponent", exponents[i], flyweight.getExponent());
+			assertUnscaled(mantissas[i], exponents[i], flyweight);
+		}
+	}
+
+	@Test
+	public void testGetUnscaledWithFixedExponent() {
+		for (int exponent = -20; exponent <= 2; exponent++) {
+			final DecimalFlyweight<ScaleMetrics> flyweight = DecimalFlyweight.withFixedExponent(getScaleMetrics(), getRoundingMode(), exponent);
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+			for (int i = 0; i < 20; i++) {
+				final long mantissa = nextLongOrInt();
+				flyweight.wrap(buffer, 8).set(mantissa, exponent);
+				assertEquals("unexpected mantissa", mantissa, buffer.getLong(8));
+				assertUnscaled(mantissa, exponent, flyweight);
+			}
+		}
+	}
+
+	@Test
+	public void testSetUnscaledWithExponentField() {
+		final DecimalFlyweight<ScaleMetrics> flyweight = DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode());
+		final ByteBuffer buffer = ByteBuffer.allocate(flyweight.getEncodedLength());
+		for (int i = 0; i < COUNT; i++) {
+			final long unscaled = nextLongOrInt();
+			flyweight.wrap(buffer, 0).setUnscaled(unscaled);
+			assertEquals("unexpected mantissa", unscaled, flyweight.getMantissa());
+			assertEquals("unexpected exponent", -getScale(), flyweight.getExponent());
+			assertEquals("unexpected unscaled value", unscaled, flyweight.getUnscaled());
+		}
+	}
+
+	@Test
+	public void testSetUnscaledWithFixedExponent() {
+		for (int exponent = -20; exponent <= 2; exponent++) {
+			final DecimalFlyweight<ScaleMetrics> flyweight = DecimalFlyweight.withFixedExponent(getScaleMetrics(), getRoundingMode(), exponent);
+			final ByteBuffer buffer = ByteBuffer.allocate(flyweight.getEncodedLength());
+			flyweight.wrap(buffer, 0);
+			for (int i = 0; i < 20; i++) {
+				final long unscaled = nextLongOrInt();
+				final BigDecimal expected;
+				try {
+					expected = BigDecimal.valueOf(unscaled, getScale()).setScale(-exponent, getRoundingMode());
+				} catch (ArithmeticException e) {
+					assertRoundingNecessary(flyweight, unscaled);
+					continue;
+				}
+				try {
+					flyweight.setUnscaled(unscaled);
+					assertEquals("unexpected mantissa for " + expected, JDKSupport.bigIntegerToLongValueExact(expected.unscaledValue()), flyweight.getMantissa());
+				} catch (IllegalArgumentException e) {
+					if (expected.unscaledValue().bitLength() <= 63) {
+						throw e;
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSetDecimal() {
+		for (final ScaleMetrics other : TestSettings.SCALES) {
+			// int values can be converted to exponent -4 from any scale without overflow
+			final Decimal<?> value = newDecimal(other, RND.nextInt());
+			final DecimalFlyweight<ScaleMetrics> field = DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode());
+			field.wrap(ByteBuffer.allocate(9), 0).set(value);
+			assertEquals("unexpected mantissa", value.unscaledValue(), field.getMantissa());
+			assertEquals("unexpected exponent", -other.getScale(), field.getExponent());
+
+			final DecimalFlyweight<ScaleMetrics> fixed = DecimalFlyweight.withFixedExponent(getScaleMetrics(), getRoundingMode(), -4);
+			fixed.wrap(ByteBuffer.allocate(8), 0);
+			final BigDecimal expected;
+			try {
+				expected = value.toBigDecimal().setScale(4, getRoundingMode());
+			} catch (ArithmeticException e) {
+				try {
+					fixed.set(value);
+					fail("expected rounding necessary exception for " + value);
+				} catch (ArithmeticException expectedException) {
+					// expected
+				}
+				continue;
+			}
+			fixed.set(value);
+			assertEquals("unexpected mantissa for " + value, expected.unscaledValue().longValue(), fixed.getMantissa());
+		}
+	}
+
+	@Test
+	public void testDecimalView() {
+		final DecimalFlyweight<ScaleMetrics> flyweight = DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode());
+		final ByteBuffer buffer = ByteBuffer.allocate(2 * flyweight.getEncodedLength());
+		final int decimals = Math.min(3, getScale());
+		flyweight.wrap(buffer, 0).set(1234, -decimals);
+		flyweight.wrap(buffer, flyweight.getEncodedLength()).set(-7, 0);
+		final DecimalCursor<ScaleMetrics> view = flyweight.wrap(buffer, 0).asDecimal();
+		final long expected = arithmetic.fromUnscaled(1234, decimals);
+		assertEquals("unexpected view value", arithmetic.toString(expected), view.toString());
+		assertEquals("unexpected immutable", getScaleMetrics().getDefaultArithmetic().toString(expected), view.toImmutableDecimal().toString());
+		flyweight.wrap(buffer, flyweight.getEncodedLength());
+		assertSame("view should be reused", view, flyweight.asDecimal());
+		assertEquals("unexpected view value after wrap", -7, view.longValue());
+		final Decimal<ScaleMetrics> first = flyweight.wrap(buffer, 0).asDecimal().toImmutableDecimal();
+		flyweight.wrap(buffer, flyweight.getEncodedLength());
+		assertEquals("unexpected sum", arithmetic.add(arithmetic.fromLong(-7), expected), view.add(first).unscaledValue());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetWrongFixedExponent() {
+		DecimalFlyweight.withFixedExponent(getScaleMetrics(), getRoundingMode(), -2).wrap(ByteBuffer.allocate(8), 0).set(1, -3);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetExponentOutOfRange() {
+		DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode()).wrap(ByteBuffer.allocate(9), 0).set(1, 128);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testWrapBeyondLimit() {
+		DecimalFlyweight.withExponentField(getScaleMetrics(), getRoundingMode()).wrap(ByteBuffer.allocate(16), 8);
+	}
+
+	private void assertUnscaled(long mantissa, int exponent, DecimalFlyweight<ScaleMetrics> flyweight) {
+		final BigDecimal expected;
+		try {
+			expected = BigDecimal.valueOf(mantissa, -exponent).setScale(getScale(), getRoundingMode());
+		} catch (ArithmeticException e) {
+			try {
+				flyweight.getUnscaled();
+				fail("expected rounding necessary exception for " + mantissa + "E" + exponent);
+			} catch (ArithmeticException expectedException) {
+				// expected
+			}
+			return;
+		}
+		try {
+			final long actual = flyweight.getUnscaled();
+			assertEquals("unexpected unscaled value for " + mantissa + "E" + exponent, JDKSupport.bigIntegerToLongValueExact(expected.unscaledValue()), actual);
+		} catch (IllegalArgumentException e) {
+			if (expected.unscaledValue().bitLength() <= 63) {
+				fail("unexpected exception for " + mantissa + "E" + exponent + ": " + e);
+			}
+		}
+	}
+
+	private static void assertRoundingNecessary(DecimalFlyweight<ScaleMetrics> flyweight, long unscaled) {
+		try {
+			flyweight.setUnscaled(unscaled);
+			fail("expected rounding necessary exception for " + unscaled);
+		} catch (ArithmeticException e) {
+			// expected
+		}
+	}
+}
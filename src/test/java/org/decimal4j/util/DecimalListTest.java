@@ -0,0 +1,192 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.Decimal;
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.MutableDecimal;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalList} comparing the list content with a list of
+ * unscaled long values.
+ */
+@RunWith(Parameterized.class)
+public class DecimalListTest extends AbstractDecimalTest {
+
+	private static final int SIZE = 100;
+
+	public DecimalListTest(ScaleMetrics scaleMetrics, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			data.add(new Object[] {s, s.getDefaultArithmetic()});
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldAddGetAndSetValues() {
+		final DecimalList<ScaleMetrics> list = new DecimalList<ScaleMetrics>(getScaleMetrics(), 0);
+		final List<Long> expected = new ArrayList<Long>();
+		assertTrue("should be empty", list.isEmpty());
+		for (int i = 0; i < SIZE; i++) {
+			final Decimal<ScaleMetrics> value = randomDecimal(getScaleMetrics());
+			if (RND.nextBoolean()) {
+				list.add(value);
+			} else {
+				list.addUnscaled(value.unscaledValue());
+			}
+			expected.add(value.unscaledValue());
+			assertEquals("unexpected size", expected.size(), list.size());
+		}
+		final MutableDecimal<ScaleMetrics> mutable = getDecimalFactory(getScaleMetrics()).newMutable();
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("unexpected unscaled value", expected.get(i).longValue(), list.getUnscaled(i));
+			assertEquals("unexpected value", newDecimal(getScaleMetrics(), expected.get(i)), list.get(i));
+			assertEquals("unexpected mutable value", list.get(i), list.get(i, mutable).toImmutableDecimal());
+			final Decimal<ScaleMetrics> value = randomDecimal(getScaleMetrics());
+			list.set(i, value);
+			assertEquals("unexpected value after set", value.unscaledValue(), list.getUnscaled(i));
+		}
+	}
+
+	@Test
+	public void shouldRemoveValues() {
+		final long[] values = randomValues(SIZE);
+		final DecimalList<ScaleMetrics> list = newList(values);
+		final List<Long> expected = new ArrayList<Long>();
+		for (final long value : values) {
+			expected.add(value);
+		}
+		while (!expected.isEmpty()) {
+			final int index = RND.nextInt(expected.size());
+			assertEquals("unexpected removed value", expected.remove(index).longValue(), list.removeUnscaled(index));
+			assertEquals("unexpected size", expected.size(), list.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals("unexpected value", expected.get(i).longValue(), list.getUnscaled(i));
+			}
+		}
+	}
+
+	@Test
+	public void shouldThrowExceptionForIndexBeyondSize() {
+		final DecimalList<ScaleMetrics> list = newList(randomValues(10));
+		list.ensureCapacity(100);
+		list.clear();
+		try {
+			list.getUnscaled(0);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+		try {
+			list.setUnscaled(0, 1);
+			fail("expected IndexOutOfBoundsException");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void shouldViewValuesThroughCursorWhileGrowing() {
+		final DecimalList<ScaleMetrics> list = new DecimalList<ScaleMetrics>(getScaleMetrics(), 1);
+		final DecimalCursor<ScaleMetrics> cursor = list.cursor();
+		for (int i = 0; i < SIZE; i++) {
+			list.addUnscaled(nextLongOrInt());
+			for (int j = 0; j <= i; j++) {
+				assertEquals("unexpected cursor value", list.get(j), cursor.moveTo(j));
+			}
+		}
+		list.trimToSize();
+		assertEquals("unexpected cursor value", list.get(SIZE - 1), cursor.moveTo(SIZE - 1));
+	}
+
+	@Test
+	public void shouldSortAndSearch() {
+		final long[] values = randomValues(SIZE);
+		final DecimalList<ScaleMetrics> list = newList(values);
+		list.addUnscaled(Long.MIN_VALUE);
+		list.removeUnscaled(SIZE);
+		list.sort();
+		Arrays.sort(values);
+		assertArrayEquals("unexpected sorted values", values, list.toUnscaledArray());
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("unexpected search result", values[i], list.getUnscaled(list.binarySearch(list.get(i))));
+			assertEquals("unexpected search result", Arrays.binarySearch(values, values[i] + 1), list.binarySearchUnscaled(values[i] + 1));
+		}
+	}
+
+	@Test
+	public void shouldConvertToArrays() {
+		final long[] values = randomValues(SIZE);
+		final DecimalList<ScaleMetrics> list = newList(values);
+		assertEquals("unexpected array", DecimalArray.wrap(getScaleMetrics(), values), list.toArray());
+		final MutableDecimal<ScaleMetrics>[] mutables = list.toMutableArray();
+		assertEquals("unexpected length", SIZE, mutables.length);
+		final DecimalList<ScaleMetrics> copy = DecimalList.copyOf(getScaleMetrics(), mutables);
+		assertEquals("copy should be equal", list, copy);
+		assertEquals("unexpected hash code", list.hashCode(), copy.hashCode());
+		assertEquals("unexpected string", Arrays.toString(mutables), copy.toString());
+		assertArrayEquals("unexpected stream values", values, copy.stream().toArray());
+		copy.removeUnscaled(SIZE - 1);
+		assertNotEquals("should not be equal", list, copy);
+	}
+
+	private DecimalList<ScaleMetrics> newList(long[] values) {
+		final DecimalList<ScaleMetrics> list = new DecimalList<ScaleMetrics>(getScaleMetrics());
+		for (final long value : values) {
+			list.addUnscaled(value);
+		}
+		return list;
+	}
+
+	private long[] randomValues(int size) {
+		final long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = nextLongOrInt();
+		}
+		return values;
+	}
+}
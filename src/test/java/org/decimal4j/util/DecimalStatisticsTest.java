@@ -0,0 +1,178 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalStatistics} comparing count, sum, average, min
+ * and max with the values calculated with {@link BigDecimal}.
+ */
+@RunWith(Parameterized.class)
+public class DecimalStatisticsTest extends AbstractDecimalTest {
+
+	private static final int RANDOM_VALUES = 100;
+
+	public DecimalStatisticsTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldReturnZeroAndNullIfEmpty() {
+		final DecimalStatistics<ScaleMetrics> stats = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		assertEquals("unexpected count", 0, stats.getCount());
+		assertEquals("unexpected sum", 0, stats.getSum().unscaledValue());
+		assertEquals("unexpected average", 0, stats.getAverage().unscaledValue());
+		assertNull("min should be null", stats.getMin());
+		assertNull("max should be null", stats.getMax());
+	}
+
+	@Test
+	public void shouldCollectValues() {
+		for (int i = 0; i < 10; i++) {
+			final DecimalStatistics<ScaleMetrics> stats = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+			final long[] values = new long[1 + RND.nextInt(RANDOM_VALUES)];
+			for (int j = 0; j < values.length; j++) {
+				values[j] = nextLongOrInt();
+				stats.acceptUnscaled(values[j]);
+			}
+			assertStatistics(values, stats);
+		}
+	}
+
+	@Test
+	public void shouldCollectSpecialValues() {
+		final long[] specialValues = getSpecialValues(getScaleMetrics());
+		final DecimalStatistics<ScaleMetrics> stats = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		for (int i = 0; i < specialValues.length; i++) {
+			stats.acceptUnscaled(specialValues[i]);
+			final long[] values = new long[i + 1];
+			System.arraycopy(specialValues, 0, values, 0, values.length);
+			assertStatistics(values, stats);
+		}
+	}
+
+	@Test
+	public void shouldCalculateAverageOfTwoValuesLikeAvg() {
+		final long[] specialValues = getSpecialValues(getScaleMetrics());
+		for (final long value1 : specialValues) {
+			for (final long value2 : specialValues) {
+				final DecimalStatistics<ScaleMetrics> stats = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+				stats.acceptUnscaled(value1);
+				stats.acceptUnscaled(value2);
+				final RoundingMode roundingMode = arithmetic.getRoundingMode();
+				long expected;
+				try {
+					expected = arithmetic.avg(value1, value2);
+				} catch (ArithmeticException e) {
+					try {
+						stats.getAverage(getScaleMetrics(), roundingMode);
+						fail("expected rounding exception for avg(" + value1 + ", " + value2 + ")");
+					} catch (ArithmeticException e2) {
+						// expected
+					}
+					continue;
+				}
+				assertEquals("unexpected average of " + value1 + " and " + value2, expected, stats.getAverage(getScaleMetrics(), roundingMode).unscaledValue());
+			}
+		}
+	}
+
+	@Test
+	public void shouldCombine() {
+		final DecimalStatistics<ScaleMetrics> part1 = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		final DecimalStatistics<ScaleMetrics> part2 = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		final DecimalStatistics<ScaleMetrics> empty = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		final long[] values = new long[RANDOM_VALUES];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = nextLongOrInt();
+			(i < values.length / 3 ? part1 : part2).acceptUnscaled(values[i]);
+		}
+		part1.combine(part2);
+		part1.combine(empty);
+		assertStatistics(values, part1);
+		empty.combine(part1);
+		assertStatistics(values, empty);
+	}
+
+	private void assertStatistics(long[] values, DecimalStatistics<ScaleMetrics> stats) {
+		BigDecimal sum = BigDecimal.ZERO;
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (final long value : values) {
+			sum = sum.add(BigDecimal.valueOf(value, getScale()));
+			min = Math.min(min, value);
+			max = Math.max(max, value);
+		}
+		assertEquals("unexpected count", values.length, stats.getCount());
+		assertEquals("unexpected min", min, stats.getMin().unscaledValue());
+		assertEquals("unexpected max", max, stats.getMax().unscaledValue());
+		if (sum.unscaledValue().bitLength() <= 63) {
+			assertEquals("unexpected sum", sum.unscaledValue().longValue(), stats.getSum().unscaledValue());
+		}
+		final RoundingMode roundingMode = arithmetic.getRoundingMode();
+		final BigDecimal average;
+		try {
+			average = sum.divide(BigDecimal.valueOf(values.length), getScale(), roundingMode);
+		} catch (ArithmeticException e) {
+			try {
+				stats.getAverage(getScaleMetrics(), roundingMode);
+				fail("expected rounding exception for average of " + stats);
+			} catch (ArithmeticException e2) {
+				// expected
+			}
+			return;
+		}
+		assertEquals("unexpected average of " + stats, average.unscaledValue().longValue(), stats.getAverage(getScaleMetrics(), roundingMode).unscaledValue());
+	}
+}
@@ -0,0 +1,375 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.api.ImmutableDecimal;
+import org.decimal4j.factory.DecimalFactory;
+import org.decimal4j.factory.Factories;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.truncate.TruncationPolicy;
+import org.decimal4j.util.DecimalStream.UnscaledBinaryOperator;
+import org.decimal4j.util.DecimalStream.UnscaledConsumer;
+import org.decimal4j.util.DecimalStream.UnscaledOperator;
+import org.decimal4j.util.DecimalStream.UnscaledPredicate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalStream} comparing sequential and parallel stream
+ * results with the results of simple loops over the unscaled values.
+ */
+@RunWith(Parameterized.class)
+public class DecimalStreamTest extends AbstractDecimalTest {
+
+	private static final int SIZE = 5000;
+	private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+	private static final UnscaledPredicate IS_POSITIVE = new UnscaledPredicate() {
+		@Override
+		public boolean test(long unscaled) {
+			return unscaled > 0;
+		}
+	};
+	private static final UnscaledOperator NEGATE = new UnscaledOperator() {
+		@Override
+		public long apply(long unscaled) {
+			return -unscaled;
+		}
+	};
+	private static final UnscaledBinaryOperator MAX = new UnscaledBinaryOperator() {
+		@Override
+		public long apply(long unscaled1, long unscaled2) {
+			return Math.max(unscaled1, unscaled2);
+		}
+	};
+
+	public DecimalStreamTest(ScaleMetrics scaleMetrics, TruncationPolicy truncationPolicy, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: {0}, {1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final TruncationPolicy tp : TestSettings.POLICIES) {
+				final DecimalArithmetic arith = s.getArithmetic(tp);
+				data.add(new Object[] {s, tp, arith});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldReturnSourceValues() {
+		final long[] values = randomValues(SIZE);
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected values", values, stream.toArray());
+			assertEquals("unexpected count", SIZE, stream.count());
+		}
+	}
+
+	@Test
+	public void shouldReturnRangeValues() {
+		final long[] values = randomValues(SIZE);
+		final long[] range = DecimalStream.of(getScaleMetrics(), values, 10, 20).toArray();
+		assertArrayEquals("unexpected values", Arrays.copyOfRange(values, 10, 20), range);
+	}
+
+	@Test
+	public void shouldMapAndFilter() {
+		final long[] values = randomValues(SIZE);
+		final long[] expected = new long[SIZE];
+		int size = 0;
+		for (final long value : values) {
+			if (value > 0) {
+				expected[size++] = -value;
+			}
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected values", Arrays.copyOf(expected, size), stream.filter(IS_POSITIVE).map(NEGATE).toArray());
+		}
+	}
+
+	@Test
+	public void shouldMultiply() {
+		final long[] values = randomValues(SIZE);
+		final long multiplicand = nextLongOrInt();
+		final long[] expected = new long[SIZE];
+		try {
+			for (int i = 0; i < SIZE; i++) {
+				expected[i] = arithmetic.multiply(values[i], multiplicand);
+			}
+		} catch (ArithmeticException e) {
+			assertArithmeticException(values, new StreamOperation() {
+				@Override
+				public long[] apply(DecimalStream<ScaleMetrics> stream) {
+					return stream.multiply(newDecimal(multiplicand)).toArray();
+				}
+			});
+			return;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected products", expected, stream.multiply(newDecimal(multiplicand)).toArray());
+		}
+	}
+
+	@Test
+	public void shouldMultiplyByLong() {
+		final long[] values = randomValues(SIZE);
+		final long multiplicand = RND.nextInt(1000) - 500;
+		final long[] expected = new long[SIZE];
+		try {
+			for (int i = 0; i < SIZE; i++) {
+				expected[i] = arithmetic.multiplyByLong(values[i], multiplicand);
+			}
+		} catch (ArithmeticException e) {
+			assertArithmeticException(values, new StreamOperation() {
+				@Override
+				public long[] apply(DecimalStream<ScaleMetrics> stream) {
+					return stream.multiply(multiplicand).toArray();
+				}
+			});
+			return;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected products", expected, stream.multiply(multiplicand).toArray());
+		}
+	}
+
+	@Test
+	public void shouldDivide() {
+		final long[] values = randomValues(SIZE);
+		final long divisor = nextNonZero();
+		final long[] expected = new long[SIZE];
+		try {
+			for (int i = 0; i < SIZE; i++) {
+				expected[i] = arithmetic.divide(values[i], divisor);
+			}
+		} catch (ArithmeticException e) {
+			assertArithmeticException(values, new StreamOperation() {
+				@Override
+				public long[] apply(DecimalStream<ScaleMetrics> stream) {
+					return stream.divide(newDecimal(divisor)).toArray();
+				}
+			});
+			return;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected quotients", expected, stream.divide(newDecimal(divisor)).toArray());
+		}
+	}
+
+	@Test
+	public void shouldDivideByLong() {
+		final long[] values = randomValues(SIZE);
+		final long divisor = 1 + RND.nextInt(1000);
+		final long[] expected = new long[SIZE];
+		try {
+			for (int i = 0; i < SIZE; i++) {
+				expected[i] = arithmetic.divideByLong(values[i], divisor);
+			}
+		} catch (ArithmeticException e) {
+			assertArithmeticException(values, new StreamOperation() {
+				@Override
+				public long[] apply(DecimalStream<ScaleMetrics> stream) {
+					return stream.divide(divisor).toArray();
+				}
+			});
+			return;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertArrayEquals("unexpected quotients", expected, stream.divide(divisor).toArray());
+		}
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void shouldThrowExceptionForDivisionByZero() {
+		DecimalStream.of(getScaleMetrics(), 1, 2, 3).divide(0);
+	}
+
+	@Test
+	public void shouldRescale() {
+		final long[] values = new long[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = RND.nextInt();
+		}
+		final ScaleMetrics targetScale = Scales.getScaleMetrics(RND.nextInt(10));
+		final DecimalArithmetic targetArith = targetScale.getArithmetic(arithmetic.getTruncationPolicy());
+		final long[] expected = new long[SIZE];
+		try {
+			for (int i = 0; i < SIZE; i++) {
+				expected[i] = targetArith.fromUnscaled(values[i], getScale());
+			}
+		} catch (ArithmeticException e) {
+			assertArithmeticException(values, new StreamOperation() {
+				@Override
+				public long[] apply(DecimalStream<ScaleMetrics> stream) {
+					return stream.rescale(targetScale).toArray();
+				}
+			});
+			return;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			final DecimalStream<ScaleMetrics> rescaled = stream.rescale(targetScale);
+			assertEquals("unexpected scale", targetScale, rescaled.getScaleMetrics());
+			assertArrayEquals("unexpected values", expected, rescaled.toArray());
+		}
+	}
+
+	@Test
+	public void shouldSumAndCollectStatistics() {
+		final long[] values = randomValues(SIZE);
+		final DecimalStatistics<ScaleMetrics> expected = new DecimalStatistics<ScaleMetrics>(getScaleMetrics());
+		for (final long value : values) {
+			expected.acceptUnscaled(value);
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			final DecimalStatistics<ScaleMetrics> actual = stream.statistics();
+			assertEquals("unexpected count", expected.getCount(), actual.getCount());
+			assertEquals("unexpected min", expected.getMin(), actual.getMin());
+			assertEquals("unexpected max", expected.getMax(), actual.getMax());
+			assertEquals("unexpected average", expected.getAverage(), actual.getAverage());
+		}
+		final long[] intValues = new long[SIZE];
+		long sum = 0;
+		for (int i = 0; i < SIZE; i++) {
+			intValues[i] = RND.nextInt();
+			sum += intValues[i];
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(intValues)) {
+			assertEquals("unexpected sum", sum, stream.sum().unscaledValue());
+		}
+	}
+
+	@Test
+	public void shouldReduce() {
+		final long[] values = randomValues(SIZE);
+		long max = Long.MIN_VALUE;
+		for (final long value : values) {
+			max = Math.max(max, value);
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			assertEquals("unexpected max", max, stream.reduce(Long.MIN_VALUE, MAX));
+		}
+	}
+
+	@Test
+	public void shouldInvokeForEach() {
+		final long[] values = randomValues(SIZE);
+		long sum = 0;
+		for (final long value : values) {
+			sum += value;
+		}
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			final AtomicLong actual = new AtomicLong();
+			stream.forEach(new UnscaledConsumer() {
+				@Override
+				public void accept(long unscaled) {
+					actual.addAndGet(unscaled);
+				}
+			});
+			assertEquals("unexpected sum", sum, actual.get());
+		}
+	}
+
+	@Test
+	public void shouldBoxValues() {
+		final long[] values = randomValues(100);
+		final List<ImmutableDecimal<ScaleMetrics>> boxed = DecimalStream.of(getScaleMetrics(), values).boxed();
+		assertEquals("unexpected size", values.length, boxed.size());
+		for (int i = 0; i < values.length; i++) {
+			assertEquals("unexpected value at " + i, newDecimal(values[i]), boxed.get(i));
+		}
+		assertArrayEquals("unexpected values", values, DecimalStream.of(getScaleMetrics(), boxed).toArray());
+	}
+
+	@Test
+	public void shouldSwitchBetweenSequentialAndParallel() {
+		final DecimalStream<ScaleMetrics> stream = DecimalStream.of(getScaleMetrics(), randomValues(10));
+		assertFalse("should be sequential", stream.isParallel());
+		assertTrue("should be parallel", stream.parallel(POOL).isParallel());
+		assertFalse("should be sequential", stream.parallel(POOL).sequential().isParallel());
+	}
+
+	private interface StreamOperation {
+		long[] apply(DecimalStream<ScaleMetrics> stream);
+	}
+
+	private void assertArithmeticException(long[] values, StreamOperation operation) {
+		for (final DecimalStream<ScaleMetrics> stream : streams(values)) {
+			try {
+				operation.apply(stream);
+				fail("expected exception for " + stream);
+			} catch (ArithmeticException e) {
+				// expected
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	private List<DecimalStream<ScaleMetrics>> streams(long[] values) {
+		final DecimalStream<ScaleMetrics> stream = DecimalStream.of(getScaleMetrics(), values).withTruncationPolicy(arithmetic.getTruncationPolicy());
+		return Arrays.asList(stream, stream.parallel(POOL));
+	}
+
+	private long[] randomValues(int size) {
+		final long[] values = new long[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = nextLongOrInt();
+		}
+		return values;
+	}
+
+	private long nextNonZero() {
+		long value;
+		do {
+			value = nextLongOrInt();
+		} while (value == 0);
+		return value;
+	}
+
+	private ImmutableDecimal<ScaleMetrics> newDecimal(long unscaled) {
+		final DecimalFactory<ScaleMetrics> factory = Factories.getDecimalFactory(getScaleMetrics());
+		return factory.valueOfUnscaled(unscaled);
+	}
+}
@@ -0,0 +1,213 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.scale.Scales;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.util.DecimalTimeSeriesBlock.Encoding;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalTimeSeriesBlock} encoding random walks and arbitrary values.
+ */
+@RunWith(Parameterized.class)
+public class DecimalTimeSeriesBlockTest extends AbstractDecimalTest {
+
+	private static final int[] BLOCK_SIZES = {1, 2, 3, 64, DecimalTimeSeriesBlock.DEFAULT_BLOCK_SIZE};
+	private static final int LENGTH = 1000;
+
+	private final Encoding encoding;
+
+	public DecimalTimeSeriesBlockTest(ScaleMetrics scaleMetrics, Encoding encoding, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+		this.encoding = encoding;
+	}
+
+	@Parameters(name = "{index}: scale={0}, encoding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final Encoding encoding : Encoding.values()) {
+				data.add(new Object[] {s, encoding, s.getDefaultArithmetic()});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void testRandomWalk() {
+		for (final int blockSize : BLOCK_SIZES) {
+			assertRoundTrip(randomWalk(LENGTH), blockSize);
+		}
+	}
+
+	@Test
+	public void testRandomValues() {
+		for (final int blockSize : BLOCK_SIZES) {
+			assertRoundTrip(randomValues(LENGTH), blockSize);
+		}
+	}
+
+	@Test
+	public void testShortSeries() {
+		for (int length = 0; length < 5; length++) {
+			for (final int blockSize : BLOCK_SIZES) {
+				assertRoundTrip(randomValues(length), blockSize);
+			}
+		}
+	}
+
+	@Test
+	public void testRandomWalkCompression() {
+		final DecimalTimeSeriesBlock<ScaleMetrics> series = encode(randomWalk(LENGTH), DecimalTimeSeriesBlock.DEFAULT_BLOCK_SIZE);
+		assertTrue("random walk should compress to less than a quarter: " + series, series.getEncodedSize() < 2 * LENGTH);
+	}
+
+	@Test
+	public void testLinearSeriesCompression() {
+		final long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = 1400000000000L + i * 1000L;
+		}
+		final DecimalTimeSeriesBlock<ScaleMetrics> series = encode(values, DecimalTimeSeriesBlock.DEFAULT_BLOCK_SIZE);
+		assertRoundTrip(values, DecimalTimeSeriesBlock.DEFAULT_BLOCK_SIZE);
+		if (encoding == Encoding.DELTA_OF_DELTA) {
+			// only block start, first delta and two widths are stored per block
+			final int blocks = series.getBlockCount();
+			assertEquals("unexpected encoded size", DecimalTimeSeriesBlock.HEADER_SIZE + 8 * blocks + 8 * ((blocks * (64 + 7 + 11 + 7) + 63) / 64 + 1), series.getEncodedSize());
+		}
+	}
+
+	@Test
+	public void testWriteAndRead() {
+		for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+			final long[] values = randomWalk(LENGTH);
+			final DecimalTimeSeriesBlock<ScaleMetrics> series = encode(values, 64);
+			final ByteBuffer buffer = ByteBuffer.allocate(series.getEncodedSize() + 7).order(order);
+			buffer.position(3);
+			series.writeTo(buffer);
+			assertEquals("unexpected position after write", 3 + series.getEncodedSize(), buffer.position());
+			buffer.flip().position(3);
+			final DecimalTimeSeriesBlock<ScaleMetrics> read = DecimalTimeSeriesBlock.readFrom(getScaleMetrics(), buffer);
+			assertEquals("unexpected position after read", 3 + series.getEncodedSize(), buffer.position());
+			assertEquals("unexpected encoding", encoding, read.getEncoding());
+			assertEquals("unexpected block size", 64, read.getBlockSize());
+			assertEquals("unexpected values", DecimalArray.wrap(getScaleMetrics(), values), read.toDecimalArray());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testReadWithWrongScale() {
+		final DecimalTimeSeriesBlock<ScaleMetrics> series = encode(randomWalk(10), 4);
+		final ByteBuffer buffer = ByteBuffer.allocate(series.getEncodedSize());
+		series.writeTo(buffer);
+		buffer.flip();
+		DecimalTimeSeriesBlock.readFrom(Scales.getScaleMetrics((getScale() + 1) % (Scales.MAX_SCALE + 1)), buffer);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testIllegalBlockSize() {
+		encode(randomWalk(10), 0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetOutOfBounds() {
+		encode(randomWalk(10), 4).getUnscaled(10);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testDecodeOutOfBounds() {
+		encode(randomWalk(10), 4).decode(5, new long[10], 0, 6);
+	}
+
+	private DecimalTimeSeriesBlock<ScaleMetrics> encode(long[] values, int blockSize) {
+		return DecimalTimeSeriesBlock.encode(getScaleMetrics(), encoding, blockSize, values, 0, values.length);
+	}
+
+	private void assertRoundTrip(long[] values, int blockSize) {
+		final long[] padded = new long[values.length + 2];
+		System.arraycopy(values, 0, padded, 1, values.length);
+		final DecimalTimeSeriesBlock<ScaleMetrics> series = DecimalTimeSeriesBlock.encode(getScaleMetrics(), encoding, blockSize, padded, 1, values.length);
+		final String msg = series.toString();
+		assertEquals(msg + ": unexpected length", values.length, series.length());
+		assertEquals(msg + ": unexpected block count", (values.length + blockSize - 1) / blockSize, series.getBlockCount());
+
+		// full decode
+		assertEquals(msg, Arrays.toString(values), Arrays.toString(series.toDecimalArray().toUnscaledArray()));
+
+		// block by block
+		final long[] decoded = new long[values.length];
+		int offset = 0;
+		for (int block = 0; block < series.getBlockCount(); block++) {
+			assertEquals(msg + ": unexpected block start", values[offset], series.getBlockStart(block));
+			offset += series.decodeBlock(block, decoded, offset);
+		}
+		assertEquals(msg + ": unexpected decoded count", values.length, offset);
+		assertEquals(msg, Arrays.toString(values), Arrays.toString(decoded));
+
+		// random access and ranges
+		for (int i = 0; i < values.length; i += 1 + RND.nextInt(10)) {
+			assertEquals(msg + ": unexpected value at " + i, values[i], series.getUnscaled(i));
+			final int count = RND.nextInt(values.length - i + 1);
+			final long[] range = new long[count + 1];
+			series.decode(i, range, 1, count);
+			assertEquals(msg + ": unexpected range " + i + "+" + count, Arrays.toString(Arrays.copyOfRange(values, i, i + count)), Arrays.toString(Arrays.copyOfRange(range, 1, count + 1)));
+		}
+	}
+
+	private long[] randomWalk(int length) {
+		final long[] values = new long[length];
+		long value = getScaleMetrics().multiplyByScaleFactor(100);
+		for (int i = 0; i < length; i++) {
+			// move by at most 3 ticks, a tick being the last digit of the scale
+			value += RND.nextInt(7) - 3;
+			values[i] = value;
+		}
+		return values;
+	}
+
+	private long[] randomValues(int length) {
+		final long[] values = new long[length];
+		final long[] special = getSpecialValues(getScaleMetrics());
+		for (int i = 0; i < length; i++) {
+			values[i] = RND.nextBoolean() ? special[RND.nextInt(special.length)] : nextLongOrInt();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,243 @@
+/**
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015-2017 decimal4j (tools4j), Marco Terzer
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.decimal4j.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.decimal4j.api.DecimalArithmetic;
+import org.decimal4j.arithmetic.DecimalParser;
+import org.decimal4j.scale.ScaleMetrics;
+import org.decimal4j.test.AbstractDecimalTest;
+import org.decimal4j.test.TestSettings;
+import org.decimal4j.util.DecimalTokenizer.FieldHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+/**
+ * Unit test for {@link DecimalTokenizer} reading fields split across buffer boundaries.
+ */
+@RunWith(Parameterized.class)
+public class DecimalTokenizerTest extends AbstractDecimalTest {
+
+	private static final Charset ASCII = Charset.forName("US-ASCII");
+	private static final int ROWS = 300;
+	private static final int FIELDS = 3;
+
+	public DecimalTokenizerTest(ScaleMetrics scaleMetrics, RoundingMode roundingMode, DecimalArithmetic arithmetic) {
+		super(arithmetic);
+	}
+
+	@Parameters(name = "{index}: scale={0}, rounding={1}")
+	public static Iterable<Object[]> data() {
+		final List<Object[]> data = new ArrayList<Object[]>();
+		for (final ScaleMetrics s : TestSettings.SCALES) {
+			for (final RoundingMode rm : TestSettings.UNCHECKED_ROUNDING_MODES) {
+				data.add(new Object[] {s, rm, s.getArithmetic(rm)});
+			}
+		}
+		return data;
+	}
+
+	@Test
+	public void shouldReadFieldsFromInputStream() throws IOException {
+		final List<String> fields = randomFields();
+		final byte[] bytes = toText(fields).getBytes(ASCII);
+		try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new ByteArrayInputStream(bytes), arithmetic, ',')) {
+			assertFields(fields, tokenizer);
+		}
+	}
+
+	@Test
+	public void shouldReadFieldsSplitAcrossReads() throws IOException {
+		final List<String> fields = randomFields();
+		final byte[] bytes = toText(fields).getBytes(ASCII);
+		try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new TrickleChannel(bytes), arithmetic, ',', DecimalTokenizer.MIN_BUFFER_SIZE)) {
+			assertFields(fields, tokenizer);
+		}
+	}
+
+	@Test
+	public void shouldPassFieldsToHandler() throws IOException {
+		final List<String> fields = randomFields();
+		final byte[] bytes = toText(fields).getBytes(ASCII);
+		final List<String> actual = new ArrayList<String>();
+		try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new TrickleChannel(bytes), arithmetic, ',', 100)) {
+			final long count = tokenizer.forEach(new FieldHandler() {
+				@Override
+				public void onField(long row, int field, int status, long unscaledValue) {
+					assertEquals("unexpected row", actual.size() / FIELDS, row);
+					assertEquals("unexpected field", actual.size() % FIELDS, field);
+					actual.add(status == DecimalParser.OK ? arithmetic.toString(unscaledValue) : "status=" + status);
+				}
+			});
+			assertEquals("unexpected field count", fields.size(), count);
+		}
+		for (int i = 0; i < fields.size(); i++) {
+			assertEquals("unexpected field " + i, expected(fields.get(i)), actual.get(i));
+		}
+	}
+
+	@Test
+	public void shouldReportInvalidAndTooLongFields() throws IOException {
+		final char[] tooLong = new char[DecimalTokenizer.MIN_BUFFER_SIZE * 3];
+		Arrays.fill(tooLong, '1');
+		final String text = "1|abc\r\n|" + new String(tooLong) + "|99999999999999999999\n\n2\r";
+		try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new TrickleChannel(text.getBytes(ASCII)), arithmetic, '|', DecimalTokenizer.MIN_BUFFER_SIZE)) {
+			assertNext(tokenizer, 0, 0, DecimalParser.OK, 1);
+			assertNext(tokenizer, 0, 1, DecimalParser.INVALID_FORMAT, 0);
+			assertNext(tokenizer, 1, 0, DecimalParser.INVALID_FORMAT, 0);
+			assertNext(tokenizer, 1, 1, DecimalParser.INVALID_FORMAT, 0);
+			assertNext(tokenizer, 1, 2, DecimalParser.OVERFLOW, 0);
+			assertNext(tokenizer, 2, 0, DecimalParser.INVALID_FORMAT, 0);
+			assertNext(tokenizer, 3, 0, DecimalParser.OK, 2);
+			assertFalse("should be at end of input", tokenizer.next());
+			assertFalse("should be at end of input", tokenizer.next());
+			assertEquals("unexpected row", 3, tokenizer.getRow());
+		}
+	}
+
+	@Test
+	public void shouldReportEmptyLastFieldWithoutNewline() throws IOException {
+		for (final String text : new String[] {"1,2,", "1,2,\n"}) {
+			try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new TrickleChannel(text.getBytes(ASCII)), arithmetic, ',', DecimalTokenizer.MIN_BUFFER_SIZE)) {
+				assertNext(tokenizer, 0, 0, DecimalParser.OK, 1);
+				assertNext(tokenizer, 0, 1, DecimalParser.OK, 2);
+				assertNext(tokenizer, 0, 2, DecimalParser.INVALID_FORMAT, 0);
+				assertFalse("should be at end of input for " + text, tokenizer.next());
+				assertFalse("should be at end of input for " + text, tokenizer.next());
+			}
+		}
+	}
+
+	@Test
+	public void shouldReadNothingFromEmptyInput() throws IOException {
+		try (final DecimalTokenizer tokenizer = new DecimalTokenizer(new ByteArrayInputStream(new byte[0]), arithmetic, ',')) {
+			assertFalse("should be at end of input", tokenizer.next());
+			assertEquals("unexpected row", -1, tokenizer.getRow());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowExceptionForSmallBuffer() {
+		new DecimalTokenizer(new TrickleChannel(new byte[0]), arithmetic, ',', DecimalTokenizer.MIN_BUFFER_SIZE - 1);
+	}
+
+	private void assertNext(DecimalTokenizer tokenizer, long row, int field, int status, long value) throws IOException {
+		assertTrue("should have next field", tokenizer.next());
+		assertEquals("unexpected row", row, tokenizer.getRow());
+		assertEquals("unexpected field", field, tokenizer.getField());
+		assertEquals("unexpected status", status, tokenizer.getStatus());
+		if (status == DecimalParser.OK) {
+			assertEquals("unexpected value", arithmetic.fromLong(value), tokenizer.getUnscaledValue());
+		}
+	}
+
+	private void assertFields(List<String> fields, DecimalTokenizer tokenizer) throws IOException {
+		for (int i = 0; i < fields.size(); i++) {
+			assertTrue("should have next field", tokenizer.next());
+			assertEquals("unexpected row", i / FIELDS, tokenizer.getRow());
+			assertEquals("unexpected field", i % FIELDS, tokenizer.getField());
+			final String actual = tokenizer.getStatus() == DecimalParser.OK ? arithmetic.toString(tokenizer.getUnscaledValue()) : "status=" + tokenizer.getStatus();
+			assertEquals("unexpected value for field " + i + ": " + fields.get(i), expected(fields.get(i)), actual);
+		}
+		assertFalse("should be at end of input", tokenizer.next());
+	}
+
+	private String expected(String field) {
+		try {
+			return arithmetic.toString(arithmetic.parse(field));
+		} catch (NumberFormatException e) {
+			return "status=" + DecimalParser.INVALID_FORMAT;
+		} catch (ArithmeticException e) {
+			return "status=" + DecimalParser.ROUNDING_NECESSARY;
+		}
+	}
+
+	private List<String> randomFields() {
+		final List<String> fields = new ArrayList<String>();
+		for (int i = 0; i < ROWS * FIELDS; i++) {
+			final long unscaled = nextLongOrInt();
+			// append extra digits to exercise rounding
+			fields.add(getScale() > 0 && RND.nextBoolean() ? arithmetic.toString(unscaled) + RND.nextInt(1000) : arithmetic.toString(unscaled));
+		}
+		return fields;
+	}
+
+	private static String toText(List<String> fields) {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < fields.size(); i++) {
+			sb.append(fields.get(i));
+			sb.append(i % FIELDS < FIELDS - 1 ? "," : i % 2 == 0 ? "\r\n" : "\n");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Channel returning only a few bytes per read.
+	 */
+	private static final class TrickleChannel implements ReadableByteChannel {
+		private final byte[] bytes;
+		private int position;
+		private boolean open = true;
+
+		TrickleChannel(byte[] bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public int read(ByteBuffer dst) {
+			if (position == bytes.length) {
+				return -1;
+			}
+			final int n = Math.min(Math.min(dst.remaining(), 1 + RND.nextInt(17)), bytes.length - position);
+			dst.put(bytes, position, n);
+			position += n;
+			return n;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return open;
+		}
+
+		@Override
+		public void close() {
+			open = false;
+		}
+	}
+}